@@ -394,6 +394,32 @@ public class FakeInternalTable implements InternalTable {
         throw new IgniteInternalException(new OperationNotSupportedException());
     }
 
+    @Override
+    public Publisher<BinaryRow> scan(
+            int partId,
+            UUID txId,
+            TablePartitionId commitPartition,
+            String txCoordinatorId,
+            PrimaryReplica recipient,
+            @Nullable UUID lowerRowId,
+            @Nullable UUID upperRowId
+    ) {
+        throw new IgniteInternalException(new OperationNotSupportedException());
+    }
+
+    @Override
+    public Publisher<BinaryRow> scan(
+            int partId,
+            UUID txId,
+            HybridTimestamp readTimestamp,
+            ClusterNode recipientNode,
+            @Nullable UUID lowerRowId,
+            @Nullable UUID upperRowId,
+            String txCoordinatorId
+    ) {
+        throw new IgniteInternalException(new OperationNotSupportedException());
+    }
+
     @Override
     public Publisher<BinaryRow> scan(
             int partId,
@@ -17,6 +17,7 @@
 
 package org.apache.ignite.internal.util;
 
+import java.lang.invoke.VarHandle;
 import java.util.concurrent.locks.Condition;
 import java.util.concurrent.locks.ReentrantLock;
 import org.apache.ignite.internal.lang.IgniteSystemProperties;
@@ -30,6 +31,11 @@ import org.apache.ignite.internal.lang.IgniteSystemProperties;
  *     |     2 bytes    |     2 bytes   | 2 bytes |  2 bytes |
  *     +----------------+---------------+---------+----------+
  * </pre>
+ *
+ * <p>The state is followed by an 8 bytes version, which is incremented on every release of the write lock. The version allows to read the
+ * protected resource without taking the lock: {@link #tryOptimisticRead(long, int)} returns a stamp before the read, and
+ * {@link #validate(long, long)} checks afterwards that no writer has held the lock in between, otherwise the read must be repeated under
+ * the read lock.
  */
 public class OffheapReadWriteLock {
     /**
@@ -48,8 +54,11 @@ public class OffheapReadWriteLock {
     /** Always lock tag. */
     public static final int TAG_LOCK_ALWAYS = -1;
 
-    /** Lock size. */
-    public static final int LOCK_SIZE = 8;
+    /** Lock size: state and version. */
+    public static final int LOCK_SIZE = 16;
+
+    /** Offset of the version from the lock address. */
+    private static final int VERSION_OFFSET = 8;
 
     /** Maximum number of waiting threads, read or write. */
     public static final int MAX_WAITERS = 0xFFFF;
@@ -102,6 +111,45 @@ public class OffheapReadWriteLock {
         assert tag != 0;
 
         GridUnsafe.putLong(lock, (long) tag << 16);
+
+        // The version is not reset, so that the stamps obtained before the initialization are not validated.
+        GridUnsafe.putLongVolatile(null, lock + VERSION_OFFSET, GridUnsafe.getLong(lock + VERSION_OFFSET) + 1);
+    }
+
+    /**
+     * Returns a stamp for an optimistic read, that is a read without taking the lock. The result of such a read must be discarded unless
+     * {@link #validate(long, long) validation} of the stamp succeeds after the read.
+     *
+     * @param lock Lock address.
+     * @param tag Tag.
+     * @return Stamp or {@code 0} if the write lock is held or the tag validation failed.
+     */
+    public long tryOptimisticRead(long lock, int tag) {
+        long state = GridUnsafe.getLongVolatile(null, lock);
+
+        if (!checkTag(state, tag) || lockCount(state) == -1) {
+            return 0L;
+        }
+
+        // The version is read after the state, see validate.
+        return GridUnsafe.getLongVolatile(null, lock + VERSION_OFFSET);
+    }
+
+    /**
+     * Checks that the write lock has not been acquired since the stamp was obtained.
+     *
+     * @param lock Lock address.
+     * @param stamp Stamp returned by {@link #tryOptimisticRead(long, int)}.
+     * @return {@code True} if the optimistic read made after obtaining the stamp is consistent.
+     */
+    public boolean validate(long lock, long stamp) {
+        // Reads of the protected resource must not be reordered with the reads below.
+        VarHandle.acquireFence();
+
+        // The state must be read before the version: if the lock is released after the state is read, the version has already changed.
+        long state = GridUnsafe.getLongVolatile(null, lock);
+
+        return stamp != 0L && lockCount(state) != -1 && GridUnsafe.getLongVolatile(null, lock + VERSION_OFFSET) == stamp;
     }
 
     /**
@@ -276,6 +324,9 @@ public class OffheapReadWriteLock {
 
         assert tag != 0;
 
+        // Invalidate the optimistic reads before the lock is released.
+        GridUnsafe.putLongVolatile(null, lock + VERSION_OFFSET, GridUnsafe.getLong(lock + VERSION_OFFSET) + 1);
+
         while (true) {
             long state = GridUnsafe.getLongVolatile(null, lock);
 
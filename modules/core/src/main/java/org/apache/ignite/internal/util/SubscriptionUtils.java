@@ -25,6 +25,7 @@ import java.util.List;
 import java.util.concurrent.Flow.Publisher;
 import org.apache.ignite.internal.util.subscription.ConcatenatedPublisher;
 import org.apache.ignite.internal.util.subscription.IterableToPublisherAdapter;
+import org.apache.ignite.internal.util.subscription.MergePublisher;
 import org.apache.ignite.internal.util.subscription.OrderedMergePublisher;
 
 /**
@@ -83,6 +84,32 @@ public class SubscriptionUtils {
         return new OrderedMergePublisher<>(comparator, prefetch, sources);
     }
 
+    /**
+     * Unordered composite publisher. Consumes multiple data streams concurrently and emits the items as soon as they arrive.
+     *
+     * @param prefetch Prefetch size.
+     * @param source Iterator of upstream publishers.
+     * @return The publisher will combine all of the passed sources into a single one without any ordering guaranties.
+     */
+    public static <T> Publisher<T> merge(int prefetch, Iterator<Publisher<? extends T>> source) {
+        List<Publisher<? extends T>> pubList = new ArrayList<>();
+        source.forEachRemaining(pubList::add);
+
+        return merge(prefetch, pubList.<Publisher<T>>toArray(Publisher[]::new));
+    }
+
+    /**
+     * Unordered composite publisher. Consumes multiple data streams concurrently and emits the items as soon as they arrive.
+     *
+     * @param prefetch Prefetch size.
+     * @param sources Array of upstream publishers.
+     * @return The publisher will combine all of the passed sources into a single one without any ordering guaranties.
+     */
+    @SafeVarargs
+    public static <T> Publisher<T> merge(int prefetch, Publisher<? extends T>... sources) {
+        return new MergePublisher<>(prefetch, sources);
+    }
+
     /**
      * Creates a publisher from the given iterable.
      *
@@ -0,0 +1,371 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.ignite.internal.util.subscription;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodHandles.Lookup;
+import java.lang.invoke.VarHandle;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Flow.Publisher;
+import java.util.concurrent.Flow.Subscriber;
+import java.util.concurrent.Flow.Subscription;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Composite publisher which consumes all the upstream publishers concurrently.
+ *
+ * <p>Items are emitted in the order they are received, so the order of items of different publishers is not defined.
+ * Every upstream publisher is requested for up to {@code prefetch} items in advance.
+ */
+public class MergePublisher<T> implements Publisher<T> {
+    /** Array of upstream publishers. */
+    private final Publisher<? extends T>[] sources;
+
+    /** Prefetch size. */
+    private final int prefetch;
+
+    /**
+     * Constructor.
+     *
+     * @param prefetch Prefetch size.
+     * @param sources List of upstream publishers.
+     */
+    @SafeVarargs
+    public MergePublisher(int prefetch, Publisher<? extends T>... sources) {
+        this.sources = sources;
+        this.prefetch = prefetch;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public void subscribe(Subscriber<? super T> downstream) {
+        MergeSubscription<? super T> subscription = new MergeSubscription<>(downstream, prefetch, sources.length);
+
+        subscription.subscribe(sources);
+        downstream.onSubscribe(subscription);
+        subscription.drain();
+    }
+
+    /**
+     * Merging composite subscription.
+     */
+    static final class MergeSubscription<T> implements Subscription {
+        final Subscriber<? super T> downstream;
+
+        /** Counter to prevent concurrent execution of a critical section. */
+        private final AtomicInteger guardCntr = new AtomicInteger();
+
+        /** Subscribers. */
+        private final MergeSubscriber<T>[] subscribers;
+
+        /** Error. */
+        @SuppressWarnings({"unused", "FieldMayBeFinal"})
+        private Throwable error;
+
+        /** Cancelled flag. */
+        @SuppressWarnings({"unused", "FieldMayBeFinal"})
+        private boolean cancelled;
+
+        /** Number of requested items. */
+        @SuppressWarnings({"unused", "FieldMayBeFinal"})
+        private long requested;
+
+        /** Number of emitted items (guarded by {@link #guardCntr}). */
+        private long emitted;
+
+        /** Index of the subscriber to poll first (guarded by {@link #guardCntr}). */
+        private int next;
+
+        static final VarHandle ERROR;
+
+        static final VarHandle CANCELLED;
+
+        static final VarHandle REQUESTED;
+
+        static {
+            Lookup lk = MethodHandles.lookup();
+
+            try {
+                ERROR = lk.findVarHandle(MergeSubscription.class, "error", Throwable.class);
+                CANCELLED = lk.findVarHandle(MergeSubscription.class, "cancelled", boolean.class);
+                REQUESTED = lk.findVarHandle(MergeSubscription.class, "requested", long.class);
+            } catch (Throwable ex) {
+                throw new InternalError(ex);
+            }
+        }
+
+        /**
+         * Constructor.
+         *
+         * @param downstream Downstream subscriber.
+         * @param prefetch Prefetch size.
+         * @param cnt Count of subscriptions.
+         */
+        @SuppressWarnings("unchecked")
+        MergeSubscription(Subscriber<? super T> downstream, int prefetch, int cnt) {
+            this.downstream = downstream;
+            this.subscribers = new MergeSubscriber[cnt];
+
+            for (int i = 0; i < cnt; i++) {
+                this.subscribers[i] = new MergeSubscriber<>(this, prefetch);
+            }
+        }
+
+        void subscribe(Publisher<? extends T>[] sources) {
+            for (int i = 0; i < sources.length; i++) {
+                sources[i].subscribe(subscribers[i]);
+            }
+        }
+
+        /** {@inheritDoc} */
+        @Override
+        public void request(long n) {
+            for (; ; ) {
+                long current = (long) REQUESTED.getAcquire(this);
+                long next = current + n;
+
+                if (next < 0L) {
+                    next = Long.MAX_VALUE;
+                }
+
+                if (REQUESTED.compareAndSet(this, current, next)) {
+                    break;
+                }
+            }
+
+            drain();
+        }
+
+        /** {@inheritDoc} */
+        @Override
+        public void cancel() {
+            if (CANCELLED.compareAndSet(this, false, true)) {
+                for (MergeSubscriber<T> inner : subscribers) {
+                    inner.cancel();
+                }
+
+                if (guardCntr.getAndIncrement() == 0) {
+                    for (MergeSubscriber<T> inner : subscribers) {
+                        inner.queue.clear();
+                    }
+                }
+            }
+        }
+
+        private void onInnerError(MergeSubscriber<T> sender, Throwable ex) {
+            updateError(ex);
+
+            sender.done = true;
+
+            drain();
+        }
+
+        private void updateError(Throwable throwable) {
+            for (; ; ) {
+                Throwable current = (Throwable) ERROR.getAcquire(this);
+                Throwable next;
+
+                if (current == null) {
+                    next = throwable;
+                } else {
+                    next = new Throwable();
+                    next.addSuppressed(current);
+                    next.addSuppressed(throwable);
+                }
+
+                if (ERROR.compareAndSet(this, current, next)) {
+                    break;
+                }
+            }
+        }
+
+        private void drain() {
+            // Only one thread can pass below.
+            if (guardCntr.getAndIncrement() != 0) {
+                return;
+            }
+
+            // Frequently accessed fields.
+            Subscriber<? super T> downstream = this.downstream;
+            MergeSubscriber<T>[] subscribers = this.subscribers;
+            int subsCnt = subscribers.length;
+            long emitted = this.emitted;
+
+            for (; ; ) {
+                long requested = (long) REQUESTED.getAcquire(this);
+
+                for (; ; ) {
+                    if ((boolean) CANCELLED.getAcquire(this)) {
+                        for (MergeSubscriber<T> inner : subscribers) {
+                            inner.queue.clear();
+                        }
+
+                        return;
+                    }
+
+                    int completed = 0;
+                    T item = null;
+                    int idx = -1;
+
+                    for (int k = 0; k < subsCnt; k++) {
+                        int i = (next + k) % subsCnt;
+
+                        MergeSubscriber<T> inner = subscribers[i];
+
+                        boolean innerDone = inner.done;
+
+                        // Don't take an item if there is no demand, but still check whether all the sources are completed.
+                        item = emitted == requested ? inner.queue.peek() : inner.queue.poll();
+
+                        if (item != null) {
+                            idx = i;
+
+                            break;
+                        } else if (innerDone) {
+                            completed++;
+                        }
+                    }
+
+                    if (completed == subsCnt) {
+                        Throwable ex = (Throwable) ERROR.getAcquire(this);
+
+                        if (ex == null) {
+                            downstream.onComplete();
+                        } else {
+                            downstream.onError(ex);
+                        }
+
+                        return;
+                    }
+
+                    if (item == null || emitted == requested) {
+                        break;
+                    }
+
+                    // Poll the sources in turn, so none of them is starved.
+                    next = (idx + 1) % subsCnt;
+
+                    downstream.onNext(item);
+
+                    emitted++;
+                    subscribers[idx].request(1);
+                }
+
+                this.emitted = emitted;
+
+                // Retry if any other thread has incremented the counter.
+                if (guardCntr.decrementAndGet() == 0) {
+                    break;
+                }
+            }
+        }
+
+        /**
+         * Merging subscriber.
+         */
+        static final class MergeSubscriber<T> extends AtomicReference<Subscription> implements Subscriber<T>, Subscription {
+            /** Parent subscription. */
+            private final MergeSubscription<T> parent;
+
+            /** Prefetch size. */
+            private final int prefetch;
+
+            /** Number of consumed items to request the next portion after. */
+            private final int limit;
+
+            /** Inner data buffer. */
+            private final Queue<T> queue;
+
+            /** Count of consumed items. */
+            private int consumed;
+
+            /** Flag indicating that the subscription has completed. */
+            private volatile boolean done;
+
+            MergeSubscriber(MergeSubscription<T> parent, int prefetch) {
+                assert prefetch > 0;
+
+                this.parent = parent;
+                this.prefetch = prefetch;
+                this.limit = prefetch - (prefetch >> 2);
+                this.queue = new ConcurrentLinkedQueue<>();
+            }
+
+            /** {@inheritDoc} */
+            @Override
+            public void onSubscribe(Subscription subscription) {
+                if (compareAndSet(null, subscription)) {
+                    subscription.request(prefetch);
+                } else {
+                    subscription.cancel();
+                }
+            }
+
+            /** {@inheritDoc} */
+            @Override
+            public void onNext(T item) {
+                queue.offer(item);
+
+                parent.drain();
+            }
+
+            /** {@inheritDoc} */
+            @Override
+            public void onError(Throwable throwable) {
+                parent.onInnerError(this, throwable);
+            }
+
+            /** {@inheritDoc} */
+            @Override
+            public void onComplete() {
+                done = true;
+
+                parent.drain();
+            }
+
+            /** {@inheritDoc} */
+            @Override
+            public void request(long n) {
+                int c = consumed + 1;
+
+                if (c == limit) {
+                    consumed = 0;
+                    Subscription subscription = get();
+
+                    // If the subscription has not yet been cancelled - request upstream.
+                    if (subscription != this) {
+                        subscription.request(c);
+                    }
+                } else {
+                    consumed = c;
+                }
+            }
+
+            /** {@inheritDoc} */
+            @Override
+            public void cancel() {
+                Subscription subscription = getAndSet(this);
+
+                if (subscription != null && subscription != this) {
+                    subscription.cancel();
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,272 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.ignite.internal.fileio;
+
+import static java.nio.file.StandardOpenOption.APPEND;
+import static java.nio.file.StandardOpenOption.CREATE;
+import static java.nio.file.StandardOpenOption.CREATE_NEW;
+import static java.nio.file.StandardOpenOption.DELETE_ON_CLOSE;
+import static java.nio.file.StandardOpenOption.TRUNCATE_EXISTING;
+
+import com.sun.nio.file.ExtendedOpenOption;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.file.Files;
+import java.nio.file.OpenOption;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * {@link FileIo} implementation that reads and writes the blocks of a file bypassing the OS page cache ({@code O_DIRECT}).
+ *
+ * <p>Direct I/O requires the file offset and the length of an operation to be multiples of the file system block size, so only such
+ * positional reads and writes (which is how page stores read and write pages) are done with direct I/O. All other operations go through
+ * a regular {@link FileChannel} opened for the same file. If the file system does not support direct I/O, all the operations go through
+ * the regular channel.
+ *
+ * <p>The memory of a buffer passed to direct I/O must be aligned as well, so the data of a buffer that is not aligned is copied through
+ * a thread-local aligned buffer.
+ */
+public class DirectFileIo extends AbstractFileIo {
+    /** Block size used if the file system does not report a sane one. */
+    private static final int DEFAULT_BLOCK_SIZE = 4096;
+
+    /** Maximum supported block size. */
+    private static final int MAX_BLOCK_SIZE = 64 * 1024;
+
+    /** Open options that must not be passed when the file is opened for the second time for direct I/O. */
+    private static final List<OpenOption> NON_DIRECT_OPTIONS = List.of(CREATE, CREATE_NEW, TRUNCATE_EXISTING, DELETE_ON_CLOSE, APPEND);
+
+    /** Thread-local aligned buffer to copy the data of unaligned buffers through. */
+    private static final ThreadLocal<ByteBuffer> ALIGNED_BUFFER = new ThreadLocal<>();
+
+    /** File channel that goes through the OS page cache. */
+    private final FileChannel ch;
+
+    /** File channel opened with {@code O_DIRECT}, {@code null} if direct I/O is not supported. */
+    private final @Nullable FileChannel directCh;
+
+    /** File system block size. */
+    private final int blockSize;
+
+    /**
+     * Creates I/O implementation for specified file.
+     *
+     * @param filePath File path.
+     * @param modes Open modes.
+     */
+    public DirectFileIo(Path filePath, OpenOption... modes) throws IOException {
+        ch = FileChannel.open(filePath, modes);
+
+        int blockSize = DEFAULT_BLOCK_SIZE;
+        FileChannel directCh = null;
+
+        try {
+            blockSize = blockSize(filePath);
+
+            Set<OpenOption> directModes = new HashSet<>(Arrays.asList(modes));
+
+            directModes.removeAll(NON_DIRECT_OPTIONS);
+            directModes.add(ExtendedOpenOption.DIRECT);
+
+            directCh = FileChannel.open(filePath, directModes);
+        } catch (IOException | UnsupportedOperationException | IllegalArgumentException ignored) {
+            // Direct I/O is not supported by the platform or the file system, the regular channel will be used.
+        }
+
+        this.blockSize = blockSize;
+        this.directCh = directCh;
+    }
+
+    /** Returns {@code true} if the aligned positional reads and writes bypass the OS page cache. */
+    public boolean isDirect() {
+        return directCh != null;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public long position() throws IOException {
+        return ch.position();
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public void position(long newPosition) throws IOException {
+        ch.position(newPosition);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public int read(ByteBuffer destBuf) throws IOException {
+        return ch.read(destBuf);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public int read(ByteBuffer destBuf, long position) throws IOException {
+        int len = destBuf.remaining();
+
+        if (!isAligned(position, len)) {
+            return ch.read(destBuf, position);
+        }
+
+        if (isAligned(destBuf)) {
+            return directCh.read(destBuf, position);
+        }
+
+        ByteBuffer alignedBuf = alignedBuffer(len);
+
+        int read = directCh.read(alignedBuf, position);
+
+        if (read > 0) {
+            destBuf.put(alignedBuf.flip());
+        }
+
+        return read;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public int read(byte[] buf, int off, int len) throws IOException {
+        return ch.read(ByteBuffer.wrap(buf, off, len));
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public int write(ByteBuffer srcBuf) throws IOException {
+        return ch.write(srcBuf);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public int write(ByteBuffer srcBuf, long position) throws IOException {
+        int len = srcBuf.remaining();
+
+        if (!isAligned(position, len)) {
+            return ch.write(srcBuf, position);
+        }
+
+        if (isAligned(srcBuf)) {
+            return directCh.write(srcBuf, position);
+        }
+
+        ByteBuffer alignedBuf = alignedBuffer(len);
+
+        alignedBuf.put(srcBuf.duplicate()).flip();
+
+        int written = directCh.write(alignedBuf, position);
+
+        srcBuf.position(srcBuf.position() + written);
+
+        return written;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public int write(byte[] buf, int off, int len) throws IOException {
+        return ch.write(ByteBuffer.wrap(buf, off, len));
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public void force(boolean withMetadata) throws IOException {
+        // Flushes the data written through both channels, since they refer to the same file.
+        ch.force(withMetadata);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public void force() throws IOException {
+        force(false);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public long size() throws IOException {
+        return ch.size();
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public void clear() throws IOException {
+        ch.truncate(0);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public void close() throws IOException {
+        try {
+            ch.close();
+        } finally {
+            if (directCh != null) {
+                directCh.close();
+            }
+        }
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public MappedByteBuffer map(int sizeBytes) throws IOException {
+        return ch.map(FileChannel.MapMode.READ_WRITE, 0, sizeBytes);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public long transferTo(long position, long count, WritableByteChannel target) throws IOException {
+        return ch.transferTo(position, count, target);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public long transferFrom(ReadableByteChannel src, long position, long count) throws IOException {
+        return ch.transferFrom(src, position, count);
+    }
+
+    private boolean isAligned(long position, int len) {
+        return directCh != null && len > 0 && (position & (blockSize - 1)) == 0 && (len & (blockSize - 1)) == 0;
+    }
+
+    private boolean isAligned(ByteBuffer buf) {
+        return buf.isDirect() && buf.alignmentOffset(buf.position(), blockSize) == 0;
+    }
+
+    private ByteBuffer alignedBuffer(int len) {
+        ByteBuffer buf = ALIGNED_BUFFER.get();
+
+        if (buf == null || buf.capacity() < len || buf.alignmentOffset(0, blockSize) != 0) {
+            buf = ByteBuffer.allocateDirect(len + blockSize).alignedSlice(blockSize);
+
+            ALIGNED_BUFFER.set(buf);
+        }
+
+        return buf.clear().limit(len);
+    }
+
+    private static int blockSize(Path filePath) throws IOException {
+        long blockSize = Files.getFileStore(filePath).getBlockSize();
+
+        return blockSize > 0 && blockSize <= MAX_BLOCK_SIZE && Long.bitCount(blockSize) == 1 ? (int) blockSize : DEFAULT_BLOCK_SIZE;
+    }
+}
@@ -0,0 +1,84 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.ignite.internal.fileio;
+
+import static java.nio.file.StandardOpenOption.CREATE;
+import static java.nio.file.StandardOpenOption.READ;
+import static java.nio.file.StandardOpenOption.WRITE;
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.ThreadLocalRandom;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+/**
+ * For {@link DirectFileIo} testing.
+ */
+public class DirectFileIoTest extends AbstractFileIoTest {
+    @BeforeEach
+    void setUp() {
+        fileIoFactory = new DirectFileIoFactory();
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    protected Class<? extends FileIo> fileIoClass() {
+        return DirectFileIo.class;
+    }
+
+    @Test
+    void testAlignedReadWrite() throws Exception {
+        Path testFilePath = workDir.resolve("test");
+
+        byte[] bytes = new byte[4 * 4096];
+
+        ThreadLocalRandom.current().nextBytes(bytes);
+
+        try (FileIo fileIo = fileIoFactory.create(testFilePath, CREATE, READ, WRITE)) {
+            // Heap buffer is never aligned in memory, so it is copied through an aligned buffer.
+            assertEquals(2 * 4096, fileIo.writeFully(ByteBuffer.wrap(bytes, 0, 2 * 4096), 0));
+
+            ByteBuffer directBuf = ByteBuffer.allocateDirect(2 * 4096);
+
+            directBuf.put(bytes, 2 * 4096, 2 * 4096).flip();
+
+            assertEquals(2 * 4096, fileIo.writeFully(directBuf, 2 * 4096));
+
+            fileIo.force();
+
+            assertArrayEquals(bytes, Files.readAllBytes(testFilePath));
+
+            ByteBuffer heapBuf = ByteBuffer.allocate(4096);
+
+            assertEquals(4096, fileIo.readFully(heapBuf, 3 * 4096));
+
+            assertEquals(ByteBuffer.wrap(bytes, 3 * 4096, 4096), heapBuf.flip());
+
+            directBuf.clear();
+
+            assertEquals(2 * 4096, fileIo.readFully(directBuf, 0));
+
+            assertEquals(ByteBuffer.wrap(bytes, 0, 2 * 4096), directBuf.flip());
+
+            assertEquals(-1, fileIo.read(heapBuf.clear(), 4 * 4096));
+        }
+    }
+}
@@ -86,6 +86,40 @@ public interface PageSupport {
      */
     void readUnlock(int groupId, long pageId, long page);
 
+    /**
+     * Starts an optimistic read of the page, that is a read without acquiring the read lock. The page must be read at the
+     * {@link #optimisticReadAddress(int, long, long) address for optimistic reads}, and everything read must be discarded unless
+     * {@link #validateOptimisticRead(int, long, long, long) validation} succeeds after the read. The page must already be acquired.
+     *
+     * @param groupId Group ID.
+     * @param pageId  Page ID.
+     * @param page    Page pointer.
+     * @return Stamp to validate the read with or {@code 0L} if the page is write locked or has been reused.
+     */
+    long tryOptimisticRead(int groupId, long pageId, long page);
+
+    /**
+     * Returns the address to read the page at between {@link #tryOptimisticRead(int, long, long)} and
+     * {@link #validateOptimisticRead(int, long, long, long)}. Contents of the page may change at any moment while it is read.
+     *
+     * @param groupId Group ID.
+     * @param pageId  Page ID.
+     * @param page    Page pointer.
+     * @return Pointer for reading the page.
+     */
+    long optimisticReadAddress(int groupId, long pageId, long page);
+
+    /**
+     * Checks that the page has not been write locked since the stamp was obtained by {@link #tryOptimisticRead(int, long, long)}.
+     *
+     * @param groupId Group ID.
+     * @param pageId  Page ID.
+     * @param page    Page pointer.
+     * @param stamp   Stamp.
+     * @return {@code True} if everything read from the page since the stamp was obtained is consistent.
+     */
+    boolean validateOptimisticRead(int groupId, long pageId, long page, long stamp);
+
     /**
      * Acquired a write lock on the page.
      *
@@ -23,6 +23,7 @@ import static org.apache.ignite.internal.util.IgniteUtils.getTotalMemoryAvailabl
 import org.apache.ignite.configuration.annotation.Config;
 import org.apache.ignite.configuration.annotation.Value;
 import org.apache.ignite.configuration.validation.OneOf;
+import org.apache.ignite.configuration.validation.Range;
 
 /**
  * Persistent data region configuration schema.
@@ -45,12 +46,45 @@ public class PersistentPageMemoryDataRegionConfigurationSchema extends BasePageM
     /** CLOCK page replacement algorithm. */
     public static final String CLOCK_REPLACEMENT_MODE = "CLOCK";
 
+    /** Page replacement algorithm switching between CLOCK and Segmented-LRU depending on the workload. */
+    public static final String ADAPTIVE_REPLACEMENT_MODE = "ADAPTIVE";
+
+    /** Pages are written to disk uncompressed. */
+    public static final String DISABLED_PAGE_COMPRESSION = "DISABLED";
+
+    /** Pages are written to disk compressed with the Deflate algorithm. */
+    public static final String DEFLATE_PAGE_COMPRESSION = "DEFLATE";
+
     /** Memory region size in bytes. */
     @Value(hasDefault = true)
     public long size = DFLT_DATA_REGION_SIZE;
 
     /** Memory pages replacement mode. */
-    @OneOf({RANDOM_LRU_REPLACEMENT_MODE, SEGMENTED_LRU_REPLACEMENT_MODE, CLOCK_REPLACEMENT_MODE})
+    @OneOf({RANDOM_LRU_REPLACEMENT_MODE, SEGMENTED_LRU_REPLACEMENT_MODE, CLOCK_REPLACEMENT_MODE, ADAPTIVE_REPLACEMENT_MODE})
     @Value(hasDefault = true)
     public String replacementMode = CLOCK_REPLACEMENT_MODE;
+
+    /** Compression of the pages written to disk. */
+    @OneOf({DISABLED_PAGE_COMPRESSION, DEFLATE_PAGE_COMPRESSION})
+    @Value(hasDefault = true)
+    public String pageCompression = DISABLED_PAGE_COMPRESSION;
+
+    /** Level of the page compression, from 1 (the fastest) to 9 (the best compression). */
+    @Range(min = 1, max = 9)
+    @Value(hasDefault = true)
+    public int pageCompressionLevel = 1;
+
+    /**
+     * Enables direct I/O: page store files are read and written bypassing the OS page cache, which is not polluted by checkpoints then.
+     * Falls back to the regular I/O if the file system does not support it.
+     */
+    @Value(hasDefault = true)
+    public boolean directIo = false;
+
+    /**
+     * Enables the write throttling: while a checkpoint is writing pages, the threads marking pages dirty faster than the checkpoint writes
+     * them are slowed down, to avoid reaching the threshold of dirty pages at which all writes wait for the next checkpoint.
+     */
+    @Value(hasDefault = true)
+    public boolean writeThrottling = false;
 }
@@ -69,7 +69,7 @@ public abstract class ReadPageMemoryRowValue implements PageMemoryTraversal<Void
             allValueBytes = new byte[valueSize];
             transferredBytes = 0;
 
-            readValueFragmentToArray(pageAddr, payload, valueOffsetInFirstSlot());
+            readValueFragmentToArray(pageAddr, payload, valueOffsetInFirstSlot(pageAddr));
 
             return payload.nextLink();
         }
@@ -80,7 +80,7 @@ public abstract class ReadPageMemoryRowValue implements PageMemoryTraversal<Void
     }
 
     private long readFully(long pageAddr, DataPagePayload payload) {
-        allValueBytes = PageUtils.getBytes(pageAddr, payload.offset() + valueOffsetInFirstSlot(), valueSize);
+        allValueBytes = PageUtils.getBytes(pageAddr, payload.offset() + valueOffsetInFirstSlot(pageAddr), valueSize);
 
         return STOP_TRAVERSAL;
     }
@@ -126,9 +126,10 @@ public abstract class ReadPageMemoryRowValue implements PageMemoryTraversal<Void
     /**
      * Memory offset into first slot at which the 'value' starts.
      *
+     * @param pageAddr address of the page storing the first slot
      * @return offset into first slot at which the 'value' starts
      */
-    protected abstract int valueOffsetInFirstSlot();
+    protected abstract int valueOffsetInFirstSlot(long pageAddr);
 
     /**
      * Resets the object to make it ready for use.
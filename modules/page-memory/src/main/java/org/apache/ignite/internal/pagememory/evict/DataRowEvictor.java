@@ -0,0 +1,39 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.pagememory.evict;
+
+import org.apache.ignite.internal.lang.IgniteInternalCheckedException;
+
+/**
+ * Removes the rows stored in a data page chosen for eviction by a {@link PageEvictionTracker}.
+ *
+ * <p>Page memory knows nothing about the owners of the rows, so the owner of a data region decides whether a row may be evicted and
+ * removes it along with all the structures referring to it.
+ */
+@FunctionalInterface
+public interface DataRowEvictor {
+    /**
+     * Tries to evict the row, an item of which is stored by the link. Invoked for every item of the chosen data page, so the link may
+     * point to a fragment of a row or to a row unknown to the evictor, which must be ignored.
+     *
+     * @param link Link to the data page item.
+     * @return {@code True} if the row has been evicted.
+     * @throws IgniteInternalCheckedException In case of page memory error.
+     */
+    boolean evictDataRow(long link) throws IgniteInternalCheckedException;
+}
@@ -0,0 +1,222 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.pagememory.evict;
+
+import static org.apache.ignite.internal.pagememory.PageIdAllocator.FLAG_DATA;
+import static org.apache.ignite.internal.util.FastTimestamps.coarseCurrentTimeMillis;
+
+import java.util.List;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.IntSupplier;
+import org.apache.ignite.internal.lang.IgniteInternalCheckedException;
+import org.apache.ignite.internal.pagememory.inmemory.VolatilePageMemory;
+import org.apache.ignite.internal.pagememory.io.AbstractDataPageIo;
+import org.apache.ignite.internal.pagememory.io.PageIo;
+import org.apache.ignite.internal.pagememory.util.PageIdUtils;
+
+/**
+ * Base class for the trackers that evict data pages of a {@link VolatilePageMemory}.
+ *
+ * <p>Trackers keep the access timestamps of the data pages in an off-heap array indexed by {@link VolatilePageMemory#pageSequenceNumber
+ * page sequence numbers}, a zero timestamp means that the page is not a tracked data page. Timestamps are stored in a compact form: with
+ * a precision of {@code 2^COMPACT_TS_SHIFT} milliseconds, relative to the tracker creation time.
+ */
+public abstract class PageAbstractEvictionTracker implements PageEvictionTracker {
+    /** Shift of the compact timestamp, enough to run for 17 years without an overflow. */
+    private static final int COMPACT_TS_SHIFT = 8;
+
+    /** Page memory. */
+    protected final VolatilePageMemory pageMem;
+
+    /** Number of elements in the tracking array. */
+    protected final int trackingSize;
+
+    /** Share of the allocated pages, exceeding which requires eviction. */
+    private final double evictionThreshold;
+
+    /** Number of empty data pages, having which eviction is not required. */
+    private final int emptyPagesPoolSize;
+
+    /** Supplier of the number of empty data pages in the free list. */
+    private final IntSupplier emptyDataPages;
+
+    /** Evictor of the rows of the chosen data pages. */
+    private final DataRowEvictor rowEvictor;
+
+    /** Base of the compact timestamps. */
+    private final long baseCompactTs;
+
+    /** Number of evicted data pages. */
+    private final LongAdder evictedPages = new LongAdder();
+
+    /** Number of evicted rows. */
+    private final LongAdder evictedRows = new LongAdder();
+
+    /**
+     * Constructor.
+     *
+     * @param pageMem Page memory, must be started.
+     * @param evictionThreshold Share of the allocated pages, exceeding which requires eviction.
+     * @param emptyPagesPoolSize Number of empty data pages, having which eviction is not required.
+     * @param emptyDataPages Supplier of the number of empty data pages in the free list.
+     * @param rowEvictor Evictor of the rows of the chosen data pages.
+     */
+    protected PageAbstractEvictionTracker(
+            VolatilePageMemory pageMem,
+            double evictionThreshold,
+            int emptyPagesPoolSize,
+            IntSupplier emptyDataPages,
+            DataRowEvictor rowEvictor
+    ) {
+        this.pageMem = pageMem;
+        this.evictionThreshold = evictionThreshold;
+        this.emptyPagesPoolSize = emptyPagesPoolSize;
+        this.emptyDataPages = emptyDataPages;
+        this.rowEvictor = rowEvictor;
+
+        trackingSize = pageMem.totalPages();
+
+        // We subtract 1 to never get a zero timestamp, since it marks a page that is not tracked.
+        baseCompactTs = (coarseCurrentTimeMillis() >> COMPACT_TS_SHIFT) - 1;
+    }
+
+    /** Allocates the tracking array. */
+    public abstract void start();
+
+    /** Releases the tracking array. */
+    public abstract void stop();
+
+    /** {@inheritDoc} */
+    @Override
+    public boolean evictionRequired() {
+        return pageMem.loadedPages() > trackingSize * evictionThreshold && emptyDataPages.getAsInt() < emptyPagesPoolSize;
+    }
+
+    /**
+     * Evicts the rows of the data page.
+     *
+     * @param pageIdx Index of the page.
+     * @return {@code True} if at least one row has been evicted.
+     * @throws IgniteInternalCheckedException In case of page memory error.
+     */
+    protected boolean evictDataPage(int pageIdx) throws IgniteInternalCheckedException {
+        long fakePageId = PageIdUtils.pageId(0, FLAG_DATA, pageIdx);
+
+        long page = pageMem.acquirePage(0, fakePageId);
+
+        List<Long> links;
+
+        try {
+            // The tag of the real page ID is unknown, so the page is locked regardless of it.
+            long pageAddr = pageMem.readLockForce(0, fakePageId, page);
+
+            try {
+                PageIo io = PageIo.getType(pageAddr) == 0 ? null : pageMem.ioRegistry().resolve(pageAddr);
+
+                if (!(io instanceof AbstractDataPageIo)) {
+                    // Can't evict: the page has been recycled into a non-data page.
+                    return false;
+                }
+
+                if (!checkTouch(PageIo.getPageId(pageAddr))) {
+                    // Can't evict: another thread has concurrently invoked forgetPage().
+                    return false;
+                }
+
+                links = ((AbstractDataPageIo<?>) io).forAllItems(pageAddr, link -> link);
+            } finally {
+                pageMem.readUnlock(0, fakePageId, page);
+            }
+        } finally {
+            pageMem.releasePage(0, fakePageId, page);
+        }
+
+        // Rows are evicted without holding the page lock, since the evictor removes them from this very page.
+        int evicted = 0;
+
+        for (long link : links) {
+            if (rowEvictor.evictDataRow(link)) {
+                evicted++;
+            }
+        }
+
+        if (evicted > 0) {
+            evictedPages.increment();
+            evictedRows.add(evicted);
+        }
+
+        return evicted > 0;
+    }
+
+    /**
+     * Checks that the data page is tracked.
+     *
+     * @param pageId Page ID.
+     * @return {@code True} if the page is tracked, i.e. it has been touched after being forgotten.
+     */
+    protected abstract boolean checkTouch(long pageId);
+
+    /**
+     * Converts a timestamp to the compact form.
+     *
+     * @param epochMilli Timestamp in milliseconds.
+     * @return Compact timestamp.
+     */
+    protected int compactTimestamp(long epochMilli) {
+        long compactTs = (epochMilli >> COMPACT_TS_SHIFT) - baseCompactTs;
+
+        assert compactTs > 0 && compactTs < Integer.MAX_VALUE : compactTs;
+
+        return (int) compactTs;
+    }
+
+    /** Returns the current timestamp in the compact form. */
+    protected int currentCompactTimestamp() {
+        return compactTimestamp(coarseCurrentTimeMillis());
+    }
+
+    /**
+     * Converts a page index into an index in the tracking array.
+     *
+     * @param pageIdx Page index.
+     * @return Tracking index.
+     */
+    protected int trackingIdx(int pageIdx) {
+        return pageMem.pageSequenceNumber(pageIdx);
+    }
+
+    /**
+     * Converts an index in the tracking array into a page index.
+     *
+     * @param trackingIdx Tracking index.
+     * @return Page index.
+     */
+    protected int pageIdx(int trackingIdx) {
+        return pageMem.pageIndex(trackingIdx);
+    }
+
+    /** Returns the number of data pages, at least one row of which has been evicted. */
+    public long evictedPages() {
+        return evictedPages.sum();
+    }
+
+    /** Returns the number of evicted rows. */
+    public long evictedRows() {
+        return evictedRows.sum();
+    }
+}
@@ -0,0 +1,146 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.pagememory.evict;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.function.IntSupplier;
+import org.apache.ignite.internal.lang.IgniteInternalCheckedException;
+import org.apache.ignite.internal.logger.IgniteLogger;
+import org.apache.ignite.internal.logger.Loggers;
+import org.apache.ignite.internal.pagememory.inmemory.VolatilePageMemory;
+import org.apache.ignite.internal.pagememory.util.PageIdUtils;
+import org.apache.ignite.internal.util.GridUnsafe;
+
+/**
+ * Random-LRU eviction tracker: keeps the timestamp of the last access of every data page, and evicts the least recently used one of
+ * {@link #SAMPLE_SIZE} randomly chosen data pages.
+ */
+public class RandomLruPageEvictionTracker extends PageAbstractEvictionTracker {
+    private static final IgniteLogger LOG = Loggers.forClass(RandomLruPageEvictionTracker.class);
+
+    /** Number of attempts to evict a page, after which the eviction is given up. */
+    private static final int EVICT_ATTEMPTS_LIMIT = 30;
+
+    /** Number of data pages to choose the least recently used one from. */
+    private static final int SAMPLE_SIZE = 5;
+
+    /** Number of random samples, after which choosing of data pages is given up. */
+    private static final int SAMPLE_SPIN_LIMIT = SAMPLE_SIZE * 1000;
+
+    /** Address of the tracking array. */
+    private long trackingArrPtr;
+
+    /**
+     * Constructor.
+     *
+     * @param pageMem Page memory, must be started.
+     * @param evictionThreshold Share of the allocated pages, exceeding which requires eviction.
+     * @param emptyPagesPoolSize Number of empty data pages, having which eviction is not required.
+     * @param emptyDataPages Supplier of the number of empty data pages in the free list.
+     * @param rowEvictor Evictor of the rows of the chosen data pages.
+     */
+    public RandomLruPageEvictionTracker(
+            VolatilePageMemory pageMem,
+            double evictionThreshold,
+            int emptyPagesPoolSize,
+            IntSupplier emptyDataPages,
+            DataRowEvictor rowEvictor
+    ) {
+        super(pageMem, evictionThreshold, emptyPagesPoolSize, emptyDataPages, rowEvictor);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public void start() {
+        trackingArrPtr = GridUnsafe.allocateMemory(trackingSize * 4L);
+
+        GridUnsafe.setMemory(trackingArrPtr, trackingSize * 4L, (byte) 0);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public void stop() {
+        GridUnsafe.freeMemory(trackingArrPtr);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public void touchPage(long pageId) {
+        int trackingIdx = trackingIdx(PageIdUtils.pageIndex(pageId));
+
+        GridUnsafe.putIntVolatile(null, trackingArrPtr + trackingIdx * 4L, currentCompactTimestamp());
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public void evictDataPage() throws IgniteInternalCheckedException {
+        ThreadLocalRandom rnd = ThreadLocalRandom.current();
+
+        for (int evictAttemptsCnt = 0; evictAttemptsCnt < EVICT_ATTEMPTS_LIMIT; evictAttemptsCnt++) {
+            int lruTrackingIdx = -1;
+            int lruCompactTs = Integer.MAX_VALUE;
+
+            int dataPagesCnt = 0;
+            int sampleSpinCnt = 0;
+
+            while (dataPagesCnt < SAMPLE_SIZE) {
+                int sampleTrackingIdx = rnd.nextInt(trackingSize);
+
+                int compactTs = GridUnsafe.getIntVolatile(null, trackingArrPtr + sampleTrackingIdx * 4L);
+
+                if (compactTs != 0) {
+                    // We chose a data page with at least one row.
+                    if (compactTs < lruCompactTs) {
+                        lruTrackingIdx = sampleTrackingIdx;
+                        lruCompactTs = compactTs;
+                    }
+
+                    dataPagesCnt++;
+                }
+
+                if (++sampleSpinCnt > SAMPLE_SPIN_LIMIT) {
+                    LOG.warn("Too many attempts to choose a data page [limit={}]", SAMPLE_SPIN_LIMIT);
+
+                    return;
+                }
+            }
+
+            if (evictDataPage(pageIdx(lruTrackingIdx))) {
+                return;
+            }
+        }
+
+        LOG.warn("Too many failed attempts to evict a page [limit={}]", EVICT_ATTEMPTS_LIMIT);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    protected boolean checkTouch(long pageId) {
+        int trackingIdx = trackingIdx(PageIdUtils.pageIndex(pageId));
+
+        return GridUnsafe.getIntVolatile(null, trackingArrPtr + trackingIdx * 4L) != 0;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public void forgetPage(long pageId) {
+        int trackingIdx = trackingIdx(PageIdUtils.pageIndex(pageId));
+
+        GridUnsafe.putIntVolatile(null, trackingArrPtr + trackingIdx * 4L, 0);
+    }
+}
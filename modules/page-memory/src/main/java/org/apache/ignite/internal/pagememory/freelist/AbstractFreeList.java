@@ -18,6 +18,7 @@
 
 package org.apache.ignite.internal.pagememory.freelist;
 
+import static org.apache.ignite.internal.lang.IgniteSystemProperties.getBoolean;
 import static org.apache.ignite.internal.pagememory.PageIdAllocator.FLAG_DATA;
 import static org.apache.ignite.internal.pagememory.util.PageIdUtils.itemId;
 import static org.apache.ignite.internal.pagememory.util.PageIdUtils.pageId;
@@ -26,8 +27,12 @@ import static org.apache.ignite.internal.util.IgniteUtils.isPow2;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.Iterator;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicLong;
 import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.atomic.LongAdder;
 import org.apache.ignite.internal.lang.IgniteInternalCheckedException;
 import org.apache.ignite.internal.logger.IgniteLogger;
 import org.apache.ignite.internal.pagememory.PageIdAllocator;
@@ -50,6 +55,11 @@ import org.jetbrains.annotations.Nullable;
  * Abstract free list.
  */
 public abstract class AbstractFreeList<T extends Storable> extends PagesList implements FreeList<T>, ReuseList {
+    /** Disables reservation of data pages by inserting threads, see {@link #enableDataPageReservation()}. */
+    public static final String IGNITE_FREE_LIST_PAGE_RESERVATION = "IGNITE_FREE_LIST_PAGE_RESERVATION";
+
+    private static final boolean PAGE_RESERVATION = getBoolean(IGNITE_FREE_LIST_PAGE_RESERVATION, true);
+
     private static final int BUCKETS = 256; // Must be power of 2.
 
     private static final int REUSE_BUCKET = BUCKETS - 1;
@@ -62,6 +72,9 @@ public abstract class AbstractFreeList<T extends Storable> extends PagesList imp
 
     private static final int MIN_PAGE_FREE_SPACE = 8;
 
+    /** Maximum number of data pages evicted by a single {@link #ensureFreeSpace()} call, bounds it when nothing can be evicted. */
+    private static final int EVICTIONS_LIMIT = 64;
+
     /**
      * Step between buckets in free list, measured in powers of two. For example, for page size 4096 and 256 buckets, shift is 4 and step is
      * 16 bytes.
@@ -91,6 +104,18 @@ public abstract class AbstractFreeList<T extends Storable> extends PagesList imp
 
     private final PageHandler<ReuseBag, Long> rmvRow;
 
+    /** Put a reserved page to the free list. */
+    private final PutReservedPageHandler putReservedPageHnd = new PutReservedPageHandler();
+
+    /** Pages reserved by the inserting threads, {@code null} if the reservation is disabled. */
+    private @Nullable ThreadLocal<ReservationSlot> reservationSlots;
+
+    /** Pages reserved by the inserting threads by page IDs with masked partition IDs. */
+    private final ConcurrentMap<Long, ReservedPage> reservedPagesById = new ConcurrentHashMap<>();
+
+    /** Number of rows written to pages reserved by the inserting threads. */
+    private final LongAdder reservedPageHits = new LongAdder();
+
     private class WriteRowHandler implements PageHandler<T, Integer> {
         /** {@inheritDoc} */
         @Override
@@ -212,7 +237,7 @@ public abstract class AbstractFreeList<T extends Storable> extends PagesList imp
                 long pageAddr,
                 IoStatisticsHolder statHolder
         ) throws IgniteInternalCheckedException {
-            if (freeSpace > MIN_PAGE_FREE_SPACE) {
+            if (freeSpace > MIN_PAGE_FREE_SPACE && !reservePage(pageId, freeSpace)) {
                 int bucket = bucket(freeSpace, false);
 
                 put(null, pageId, pageAddr, bucket, statHolder);
@@ -265,6 +290,59 @@ public abstract class AbstractFreeList<T extends Storable> extends PagesList imp
         }
     }
 
+    private final class PutReservedPageHandler implements PageHandler<Void, Boolean> {
+        /** {@inheritDoc} */
+        @Override
+        public Boolean run(
+                int cacheId,
+                long pageId,
+                long page,
+                long pageAddr,
+                PageIo iox,
+                Void arg,
+                int intArg,
+                IoStatisticsHolder statHolder
+        ) throws IgniteInternalCheckedException {
+            int freeSpace = ((AbstractDataPageIo<?>) iox).getFreeSpace(pageAddr);
+
+            if (freeSpace > MIN_PAGE_FREE_SPACE) {
+                put(null, pageId, pageAddr, bucket(freeSpace, false), statHolder);
+            }
+
+            return Boolean.TRUE;
+        }
+    }
+
+    /**
+     * Reservation of a data page by an inserting thread.
+     */
+    private static final class ReservedPage {
+        /** ID of the page. */
+        private final long pageId;
+
+        /** Free space of the page at the moment of reservation. It can only grow while the page is reserved. */
+        private final int freeSpace;
+
+        /** Thread that has reserved the page. */
+        private final Thread owner;
+
+        /** Whoever sets the flag owns the page: either the owner taking it to write a row, or a thread putting it to the free list. */
+        private final AtomicBoolean released = new AtomicBoolean();
+
+        private ReservedPage(long pageId, int freeSpace, Thread owner) {
+            this.pageId = pageId;
+            this.freeSpace = freeSpace;
+            this.owner = owner;
+        }
+    }
+
+    /**
+     * The last page reservation of an inserting thread, only accessed by the thread itself.
+     */
+    private static final class ReservationSlot {
+        private @Nullable ReservedPage reservedPage;
+    }
+
     private final class RemoveRowHandler implements PageHandler<ReuseBag, Long> {
         /** Indicates whether partition ID should be masked from page ID. */
         private final boolean maskPartId;
@@ -305,7 +383,13 @@ public abstract class AbstractFreeList<T extends Storable> extends PagesList imp
 
                 boolean putIsNeeded = oldFreeSpace <= MIN_PAGE_FREE_SPACE;
 
-                if (!putIsNeeded) {
+                ReservedPage reservedPage = putIsNeeded ? null : reservedPagesById.get(reservationKey(pageId));
+
+                if (reservedPage != null) {
+                    // The page is kept by an inserting thread instead of the free list, unless it gets empty and can be recycled. A
+                    // released reservation means that the page is being taken by its owner, which puts it to the free list afterwards.
+                    putIsNeeded = io.isEmpty(pageAddr) && releaseReservation(reservedPage);
+                } else if (!putIsNeeded) {
                     int oldBucket = bucket(oldFreeSpace, false);
 
                     if (oldBucket != newBucket) {
@@ -402,6 +486,177 @@ public abstract class AbstractFreeList<T extends Storable> extends PagesList imp
         init(metaPageId, initNew);
     }
 
+    /**
+     * Enables reservation of data pages by inserting threads. Once a thread writes a row to a data page which has free space left, the
+     * page is not put back to the free list but is kept by the thread for its next rows, until a row does not fit there. So concurrent
+     * inserts do not fight for the same buckets and pages of the free list.
+     *
+     * <p>Reserved pages are not tracked by the free list, so they are put back to it by {@link #saveMetadata(IoStatisticsHolder)}, and
+     * the pages reserved by the threads that have terminated are put back before a new data page is allocated. Must be called from the
+     * constructor.
+     */
+    protected void enableDataPageReservation() {
+        if (PAGE_RESERVATION) {
+            reservationSlots = ThreadLocal.withInitial(ReservationSlot::new);
+        }
+    }
+
+    /**
+     * Returns number of rows written to pages reserved by the inserting threads instead of pages taken from the free list.
+     */
+    public long reservedPageHits() {
+        return reservedPageHits.sum();
+    }
+
+    /**
+     * Puts the pages reserved by the inserting threads back to the free list.
+     *
+     * @param statHolder Statistics holder to track IO operations.
+     * @throws IgniteInternalCheckedException If failed.
+     */
+    public void releaseReservedPages(IoStatisticsHolder statHolder) throws IgniteInternalCheckedException {
+        for (ReservedPage reservedPage : reservedPagesById.values()) {
+            if (releaseReservation(reservedPage)) {
+                putReservedPage(reservedPage.pageId, statHolder);
+            }
+        }
+    }
+
+    /**
+     * Puts the pages reserved by the threads that have terminated back to the free list.
+     *
+     * @param statHolder Statistics holder to track IO operations.
+     * @return {@code True} if at least one page has been put back.
+     * @throws IgniteInternalCheckedException If failed.
+     */
+    private boolean releaseReservedPagesOfTerminatedThreads(IoStatisticsHolder statHolder) throws IgniteInternalCheckedException {
+        boolean released = false;
+
+        for (ReservedPage reservedPage : reservedPagesById.values()) {
+            if (!reservedPage.owner.isAlive() && releaseReservation(reservedPage)) {
+                putReservedPage(reservedPage.pageId, statHolder);
+
+                released = true;
+            }
+        }
+
+        return released;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    protected void saveMetadata(IoStatisticsHolder statHolder) throws IgniteInternalCheckedException {
+        releaseReservedPages(statHolder);
+
+        super.saveMetadata(statHolder);
+    }
+
+    /**
+     * Reserves the page for the current thread, if the reservation is enabled and the thread has no reserved page yet. Must be called
+     * under the write lock of the page.
+     *
+     * @param pageId Page ID.
+     * @param freeSpace Free space of the page.
+     * @return {@code True} if the page has been reserved and must not be put to the free list.
+     */
+    private boolean reservePage(long pageId, int freeSpace) {
+        ThreadLocal<ReservationSlot> reservationSlots = this.reservationSlots;
+
+        if (reservationSlots == null) {
+            return false;
+        }
+
+        ReservationSlot slot = reservationSlots.get();
+
+        if (slot.reservedPage != null && !slot.reservedPage.released.get()) {
+            return false;
+        }
+
+        ReservedPage reservedPage = new ReservedPage(pageId, freeSpace, Thread.currentThread());
+
+        slot.reservedPage = reservedPage;
+
+        reservedPagesById.put(reservationKey(pageId), reservedPage);
+
+        return true;
+    }
+
+    /**
+     * Takes the page reserved by the current thread, if the given number of bytes fits there. Otherwise puts the page back to the free
+     * list.
+     *
+     * @param size Required free space on page.
+     * @param statHolder Statistics holder to track IO operations.
+     * @return Page ID or {@code 0} if there is no suitable reserved page.
+     * @throws IgniteInternalCheckedException If failed.
+     */
+    private long takeReservedPage(int size, IoStatisticsHolder statHolder) throws IgniteInternalCheckedException {
+        ThreadLocal<ReservationSlot> reservationSlots = this.reservationSlots;
+
+        if (reservationSlots == null) {
+            return 0L;
+        }
+
+        ReservationSlot slot = reservationSlots.get();
+
+        ReservedPage reservedPage = slot.reservedPage;
+
+        if (reservedPage == null) {
+            return 0L;
+        }
+
+        slot.reservedPage = null;
+
+        if (!releaseReservation(reservedPage)) {
+            // The page has been put back to the free list by another thread.
+            return 0L;
+        }
+
+        if (reservedPage.freeSpace >= size) {
+            reservedPageHits.increment();
+
+            return reservedPage.pageId;
+        }
+
+        putReservedPage(reservedPage.pageId, statHolder);
+
+        return 0L;
+    }
+
+    /**
+     * Releases the reservation of the page, the caller owns the page if the reservation hasn't been released before.
+     *
+     * @param reservedPage Page reservation.
+     * @return {@code True} if the reservation has been released by this call.
+     */
+    private boolean releaseReservation(ReservedPage reservedPage) {
+        if (!reservedPage.released.compareAndSet(false, true)) {
+            return false;
+        }
+
+        // The reservation object is unique, so a new reservation of the same page is never removed.
+        reservedPagesById.remove(reservationKey(reservedPage.pageId), reservedPage);
+
+        return true;
+    }
+
+    /**
+     * Returns the key of the page in {@link #reservedPagesById}. Partition ID is masked, since the page ID of a data page taken for a row
+     * gets the partition ID of the row, and the links of some storages don't have partition IDs. All the data pages of a free list
+     * differ by page indexes, so masked IDs are unique as well.
+     *
+     * @param pageId Page ID.
+     */
+    private static long reservationKey(long pageId) {
+        return PageIdUtils.maskPartitionId(pageId);
+    }
+
+    private void putReservedPage(long pageId, IoStatisticsHolder statHolder) throws IgniteInternalCheckedException {
+        Boolean ok = write(pageId, putReservedPageHnd, null, 0, Boolean.FALSE, statHolder);
+
+        assert ok : PageIdUtils.toDetailString(pageId);
+    }
+
     /**
      * Calculates free space tracked by this FreeListImpl instance.
      *
@@ -570,6 +825,20 @@ public abstract class AbstractFreeList<T extends Storable> extends PagesList imp
         }
     }
 
+    /**
+     * Evicts data pages while the eviction tracker requires it, so that the rows inserted afterwards do not exhaust the page memory.
+     *
+     * <p>Eviction removes rows from the data pages, and structures referring to them, so it must not be invoked while holding a lock of
+     * any page.
+     *
+     * @throws IgniteInternalCheckedException If failed.
+     */
+    public void ensureFreeSpace() throws IgniteInternalCheckedException {
+        for (int i = 0; i < EVICTIONS_LIMIT && evictionTracker.evictionRequired(); i++) {
+            evictionTracker.evictDataPage();
+        }
+    }
+
     /**
      * {@link Iterator} implementation that allows to access the current element multiple times.
      */
@@ -662,6 +931,12 @@ public abstract class AbstractFreeList<T extends Storable> extends PagesList imp
         long pageId = 0;
 
         if (size < minSizeForDataPage) {
+            pageId = takeReservedPage(size, statHolder);
+
+            if (pageId != 0L) {
+                return PageIdUtils.changePartitionId(pageId, row.partition());
+            }
+
             for (int b = bucket(size, false) + 1; b < REUSE_BUCKET; b++) {
                 pageId = takeEmptyPage(b, row.ioVersions(), statHolder);
 
@@ -684,7 +959,8 @@ public abstract class AbstractFreeList<T extends Storable> extends PagesList imp
         }
 
         if (pageId == 0L) {
-            return 0;
+            // Pages kept by the threads that have terminated may fit the row, they are put back before a new page is allocated.
+            return releaseReservedPagesOfTerminatedThreads(statHolder) ? takePage(size, row, statHolder) : 0;
         }
 
         assert PageIdUtils.flag(pageId) == FLAG_DATA
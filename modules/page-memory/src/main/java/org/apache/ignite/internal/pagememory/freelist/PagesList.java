@@ -44,6 +44,7 @@ import java.util.Map;
 import java.util.concurrent.atomic.AtomicIntegerFieldUpdater;
 import java.util.concurrent.atomic.AtomicLong;
 import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
 import org.apache.ignite.internal.lang.IgniteInternalCheckedException;
 import org.apache.ignite.internal.logger.IgniteLogger;
 import org.apache.ignite.internal.pagememory.PageIdAllocator;
@@ -111,6 +112,9 @@ public abstract class PagesList extends DataStructure {
     /** Flag to enable/disable onheap list caching. */
     private volatile boolean onheapListCachingEnabled;
 
+    /** Number of failed attempts to lock the tail page of a stripe. */
+    private final LongAdder stripeLockContentions = new LongAdder();
+
     private final PageHandler<Void, Boolean> cutTail = new CutTail();
 
     private final PageHandler<Void, Boolean> putBucket = new PutBucket();
@@ -1165,6 +1169,8 @@ public abstract class PagesList extends DataStructure {
             return pageAddr;
         }
 
+        stripeLockContentions.increment();
+
         if (lockAttempt == tryLockAttempts) {
             Stripe[] stripes = getBucket(bucket);
 
@@ -1774,6 +1780,13 @@ public abstract class PagesList extends DataStructure {
         return pagesCache == null ? 0 : pagesCache.size();
     }
 
+    /**
+     * Returns number of failed attempts to lock the tail page of a stripe, that is how often threads contended for the stripes.
+     */
+    public long stripeLockContentions() {
+        return stripeLockContentions.sum();
+    }
+
     /**
      * Returns meta page id.
      */
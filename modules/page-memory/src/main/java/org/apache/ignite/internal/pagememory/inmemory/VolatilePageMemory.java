@@ -63,11 +63,11 @@ import org.apache.ignite.internal.util.StringUtils;
  * <p/>
  * When page is allocated and is in use:
  * <pre>
- * +--------+--------+--------+--------+---------------------------+
- * |8 bytes |8 bytes |8 bytes |8 bytes |        PAGE_SIZE          |
- * +--------+--------+--------+--------+---------------------------+
- * | Marker |Page ID |Pin CNT |  Lock  |        Page data          |
- * +--------+--------+--------+--------+---------------------------+
+ * +--------+--------+-----------------+---------------------------+
+ * |8 bytes |8 bytes |    16 bytes     |        PAGE_SIZE          |
+ * +--------+--------+-----------------+---------------------------+
+ * | Marker |Page ID |      Lock       |        Page data          |
+ * +--------+--------+-----------------+---------------------------+
  * </pre>
  *
  * <p>Note that first 8 bytes of page header are used either for page marker or for next relative pointer depending
@@ -504,6 +504,23 @@ public class VolatilePageMemory implements PageMemory {
         rwLock.readUnlock(page + LOCK_OFFSET);
     }
 
+    /** {@inheritDoc} */
+    @Override public long tryOptimisticRead(int cacheId, long pageId, long page) {
+        assert started;
+
+        return rwLock.tryOptimisticRead(page + LOCK_OFFSET, PageIdUtils.tag(pageId));
+    }
+
+    /** {@inheritDoc} */
+    @Override public long optimisticReadAddress(int cacheId, long pageId, long page) {
+        return page + PAGE_OVERHEAD;
+    }
+
+    /** {@inheritDoc} */
+    @Override public boolean validateOptimisticRead(int cacheId, long pageId, long page, long stamp) {
+        return rwLock.validate(page + LOCK_OFFSET, stamp);
+    }
+
     /** {@inheritDoc} */
     @Override public long writeLock(int cacheId, long pageId, long page) {
         assert started;
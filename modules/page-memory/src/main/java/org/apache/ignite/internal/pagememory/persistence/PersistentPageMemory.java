@@ -19,6 +19,7 @@ package org.apache.ignite.internal.pagememory.persistence;
 
 import static java.lang.System.lineSeparator;
 import static org.apache.ignite.internal.pagememory.FullPageId.NULL_PAGE;
+import static org.apache.ignite.internal.pagememory.configuration.schema.PersistentPageMemoryDataRegionConfigurationSchema.ADAPTIVE_REPLACEMENT_MODE;
 import static org.apache.ignite.internal.pagememory.configuration.schema.PersistentPageMemoryDataRegionConfigurationSchema.CLOCK_REPLACEMENT_MODE;
 import static org.apache.ignite.internal.pagememory.configuration.schema.PersistentPageMemoryDataRegionConfigurationSchema.RANDOM_LRU_REPLACEMENT_MODE;
 import static org.apache.ignite.internal.pagememory.configuration.schema.PersistentPageMemoryDataRegionConfigurationSchema.SEGMENTED_LRU_REPLACEMENT_MODE;
@@ -76,6 +77,7 @@ import java.util.concurrent.atomic.AtomicIntegerFieldUpdater;
 import java.util.concurrent.atomic.AtomicLong;
 import java.util.concurrent.atomic.AtomicReference;
 import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Supplier;
 import org.apache.ignite.internal.lang.IgniteInternalCheckedException;
 import org.apache.ignite.internal.lang.IgniteInternalException;
 import org.apache.ignite.internal.logger.IgniteLogger;
@@ -95,12 +97,14 @@ import org.apache.ignite.internal.pagememory.metric.IoStatisticsHolderNoOp;
 import org.apache.ignite.internal.pagememory.persistence.checkpoint.CheckpointMetricsTracker;
 import org.apache.ignite.internal.pagememory.persistence.checkpoint.CheckpointPages;
 import org.apache.ignite.internal.pagememory.persistence.checkpoint.CheckpointTimeoutLock;
+import org.apache.ignite.internal.pagememory.persistence.replacement.AdaptivePageReplacementPolicyFactory;
 import org.apache.ignite.internal.pagememory.persistence.replacement.ClockPageReplacementPolicyFactory;
 import org.apache.ignite.internal.pagememory.persistence.replacement.DelayedPageReplacementTracker;
 import org.apache.ignite.internal.pagememory.persistence.replacement.PageReplacementPolicy;
 import org.apache.ignite.internal.pagememory.persistence.replacement.PageReplacementPolicyFactory;
 import org.apache.ignite.internal.pagememory.persistence.replacement.RandomLruPageReplacementPolicyFactory;
 import org.apache.ignite.internal.pagememory.persistence.replacement.SegmentedLruPageReplacementPolicyFactory;
+import org.apache.ignite.internal.pagememory.persistence.throttling.PagesWriteSpeedBasedThrottle;
 import org.apache.ignite.internal.util.CollectionUtils;
 import org.apache.ignite.internal.util.OffheapReadWriteLock;
 import org.jetbrains.annotations.Nullable;
@@ -123,7 +127,7 @@ import org.jetbrains.annotations.TestOnly;
  * <p>When page is allocated and is in use:
  * <pre>
  * +------------------+--------+--------+----+----+--------+--------+----------------------+
- * |     8 bytes      |8 bytes |8 bytes |4 b |4 b |8 bytes |8 bytes |       PAGE_SIZE      |
+ * |     8 bytes      |8 bytes |8 bytes |4 b |4 b |16 bytes|8 bytes |       PAGE_SIZE      |
  * +------------------+--------+--------+----+----+--------+--------+----------------------+
  * | Marker/Timestamp |Rel ptr |Page ID |C ID|PIN | LOCK   |TMP BUF |       Page data      |
  * +------------------+--------+--------+----+----+--------+--------+----------------------+
@@ -149,8 +153,8 @@ public class PersistentPageMemory implements PageMemory {
     /** Page lock offset. */
     public static final int PAGE_LOCK_OFFSET = 32;
 
-    /** 8b Marker/timestamp 8b Relative pointer 8b Page ID 4b Group ID 4b Pin count 8b Lock 8b Temporary buffer. */
-    public static final int PAGE_OVERHEAD = 48;
+    /** 8b Marker/timestamp 8b Relative pointer 8b Page ID 4b Group ID 4b Pin count 16b Lock 8b Temporary buffer. */
+    public static final int PAGE_OVERHEAD = 56;
 
     /** Try again tag. */
     public static final int TRY_AGAIN_TAG = -1;
@@ -217,6 +221,9 @@ public class PersistentPageMemory implements PageMemory {
     /** Checkpoint timeout lock. */
     private final CheckpointTimeoutLock checkpointTimeoutLock;
 
+    /** Throttle of the threads marking pages dirty, {@code null} if the write throttling is disabled. */
+    private final @Nullable PagesWriteSpeedBasedThrottle writeThrottle;
+
     /**
      * Constructor.
      *
@@ -228,6 +235,8 @@ public class PersistentPageMemory implements PageMemory {
      * @param changeTracker Callback invoked to track changes in pages.
      * @param flushDirtyPageForReplacement Write callback invoked when a dirty page is removed for replacement.
      * @param checkpointTimeoutLock Checkpoint timeout lock.
+     * @param currentCheckpointMetricsTracker Returns the metrics tracker of the current checkpoint while its pages are being written,
+     *      {@code null} otherwise. Enables the {@link PagesWriteSpeedBasedThrottle write throttling}, {@code null} to disable it.
      * @param pageSize Page size in bytes.
      */
     public PersistentPageMemory(
@@ -239,6 +248,7 @@ public class PersistentPageMemory implements PageMemory {
             @Nullable PageChangeTracker changeTracker,
             WriteDirtyPage flushDirtyPageForReplacement,
             CheckpointTimeoutLock checkpointTimeoutLock,
+            @Nullable Supplier<CheckpointMetricsTracker> currentCheckpointMetricsTracker,
             // TODO: IGNITE-17017 Move to common config
             int pageSize
     ) {
@@ -273,12 +283,20 @@ public class PersistentPageMemory implements PageMemory {
             case CLOCK_REPLACEMENT_MODE:
                 pageReplacementPolicyFactory = new ClockPageReplacementPolicyFactory();
 
+                break;
+            case ADAPTIVE_REPLACEMENT_MODE:
+                pageReplacementPolicyFactory = new AdaptivePageReplacementPolicyFactory();
+
                 break;
             default:
                 throw new IgniteInternalException("Unexpected page replacement mode: " + replacementMode);
         }
 
         delayedPageReplacementTracker = new DelayedPageReplacementTracker(pageSize, flushDirtyPageForReplacement, LOG, sizes.length - 1);
+
+        writeThrottle = currentCheckpointMetricsTracker == null
+                ? null
+                : new PagesWriteSpeedBasedThrottle(this::dirtyPagesRatio, currentCheckpointMetricsTracker);
     }
 
     /** {@inheritDoc} */
@@ -423,6 +441,32 @@ public class PersistentPageMemory implements PageMemory {
         return readLock(absPtr, pageId, force, true);
     }
 
+    /** {@inheritDoc} */
+    @Override
+    public long tryOptimisticRead(int grpId, long pageId, long page) {
+        assert started;
+
+        long stamp = rwLock.tryOptimisticRead(page + PAGE_LOCK_OFFSET, tag(pageId));
+
+        if (stamp != 0L) {
+            writeTimestamp(page, coarseCurrentTimeMillis());
+        }
+
+        return stamp;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public long optimisticReadAddress(int grpId, long pageId, long page) {
+        return page + PAGE_OVERHEAD;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public boolean validateOptimisticRead(int grpId, long pageId, long page, long stamp) {
+        return rwLock.validate(page + PAGE_LOCK_OFFSET, stamp);
+    }
+
     /** {@inheritDoc} */
     @Override
     public void readUnlock(int grpId, long pageId, long page) {
@@ -1169,6 +1213,11 @@ public class PersistentPageMemory implements PageMemory {
                 throw ex;
             }
         }
+
+        // Throttled only after the page lock is released, to not block the readers of the page.
+        if (writeThrottle != null && !restore && markDirty && !wasDirty) {
+            writeThrottle.onMarkDirty();
+        }
     }
 
     /**
@@ -1287,6 +1336,32 @@ public class PersistentPageMemory implements PageMemory {
         return safeAbs(hash) % segments;
     }
 
+    /**
+     * Returns the share of dirty pages in the most dirty segment, from {@code 0} to {@code 1}.
+     */
+    public double dirtyPagesRatio() {
+        Segment[] segments = this.segments;
+
+        if (segments == null) {
+            return 0;
+        }
+
+        double ratio = 0;
+
+        for (Segment seg : segments) {
+            ratio = Math.max(ratio, (double) seg.dirtyPagesCntr.get() / seg.pages());
+        }
+
+        return ratio;
+    }
+
+    /**
+     * Returns throttle of the threads marking pages dirty, {@code null} if the write throttling is disabled.
+     */
+    public @Nullable PagesWriteSpeedBasedThrottle writeThrottle() {
+        return writeThrottle;
+    }
+
     /**
      * Returns a collection of all pages currently marked as dirty. Will create a collection copy.
      */
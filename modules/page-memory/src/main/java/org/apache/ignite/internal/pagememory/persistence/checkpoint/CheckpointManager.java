@@ -246,6 +246,13 @@ public class CheckpointManager {
         return checkpointer.lastCheckpointProgress();
     }
 
+    /**
+     * Returns metrics tracker of the current checkpoint while its pages are being written, {@code null} otherwise.
+     */
+    public @Nullable CheckpointMetricsTracker currentCheckpointMetricsTracker() {
+        return checkpointer.currentCheckpointMetricsTracker();
+    }
+
     /**
      * Marks partition as dirty, forcing partition's meta-page to be written on disk during next checkpoint.
      */
@@ -44,10 +44,15 @@ public class CheckpointMetricsTracker {
     private static final AtomicIntegerFieldUpdater<CheckpointMetricsTracker> COPY_ON_WRITE_PAGES_WRITTEN_UPDATER =
             newUpdater(CheckpointMetricsTracker.class, "copyOnWritePagesWritten");
 
+    private static final AtomicIntegerFieldUpdater<CheckpointMetricsTracker> PAGES_WRITTEN_UPDATER =
+            newUpdater(CheckpointMetricsTracker.class, "pagesWritten");
+
     private volatile int dataPagesWritten;
 
     private volatile int copyOnWritePagesWritten;
 
+    private volatile int pagesWritten;
+
     private final long checkpointStartTimestamp = coarseCurrentTimeMillis();
 
     private long checkpointWriteLockWaitStartTimestamp;
@@ -56,7 +61,7 @@ public class CheckpointMetricsTracker {
 
     private long checkpointWriteLockReleaseTimestamp;
 
-    private long checkpointPagesWriteStartTimestamp;
+    private volatile long checkpointPagesWriteStartTimestamp;
 
     private long checkpointFsyncStartTimestamp;
 
@@ -104,6 +109,15 @@ public class CheckpointMetricsTracker {
         DATA_PAGES_WRITTEN_UPDATER.incrementAndGet(this);
     }
 
+    /**
+     * Increments counter if a page (of any type) was written.
+     *
+     * <p>Thread safe.
+     */
+    public void onPageWritten() {
+        PAGES_WRITTEN_UPDATER.incrementAndGet(this);
+    }
+
     /**
      * Returns written copy on write pages.
      *
@@ -122,6 +136,33 @@ public class CheckpointMetricsTracker {
         return dataPagesWritten;
     }
 
+    /**
+     * Returns pages (of any type) written.
+     *
+     * <p>Thread safe.
+     */
+    public int pagesWritten() {
+        return pagesWritten;
+    }
+
+    /**
+     * Returns average speed of writing pages since the {@link #onPagesWriteStart() start of the writing} in pages per second, {@code 0} if
+     * the writing has not started yet.
+     *
+     * <p>Thread safe.
+     */
+    public long pagesWriteSpeed() {
+        long pagesWriteStartTimestamp = checkpointPagesWriteStartTimestamp;
+
+        if (pagesWriteStartTimestamp == 0) {
+            return 0;
+        }
+
+        long duration = Math.max(1, coarseCurrentTimeMillis() - pagesWriteStartTimestamp);
+
+        return pagesWritten * 1000L / duration;
+    }
+
     /**
      * Callback before acquiring checkpoint write lock.
      *
@@ -274,6 +274,8 @@ public class CheckpointPagesWriter implements Runnable {
 
             checkpointProgress.writtenPagesCounter().incrementAndGet();
 
+            tracker.onPageWritten();
+
             pageWriter.write(pageMemory, fullPageId, buf);
 
             updatedPartitions.get(toPartitionId(fullPageId)).increment();
@@ -302,6 +304,8 @@ public class CheckpointPagesWriter implements Runnable {
 
         checkpointProgress.writtenPagesCounter().incrementAndGet();
 
+        tracker.onPageWritten();
+
         updatedPartitions.get(partitionId).increment();
     }
 
@@ -134,6 +134,9 @@ public class Checkpointer extends IgniteWorker {
     /** Checkpoint progress after releasing write lock. */
     private volatile @Nullable CheckpointProgressImpl afterReleaseWriteLockCheckpointProgress;
 
+    /** Metrics tracker of the current checkpoint while its pages are being written, {@code null} otherwise. */
+    private volatile @Nullable CheckpointMetricsTracker currentCheckpointMetricsTracker;
+
     /** Shutdown now. */
     private volatile boolean shutdownNow;
 
@@ -340,8 +343,14 @@ public class Checkpointer extends IgniteWorker {
                     }
                 }
 
-                if (!writePages(tracker, chp.dirtyPages, chp.progress, this, this::isShutdownNow)) {
-                    return;
+                currentCheckpointMetricsTracker = tracker;
+
+                try {
+                    if (!writePages(tracker, chp.dirtyPages, chp.progress, this, this::isShutdownNow)) {
+                        return;
+                    }
+                } finally {
+                    currentCheckpointMetricsTracker = null;
                 }
             } else {
                 if (log.isInfoEnabled()) {
@@ -723,6 +732,13 @@ public class Checkpointer extends IgniteWorker {
         return afterReleaseWriteLockCheckpointProgress;
     }
 
+    /**
+     * Returns metrics tracker of the current checkpoint while its pages are being written, {@code null} otherwise.
+     */
+    public @Nullable CheckpointMetricsTracker currentCheckpointMetricsTracker() {
+        return currentCheckpointMetricsTracker;
+    }
+
     /**
      * Returns progress of scheduled checkpoint.
      */
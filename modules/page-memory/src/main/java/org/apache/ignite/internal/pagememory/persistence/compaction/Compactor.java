@@ -17,6 +17,7 @@
 
 package org.apache.ignite.internal.pagememory.persistence.compaction;
 
+import static java.util.Comparator.comparingInt;
 import static java.util.concurrent.TimeUnit.MILLISECONDS;
 import static java.util.stream.Collectors.toCollection;
 import static org.apache.ignite.internal.failure.FailureType.SYSTEM_WORKER_TERMINATION;
@@ -24,6 +25,8 @@ import static org.apache.ignite.internal.util.CompletableFutures.nullCompletedFu
 
 import java.nio.ByteBuffer;
 import java.nio.ByteOrder;
+import java.util.BitSet;
+import java.util.List;
 import java.util.Objects;
 import java.util.Queue;
 import java.util.concurrent.CompletableFuture;
@@ -54,14 +57,14 @@ import org.jetbrains.annotations.Nullable;
  * Entity to compact delta files.
  *
  * <p>When delta files appear, {@link #triggerCompaction()} must be called to initiate compaction. Then all delta files
- * {@link FilePageStore#getDeltaFileToCompaction() ready for compaction} will be collected and merged with their
+ * {@link FilePageStore#getDeltaFilesToCompaction() ready for compaction} will be collected and merged with their
  * {@link FilePageStore file page stores} until all delta files are compacted.
  *
  * <p>Delta file compaction process consists of:
  * <ul>
- *  <li>Copying pages from a delta file to a partition file.</li>
+ *  <li>Copying pages from delta files to a partition file, only the most recent version of each page is copied.</li>
  *  <li>Fsync of the partition file.</li>
- *  <li>Remove delta file from {@link FilePageStore} and file system.</li>
+ *  <li>Remove delta files from {@link FilePageStore} and file system.</li>
  * </ul>
  */
 public class Compactor extends IgniteWorker {
@@ -192,24 +195,26 @@ public class Compactor extends IgniteWorker {
      * Merges delta files with partition files.
      *
      * <p>Only compactor is expected to call this method. When compaction is {@link #triggerCompaction() triggered} by other threads, we
-     * need to compact all delta files for all partitions as long as the delta files exist. Delta files are compacted in batches (one for
-     * each partition file) into several threads, which evenly reduces the load for all partition files on reading pages, since when reading
-     * pages, we must look for it from the oldest delta file.
+     * need to compact all delta files for all partitions as long as the delta files exist. All delta files of a partition file are merged
+     * in one pass, partition files are processed in several threads. Partition files with more delta files go first, since reading their
+     * pages is more expensive: a page is looked for in every delta file, from the newest to the oldest, before the partition file.
      */
     void doCompaction() {
         while (true) {
-            // Let's collect one delta file for each partition.
-            Queue<DeltaFileForCompaction> queue = filePageStoreManager.allPageStores()
+            // Let's collect delta files for each partition.
+            Queue<DeltaFilesForCompaction> queue = filePageStoreManager.allPageStores()
                     .map(groupPartitionFilePageStore -> {
-                        DeltaFilePageStoreIo deltaFileToCompaction = groupPartitionFilePageStore.pageStore().getDeltaFileToCompaction();
+                        List<DeltaFilePageStoreIo> deltaFilesToCompaction = groupPartitionFilePageStore.pageStore()
+                                .getDeltaFilesToCompaction();
 
-                        if (deltaFileToCompaction == null) {
+                        if (deltaFilesToCompaction.isEmpty()) {
                             return null;
                         }
 
-                        return new DeltaFileForCompaction(groupPartitionFilePageStore, deltaFileToCompaction);
+                        return new DeltaFilesForCompaction(groupPartitionFilePageStore, deltaFilesToCompaction);
                     })
                     .filter(Objects::nonNull)
+                    .sorted(comparingInt((DeltaFilesForCompaction toMerge) -> toMerge.deltaFilePageStoreIos.size()).reversed())
                     .collect(toCollection(ConcurrentLinkedQueue::new));
 
             if (queue.isEmpty()) {
@@ -226,7 +231,7 @@ public class Compactor extends IgniteWorker {
                 CompletableFuture<?> future = futures[i] = new CompletableFuture<>();
 
                 Runnable merger = () -> {
-                    DeltaFileForCompaction toMerge;
+                    DeltaFilesForCompaction toMerge;
 
                     try {
                         while (true) {
@@ -241,7 +246,7 @@ public class Compactor extends IgniteWorker {
                             partitionCompactionInProgressMap.incrementPartitionProcessingCounter(groupPartitionId);
 
                             try {
-                                mergeDeltaFileToMainFile(toMerge.groupPartitionFilePageStore.pageStore(), toMerge.deltaFilePageStoreIo);
+                                mergeDeltaFilesToMainFile(toMerge.groupPartitionFilePageStore.pageStore(), toMerge.deltaFilePageStoreIos);
                             } finally {
                                 partitionCompactionInProgressMap.decrementPartitionProcessingCounter(groupPartitionId);
                             }
@@ -328,58 +333,88 @@ public class Compactor extends IgniteWorker {
     /**
      * Merges the main file page store with the delta file page store.
      *
+     * @param filePageStore File page store.
+     * @param deltaFilePageStore Delta file page store.
+     * @throws Throwable If failed.
+     * @see #mergeDeltaFilesToMainFile(FilePageStore, List)
+     */
+    void mergeDeltaFileToMainFile(
+            FilePageStore filePageStore,
+            DeltaFilePageStoreIo deltaFilePageStore
+    ) throws Throwable {
+        mergeDeltaFilesToMainFile(filePageStore, List.of(deltaFilePageStore));
+    }
+
+    /**
+     * Merges the main file page store with several of its delta file page stores in one pass.
+     *
      * <p>Steps:
      * <ul>
-     *  <li>Copy pages from delta file page store to file page store.</li>
+     *  <li>Copy pages from delta file page stores to file page store, from the newest delta file to the oldest, skipping the pages that
+     *  have already been copied from a newer one.</li>
      *  <li>Fsync the file page store.</li>
-     *  <li>Removing the delta file page store from a file page store.</li>
+     *  <li>Removing the delta file page stores from a file page store, from the oldest to the newest, so that a stale version of a page
+     *  can not be read from an older delta file after a newer one is removed.</li>
      * </ul>
      *
      * @param filePageStore File page store.
-     * @param deltaFilePageStore Delta file page store.
+     * @param deltaFilePageStores Delta file page stores, from the oldest to the newest.
      * @throws Throwable If failed.
      */
-    void mergeDeltaFileToMainFile(
+    void mergeDeltaFilesToMainFile(
             FilePageStore filePageStore,
-            DeltaFilePageStoreIo deltaFilePageStore
+            List<DeltaFilePageStoreIo> deltaFilePageStores
     ) throws Throwable {
-        // Copy pages deltaFilePageStore -> filePageStore.
+        // Copy pages deltaFilePageStores -> filePageStore.
         ByteBuffer buffer = getThreadLocalBuffer(pageSize);
 
-        for (long pageIndex : deltaFilePageStore.pageIndexes()) {
-            updateHeartbeat();
+        // Indexes of the pages that have already been copied from newer delta files.
+        BitSet copiedPageIndexes = new BitSet();
 
-            if (isCancelled()) {
-                return;
-            }
+        for (int i = deltaFilePageStores.size() - 1; i >= 0; i--) {
+            DeltaFilePageStoreIo deltaFilePageStore = deltaFilePageStores.get(i);
 
-            if (filePageStore.isMarkedToDestroy()) {
-                return;
-            }
+            for (int pageIndex : deltaFilePageStore.pageIndexes()) {
+                if (copiedPageIndexes.get(pageIndex)) {
+                    continue;
+                }
 
-            long pageOffset = deltaFilePageStore.pageOffset(pageIndex);
+                updateHeartbeat();
 
-            // pageIndex instead of pageId, only for debugging in case of errors
-            // since we do not know the pageId until we read it from the pageOffset.
-            boolean read = deltaFilePageStore.readWithMergedToFilePageStoreCheck(pageIndex, pageOffset, buffer.rewind(), false);
+                if (isCancelled()) {
+                    return;
+                }
 
-            assert read : deltaFilePageStore.filePath();
+                if (filePageStore.isMarkedToDestroy()) {
+                    return;
+                }
 
-            long pageId = PageIo.getPageId(buffer.rewind());
+                long pageOffset = deltaFilePageStore.pageOffset(pageIndex);
 
-            assert pageId != 0 : deltaFilePageStore.filePath();
+                // pageIndex instead of pageId, only for debugging in case of errors
+                // since we do not know the pageId until we read it from the pageOffset.
+                boolean read = deltaFilePageStore.readWithMergedToFilePageStoreCheck(pageIndex, pageOffset, buffer.rewind(), false);
 
-            updateHeartbeat();
+                assert read : deltaFilePageStore.filePath();
 
-            if (isCancelled()) {
-                return;
-            }
+                long pageId = PageIo.getPageId(buffer.rewind());
 
-            if (filePageStore.isMarkedToDestroy()) {
-                return;
-            }
+                assert pageId != 0 : deltaFilePageStore.filePath();
+
+                updateHeartbeat();
+
+                if (isCancelled()) {
+                    return;
+                }
+
+                if (filePageStore.isMarkedToDestroy()) {
+                    return;
+                }
 
-            filePageStore.write(pageId, buffer.rewind(), true);
+                filePageStore.write(pageId, buffer.rewind(), true);
+
+                copiedPageIndexes.set(pageIndex);
+            }
         }
 
         // Fsync the file page store.
@@ -395,24 +430,38 @@ public class Compactor extends IgniteWorker {
 
         filePageStore.sync();
 
-        // Removing the delta file page store from a file page store.
-        updateHeartbeat();
+        // Removing the delta file page stores from a file page store.
+        for (DeltaFilePageStoreIo deltaFilePageStore : deltaFilePageStores) {
+            updateHeartbeat();
 
-        if (isCancelled()) {
-            return;
-        }
+            if (isCancelled()) {
+                return;
+            }
 
-        if (filePageStore.isMarkedToDestroy()) {
-            return;
-        }
+            if (filePageStore.isMarkedToDestroy()) {
+                return;
+            }
 
-        deltaFilePageStore.markMergedToFilePageStore();
+            deltaFilePageStore.markMergedToFilePageStore();
 
-        deltaFilePageStore.stop(true);
+            deltaFilePageStore.stop(true);
 
-        boolean removed = filePageStore.removeDeltaFile(deltaFilePageStore);
+            boolean removed = filePageStore.removeDeltaFile(deltaFilePageStore);
+
+            assert removed : filePageStore.filePath();
+        }
+    }
+
+    /**
+     * Returns the number of delta files of the partition, that is the number of files in which a page of the partition may have to be
+     * looked for before the partition file, {@code 0} if there is no such partition.
+     *
+     * @param groupPartitionId Pair of group ID with partition ID.
+     */
+    public int deltaFileCount(GroupPartitionId groupPartitionId) {
+        FilePageStore filePageStore = filePageStoreManager.getStore(groupPartitionId);
 
-        assert removed : filePageStore.filePath();
+        return filePageStore == null ? 0 : filePageStore.deltaFileCount();
     }
 
     /**
@@ -445,19 +494,20 @@ public class Compactor extends IgniteWorker {
     }
 
     /**
-     * Delta file for compaction.
+     * Delta files of a partition for compaction.
      */
-    private static class DeltaFileForCompaction {
+    private static class DeltaFilesForCompaction {
         private final GroupPartitionPageStore<FilePageStore> groupPartitionFilePageStore;
 
-        private final DeltaFilePageStoreIo deltaFilePageStoreIo;
+        /** Delta files from the oldest to the newest. */
+        private final List<DeltaFilePageStoreIo> deltaFilePageStoreIos;
 
-        private DeltaFileForCompaction(
+        private DeltaFilesForCompaction(
                 GroupPartitionPageStore<FilePageStore> groupPartitionFilePageStore,
-                DeltaFilePageStoreIo deltaFilePageStoreIo
+                List<DeltaFilePageStoreIo> deltaFilePageStoreIos
         ) {
             this.groupPartitionFilePageStore = groupPartitionFilePageStore;
-            this.deltaFilePageStoreIo = deltaFilePageStoreIo;
+            this.deltaFilePageStoreIos = deltaFilePageStoreIos;
         }
     }
 }
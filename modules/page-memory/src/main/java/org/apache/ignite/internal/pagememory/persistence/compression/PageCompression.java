@@ -0,0 +1,224 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.pagememory.persistence.compression;
+
+import static java.nio.ByteOrder.nativeOrder;
+import static org.apache.ignite.internal.pagememory.io.PageIo.COMMON_HEADER_END;
+
+import java.nio.ByteBuffer;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.zip.DataFormatException;
+import java.util.zip.Deflater;
+import java.util.zip.Inflater;
+import org.apache.ignite.internal.lang.IgniteInternalCheckedException;
+import org.apache.ignite.internal.pagememory.io.PageIo;
+
+/**
+ * Compression of the pages written to the page store files.
+ *
+ * <p>The common page header is kept as is, and the rest of the page is compressed, the type of the compression and the compressed size
+ * are stored in the header, so that the pages are {@link #decompressPage decompressed} on reading regardless of the settings. The CRC is
+ * calculated before compression, so it is checked after decompression.
+ *
+ * <p>A compressed page occupies the same place in a file as an uncompressed one, but only its compressed part is written. So the rest of
+ * the place stays a hole of a sparse file, if it has not been written before, which is the case for the delta files and the pages written
+ * to the file page store for the first time. Pages are written uncompressed if it doesn't save at least one file system block.
+ *
+ * <p>The instance is thread-safe.
+ */
+public class PageCompression {
+    /** Compression type of an uncompressed page. */
+    public static final byte UNCOMPRESSED_PAGE = 0;
+
+    /** Compression type of a page compressed by {@link Deflater}. */
+    public static final byte DEFLATE_COMPRESSED_PAGE = 1;
+
+    /** Size of a file system block, a page is compressed if it saves at least one block. */
+    private static final int FS_BLOCK_SIZE = 4096;
+
+    private static final ThreadLocal<Inflater> INFLATER = ThreadLocal.withInitial(Inflater::new);
+
+    private static final ThreadLocal<ByteBuffer> DECOMPRESS_BUFFER = new ThreadLocal<>();
+
+    private final ThreadLocal<Deflater> deflater;
+
+    private final ThreadLocal<ByteBuffer> compressBuffer = new ThreadLocal<>();
+
+    /** Total size of the pages passed to {@link #compressPage}. */
+    private final LongAdder pagesBytes = new LongAdder();
+
+    /** Total size of the pages returned by {@link #compressPage}. */
+    private final LongAdder writtenBytes = new LongAdder();
+
+    /**
+     * Constructor.
+     *
+     * @param level Compression level, from {@link Deflater#BEST_SPEED} to {@link Deflater#BEST_COMPRESSION}.
+     */
+    public PageCompression(int level) {
+        assert level >= Deflater.BEST_SPEED && level <= Deflater.BEST_COMPRESSION : level;
+
+        deflater = ThreadLocal.withInitial(() -> new Deflater(level));
+    }
+
+    /**
+     * Compresses the page.
+     *
+     * @param page Page buffer, positioned at the beginning of the page. Not modified.
+     * @param pageSize Page size.
+     * @return The page buffer itself, if the page is not worth compressing, otherwise a thread-local buffer with the compressed page, which
+     *      is valid until the next call of the method in the same thread.
+     */
+    public ByteBuffer compressPage(ByteBuffer page, int pageSize) {
+        assert page.position() == 0 : page.position();
+        assert PageIo.getCompressionType(page) == UNCOMPRESSED_PAGE : PageIo.getCompressionType(page);
+
+        pagesBytes.add(pageSize);
+
+        ByteBuffer compressed = threadLocalBuffer(compressBuffer, pageSize);
+
+        Deflater deflater = this.deflater.get();
+
+        try {
+            deflater.setInput(page.duplicate().position(COMMON_HEADER_END).limit(pageSize));
+            deflater.finish();
+
+            // Only the compressed sizes saving at least one block are of interest.
+            int maxCompressedSize = alignToBlock(pageSize) - FS_BLOCK_SIZE - COMMON_HEADER_END;
+
+            if (maxCompressedSize <= 0) {
+                writtenBytes.add(pageSize);
+
+                return page;
+            }
+
+            compressed.clear().position(COMMON_HEADER_END).limit(COMMON_HEADER_END + maxCompressedSize);
+
+            deflater.deflate(compressed);
+
+            if (!deflater.finished()) {
+                writtenBytes.add(pageSize);
+
+                return page;
+            }
+        } finally {
+            deflater.reset();
+        }
+
+        int compressedSize = compressed.position() - COMMON_HEADER_END;
+
+        copy(page, 0, compressed, 0, COMMON_HEADER_END);
+
+        compressed.flip();
+
+        PageIo.setCompressionType(compressed, DEFLATE_COMPRESSED_PAGE);
+        PageIo.setCompressedSize(compressed, (short) compressedSize);
+
+        writtenBytes.add(compressed.limit());
+
+        return compressed;
+    }
+
+    /**
+     * Decompresses the page in place, if it is compressed.
+     *
+     * @param page Page buffer, positioned at the beginning of the page.
+     * @param pageSize Page size.
+     * @throws IgniteInternalCheckedException If the page is corrupted.
+     */
+    public static void decompressPage(ByteBuffer page, int pageSize) throws IgniteInternalCheckedException {
+        assert page.position() == 0 : page.position();
+
+        byte compressionType = PageIo.getCompressionType(page);
+
+        if (compressionType == UNCOMPRESSED_PAGE) {
+            return;
+        }
+
+        if (compressionType != DEFLATE_COMPRESSED_PAGE) {
+            throw new IgniteInternalCheckedException("Unknown page compression type: " + compressionType);
+        }
+
+        int compressedSize = Short.toUnsignedInt(PageIo.getCompressedSize(page));
+
+        ByteBuffer decompressed = threadLocalBuffer(DECOMPRESS_BUFFER, pageSize);
+
+        decompressed.clear().limit(pageSize - COMMON_HEADER_END);
+
+        Inflater inflater = INFLATER.get();
+
+        try {
+            inflater.setInput(page.duplicate().position(COMMON_HEADER_END).limit(COMMON_HEADER_END + compressedSize));
+
+            inflater.inflate(decompressed);
+
+            if (!inflater.finished() || decompressed.hasRemaining()) {
+                throw new IgniteInternalCheckedException("Failed to decompress page, unexpected size: " + decompressed.position());
+            }
+        } catch (DataFormatException e) {
+            throw new IgniteInternalCheckedException("Failed to decompress page", e);
+        } finally {
+            inflater.reset();
+        }
+
+        copy(decompressed, 0, page, COMMON_HEADER_END, pageSize - COMMON_HEADER_END);
+
+        PageIo.setCompressionType(page, UNCOMPRESSED_PAGE);
+        PageIo.setCompressedSize(page, (short) 0);
+    }
+
+    /**
+     * Returns the ratio of the size of the written pages to the size of the pages before compression, {@code 1} if nothing has been
+     * written yet.
+     */
+    public double compressionRatio() {
+        long pagesBytes = this.pagesBytes.sum();
+
+        return pagesBytes == 0 ? 1 : (double) writtenBytes.sum() / pagesBytes;
+    }
+
+    /** Returns the total size of the pages before compression. */
+    public long pagesBytes() {
+        return pagesBytes.sum();
+    }
+
+    /** Returns the total size of the written pages. */
+    public long writtenBytes() {
+        return writtenBytes.sum();
+    }
+
+    private static int alignToBlock(int size) {
+        return (size + FS_BLOCK_SIZE - 1) / FS_BLOCK_SIZE * FS_BLOCK_SIZE;
+    }
+
+    private static void copy(ByteBuffer src, int srcPos, ByteBuffer dst, int dstPos, int len) {
+        dst.duplicate().position(dstPos).put(src.duplicate().position(srcPos).limit(srcPos + len));
+    }
+
+    private static ByteBuffer threadLocalBuffer(ThreadLocal<ByteBuffer> threadLocal, int pageSize) {
+        ByteBuffer buf = threadLocal.get();
+
+        if (buf == null || buf.capacity() < pageSize) {
+            buf = ByteBuffer.allocateDirect(pageSize).order(nativeOrder());
+
+            threadLocal.set(buf);
+        }
+
+        return buf;
+    }
+}
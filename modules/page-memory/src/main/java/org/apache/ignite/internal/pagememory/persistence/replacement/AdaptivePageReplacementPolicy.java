@@ -0,0 +1,183 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.pagememory.persistence.replacement;
+
+import java.util.concurrent.atomic.LongAdder;
+import org.apache.ignite.internal.lang.IgniteInternalCheckedException;
+import org.apache.ignite.internal.pagememory.persistence.PersistentPageMemory.Segment;
+
+/**
+ * Adaptive page replacement policy, which switches between {@link ClockPageReplacementPolicy CLOCK} and
+ * {@link SegmentedLruPageReplacementPolicy Segmented-LRU} depending on the hit rate they achieve for the current workload.
+ *
+ * <p>Both policies track every page of the segment all the time, so the switch is instant and does not lose any history.
+ * CLOCK is cheap and works well for uniform and skewed workloads, while Segmented-LRU keeps the hot set in its protected
+ * segment when the pages of a full scan are touched only once.
+ *
+ * <p>The hit rate of the active policy is measured over windows of page accesses. At the end of a window the policy with the
+ * best known hit rate is chosen. Since the hit rate of the inactive policy becomes stale as the workload changes, it is
+ * given a trial window from time to time.
+ */
+public class AdaptivePageReplacementPolicy extends PageReplacementPolicy {
+    /** Minimal number of page accesses in a window. */
+    static final long MIN_WINDOW_SIZE = 4096;
+
+    /** Number of windows after which the inactive policy gets a trial window. */
+    static final int TRIAL_INTERVAL = 16;
+
+    /** Difference of the hit rates the policies should have to switch from the active one. */
+    static final double SWITCH_THRESHOLD = 0.02;
+
+    static final int CLOCK = 0;
+
+    static final int SEGMENTED_LRU = 1;
+
+    private final PageReplacementPolicy[] policies;
+
+    /** Number of page accesses in a window. */
+    private final long windowSize;
+
+    /** Hits in the current window. Incremented under the segment read lock, so it has to be thread-safe. */
+    private final LongAdder hits = new LongAdder();
+
+    /** Misses in the current window. Guarded by the segment write lock. */
+    private long misses;
+
+    /** Last known hit rates of the policies. Guarded by the segment write lock. */
+    private final double[] hitRates = {Double.NaN, Double.NaN};
+
+    /** Number of windows since the last trial of the inactive policy. Guarded by the segment write lock. */
+    private int windowsSinceTrial;
+
+    /** Index of the active policy. */
+    private volatile int active = CLOCK;
+
+    /**
+     * Constructor.
+     *
+     * @param seg Page memory segment.
+     * @param ptr Pointer to memory region.
+     * @param pagesCnt Pages count.
+     */
+    public AdaptivePageReplacementPolicy(Segment seg, long ptr, int pagesCnt) {
+        this(
+                seg,
+                new ClockPageReplacementPolicy(seg, ptr, pagesCnt),
+                new SegmentedLruPageReplacementPolicy(seg, ptr + ClockPageReplacementFlags.requiredMemory(pagesCnt), pagesCnt),
+                Math.max(MIN_WINDOW_SIZE, pagesCnt)
+        );
+    }
+
+    /**
+     * Constructor.
+     *
+     * @param seg Page memory segment.
+     * @param clock CLOCK policy.
+     * @param segmentedLru Segmented-LRU policy.
+     * @param windowSize Number of page accesses in a window.
+     */
+    AdaptivePageReplacementPolicy(Segment seg, PageReplacementPolicy clock, PageReplacementPolicy segmentedLru, long windowSize) {
+        super(seg);
+
+        assert windowSize > 0 : windowSize;
+
+        this.policies = new PageReplacementPolicy[]{clock, segmentedLru};
+        this.windowSize = windowSize;
+    }
+
+    /**
+     * Calculates amount of memory required to service {@code pagesCnt} pages.
+     *
+     * @param pagesCnt Pages count.
+     */
+    public static long requiredMemory(int pagesCnt) {
+        return ClockPageReplacementFlags.requiredMemory(pagesCnt) + SegmentedLruPageList.requiredMemory(pagesCnt);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public void onHit(long relPtr) {
+        for (PageReplacementPolicy policy : policies) {
+            policy.onHit(relPtr);
+        }
+
+        hits.increment();
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public void onMiss(long relPtr) {
+        for (PageReplacementPolicy policy : policies) {
+            policy.onMiss(relPtr);
+        }
+
+        // Hits are not checked for the end of a window: a workload without misses needs no replacement at all.
+        if (hits.sum() + ++misses >= windowSize) {
+            finishWindow();
+        }
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public void onRemove(long relPtr) {
+        for (PageReplacementPolicy policy : policies) {
+            policy.onRemove(relPtr);
+        }
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public long replace() throws IgniteInternalCheckedException {
+        int activeIdx = active;
+
+        long relPtr = policies[activeIdx].replace();
+
+        // The page has been evicted by the active policy, the rest must forget it too.
+        for (int i = 0; i < policies.length; i++) {
+            if (i != activeIdx) {
+                policies[i].onRemove(relPtr);
+            }
+        }
+
+        return relPtr;
+    }
+
+    /** Returns index of the active policy, either {@link #CLOCK} or {@link #SEGMENTED_LRU}. */
+    int activePolicy() {
+        return active;
+    }
+
+    private void finishWindow() {
+        long windowHits = hits.sumThenReset();
+
+        hitRates[active] = (double) windowHits / (windowHits + misses);
+
+        misses = 0;
+
+        int other = 1 - active;
+
+        if (Double.isNaN(hitRates[other]) || ++windowsSinceTrial >= TRIAL_INTERVAL) {
+            // The hit rate of the other policy is unknown or stale, let's measure it.
+            active = other;
+
+            windowsSinceTrial = 0;
+        } else if (hitRates[other] > hitRates[active] + SWITCH_THRESHOLD) {
+            active = other;
+        }
+    }
+}
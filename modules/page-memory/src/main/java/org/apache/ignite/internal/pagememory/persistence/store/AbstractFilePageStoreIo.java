@@ -42,6 +42,7 @@ import org.apache.ignite.internal.lang.IgniteInternalCheckedException;
 import org.apache.ignite.internal.pagememory.io.PageIo;
 import org.apache.ignite.internal.pagememory.persistence.FastCrc;
 import org.apache.ignite.internal.pagememory.persistence.IgniteInternalDataIntegrityViolationException;
+import org.apache.ignite.internal.pagememory.persistence.compression.PageCompression;
 import org.jetbrains.annotations.Nullable;
 
 /**
@@ -61,6 +62,9 @@ public abstract class AbstractFilePageStoreIo implements Closeable {
 
     private volatile @Nullable FileIo fileIo;
 
+    /** Compression of the written pages, {@code null} if the pages are written uncompressed. */
+    private volatile @Nullable PageCompression pageCompression;
+
     /** Initialized file page store IO. */
     private volatile boolean initialized;
 
@@ -188,7 +192,9 @@ public abstract class AbstractFilePageStoreIo implements Closeable {
 
                     long pageOff = pageOffset(pageId);
 
-                    fileIo.writeFully(pageBuf, pageOff);
+                    PageCompression pageCompression = this.pageCompression;
+
+                    fileIo.writeFully(pageCompression == null ? pageBuf : pageCompression.compressPage(pageBuf, pageSize()), pageOff);
 
                     PageIo.setCrc(pageBuf, 0);
 
@@ -494,12 +500,15 @@ public abstract class AbstractFilePageStoreIo implements Closeable {
                 return;
             }
 
+            pageBuf.position(0);
+
+            // The CRC is calculated before compression, so the page is decompressed first.
+            PageCompression.decompressPage(pageBuf, pageSize());
+
             int savedCrc32 = PageIo.getCrc(pageBuf);
 
             PageIo.setCrc(pageBuf, 0);
 
-            pageBuf.position(0);
-
             if (checkCrc) {
                 int curCrc32 = FastCrc.calcCrc(pageBuf, pageSize());
 
@@ -565,6 +574,15 @@ public abstract class AbstractFilePageStoreIo implements Closeable {
         }
     }
 
+    /**
+     * Sets the compression of the pages written after the call, pages are read regardless of the compression they were written with.
+     *
+     * @param pageCompression Page compression, {@code null} to write the pages uncompressed.
+     */
+    public void pageCompression(@Nullable PageCompression pageCompression) {
+        this.pageCompression = pageCompression;
+    }
+
     /**
      * Returns file page store path.
      */
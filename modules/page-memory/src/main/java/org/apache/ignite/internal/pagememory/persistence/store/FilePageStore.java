@@ -33,6 +33,7 @@ import java.util.concurrent.CompletableFuture;
 import java.util.function.IntFunction;
 import java.util.function.Supplier;
 import org.apache.ignite.internal.lang.IgniteInternalCheckedException;
+import org.apache.ignite.internal.pagememory.persistence.compression.PageCompression;
 import org.jetbrains.annotations.Nullable;
 
 /**
@@ -92,6 +93,9 @@ public class FilePageStore implements PageStore {
     /** New page allocation listener. */
     private volatile @Nullable PageAllocationListener pageAllocationListener;
 
+    /** Compression of the written pages, {@code null} if the pages are written uncompressed. */
+    private volatile @Nullable PageCompression pageCompression;
+
     /** Delta file page store IOs. Copy-on-write list. */
     private volatile List<DeltaFilePageStoreIo> deltaFilePageStoreIos;
 
@@ -255,6 +259,17 @@ public class FilePageStore implements PageStore {
         pageAllocationListener = listener;
     }
 
+    /**
+     * Sets the compression of the pages written to the file page store and its new delta files.
+     *
+     * @param pageCompression Page compression, {@code null} to write the pages uncompressed.
+     */
+    public void setPageCompression(@Nullable PageCompression pageCompression) {
+        this.pageCompression = pageCompression;
+
+        filePageStoreIo.pageCompression(pageCompression);
+    }
+
     /**
      * Gets or creates a new delta file, a new delta file will be created when the previous one is {@link #completeNewDeltaFile()
      * completed}.
@@ -311,6 +326,8 @@ public class FilePageStore implements PageStore {
                     header
             );
 
+            newDeltaFilePageStoreIo.pageCompression(pageCompression);
+
             newValue = new ArrayList<>(previousValue.size() + 1);
 
             // Should add to the head, since read operations should always start from the most recent.
@@ -371,6 +388,31 @@ public class FilePageStore implements PageStore {
         return deltaFilePageStoreIos.get(deltaFilePageStoreIos.size() - 1);
     }
 
+    /**
+     * Returns all delta files ready for compaction, from the oldest to the newest, empty if there is nothing to compact.
+     *
+     * <p>Thread safe.
+     */
+    public List<DeltaFilePageStoreIo> getDeltaFilesToCompaction() {
+        // Snapshot of delta files.
+        List<DeltaFilePageStoreIo> deltaFilePageStoreIos = this.deltaFilePageStoreIos;
+
+        // The first one may be just created, then it cannot be compacted yet.
+        int toIndex = newDeltaFilePageStoreIoFuture == null ? 0 : 1;
+
+        if (deltaFilePageStoreIos.size() <= toIndex) {
+            return List.of();
+        }
+
+        List<DeltaFilePageStoreIo> res = new ArrayList<>(deltaFilePageStoreIos.size() - toIndex);
+
+        for (int i = deltaFilePageStoreIos.size() - 1; i >= toIndex; i--) {
+            res.add(deltaFilePageStoreIos.get(i));
+        }
+
+        return res;
+    }
+
     /**
      * Deletes delta file.
      *
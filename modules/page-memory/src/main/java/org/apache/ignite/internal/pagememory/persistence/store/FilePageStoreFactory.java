@@ -62,13 +62,32 @@ class FilePageStoreFactory {
             ByteBuffer headerBuffer,
             Path filePageStorePath,
             Path... deltaFilePaths
+    ) throws IgniteInternalCheckedException {
+        return createPageStore(fileIoFactory, headerBuffer, filePageStorePath, deltaFilePaths);
+    }
+
+    /**
+     * Creates instance of {@link FilePageStore} which files are accessed with the given {@link FileIo} factory.
+     *
+     * @param fileIoFactory File IO factory for the files of the file page store.
+     * @param headerBuffer Buffer for reading headers.
+     * @param filePageStorePath File page store path (for example the path to the partition file).
+     * @param deltaFilePaths Paths to existing delta files page stores of the file page storage.
+     * @throws IgniteInternalCheckedException if failed
+     * @see #createPageStore(ByteBuffer, Path, Path...)
+     */
+    public FilePageStore createPageStore(
+            FileIoFactory fileIoFactory,
+            ByteBuffer headerBuffer,
+            Path filePageStorePath,
+            Path... deltaFilePaths
     ) throws IgniteInternalCheckedException {
         assert headerBuffer.remaining() == pageSize : headerBuffer.remaining();
 
         if (!Files.exists(filePageStorePath)) {
             assert deltaFilePaths.length == 0 : Arrays.toString(deltaFilePaths);
 
-            return createFilePageStore(filePageStorePath, new FilePageStoreHeader(LATEST_FILE_PAGE_STORE_VERSION, pageSize));
+            return createFilePageStore(fileIoFactory, filePageStorePath, new FilePageStoreHeader(LATEST_FILE_PAGE_STORE_VERSION, pageSize));
         }
 
         try (FileIo fileIo = fileIoFactory.create(filePageStorePath)) {
@@ -79,7 +98,7 @@ class FilePageStoreFactory {
             }
 
             if (deltaFilePaths.length == 0) {
-                return createFilePageStore(filePageStorePath, header);
+                return createFilePageStore(fileIoFactory, filePageStorePath, header);
             }
 
             DeltaFilePageStoreIo[] deltaFileIos = new DeltaFilePageStoreIo[deltaFilePaths.length];
@@ -94,19 +113,20 @@ class FilePageStoreFactory {
 
                     assert deltaFileHeader != null : deltaFileHeader;
 
-                    deltaFileIos[i] = createDeltaFilePageStoreIo(deltaFilePath, deltaFileHeader);
+                    deltaFileIos[i] = createDeltaFilePageStoreIo(fileIoFactory, deltaFilePath, deltaFileHeader);
                 } catch (IOException e) {
                     throw new IgniteInternalCheckedException("Error while creating delta file page store [file=" + deltaFilePath + "]", e);
                 }
             }
 
-            return createFilePageStore(filePageStorePath, header, deltaFileIos);
+            return createFilePageStore(fileIoFactory, filePageStorePath, header, deltaFileIos);
         } catch (IOException e) {
             throw new IgniteInternalCheckedException("Error while creating file page store [file=" + filePageStorePath + "]", e);
         }
     }
 
-    private FilePageStore createFilePageStore(
+    private static FilePageStore createFilePageStore(
+            FileIoFactory fileIoFactory,
             Path filePath,
             FilePageStoreHeader header,
             DeltaFilePageStoreIo... deltaFileIos
@@ -122,7 +142,8 @@ class FilePageStoreFactory {
         ));
     }
 
-    private DeltaFilePageStoreIo createDeltaFilePageStoreIo(
+    private static DeltaFilePageStoreIo createDeltaFilePageStoreIo(
+            FileIoFactory fileIoFactory,
             Path filePath,
             DeltaFilePageStoreIoHeader header
     ) throws IgniteInternalCheckedException {
@@ -456,6 +456,22 @@ public class FilePageStoreManager implements PageReadWriteManager {
     public FilePageStore readOrCreateStore(
             GroupPartitionId groupPartitionId,
             ByteBuffer readBuffer
+    ) throws IgniteInternalCheckedException {
+        return readOrCreateStore(groupPartitionId, readBuffer, null);
+    }
+
+    /**
+     * Same as {@link #readOrCreateStore(GroupPartitionId, ByteBuffer)}, but the files of the store are accessed with the given
+     * {@link FileIo} factory instead of the one of the manager, for example to use direct I/O for the stores of a particular data region.
+     *
+     * @param groupPartitionId Pair of group ID with partition ID.
+     * @param readBuffer Buffer for reading file headers and other supporting information from files.
+     * @param fileIoFactory {@link FileIo} factory for the files of the store, {@code null} to use the one of the manager.
+     */
+    public FilePageStore readOrCreateStore(
+            GroupPartitionId groupPartitionId,
+            ByteBuffer readBuffer,
+            @Nullable FileIoFactory fileIoFactory
     ) throws IgniteInternalCheckedException {
         Path tableWorkDir = ensureGroupWorkDir(groupPartitionId.getGroupId());
 
@@ -463,7 +479,11 @@ public class FilePageStoreManager implements PageReadWriteManager {
 
         Path[] partDeltaFiles = findPartitionDeltaFiles(tableWorkDir, groupPartitionId.getPartitionId());
 
-        return filePageStoreFactory.createPageStore(readBuffer.rewind(), partFilePath, partDeltaFiles);
+        if (fileIoFactory == null) {
+            return filePageStoreFactory.createPageStore(readBuffer.rewind(), partFilePath, partDeltaFiles);
+        }
+
+        return filePageStoreFactory.createPageStore(fileIoFactory, readBuffer.rewind(), partFilePath, partDeltaFiles);
     }
 
     /**
@@ -0,0 +1,195 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.ignite.internal.pagememory.persistence.throttling;
+
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
+import static java.util.concurrent.TimeUnit.SECONDS;
+
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLongFieldUpdater;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.DoubleSupplier;
+import java.util.function.Supplier;
+import org.apache.ignite.internal.pagememory.persistence.checkpoint.CheckpointMetricsTracker;
+
+/**
+ * Throttles threads that mark pages dirty while a checkpoint is writing pages. Without throttling, a write burst can make the dirty pages
+ * reach the threshold at which the next checkpoint must start at once, and all the writers then wait for the checkpoint read lock.
+ *
+ * <p>The throttle compares the speed at which pages are marked dirty with the speed at which the current checkpoint writes pages, see
+ * {@link CheckpointMetricsTracker#pagesWriteSpeed()}. If pages are marked dirty faster, each writer is parked after marking a page, long
+ * enough to bring the total marking speed down to the checkpoint speed. The park time is scaled by the share of dirty pages. Writers are
+ * not throttled until {@link #MIN_DIRTY_PAGES_RATIO} of the pages are dirty, and are throttled fully once {@link #MAX_DIRTY_PAGES_RATIO}
+ * of them are.
+ *
+ * <p>The speeds are recalculated by one of the writers at most once per {@link #MEASUREMENT_INTERVAL_NANOS}.
+ */
+public class PagesWriteSpeedBasedThrottle {
+    /** Share of dirty pages from which writers are throttled. */
+    static final double MIN_DIRTY_PAGES_RATIO = 0.5;
+
+    /** Share of dirty pages from which writers are throttled fully, the one at which the next checkpoint must be started at once. */
+    static final double MAX_DIRTY_PAGES_RATIO = 0.9;
+
+    /** Maximum time a writer is parked for after marking a page dirty. */
+    static final long MAX_PARK_TIME_NANOS = MILLISECONDS.toNanos(100);
+
+    /** Interval of the recalculation of the speeds. */
+    static final long MEASUREMENT_INTERVAL_NANOS = MILLISECONDS.toNanos(100);
+
+    private static final AtomicLongFieldUpdater<PagesWriteSpeedBasedThrottle> LAST_MEASUREMENT_NANOS_UPDATER =
+            AtomicLongFieldUpdater.newUpdater(PagesWriteSpeedBasedThrottle.class, "lastMeasurementNanos");
+
+    /** Returns the share of dirty pages in the page memory, from {@code 0} to {@code 1}. */
+    private final DoubleSupplier dirtyPagesRatio;
+
+    /** Returns the metrics tracker of the current checkpoint while its pages are being written, {@code null} otherwise. */
+    private final Supplier<CheckpointMetricsTracker> currentCheckpointMetricsTracker;
+
+    /** Number of pages marked dirty since the last measurement. */
+    private final LongAdder markedDirtyPages = new LongAdder();
+
+    /** Time the writers were parked for since the last measurement, in nanoseconds. */
+    private final LongAdder measurementParkTimeNanos = new LongAdder();
+
+    /** Threads that marked pages dirty since the last measurement. */
+    private final Set<Thread> markingThreads = ConcurrentHashMap.newKeySet();
+
+    private volatile long lastMeasurementNanos = System.nanoTime();
+
+    /** Speed at which the pages would be marked dirty without throttling, in pages per second. */
+    private volatile long markDirtySpeed;
+
+    private volatile long parkTimeNanos;
+
+    private final LongAdder totalParkTimeNanos = new LongAdder();
+
+    private final LongAdder throttledPages = new LongAdder();
+
+    /**
+     * Constructor.
+     *
+     * @param dirtyPagesRatio Returns the share of dirty pages in the page memory, from {@code 0} to {@code 1}.
+     * @param currentCheckpointMetricsTracker Returns the metrics tracker of the current checkpoint while its pages are being written,
+     *      {@code null} otherwise.
+     */
+    public PagesWriteSpeedBasedThrottle(
+            DoubleSupplier dirtyPagesRatio,
+            Supplier<CheckpointMetricsTracker> currentCheckpointMetricsTracker
+    ) {
+        this.dirtyPagesRatio = dirtyPagesRatio;
+        this.currentCheckpointMetricsTracker = currentCheckpointMetricsTracker;
+    }
+
+    /**
+     * Callback after a page has been marked dirty, parks the current thread if it needs to be throttled.
+     *
+     * <p>Must not be called while holding a page lock.
+     */
+    public void onMarkDirty() {
+        markedDirtyPages.increment();
+
+        Thread thread = Thread.currentThread();
+
+        if (!markingThreads.contains(thread)) {
+            markingThreads.add(thread);
+        }
+
+        long now = System.nanoTime();
+        long lastMeasurementNanos = this.lastMeasurementNanos;
+
+        if (now - lastMeasurementNanos >= MEASUREMENT_INTERVAL_NANOS
+                && LAST_MEASUREMENT_NANOS_UPDATER.compareAndSet(this, lastMeasurementNanos, now)) {
+            recalculate(now - lastMeasurementNanos);
+        }
+
+        long parkTimeNanos = this.parkTimeNanos;
+
+        if (parkTimeNanos > 0) {
+            measurementParkTimeNanos.add(parkTimeNanos);
+            totalParkTimeNanos.add(parkTimeNanos);
+            throttledPages.increment();
+
+            LockSupport.parkNanos(parkTimeNanos);
+        }
+    }
+
+    /** Returns time a writer is currently parked for after marking a page dirty, in nanoseconds. */
+    public long throttleParkTimeNanos() {
+        return parkTimeNanos;
+    }
+
+    /** Returns total time the writers have been parked for, in nanoseconds. */
+    public long totalThrottlingTimeNanos() {
+        return totalParkTimeNanos.sum();
+    }
+
+    /** Returns number of the marked dirty pages after which writers have been parked. */
+    public long throttledPages() {
+        return throttledPages.sum();
+    }
+
+    /** Returns last measured speed at which the pages would be marked dirty without throttling, in pages per second. */
+    public long markDirtySpeed() {
+        return markDirtySpeed;
+    }
+
+    private void recalculate(long elapsedNanos) {
+        int threads = Math.max(1, markingThreads.size());
+
+        markingThreads.clear();
+
+        // Parked time is excluded to get the speed the writers would have without throttling.
+        long parkTimePerThread = measurementParkTimeNanos.sumThenReset() / threads;
+        long activeNanos = Math.max(elapsedNanos - parkTimePerThread, MILLISECONDS.toNanos(1));
+
+        long markDirtySpeed = markedDirtyPages.sumThenReset() * SECONDS.toNanos(1) / activeNanos;
+
+        this.markDirtySpeed = markDirtySpeed;
+
+        CheckpointMetricsTracker tracker = currentCheckpointMetricsTracker.get();
+
+        parkTimeNanos = tracker == null
+                ? 0
+                : parkTimeNanos(dirtyPagesRatio.getAsDouble(), markDirtySpeed, tracker.pagesWriteSpeed(), threads);
+    }
+
+    /**
+     * Calculates time a writer should be parked for after marking a page dirty.
+     *
+     * @param dirtyPagesRatio Share of dirty pages, from {@code 0} to {@code 1}.
+     * @param markDirtySpeed Speed at which the pages are marked dirty without throttling, in pages per second.
+     * @param checkpointWriteSpeed Speed at which the checkpoint writes the pages, in pages per second.
+     * @param threads Number of threads marking pages dirty.
+     * @return Park time in nanoseconds.
+     */
+    static long parkTimeNanos(double dirtyPagesRatio, long markDirtySpeed, long checkpointWriteSpeed, int threads) {
+        if (dirtyPagesRatio <= MIN_DIRTY_PAGES_RATIO || checkpointWriteSpeed <= 0 || markDirtySpeed <= checkpointWriteSpeed) {
+            return 0;
+        }
+
+        double weight = Math.min(1.0, (dirtyPagesRatio - MIN_DIRTY_PAGES_RATIO) / (MAX_DIRTY_PAGES_RATIO - MIN_DIRTY_PAGES_RATIO));
+
+        // Every writer marks a page once per these periods, at the current speed and at the speed of the checkpoint.
+        double currentPeriodNanos = (double) threads * SECONDS.toNanos(1) / markDirtySpeed;
+        double targetPeriodNanos = (double) threads * SECONDS.toNanos(1) / checkpointWriteSpeed;
+
+        return Math.min(MAX_PARK_TIME_NANOS, (long) (weight * (targetPeriodNanos - currentPeriodNanos)));
+    }
+}
@@ -17,6 +17,7 @@
 
 package org.apache.ignite.internal.pagememory.tree;
 
+import static org.apache.ignite.internal.lang.IgniteSystemProperties.getBoolean;
 import static org.apache.ignite.internal.lang.IgniteSystemProperties.getInteger;
 import static org.apache.ignite.internal.pagememory.PageIdAllocator.FLAG_AUX;
 import static org.apache.ignite.internal.pagememory.tree.BplusTree.Bool.DONE;
@@ -201,6 +202,12 @@ public abstract class BplusTree<L, T extends L> extends DataStructure implements
     /** Number of retries. */
     private static final int LOCK_RETRIES = getInteger(IGNITE_BPLUS_TREE_LOCK_RETRIES, 1000);
 
+    /** Allows to disable optimistic reads of inner pages for the trees that {@link #enableOptimisticInnerPageReads() enable} them. */
+    private static final String IGNITE_BPLUS_TREE_OPTIMISTIC_READS = "IGNITE_BPLUS_TREE_OPTIMISTIC_READS";
+
+    /** Whether optimistic reads of inner pages are allowed. */
+    private static final boolean OPTIMISTIC_READS = getBoolean(IGNITE_BPLUS_TREE_OPTIMISTIC_READS, true);
+
     /** Flag that the tree is destroyed. */
     private final AtomicBoolean destroyed = new AtomicBoolean(false);
 
@@ -230,6 +237,9 @@ public abstract class BplusTree<L, T extends L> extends DataStructure implements
     /** Flag for enabling single-threaded append-only tree creation. */
     private boolean sequentialWriteOptsEnabled;
 
+    /** Flag for enabling reads of inner pages without read locks on search. */
+    private boolean optimisticInnerPageReadsEnabled;
+
     /**
      * B+tree structure printer.
      */
@@ -1010,6 +1020,17 @@ public abstract class BplusTree<L, T extends L> extends DataStructure implements
         sequentialWriteOptsEnabled = true;
     }
 
+    /**
+     * Enables optimistic reads of inner pages on search: an inner page is read without the read lock and the result is discarded if the
+     * page has been write locked in the meantime, in which case the page is read again under the read lock.
+     *
+     * <p>Can be enabled only if {@link #compare(int, BplusIo, long, int, Object) comparison} of an inner page item reads nothing but
+     * the item itself and does not fail on arbitrary item contents, since the page may be modified concurrently while it is being read.
+     */
+    protected void enableOptimisticInnerPageReads() {
+        optimisticInnerPageReadsEnabled = OPTIMISTIC_READS;
+    }
+
     /**
      * Initialize new tree.
      *
@@ -1630,7 +1651,11 @@ public abstract class BplusTree<L, T extends L> extends DataStructure implements
                 g.pageId = pageId;
                 g.fwdId = fwdId;
 
-                Result res = read(pageId, page, search, g, lvl, RETRY);
+                Result res = optimisticInnerPageReadsEnabled && lvl != 0 ? searchInnerPageOptimistically(pageId, page, g, lvl) : null;
+
+                if (res == null) {
+                    res = read(pageId, page, search, g, lvl, RETRY);
+                }
 
                 switch (res) {
                     case GO_DOWN:
@@ -1665,6 +1690,85 @@ public abstract class BplusTree<L, T extends L> extends DataStructure implements
         }
     }
 
+    /**
+     * Does the same as {@link Search} for an inner page, but without the read lock. Only the most common case of going left down is
+     * handled, everything else is left to the search under the read lock.
+     *
+     * @param pageId Page ID.
+     * @param page Page pointer.
+     * @param g Operation.
+     * @param lvl Level.
+     * @return {@link Result#GO_DOWN} or {@code null} if the page must be read under the read lock.
+     */
+    private @Nullable Result searchInnerPageOptimistically(long pageId, long page, Get g, int lvl) {
+        long stamp = pageMem.tryOptimisticRead(grpId, pageId, page);
+
+        if (stamp == 0L) {
+            // The page is write locked or has been reused.
+            return null;
+        }
+
+        long pageAddr = pageMem.optimisticReadAddress(grpId, pageId, page);
+
+        long leftId;
+        long rightId;
+
+        // Nothing read from the page can be trusted until the stamp is validated, so everything is checked not to read out of the page.
+        try {
+            if (PageIo.getPageId(pageAddr) != pageId || g.findLast) {
+                return null;
+            }
+
+            PageIo iox = pageMem.ioRegistry().resolve(pageAddr);
+
+            if (!(iox instanceof BplusInnerIo)) {
+                return null;
+            }
+
+            BplusIo<L> io = (BplusIo<L>) iox;
+
+            if (io.getForward(pageAddr, partId) != g.fwdId) {
+                return null;
+            }
+
+            int cnt = io.getCount(pageAddr);
+
+            if (cnt < 0 || cnt > io.getMaxCount(pageAddr, pageSize())) {
+                return null;
+            }
+
+            int idx = findInsertionPoint(lvl, io, pageAddr, 0, cnt, g.row, g.shift);
+
+            if (idx >= 0) {
+                // Exact match needs the read lock.
+                return null;
+            }
+
+            idx = fix(idx);
+
+            if (idx == cnt || g.notFound(io, pageAddr, idx, lvl)) {
+                // Going right down needs the read lock, since the forward page is asked for the child's forward.
+                return null;
+            }
+
+            leftId = inner(io).getLeft(pageAddr, idx, partId);
+            rightId = inner(io).getRight(pageAddr, idx, partId);
+        } catch (IgniteInternalCheckedException | RuntimeException | AssertionError e) {
+            // Inconsistent page contents, let's read the page under the read lock.
+            return null;
+        }
+
+        if (!pageMem.validateOptimisticRead(grpId, pageId, page, stamp)) {
+            return null;
+        }
+
+        g.backId(0L);
+        g.pageId(leftId);
+        g.fwdId(rightId);
+
+        return GO_DOWN;
+    }
+
     /**
      * Returns tree name.
      *
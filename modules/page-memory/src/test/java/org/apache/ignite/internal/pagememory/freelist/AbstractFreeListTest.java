@@ -19,9 +19,13 @@ package org.apache.ignite.internal.pagememory.freelist;
 
 import static java.util.concurrent.TimeUnit.MINUTES;
 import static org.apache.ignite.internal.pagememory.PageIdAllocator.FLAG_DATA;
+import static org.apache.ignite.internal.pagememory.util.PageIdUtils.pageId;
+import static org.apache.ignite.internal.pagememory.util.PageIdUtils.pageIndex;
 import static org.apache.ignite.internal.pagememory.util.PageIdUtils.partitionId;
 import static org.apache.ignite.internal.testframework.IgniteTestUtils.runMultiThreadedAsync;
 import static org.apache.ignite.internal.util.Constants.MiB;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.greaterThan;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotEquals;
 import static org.junit.jupiter.api.Assertions.assertNull;
@@ -51,10 +55,12 @@ import org.apache.ignite.internal.pagememory.util.PageLockListenerNoOp;
 import org.apache.ignite.internal.testframework.BaseIgniteAbstractTest;
 import org.jetbrains.annotations.Nullable;
 import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.Arguments;
 import org.junit.jupiter.params.provider.MethodSource;
+import org.junit.jupiter.params.provider.ValueSource;
 
 /**
  * Class to test the {@link AbstractFreeList}.
@@ -80,8 +86,8 @@ public class AbstractFreeListTest extends BaseIgniteAbstractTest {
 
     @ParameterizedTest
     @MethodSource("provideTestArguments")
-    void testSingleTread(int pageSize, boolean batched) throws Exception {
-        FreeList<TestDataRow> freeList = createFreeList(pageSize);
+    void testSingleTread(int pageSize, boolean batched, boolean reservation) throws Exception {
+        FreeList<TestDataRow> freeList = createFreeList(pageSize, reservation);
 
         Map<Long, TestDataRow> stored = new HashMap<>();
 
@@ -92,8 +98,8 @@ public class AbstractFreeListTest extends BaseIgniteAbstractTest {
 
     @ParameterizedTest
     @MethodSource("provideTestArguments")
-    void testMultiThread(int pageSize, boolean batched) throws Exception {
-        FreeList<TestDataRow> freeList = createFreeList(pageSize);
+    void testMultiThread(int pageSize, boolean batched, boolean reservation) throws Exception {
+        FreeList<TestDataRow> freeList = createFreeList(pageSize, reservation);
 
         Map<Long, TestDataRow> stored = new ConcurrentHashMap<>();
 
@@ -112,26 +118,84 @@ public class AbstractFreeListTest extends BaseIgniteAbstractTest {
         ).get(1, MINUTES);
     }
 
+    @ParameterizedTest
+    @ValueSource(ints = {1024, 4096, 16384})
+    void testReservedPages(int pageSize) throws Exception {
+        AbstractFreeList<TestDataRow> freeList = createFreeList(pageSize, true);
+
+        List<TestDataRow> rows = new ArrayList<>();
+
+        for (int i = 0; i < 10; i++) {
+            TestDataRow row = new TestDataRow(16);
+
+            freeList.insertDataRow(row, IoStatisticsHolderNoOp.INSTANCE);
+
+            rows.add(row);
+        }
+
+        assertEquals(9, freeList.reservedPageHits());
+
+        // The only page written to is reserved by the current thread.
+        assertEquals(0, freeList.freeSpace());
+
+        freeList.releaseReservedPages(IoStatisticsHolderNoOp.INSTANCE);
+
+        assertThat(freeList.freeSpace(), greaterThan(0L));
+
+        TestDataRow row = new TestDataRow(16);
+
+        freeList.insertDataRow(row, IoStatisticsHolderNoOp.INSTANCE);
+
+        rows.add(row);
+
+        // Removal of all the rows must recycle the page, even though it is reserved again.
+        for (TestDataRow row0 : rows) {
+            freeList.removeDataRowByLink(row0.link(), IoStatisticsHolderNoOp.INSTANCE);
+        }
+
+        assertEquals(1, freeList.emptyDataPages());
+        assertEquals(0, freeList.freeSpace());
+    }
+
+    @Test
+    void testReservedPageOfTerminatedThread() throws Exception {
+        AbstractFreeList<TestDataRow> freeList = createFreeList(4096, true);
+
+        TestDataRow row0 = new TestDataRow(16);
+
+        Thread thread = new Thread(() -> {
+            try {
+                freeList.insertDataRow(row0, IoStatisticsHolderNoOp.INSTANCE);
+            } catch (IgniteInternalCheckedException e) {
+                throw new AssertionError(e);
+            }
+        });
+
+        thread.start();
+        thread.join();
+
+        // The page is still reserved by the terminated thread.
+        assertEquals(0, freeList.freeSpace());
+
+        TestDataRow row1 = new TestDataRow(16);
+
+        freeList.insertDataRow(row1, IoStatisticsHolderNoOp.INSTANCE);
+
+        // The page is put back to the free list and reused instead of allocating a new one.
+        assertEquals(pageIndex(pageId(row0.link())), pageIndex(pageId(row1.link())));
+    }
+
     private static Stream<Arguments> provideTestArguments() {
-        return Stream.of(
-                Arguments.of(1024, true),
-                Arguments.of(1024, false),
-                //
-                Arguments.of(2048, true),
-                Arguments.of(2048, false),
-                //
-                Arguments.of(4096, true),
-                Arguments.of(4096, false),
-                //
-                Arguments.of(8192, true),
-                Arguments.of(8192, false),
-                //
-                Arguments.of(16384, true),
-                Arguments.of(16384, false)
-        );
+        return Stream.of(1024, 2048, 4096, 8192, 16384)
+                .flatMap(pageSize -> Stream.of(
+                        Arguments.of(pageSize, true, false),
+                        Arguments.of(pageSize, false, false),
+                        Arguments.of(pageSize, true, true),
+                        Arguments.of(pageSize, false, true)
+                ));
     }
 
-    private FreeList<TestDataRow> createFreeList(int pageSize) throws Exception {
+    private AbstractFreeList<TestDataRow> createFreeList(int pageSize, boolean reservation) throws Exception {
         pageMemory = createPageMemory(pageSize);
 
         pageMemory.start();
@@ -151,6 +215,12 @@ public class AbstractFreeListTest extends BaseIgniteAbstractTest {
                 null,
                 PageEvictionTrackerNoOp.INSTANCE
         ) {
+            {
+                if (reservation) {
+                    enableDataPageReservation();
+                }
+            }
+
             /** {@inheritDoc} */
             @Override
             public void insertDataRow(TestDataRow row, IoStatisticsHolder statHolder) throws IgniteInternalCheckedException {
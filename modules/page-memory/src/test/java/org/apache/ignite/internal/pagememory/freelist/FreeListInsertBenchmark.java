@@ -0,0 +1,190 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.pagememory.freelist;
+
+import static org.apache.ignite.internal.pagememory.PageIdAllocator.FLAG_DATA;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import org.apache.ignite.internal.lang.IgniteInternalCheckedException;
+import org.apache.ignite.internal.logger.Loggers;
+import org.apache.ignite.internal.pagememory.TestPageIoRegistry;
+import org.apache.ignite.internal.pagememory.configuration.schema.UnsafeMemoryAllocatorView;
+import org.apache.ignite.internal.pagememory.configuration.schema.VolatilePageMemoryDataRegionConfiguration;
+import org.apache.ignite.internal.pagememory.configuration.schema.VolatilePageMemoryDataRegionView;
+import org.apache.ignite.internal.pagememory.evict.PageEvictionTrackerNoOp;
+import org.apache.ignite.internal.pagememory.inmemory.VolatilePageMemory;
+import org.apache.ignite.internal.pagememory.metric.IoStatisticsHolderNoOp;
+import org.apache.ignite.internal.pagememory.util.PageLockListenerNoOp;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Benchmark of concurrent inserts of small rows into an {@link AbstractFreeList}, with and without reservation of data pages by the
+ * inserting threads. Every thread keeps a fixed number of its rows, removing the oldest one on every insert, so the free list is
+ * constantly refilled. Contentions on the stripe locks of the free list and writes to the reserved pages are printed at the end.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Threads(8)
+@Fork(1)
+public class FreeListInsertBenchmark {
+    private static final int PAGE_SIZE = 4 * 1024;
+
+    private static final long REGION_SIZE = 1024L * 1024 * 1024;
+
+    /** Number of rows kept by every thread. */
+    private static final int ROWS_PER_THREAD = 16 * 1024;
+
+    /** Maximal size of a row. */
+    private static final int MAX_ROW_SIZE = 256;
+
+    /** Whether data pages are reserved by the inserting threads. */
+    @Param({"false", "true"})
+    public boolean reservation;
+
+    private VolatilePageMemory pageMemory;
+
+    private AbstractFreeList<TestDataRow> freeList;
+
+    /**
+     * Rows of an inserting thread.
+     */
+    @State(Scope.Thread)
+    public static class ThreadRows {
+        private final long[] links = new long[ROWS_PER_THREAD];
+
+        private int position;
+    }
+
+    /**
+     * Starts the page memory and creates the free list.
+     */
+    @Setup
+    public void setUp() throws IgniteInternalCheckedException {
+        VolatilePageMemoryDataRegionView regionView = mock(VolatilePageMemoryDataRegionView.class);
+
+        when(regionView.name()).thenReturn("benchmark");
+        when(regionView.initSize()).thenReturn(REGION_SIZE);
+        when(regionView.maxSize()).thenReturn(REGION_SIZE);
+        when(regionView.memoryAllocator()).thenReturn(mock(UnsafeMemoryAllocatorView.class));
+
+        VolatilePageMemoryDataRegionConfiguration regionConfig = mock(VolatilePageMemoryDataRegionConfiguration.class);
+
+        when(regionConfig.value()).thenReturn(regionView);
+
+        TestPageIoRegistry ioRegistry = new TestPageIoRegistry();
+
+        ioRegistry.loadFromServiceLoader();
+
+        ioRegistry.load(TestDataPageIo.VERSIONS);
+
+        pageMemory = new VolatilePageMemory(regionConfig, ioRegistry, PAGE_SIZE);
+
+        pageMemory.start();
+
+        long metaPageId = pageMemory.allocatePage(1, 1, FLAG_DATA);
+
+        boolean reservation = this.reservation;
+
+        freeList = new AbstractFreeList<>(
+                0,
+                1,
+                "freelist",
+                pageMemory,
+                null,
+                PageLockListenerNoOp.INSTANCE,
+                Loggers.forClass(FreeListInsertBenchmark.class),
+                metaPageId,
+                true,
+                null,
+                PageEvictionTrackerNoOp.INSTANCE
+        ) {
+            {
+                if (reservation) {
+                    enableDataPageReservation();
+                }
+            }
+        };
+    }
+
+    /**
+     * Prints the free list metrics and stops the page memory.
+     */
+    @TearDown
+    public void tearDown() {
+        System.out.println();
+        System.out.println("Stripe lock contentions: " + freeList.stripeLockContentions());
+        System.out.println("Reserved page hits: " + freeList.reservedPageHits());
+
+        pageMemory.stop(true);
+    }
+
+    /**
+     * Inserts a row and removes the oldest row of the thread.
+     */
+    @Benchmark
+    public long insert(ThreadRows rows) throws IgniteInternalCheckedException {
+        TestDataRow row = new TestDataRow(ThreadLocalRandom.current().nextInt(MAX_ROW_SIZE) + 1);
+
+        freeList.insertDataRow(row, IoStatisticsHolderNoOp.INSTANCE);
+
+        long oldLink = rows.links[rows.position];
+
+        if (oldLink != 0L) {
+            freeList.removeDataRowByLink(oldLink, IoStatisticsHolderNoOp.INSTANCE);
+        }
+
+        rows.links[rows.position] = row.link();
+
+        rows.position = (rows.position + 1) % ROWS_PER_THREAD;
+
+        return row.link();
+    }
+
+    /**
+     * Runs the benchmark.
+     */
+    public static void main(String[] args) throws RunnerException {
+        Options opt = new OptionsBuilder()
+                .include(FreeListInsertBenchmark.class.getSimpleName())
+                .build();
+
+        new Runner(opt).run();
+    }
+}
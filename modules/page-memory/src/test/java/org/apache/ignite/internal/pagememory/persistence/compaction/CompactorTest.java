@@ -21,6 +21,7 @@ import static java.util.concurrent.TimeUnit.MILLISECONDS;
 import static org.apache.ignite.internal.testframework.IgniteTestUtils.runAsync;
 import static org.apache.ignite.internal.testframework.IgniteTestUtils.waitForCondition;
 import static org.apache.ignite.internal.util.GridUnsafe.bufferAddress;
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertSame;
@@ -28,17 +29,22 @@ import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyBoolean;
+import static org.mockito.ArgumentMatchers.anyList;
 import static org.mockito.ArgumentMatchers.anyLong;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.doAnswer;
 import static org.mockito.Mockito.doNothing;
+import static org.mockito.Mockito.inOrder;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.spy;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.TimeoutException;
 import java.util.concurrent.atomic.AtomicReference;
@@ -53,6 +59,7 @@ import org.apache.ignite.internal.pagememory.persistence.store.GroupPageStoresMa
 import org.apache.ignite.internal.pagememory.persistence.store.LongOperationAsyncExecutor;
 import org.apache.ignite.internal.testframework.BaseIgniteAbstractTest;
 import org.junit.jupiter.api.Test;
+import org.mockito.InOrder;
 
 /**
  * For {@link Compactor} testing.
@@ -131,13 +138,73 @@ public class CompactorTest extends BaseIgniteAbstractTest {
         verify(deltaFilePageStoreIo, times(1)).stop(eq(true));
     }
 
+    @Test
+    void testMergeDeltaFilesToMainFile() throws Throwable {
+        Compactor compactor = new Compactor(
+                log,
+                "test",
+                null,
+                threadsConfig(1),
+                mock(FilePageStoreManager.class),
+                PAGE_SIZE,
+                mock(FailureProcessor.class));
+
+        FilePageStore filePageStore = mock(FilePageStore.class);
+
+        DeltaFilePageStoreIo oldDeltaFilePageStoreIo = mock(DeltaFilePageStoreIo.class);
+        DeltaFilePageStoreIo newDeltaFilePageStoreIo = mock(DeltaFilePageStoreIo.class);
+
+        when(filePageStore.removeDeltaFile(any(DeltaFilePageStoreIo.class))).thenReturn(true);
+
+        when(oldDeltaFilePageStoreIo.pageIndexes()).thenReturn(new int[]{0, 1});
+        when(newDeltaFilePageStoreIo.pageIndexes()).thenReturn(new int[]{1, 2});
+
+        for (DeltaFilePageStoreIo deltaFilePageStoreIo : List.of(oldDeltaFilePageStoreIo, newDeltaFilePageStoreIo)) {
+            when(deltaFilePageStoreIo.readWithMergedToFilePageStoreCheck(anyLong(), anyLong(), any(ByteBuffer.class), anyBoolean()))
+                    .then(answer -> {
+                        ByteBuffer buffer = answer.getArgument(2);
+
+                        PageIo.setPageId(bufferAddress(buffer), answer.<Long>getArgument(0) + 1);
+
+                        return true;
+                    });
+        }
+
+        compactor.mergeDeltaFilesToMainFile(filePageStore, List.of(oldDeltaFilePageStoreIo, newDeltaFilePageStoreIo));
+
+        // The page with index 1 must be copied only once from the newest delta file.
+        verify(oldDeltaFilePageStoreIo, times(1)).readWithMergedToFilePageStoreCheck(eq(0L), anyLong(), any(), anyBoolean());
+        verify(oldDeltaFilePageStoreIo, never()).readWithMergedToFilePageStoreCheck(eq(1L), anyLong(), any(), anyBoolean());
+        verify(newDeltaFilePageStoreIo, times(1)).readWithMergedToFilePageStoreCheck(eq(1L), anyLong(), any(), anyBoolean());
+        verify(newDeltaFilePageStoreIo, times(1)).readWithMergedToFilePageStoreCheck(eq(2L), anyLong(), any(), anyBoolean());
+
+        verify(filePageStore, times(1)).write(eq(1L), any(ByteBuffer.class), anyBoolean());
+        verify(filePageStore, times(1)).write(eq(2L), any(ByteBuffer.class), anyBoolean());
+        verify(filePageStore, times(1)).write(eq(3L), any(ByteBuffer.class), anyBoolean());
+
+        verify(filePageStore, times(1)).sync();
+
+        // The oldest delta file must be removed first.
+        InOrder inOrder = inOrder(filePageStore);
+
+        inOrder.verify(filePageStore).removeDeltaFile(eq(oldDeltaFilePageStoreIo));
+        inOrder.verify(filePageStore).removeDeltaFile(eq(newDeltaFilePageStoreIo));
+
+        verify(oldDeltaFilePageStoreIo, times(1)).markMergedToFilePageStore();
+        verify(oldDeltaFilePageStoreIo, times(1)).stop(eq(true));
+        verify(newDeltaFilePageStoreIo, times(1)).markMergedToFilePageStore();
+        verify(newDeltaFilePageStoreIo, times(1)).stop(eq(true));
+    }
+
     @Test
     void testDoCompaction() throws Throwable {
         FilePageStore filePageStore = mock(FilePageStore.class);
 
-        AtomicReference<DeltaFilePageStoreIo> deltaFilePageStoreIoRef = new AtomicReference<>(mock(DeltaFilePageStoreIo.class));
+        AtomicReference<List<DeltaFilePageStoreIo>> deltaFilePageStoreIosRef = new AtomicReference<>(
+                List.of(mock(DeltaFilePageStoreIo.class))
+        );
 
-        when(filePageStore.getDeltaFileToCompaction()).then(answer -> deltaFilePageStoreIoRef.get());
+        when(filePageStore.getDeltaFilesToCompaction()).then(answer -> deltaFilePageStoreIosRef.get());
 
         FilePageStoreManager filePageStoreManager = mock(FilePageStoreManager.class);
 
@@ -158,20 +225,73 @@ public class CompactorTest extends BaseIgniteAbstractTest {
 
         doAnswer(answer -> {
             assertSame(filePageStore, answer.getArgument(0));
-            assertSame(deltaFilePageStoreIoRef.get(), answer.getArgument(1));
+            assertSame(deltaFilePageStoreIosRef.get(), answer.getArgument(1));
 
-            deltaFilePageStoreIoRef.set(null);
+            deltaFilePageStoreIosRef.set(List.of());
 
             return null;
         })
                 .when(compactor)
-                .mergeDeltaFileToMainFile(any(FilePageStore.class), any(DeltaFilePageStoreIo.class));
+                .mergeDeltaFilesToMainFile(any(FilePageStore.class), anyList());
 
         compactor.doCompaction();
 
-        verify(filePageStore, times(2)).getDeltaFileToCompaction();
+        verify(filePageStore, times(2)).getDeltaFilesToCompaction();
+
+        verify(compactor, times(1)).mergeDeltaFilesToMainFile(any(FilePageStore.class), anyList());
+    }
+
+    @Test
+    void testDoCompactionPrioritizesPartitionsWithMoreDeltaFiles() throws Throwable {
+        FilePageStore filePageStore0 = mock(FilePageStore.class);
+        FilePageStore filePageStore1 = mock(FilePageStore.class);
+
+        AtomicReference<List<DeltaFilePageStoreIo>> deltaFilePageStoreIos0Ref = new AtomicReference<>(
+                List.of(mock(DeltaFilePageStoreIo.class))
+        );
+
+        AtomicReference<List<DeltaFilePageStoreIo>> deltaFilePageStoreIos1Ref = new AtomicReference<>(
+                List.of(mock(DeltaFilePageStoreIo.class), mock(DeltaFilePageStoreIo.class))
+        );
+
+        when(filePageStore0.getDeltaFilesToCompaction()).then(answer -> deltaFilePageStoreIos0Ref.get());
+        when(filePageStore1.getDeltaFilesToCompaction()).then(answer -> deltaFilePageStoreIos1Ref.get());
+
+        FilePageStoreManager filePageStoreManager = mock(FilePageStoreManager.class);
+
+        GroupPageStoresMap<FilePageStore> groupPageStoresMap = new GroupPageStoresMap<>(new LongOperationAsyncExecutor("test", log));
+
+        groupPageStoresMap.put(new GroupPartitionId(0, 0), filePageStore0);
+        groupPageStoresMap.put(new GroupPartitionId(0, 1), filePageStore1);
+
+        when(filePageStoreManager.allPageStores()).then(answer -> groupPageStoresMap.getAll());
+
+        Compactor compactor = spy(new Compactor(
+                log,
+                "test",
+                null,
+                threadsConfig(1),
+                filePageStoreManager,
+                PAGE_SIZE,
+                mock(FailureProcessor.class)));
+
+        List<FilePageStore> merged = new ArrayList<>();
+
+        doAnswer(answer -> {
+            FilePageStore filePageStore = answer.getArgument(0);
+
+            merged.add(filePageStore);
+
+            (filePageStore == filePageStore0 ? deltaFilePageStoreIos0Ref : deltaFilePageStoreIos1Ref).set(List.of());
+
+            return null;
+        })
+                .when(compactor)
+                .mergeDeltaFilesToMainFile(any(FilePageStore.class), anyList());
+
+        compactor.doCompaction();
 
-        verify(compactor, times(1)).mergeDeltaFileToMainFile(any(FilePageStore.class), any(DeltaFilePageStoreIo.class));
+        assertEquals(List.of(filePageStore1, filePageStore0), merged);
     }
 
     @Test
@@ -0,0 +1,116 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.pagememory.persistence.compression;
+
+import static java.nio.ByteOrder.nativeOrder;
+import static org.apache.ignite.internal.pagememory.PageIdAllocator.FLAG_DATA;
+import static org.apache.ignite.internal.pagememory.persistence.compression.PageCompression.DEFLATE_COMPRESSED_PAGE;
+import static org.apache.ignite.internal.pagememory.persistence.compression.PageCompression.UNCOMPRESSED_PAGE;
+import static org.apache.ignite.internal.pagememory.util.PageIdUtils.pageId;
+import static org.apache.ignite.internal.util.GridUnsafe.bufferAddress;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.nio.ByteBuffer;
+import java.util.concurrent.ThreadLocalRandom;
+import org.apache.ignite.internal.pagememory.TestPageIoModule.TestPageIo;
+import org.apache.ignite.internal.pagememory.io.PageIo;
+import org.junit.jupiter.api.Test;
+
+/**
+ * For {@link PageCompression} testing.
+ */
+public class PageCompressionTest {
+    private static final int PAGE_SIZE = 16 * 1024;
+
+    @Test
+    void testCompressAndDecompress() throws Exception {
+        ByteBuffer page = createPage(PAGE_SIZE);
+
+        // Half empty page.
+        page.position(PageIo.COMMON_HEADER_END).put(randomBytes(PAGE_SIZE / 4)).rewind();
+
+        PageIo.setCrc(page, 42);
+
+        PageCompression pageCompression = new PageCompression(1);
+
+        ByteBuffer compressed = pageCompression.compressPage(page, PAGE_SIZE);
+
+        assertEquals(DEFLATE_COMPRESSED_PAGE, PageIo.getCompressionType(compressed));
+        assertEquals(0, compressed.position());
+        assertTrue(compressed.limit() <= PAGE_SIZE - 4096, "size=" + compressed.limit());
+        assertEquals(PageIo.COMMON_HEADER_END + PageIo.getCompressedSize(compressed), compressed.limit());
+
+        // The source page is not modified.
+        assertEquals(UNCOMPRESSED_PAGE, PageIo.getCompressionType(page));
+
+        assertEquals(PAGE_SIZE, pageCompression.pagesBytes());
+        assertEquals(compressed.limit(), pageCompression.writtenBytes());
+        assertTrue(pageCompression.compressionRatio() < 1);
+
+        ByteBuffer readPage = ByteBuffer.allocateDirect(PAGE_SIZE).order(nativeOrder());
+
+        readPage.put(compressed).rewind();
+
+        PageCompression.decompressPage(readPage, PAGE_SIZE);
+
+        assertEquals(page.rewind(), readPage.rewind());
+        assertEquals(42, PageIo.getCrc(readPage));
+    }
+
+    @Test
+    void testIncompressiblePageIsWrittenAsIs() throws Exception {
+        ByteBuffer page = createPage(PAGE_SIZE);
+
+        page.position(PageIo.COMMON_HEADER_END).put(randomBytes(PAGE_SIZE - PageIo.COMMON_HEADER_END)).rewind();
+
+        PageCompression pageCompression = new PageCompression(1);
+
+        assertSame(page, pageCompression.compressPage(page, PAGE_SIZE));
+
+        assertEquals(1.0, pageCompression.compressionRatio());
+
+        PageCompression.decompressPage(page, PAGE_SIZE);
+
+        assertEquals(UNCOMPRESSED_PAGE, PageIo.getCompressionType(page));
+    }
+
+    @Test
+    void testSmallPageIsNotCompressed() {
+        ByteBuffer page = createPage(1024);
+
+        assertSame(page, new PageCompression(1).compressPage(page, 1024));
+    }
+
+    private static ByteBuffer createPage(int pageSize) {
+        ByteBuffer page = ByteBuffer.allocateDirect(pageSize).order(nativeOrder());
+
+        new TestPageIo().initNewPage(bufferAddress(page), pageId(0, FLAG_DATA, 1), pageSize);
+
+        return page;
+    }
+
+    private static byte[] randomBytes(int len) {
+        byte[] res = new byte[len];
+
+        ThreadLocalRandom.current().nextBytes(res);
+
+        return res;
+    }
+}
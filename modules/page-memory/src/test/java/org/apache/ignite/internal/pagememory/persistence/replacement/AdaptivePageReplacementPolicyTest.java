@@ -0,0 +1,140 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.pagememory.persistence.replacement;
+
+import static org.apache.ignite.internal.pagememory.persistence.replacement.AdaptivePageReplacementPolicy.CLOCK;
+import static org.apache.ignite.internal.pagememory.persistence.replacement.AdaptivePageReplacementPolicy.SEGMENTED_LRU;
+import static org.apache.ignite.internal.pagememory.persistence.replacement.AdaptivePageReplacementPolicy.TRIAL_INTERVAL;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import org.apache.ignite.internal.pagememory.persistence.PersistentPageMemory.Segment;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+/**
+ * For {@link AdaptivePageReplacementPolicy} testing.
+ */
+public class AdaptivePageReplacementPolicyTest {
+    private static final int WINDOW_SIZE = 10;
+
+    private final PageReplacementPolicy clock = mock(PageReplacementPolicy.class);
+
+    private final PageReplacementPolicy segmentedLru = mock(PageReplacementPolicy.class);
+
+    private AdaptivePageReplacementPolicy policy;
+
+    @BeforeEach
+    void setUp() {
+        policy = new AdaptivePageReplacementPolicy(mock(Segment.class), clock, segmentedLru, WINDOW_SIZE);
+    }
+
+    @Test
+    void testEventsAreDelegatedToAllPolicies() {
+        policy.onHit(1);
+        policy.onMiss(2);
+        policy.onRemove(3);
+
+        for (PageReplacementPolicy delegate : new PageReplacementPolicy[]{clock, segmentedLru}) {
+            verify(delegate).onHit(1);
+            verify(delegate).onMiss(2);
+            verify(delegate).onRemove(3);
+        }
+    }
+
+    @Test
+    void testReplacedPageIsRemovedFromInactivePolicy() throws Exception {
+        when(clock.replace()).thenReturn(42L);
+
+        assertEquals(42L, policy.replace());
+
+        verify(segmentedLru, never()).replace();
+        verify(segmentedLru).onRemove(42L);
+        verify(clock, never()).onRemove(anyLong());
+    }
+
+    @Test
+    void testSwitchesToPolicyWithBetterHitRate() {
+        assertEquals(CLOCK, policy.activePolicy());
+
+        // The hit rate of Segmented-LRU is unknown, so it gets a trial.
+        window(2);
+
+        assertEquals(SEGMENTED_LRU, policy.activePolicy());
+
+        // Segmented-LRU does better, e.g. because of a scan.
+        window(8);
+
+        assertEquals(SEGMENTED_LRU, policy.activePolicy());
+
+        // The scan is over and Segmented-LRU does worse.
+        window(0);
+
+        assertEquals(CLOCK, policy.activePolicy());
+    }
+
+    @Test
+    void testSwitchesBackIfTrialIsWorse() {
+        window(8);
+
+        assertEquals(SEGMENTED_LRU, policy.activePolicy());
+
+        window(2);
+
+        assertEquals(CLOCK, policy.activePolicy());
+
+        // The switch back was the second window since the trial has started.
+        for (int i = 0; i < TRIAL_INTERVAL - 2; i++) {
+            window(8);
+
+            assertEquals(CLOCK, policy.activePolicy());
+        }
+
+        // The hit rate of Segmented-LRU is stale.
+        window(8);
+
+        assertEquals(SEGMENTED_LRU, policy.activePolicy());
+    }
+
+    @Test
+    void testReplacementUsesActivePolicy() throws Exception {
+        window(8);
+
+        when(segmentedLru.replace()).thenReturn(42L);
+
+        assertEquals(42L, policy.replace());
+
+        verify(clock, never()).replace();
+        verify(clock).onRemove(42L);
+    }
+
+    /** Simulates a window of page accesses with the given number of hits. */
+    private void window(int hits) {
+        for (int i = 0; i < hits; i++) {
+            policy.onHit(0);
+        }
+
+        for (int i = hits; i < WINDOW_SIZE; i++) {
+            policy.onMiss(0);
+        }
+    }
+}
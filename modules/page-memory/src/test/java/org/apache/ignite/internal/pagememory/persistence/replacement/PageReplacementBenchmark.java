@@ -0,0 +1,274 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.pagememory.persistence.replacement;
+
+import static org.apache.ignite.internal.pagememory.PageIdAllocator.FLAG_DATA;
+import static org.apache.ignite.internal.pagememory.persistence.checkpoint.CheckpointTestUtils.mockCheckpointTimeoutLock;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.util.Arrays;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import org.apache.ignite.internal.lang.IgniteInternalCheckedException;
+import org.apache.ignite.internal.pagememory.configuration.schema.PersistentPageMemoryDataRegionConfiguration;
+import org.apache.ignite.internal.pagememory.configuration.schema.PersistentPageMemoryDataRegionView;
+import org.apache.ignite.internal.pagememory.configuration.schema.UnsafeMemoryAllocatorView;
+import org.apache.ignite.internal.pagememory.io.PageIoRegistry;
+import org.apache.ignite.internal.pagememory.metric.IoStatisticsHolder;
+import org.apache.ignite.internal.pagememory.persistence.PersistentPageMemory;
+import org.apache.ignite.internal.pagememory.persistence.TestPageReadWriteManager;
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Benchmark of the page replacement policies of {@link PersistentPageMemory} for different access patterns. The data set is twice
+ * as large as the data region, so the hit rate, reported as the {@code hits} and {@code misses} counters, depends on the pages the
+ * policy chooses to evict. The pages are clean and their reads are no-ops, so the score reflects the cost of the policy itself.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+public class PageReplacementBenchmark {
+    private static final int GROUP_ID = 1;
+
+    private static final int PARTITION_ID = 0;
+
+    private static final int PAGE_SIZE = 4 * 1024;
+
+    private static final long SEGMENT_SIZE = 32L * 1024 * 1024;
+
+    /** Skew of the Zipfian distribution. */
+    private static final double ZIPFIAN_SKEW = 0.99;
+
+    /** Every n-th access of the {@link Workload#SCAN} workload is a scan one. */
+    private static final int SCAN_ACCESS_INTERVAL = 4;
+
+    /** Page replacement mode. */
+    @Param({"CLOCK", "SEGMENTED_LRU", "RANDOM_LRU", "ADAPTIVE"})
+    public String replacementMode;
+
+    /** Access pattern. */
+    @Param({"UNIFORM", "ZIPFIAN", "SCAN"})
+    public Workload workload;
+
+    private PersistentPageMemory pageMemory;
+
+    private long[] pageIds;
+
+    /** Cumulative distribution function of the Zipfian distribution over {@link #pageIds}. */
+    private double[] zipfianCdf;
+
+    private int scanPosition;
+
+    /** Access patterns. */
+    public enum Workload {
+        /** Every page is accessed with the same probability. */
+        UNIFORM,
+
+        /** A few hot pages are accessed most of the time. */
+        ZIPFIAN,
+
+        /** Zipfian accesses, interleaved with sequential scans over all the pages that should not flush the hot pages. */
+        SCAN
+    }
+
+    /**
+     * Hits and misses of the page memory, reported as secondary results.
+     */
+    @State(Scope.Thread)
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    public static class HitRate implements IoStatisticsHolder {
+        /** Number of pages found in the page memory. */
+        public long hits;
+
+        /** Number of pages read from the page store. */
+        public long misses;
+
+        /** Resets the counters. */
+        @Setup(Level.Iteration)
+        public void reset() {
+            hits = 0;
+            misses = 0;
+        }
+
+        @Override
+        public void trackLogicalRead(long pageAddr) {
+            hits++;
+        }
+
+        @Override
+        public void trackPhysicalAndLogicalRead(long pageAddr) {
+            misses++;
+        }
+
+        @Override
+        public long logicalReads() {
+            return hits + misses;
+        }
+
+        @Override
+        public long physicalReads() {
+            return misses;
+        }
+    }
+
+    /**
+     * Starts the page memory.
+     */
+    @Setup
+    public void setUp() throws IgniteInternalCheckedException {
+        PersistentPageMemoryDataRegionView regionView = mock(PersistentPageMemoryDataRegionView.class);
+
+        when(regionView.name()).thenReturn("benchmark");
+        when(regionView.size()).thenReturn(SEGMENT_SIZE);
+        when(regionView.replacementMode()).thenReturn(replacementMode);
+        when(regionView.memoryAllocator()).thenReturn(mock(UnsafeMemoryAllocatorView.class));
+
+        PersistentPageMemoryDataRegionConfiguration regionConfig = mock(PersistentPageMemoryDataRegionConfiguration.class);
+
+        when(regionConfig.value()).thenReturn(regionView);
+
+        PageIoRegistry ioRegistry = new PageIoRegistry();
+
+        ioRegistry.loadFromServiceLoader();
+
+        TestPageReadWriteManager pageStoreManager = new TestPageReadWriteManager();
+
+        pageMemory = new PersistentPageMemory(
+                regionConfig,
+                ioRegistry,
+                new long[]{SEGMENT_SIZE},
+                SEGMENT_SIZE,
+                pageStoreManager,
+                null,
+                (pageMemory0, fullPageId, buf) -> {
+                    throw new AssertionError("Pages are never dirty: " + fullPageId);
+                },
+                mockCheckpointTimeoutLock(true),
+                null,
+                PAGE_SIZE
+        );
+
+        pageMemory.start();
+
+        pageIds = new long[(int) pageMemory.totalPages() * 2];
+
+        for (int i = 0; i < pageIds.length; i++) {
+            pageIds[i] = pageStoreManager.allocatePage(GROUP_ID, PARTITION_ID, FLAG_DATA);
+        }
+
+        zipfianCdf = zipfianCdf(pageIds.length);
+    }
+
+    /**
+     * Stops the page memory.
+     */
+    @TearDown
+    public void tearDown() {
+        pageMemory.stop(true);
+    }
+
+    /**
+     * Acquires and releases a page chosen according to the workload.
+     */
+    @Benchmark
+    public long acquirePage(HitRate hitRate) throws IgniteInternalCheckedException {
+        long pageId = pageIds[nextPageIndex()];
+
+        long page = pageMemory.acquirePage(GROUP_ID, pageId, hitRate);
+
+        pageMemory.releasePage(GROUP_ID, pageId, page);
+
+        return page;
+    }
+
+    private int nextPageIndex() {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+
+        switch (workload) {
+            case UNIFORM:
+                return random.nextInt(pageIds.length);
+
+            case SCAN:
+                if (random.nextInt(SCAN_ACCESS_INTERVAL) == 0) {
+                    scanPosition = (scanPosition + 1) % pageIds.length;
+
+                    return scanPosition;
+                }
+
+                // Fall through.
+
+            case ZIPFIAN:
+                int idx = Arrays.binarySearch(zipfianCdf, random.nextDouble());
+
+                return Math.min(idx < 0 ? -idx - 1 : idx, pageIds.length - 1);
+
+            default:
+                throw new AssertionError(workload);
+        }
+    }
+
+    private static double[] zipfianCdf(int size) {
+        double[] cdf = new double[size];
+
+        double sum = 0;
+
+        for (int i = 0; i < size; i++) {
+            sum += 1 / Math.pow(i + 1, ZIPFIAN_SKEW);
+
+            cdf[i] = sum;
+        }
+
+        for (int i = 0; i < size; i++) {
+            cdf[i] /= sum;
+        }
+
+        return cdf;
+    }
+
+    /**
+     * Runs the benchmark.
+     */
+    public static void main(String[] args) throws RunnerException {
+        Options opt = new OptionsBuilder()
+                .include(PageReplacementBenchmark.class.getSimpleName())
+                .build();
+
+        new Runner(opt).run();
+    }
+}
@@ -47,6 +47,7 @@ import static org.mockito.Mockito.when;
 
 import java.nio.ByteBuffer;
 import java.nio.file.Path;
+import java.util.List;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ConcurrentLinkedQueue;
 import java.util.function.IntFunction;
@@ -477,6 +478,41 @@ public class FilePageStoreTest extends BaseIgniteAbstractTest {
         }
     }
 
+    @Test
+    void testGetDeltaFilesToCompaction() throws Exception {
+        DeltaFilePageStoreIo deltaFile0 = mock(DeltaFilePageStoreIo.class);
+        DeltaFilePageStoreIo deltaFile1 = mock(DeltaFilePageStoreIo.class);
+
+        when(deltaFile0.fileIndex()).thenReturn(1);
+        when(deltaFile1.fileIndex()).thenReturn(0);
+
+        try (FilePageStore filePageStore = createFilePageStore(workDir.resolve("test"), deltaFile0, deltaFile1)) {
+            assertEquals(List.of(deltaFile1, deltaFile0), filePageStore.getDeltaFilesToCompaction());
+
+            CompletableFuture<DeltaFilePageStoreIo> createNewDeltaFileFuture = filePageStore.getOrCreateNewDeltaFile(
+                    index -> workDir.resolve("delta" + index),
+                    TestPageStoreUtils::arr
+            );
+
+            createNewDeltaFileFuture.get(1, SECONDS);
+
+            assertEquals(List.of(deltaFile1, deltaFile0), filePageStore.getDeltaFilesToCompaction());
+
+            filePageStore.removeDeltaFile(deltaFile1);
+            filePageStore.removeDeltaFile(deltaFile0);
+
+            assertEquals(List.of(), filePageStore.getDeltaFilesToCompaction());
+
+            filePageStore.completeNewDeltaFile();
+
+            assertEquals(List.of(createNewDeltaFileFuture.join()), filePageStore.getDeltaFilesToCompaction());
+
+            filePageStore.removeDeltaFile(createNewDeltaFileFuture.join());
+
+            assertEquals(List.of(), filePageStore.getDeltaFilesToCompaction());
+        }
+    }
+
     @Test
     void testReadWithMergedDeltaFiles() throws Exception {
         RandomAccessFileIoFactory ioFactory = new RandomAccessFileIoFactory();
@@ -0,0 +1,86 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.ignite.internal.pagememory.persistence.throttling;
+
+import static java.util.concurrent.TimeUnit.NANOSECONDS;
+import static org.apache.ignite.internal.pagememory.persistence.throttling.PagesWriteSpeedBasedThrottle.MAX_PARK_TIME_NANOS;
+import static org.apache.ignite.internal.pagememory.persistence.throttling.PagesWriteSpeedBasedThrottle.MEASUREMENT_INTERVAL_NANOS;
+import static org.apache.ignite.internal.pagememory.persistence.throttling.PagesWriteSpeedBasedThrottle.parkTimeNanos;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import org.apache.ignite.internal.pagememory.persistence.checkpoint.CheckpointMetricsTracker;
+import org.junit.jupiter.api.Test;
+
+/**
+ * For {@link PagesWriteSpeedBasedThrottle} testing.
+ */
+public class PagesWriteSpeedBasedThrottleTest {
+    @Test
+    void testNoThrottling() {
+        // Few dirty pages.
+        assertEquals(0, parkTimeNanos(0.3, 10_000, 1_000, 1));
+
+        // Checkpoint is fast enough.
+        assertEquals(0, parkTimeNanos(0.8, 1_000, 1_000, 1));
+        assertEquals(0, parkTimeNanos(0.8, 1_000, 10_000, 1));
+
+        // Checkpoint has not written anything yet.
+        assertEquals(0, parkTimeNanos(0.8, 1_000, 0, 1));
+    }
+
+    @Test
+    void testThrottling() {
+        // 10 us per page instead of 100 us, fully throttled.
+        assertEquals(90_000, parkTimeNanos(0.95, 100_000, 10_000, 1));
+        assertEquals(4 * 90_000, parkTimeNanos(0.95, 100_000, 10_000, 4));
+
+        // The more pages are dirty, the longer writers are parked.
+        long parkTime0 = parkTimeNanos(0.6, 100_000, 10_000, 1);
+        long parkTime1 = parkTimeNanos(0.8, 100_000, 10_000, 1);
+
+        assertTrue(parkTime0 > 0, "parkTime0=" + parkTime0);
+        assertTrue(parkTime1 > parkTime0, "parkTime0=" + parkTime0 + ", parkTime1=" + parkTime1);
+
+        assertEquals(MAX_PARK_TIME_NANOS, parkTimeNanos(1.0, 1_000_000, 1, 1));
+    }
+
+    @Test
+    void testOnMarkDirty() throws Exception {
+        CheckpointMetricsTracker tracker = mock(CheckpointMetricsTracker.class);
+
+        when(tracker.pagesWriteSpeed()).thenReturn(1L);
+
+        PagesWriteSpeedBasedThrottle throttle = new PagesWriteSpeedBasedThrottle(() -> 1.0, () -> tracker);
+
+        throttle.onMarkDirty();
+
+        assertEquals(0, throttle.throttleParkTimeNanos());
+
+        Thread.sleep(NANOSECONDS.toMillis(MEASUREMENT_INTERVAL_NANOS));
+
+        // Recalculates the park time and parks.
+        throttle.onMarkDirty();
+
+        assertEquals(MAX_PARK_TIME_NANOS, throttle.throttleParkTimeNanos());
+        assertEquals(1, throttle.throttledPages());
+        assertEquals(MAX_PARK_TIME_NANOS, throttle.totalThrottlingTimeNanos());
+        assertTrue(throttle.markDirtySpeed() > 1, "markDirtySpeed=" + throttle.markDirtySpeed());
+    }
+}
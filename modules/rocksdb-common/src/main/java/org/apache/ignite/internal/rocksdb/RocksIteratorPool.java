@@ -0,0 +1,215 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.rocksdb;
+
+import java.util.Deque;
+import java.util.concurrent.ConcurrentLinkedDeque;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.rocksdb.ReadOptions;
+import org.rocksdb.RocksDBException;
+import org.rocksdb.RocksIterator;
+
+/**
+ * Bounded pool of iterators over a column family, which refreshes an idle iterator on every use instead of creating a new one. Creation
+ * of an iterator allocates native objects and takes a number of JNI calls, which is noticeable for point reads.
+ *
+ * <p>Iterators of the pool have no bounds, they see all the data of the column family in the prefix seek mode, if the column family
+ * has a prefix extractor. An iterator is acquired by {@link #acquire()} and returned by {@link PooledIterator#close()}, possibly in
+ * another thread. The pool holds at most {@code maxSize} iterators, the ones acquired while all of them are in use are created for a
+ * single use and closed on return.
+ *
+ * <p>An idle iterator holds the version of the data it has been refreshed to, so the memtables and the files removed by compactions
+ * stay alive until it is used again. {@link #closeIdle()} closes the iterators that have been idle for longer than {@code maxIdleMillis},
+ * it is meant to be called periodically.
+ */
+public class RocksIteratorPool implements AutoCloseable {
+    /** Default maximum number of iterators in a pool. */
+    public static final int DEFAULT_MAX_SIZE = Runtime.getRuntime().availableProcessors();
+
+    /** Default time, in milliseconds, after which an idle iterator is closed by {@link #closeIdle()}. */
+    public static final long DEFAULT_MAX_IDLE_MILLIS = 10_000;
+
+    /** Column family. */
+    private final ColumnFamily columnFamily;
+
+    /** Maximum number of iterators in the pool. */
+    private final int maxSize;
+
+    /** Time, in nanoseconds, after which an idle iterator is closed by {@link #closeIdle()}. */
+    private final long maxIdleNanos;
+
+    /** Read options of the iterators. */
+    private final ReadOptions readOptions = new ReadOptions();
+
+    /** Idle iterators, the most recently used first. */
+    private final Deque<PooledIterator> idleIterators = new ConcurrentLinkedDeque<>();
+
+    /** Number of the iterators of the pool, both idle and acquired. */
+    private final AtomicInteger size = new AtomicInteger();
+
+    private volatile boolean closed;
+
+    /**
+     * Constructor of a pool with the default limits.
+     *
+     * @param columnFamily Column family.
+     */
+    public RocksIteratorPool(ColumnFamily columnFamily) {
+        this(columnFamily, DEFAULT_MAX_SIZE, DEFAULT_MAX_IDLE_MILLIS);
+    }
+
+    /**
+     * Constructor.
+     *
+     * @param columnFamily Column family.
+     * @param maxSize Maximum number of iterators in the pool.
+     * @param maxIdleMillis Time, in milliseconds, after which an idle iterator is closed by {@link #closeIdle()}.
+     */
+    public RocksIteratorPool(ColumnFamily columnFamily, int maxSize, long maxIdleMillis) {
+        assert maxSize > 0 : maxSize;
+        assert maxIdleMillis >= 0 : maxIdleMillis;
+
+        this.columnFamily = columnFamily;
+        this.maxSize = maxSize;
+        this.maxIdleNanos = TimeUnit.MILLISECONDS.toNanos(maxIdleMillis);
+    }
+
+    /**
+     * Returns an iterator that sees the latest data of the column family. The iterator is not positioned.
+     *
+     * @return Iterator, must be closed after use.
+     * @throws RocksDBException If failed to refresh the iterator.
+     */
+    public PooledIterator acquire() throws RocksDBException {
+        if (closed) {
+            throw new IllegalStateException("Iterator pool is closed: " + columnFamily.name());
+        }
+
+        PooledIterator pooled = idleIterators.pollFirst();
+
+        if (pooled != null) {
+            try {
+                pooled.it.refresh();
+            } catch (RocksDBException e) {
+                discard(pooled);
+
+                throw e;
+            }
+
+            return pooled;
+        }
+
+        boolean fitsPool = size.incrementAndGet() <= maxSize;
+
+        if (!fitsPool) {
+            size.decrementAndGet();
+        }
+
+        return new PooledIterator(this, columnFamily.newIterator(readOptions), fitsPool);
+    }
+
+    /** Closes the iterators that have been idle for longer than the configured time. */
+    public void closeIdle() {
+        long now = System.nanoTime();
+
+        for (PooledIterator pooled : idleIterators) {
+            // Removal fails if the iterator has just been acquired.
+            if (now - pooled.releaseNanos >= maxIdleNanos && idleIterators.remove(pooled)) {
+                discard(pooled);
+            }
+        }
+    }
+
+    /** Returns number of the iterators of the pool, both idle and acquired. */
+    int size() {
+        return size.get();
+    }
+
+    private void release(PooledIterator pooled) {
+        pooled.releaseNanos = System.nanoTime();
+
+        idleIterators.offerFirst(pooled);
+
+        if (closed) {
+            closeIdleIterators();
+        }
+    }
+
+    private void discard(PooledIterator pooled) {
+        size.decrementAndGet();
+
+        pooled.it.close();
+    }
+
+    private void closeIdleIterators() {
+        PooledIterator pooled;
+
+        while ((pooled = idleIterators.pollFirst()) != null) {
+            discard(pooled);
+        }
+    }
+
+    /** Closes the idle iterators of the pool, the acquired ones are closed on return. The pool must not be used concurrently. */
+    @Override
+    public void close() {
+        closed = true;
+
+        try {
+            closeIdleIterators();
+        } finally {
+            readOptions.close();
+        }
+    }
+
+    /**
+     * Iterator acquired from the pool.
+     */
+    public static final class PooledIterator implements AutoCloseable {
+        private final RocksIteratorPool pool;
+
+        private final RocksIterator it;
+
+        /** Whether the iterator belongs to the pool or has been created for a single use. */
+        private final boolean pooled;
+
+        /** Time, in nanoseconds, of the last return to the pool. */
+        private volatile long releaseNanos;
+
+        private PooledIterator(RocksIteratorPool pool, RocksIterator it, boolean pooled) {
+            this.pool = pool;
+            this.it = it;
+            this.pooled = pooled;
+        }
+
+        /** Returns the iterator. It must not be used after this object is closed. */
+        public RocksIterator iterator() {
+            return it;
+        }
+
+        /** Returns the iterator to the pool. */
+        @Override
+        public void close() {
+            if (pooled) {
+                pool.release(this);
+            } else {
+                it.close();
+            }
+        }
+    }
+}
@@ -0,0 +1,158 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.rocksdb;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import org.apache.ignite.internal.rocksdb.RocksIteratorPool.PooledIterator;
+import org.apache.ignite.internal.util.IgniteUtils;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.rocksdb.FlushOptions;
+import org.rocksdb.ReadOptions;
+import org.rocksdb.RocksDB;
+import org.rocksdb.RocksDBException;
+import org.rocksdb.RocksIterator;
+
+/**
+ * Benchmark of point reads through RocksDB iterators, created for every read or taken from a {@link RocksIteratorPool}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Threads(4)
+@Fork(1)
+public class RocksIteratorPoolBenchmark {
+    private static final int KEYS = 1_000_000;
+
+    private static final int VALUE_SIZE = 64;
+
+    /** Whether iterators are taken from the pool. */
+    @Param({"false", "true"})
+    public boolean pooled;
+
+    private Path dbPath;
+
+    private org.rocksdb.Options options;
+
+    private RocksDB db;
+
+    private ColumnFamily columnFamily;
+
+    private ReadOptions readOptions;
+
+    private RocksIteratorPool pool;
+
+    /**
+     * Creates the database and fills it with data.
+     */
+    @Setup
+    public void setUp() throws IOException, RocksDBException {
+        dbPath = Files.createTempDirectory("rocksdb-iterator-pool-benchmark");
+
+        options = new org.rocksdb.Options().setCreateIfMissing(true);
+
+        db = RocksDB.open(options, dbPath.toString());
+
+        columnFamily = ColumnFamily.wrap(db, db.getDefaultColumnFamily());
+
+        byte[] value = new byte[VALUE_SIZE];
+
+        for (int i = 0; i < KEYS; i++) {
+            db.put(key(i), value);
+        }
+
+        try (FlushOptions flushOptions = new FlushOptions().setWaitForFlush(true)) {
+            db.flush(flushOptions);
+        }
+
+        readOptions = new ReadOptions();
+
+        pool = new RocksIteratorPool(columnFamily);
+    }
+
+    /**
+     * Closes the database and removes its files.
+     */
+    @TearDown
+    public void tearDown() throws Exception {
+        IgniteUtils.closeAll(pool, readOptions, db, options);
+
+        IgniteUtils.deleteIfExists(dbPath);
+    }
+
+    /**
+     * Reads the value of a random key.
+     */
+    @Benchmark
+    public byte[] read() throws RocksDBException {
+        byte[] key = key(ThreadLocalRandom.current().nextInt(KEYS));
+
+        if (pooled) {
+            try (PooledIterator it = pool.acquire()) {
+                return read(it.iterator(), key);
+            }
+        } else {
+            try (RocksIterator it = columnFamily.newIterator(readOptions)) {
+                return read(it, key);
+            }
+        }
+    }
+
+    private static byte[] read(RocksIterator it, byte[] key) {
+        it.seek(key);
+
+        return it.value();
+    }
+
+    private static byte[] key(int i) {
+        return ByteBuffer.allocate(Integer.BYTES).putInt(i).array();
+    }
+
+    /**
+     * Runs the benchmark.
+     */
+    public static void main(String[] args) throws RunnerException {
+        Options opt = new OptionsBuilder()
+                .include(RocksIteratorPoolBenchmark.class.getSimpleName())
+                .build();
+
+        new Runner(opt).run();
+    }
+}
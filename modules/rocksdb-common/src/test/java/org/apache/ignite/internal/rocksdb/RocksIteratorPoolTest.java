@@ -0,0 +1,178 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.rocksdb;
+
+import static org.apache.ignite.internal.rocksdb.RocksIteratorPool.DEFAULT_MAX_IDLE_MILLIS;
+import static org.apache.ignite.internal.rocksdb.RocksIteratorPool.DEFAULT_MAX_SIZE;
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.nio.file.Path;
+import org.apache.ignite.internal.rocksdb.RocksIteratorPool.PooledIterator;
+import org.apache.ignite.internal.testframework.BaseIgniteAbstractTest;
+import org.apache.ignite.internal.testframework.WorkDirectory;
+import org.apache.ignite.internal.testframework.WorkDirectoryExtension;
+import org.apache.ignite.internal.util.IgniteUtils;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.rocksdb.Options;
+import org.rocksdb.RocksDB;
+import org.rocksdb.RocksDBException;
+import org.rocksdb.RocksIterator;
+
+/**
+ * Tests for {@link RocksIteratorPool}.
+ */
+@ExtendWith(WorkDirectoryExtension.class)
+class RocksIteratorPoolTest extends BaseIgniteAbstractTest {
+    private static final byte[] KEY = {1};
+
+    @WorkDirectory
+    private Path workDir;
+
+    private Options options;
+
+    private RocksDB db;
+
+    private RocksIteratorPool pool;
+
+    @BeforeEach
+    void setUp() throws RocksDBException {
+        options = new Options().setCreateIfMissing(true);
+
+        db = RocksDB.open(options, workDir.toString());
+
+        pool = new RocksIteratorPool(ColumnFamily.wrap(db, db.getDefaultColumnFamily()));
+    }
+
+    @AfterEach
+    void tearDown() throws Exception {
+        IgniteUtils.closeAll(pool, db, options);
+    }
+
+    @Test
+    void iteratorIsReusedAndRefreshed() throws RocksDBException {
+        RocksIterator it;
+
+        try (PooledIterator pooled = pool.acquire()) {
+            it = pooled.iterator();
+
+            it.seek(KEY);
+
+            assertFalse(it.isValid());
+        }
+
+        db.put(KEY, KEY);
+
+        try (PooledIterator pooled = pool.acquire()) {
+            assertSame(it, pooled.iterator());
+
+            it.seek(KEY);
+
+            assertTrue(it.isValid());
+            assertArrayEquals(KEY, it.key());
+        }
+    }
+
+    @Test
+    void nestedAcquisitionCreatesNewIterator() throws RocksDBException {
+        RocksIterator nestedIt;
+
+        try (PooledIterator pooled = pool.acquire()) {
+            try (PooledIterator nested = pool.acquire()) {
+                nestedIt = nested.iterator();
+
+                assertNotSame(pooled.iterator(), nestedIt);
+            }
+
+            assertTrue(nestedIt.isOwningHandle());
+            assertTrue(pooled.iterator().isOwningHandle());
+        }
+
+        assertEquals(2, pool.size());
+    }
+
+    @Test
+    void iteratorsBeyondMaxSizeAreClosedOnReturn() throws Exception {
+        pool.close();
+
+        pool = new RocksIteratorPool(ColumnFamily.wrap(db, db.getDefaultColumnFamily()), 1, DEFAULT_MAX_IDLE_MILLIS);
+
+        RocksIterator extraIt;
+
+        try (PooledIterator pooled = pool.acquire()) {
+            try (PooledIterator extra = pool.acquire()) {
+                extraIt = extra.iterator();
+            }
+
+            assertFalse(extraIt.isOwningHandle());
+            assertTrue(pooled.iterator().isOwningHandle());
+        }
+
+        assertEquals(1, pool.size());
+    }
+
+    @Test
+    void closeIdleClosesIteratorsIdleForTooLong() throws Exception {
+        pool.close();
+
+        pool = new RocksIteratorPool(ColumnFamily.wrap(db, db.getDefaultColumnFamily()), DEFAULT_MAX_SIZE, 0);
+
+        RocksIterator idleIt;
+
+        try (PooledIterator pooled = pool.acquire()) {
+            idleIt = pooled.iterator();
+
+            // Acquired iterators are not closed.
+            pool.closeIdle();
+
+            assertTrue(idleIt.isOwningHandle());
+        }
+
+        pool.closeIdle();
+
+        assertFalse(idleIt.isOwningHandle());
+        assertEquals(0, pool.size());
+
+        try (PooledIterator pooled = pool.acquire()) {
+            assertNotSame(idleIt, pooled.iterator());
+        }
+    }
+
+    @Test
+    void closeClosesIterators() throws RocksDBException {
+        RocksIterator it;
+
+        try (PooledIterator pooled = pool.acquire()) {
+            it = pooled.iterator();
+        }
+
+        pool.close();
+
+        assertFalse(it.isOwningHandle());
+
+        assertThrows(IllegalStateException.class, pool::acquire);
+    }
+}
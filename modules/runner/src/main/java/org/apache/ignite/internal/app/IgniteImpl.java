@@ -233,6 +233,11 @@ public class IgniteImpl implements Ignite {
      */
     private static final Path PARTITIONS_STORE_PATH = Paths.get("db");
 
+    /**
+     * Path for the temporary files of SQL operators spilling intermediate results to disk.
+     */
+    private static final Path SQL_SPILL_DIR = Paths.get("sql-spill");
+
     /** Ignite node name. */
     private final String name;
 
@@ -722,11 +727,13 @@ public class IgniteImpl implements Ignite {
                 clock,
                 schemaSyncService,
                 catalogManager,
+                metaStorageMgr,
                 metricManager,
                 systemViewManager,
                 placementDriverMgr.placementDriver(),
                 clusterConfigRegistry.getConfiguration(SqlDistributedConfiguration.KEY),
-                nodeConfigRegistry.getConfiguration(SqlLocalConfiguration.KEY)
+                nodeConfigRegistry.getConfiguration(SqlLocalConfiguration.KEY),
+                workDir.resolve(SQL_SPILL_DIR)
         );
 
         sql = new IgniteSqlImpl(name, qryEngine, new IgniteTransactionsImpl(txManager, observableTimestampTracker));
@@ -683,3 +683,16 @@ SqlNode SqlCommitTransaction() :
        return new IgniteSqlCommitTransaction(s.end(this));
     }
 }
+
+SqlNode SqlAnalyze() :
+{
+    final Span s;
+    final SqlIdentifier id;
+}
+{
+    <ANALYZE> { s = span(); }
+    [ <TABLE> ]
+    id = CompoundIdentifier() {
+        return new IgniteSqlAnalyze(s.end(this), id);
+    }
+}
@@ -28,4 +28,36 @@ public class SqlExecutionLocalConfigurationSchema {
     @Value(hasDefault = true)
     @Range(min = 1)
     public final int threadCount = 4;
+
+    /**
+     * Amount of memory, in bytes, a single buffering operator (e.g. sort) may hold before it starts spilling rows to disk.
+     * {@code 0} disables spilling.
+     */
+    @Value(hasDefault = true)
+    @Range(min = 0)
+    public final long spillThreshold = 64L * 1024 * 1024;
+
+    /**
+     * Amount of memory, in bytes, the buffers of all the queries running on the node may hold. A query which needs more is
+     * cancelled. {@code 0} means no limit.
+     */
+    @Value(hasDefault = true)
+    @Range(min = 0)
+    public final long memoryQuota = 0;
+
+    /**
+     * Amount of memory, in bytes, the buffers of a single query may hold on the node. A query which needs more is cancelled.
+     * {@code 0} means no limit.
+     */
+    @Value(hasDefault = true)
+    @Range(min = 0)
+    public final long queryMemoryQuota = 0;
+
+    /**
+     * Number of concurrent scans every partition of a table is split into by a full table scan. May be overridden for a single table
+     * scan with the SCAN_PARALLELISM hint.
+     */
+    @Value(hasDefault = true)
+    @Range(min = 1)
+    public final int scanParallelism = 1;
 }
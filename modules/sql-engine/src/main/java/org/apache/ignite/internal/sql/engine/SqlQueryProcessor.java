@@ -25,6 +25,7 @@ import static org.apache.ignite.internal.sql.engine.tx.ScriptTransactionContext.
 import static org.apache.ignite.internal.sql.engine.util.Commons.FRAMEWORK_CONFIG;
 import static org.apache.ignite.internal.table.distributed.storage.InternalTableImpl.AWAIT_PRIMARY_REPLICA_TIMEOUT;
 import static org.apache.ignite.internal.util.CollectionUtils.nullOrEmpty;
+import static org.apache.ignite.internal.util.CompletableFutures.falseCompletedFuture;
 import static org.apache.ignite.internal.util.CompletableFutures.nullCompletedFuture;
 import static org.apache.ignite.internal.util.ExceptionUtils.withCause;
 import static org.apache.ignite.lang.ErrorGroups.Common.NODE_STOPPING_ERR;
@@ -32,6 +33,7 @@ import static org.apache.ignite.lang.ErrorGroups.Replicator.REPLICA_UNAVAILABLE_
 import static org.apache.ignite.lang.ErrorGroups.Sql.EXECUTION_CANCELLED_ERR;
 import static org.apache.ignite.lang.ErrorGroups.Sql.STMT_VALIDATION_ERR;
 
+import java.nio.file.Path;
 import java.time.ZoneId;
 import java.util.ArrayList;
 import java.util.Arrays;
@@ -55,6 +57,12 @@ import java.util.stream.Collectors;
 import org.apache.calcite.schema.SchemaPlus;
 import org.apache.calcite.tools.Frameworks;
 import org.apache.ignite.internal.catalog.CatalogManager;
+import org.apache.ignite.internal.catalog.descriptors.CatalogIndexDescriptor;
+import org.apache.ignite.internal.catalog.events.CatalogEvent;
+import org.apache.ignite.internal.catalog.events.CatalogEventParameters;
+import org.apache.ignite.internal.catalog.events.CreateIndexEventParameters;
+import org.apache.ignite.internal.catalog.events.IndexEventParameters;
+import org.apache.ignite.internal.catalog.events.TableEventParameters;
 import org.apache.ignite.internal.cluster.management.topology.api.LogicalTopologyService;
 import org.apache.ignite.internal.hlc.HybridClock;
 import org.apache.ignite.internal.hlc.HybridTimestamp;
@@ -62,6 +70,7 @@ import org.apache.ignite.internal.lang.IgniteInternalException;
 import org.apache.ignite.internal.lang.NodeStoppingException;
 import org.apache.ignite.internal.logger.IgniteLogger;
 import org.apache.ignite.internal.logger.Loggers;
+import org.apache.ignite.internal.metastorage.MetaStorageManager;
 import org.apache.ignite.internal.metrics.MetricManager;
 import org.apache.ignite.internal.network.ClusterService;
 import org.apache.ignite.internal.placementdriver.PlacementDriver;
@@ -90,6 +99,8 @@ import org.apache.ignite.internal.sql.engine.exec.mapping.ExecutionTarget;
 import org.apache.ignite.internal.sql.engine.exec.mapping.ExecutionTargetFactory;
 import org.apache.ignite.internal.sql.engine.exec.mapping.ExecutionTargetProvider;
 import org.apache.ignite.internal.sql.engine.exec.mapping.MappingServiceImpl;
+import org.apache.ignite.internal.sql.engine.exec.memory.MemoryTracker;
+import org.apache.ignite.internal.sql.engine.exec.spill.SpillManager;
 import org.apache.ignite.internal.sql.engine.message.MessageServiceImpl;
 import org.apache.ignite.internal.sql.engine.prepare.PrepareService;
 import org.apache.ignite.internal.sql.engine.prepare.PrepareServiceImpl;
@@ -105,6 +116,7 @@ import org.apache.ignite.internal.sql.engine.schema.SqlSchemaManagerImpl;
 import org.apache.ignite.internal.sql.engine.sql.ParsedResult;
 import org.apache.ignite.internal.sql.engine.sql.ParserService;
 import org.apache.ignite.internal.sql.engine.sql.ParserServiceImpl;
+import org.apache.ignite.internal.sql.engine.statistic.SqlStatisticManagerImpl;
 import org.apache.ignite.internal.sql.engine.trait.IgniteDistributions;
 import org.apache.ignite.internal.sql.engine.tx.QueryTransactionContext;
 import org.apache.ignite.internal.sql.engine.tx.QueryTransactionWrapper;
@@ -114,6 +126,8 @@ import org.apache.ignite.internal.sql.engine.util.TypeUtils;
 import org.apache.ignite.internal.sql.engine.util.cache.CacheFactory;
 import org.apache.ignite.internal.sql.engine.util.cache.CaffeineCacheFactory;
 import org.apache.ignite.internal.sql.metrics.SqlClientMetricSource;
+import org.apache.ignite.internal.sql.metrics.SqlMemoryMetricSource;
+import org.apache.ignite.internal.sql.metrics.SqlSpillMetricSource;
 import org.apache.ignite.internal.storage.DataStorageManager;
 import org.apache.ignite.internal.systemview.api.SystemViewManager;
 import org.apache.ignite.internal.table.distributed.TableManager;
@@ -163,6 +177,22 @@ public class SqlQueryProcessor implements QueryProcessor {
 
     private static final long EXECUTION_SERVICE_SHUTDOWN_TIMEOUT = 60_000;
 
+    /** Events of the catalog that create a new version of the catalog, which the query plans are cached for. */
+    private static final List<CatalogEvent> PLAN_AFFECTING_EVENTS = List.of(
+            CatalogEvent.TABLE_CREATE,
+            CatalogEvent.TABLE_DROP,
+            CatalogEvent.TABLE_ALTER,
+            CatalogEvent.INDEX_CREATE,
+            CatalogEvent.INDEX_BUILDING,
+            CatalogEvent.INDEX_AVAILABLE,
+            CatalogEvent.INDEX_STOPPING,
+            CatalogEvent.INDEX_REMOVED,
+            CatalogEvent.ZONE_CREATE,
+            CatalogEvent.ZONE_DROP,
+            CatalogEvent.ZONE_ALTER,
+            CatalogEvent.SYSTEM_VIEW_CREATE
+    );
+
     private final ParserService parserService = new ParserServiceImpl(
             PARSED_RESULT_CACHE_SIZE, CACHE_FACTORY
     );
@@ -191,6 +221,8 @@ public class SqlQueryProcessor implements QueryProcessor {
 
     private final SqlSchemaManager sqlSchemaManager;
 
+    private final SqlStatisticManagerImpl sqlStatisticManager;
+
     private final SystemViewManager systemViewManager;
 
     private volatile QueryTaskExecutor taskExecutor;
@@ -221,6 +253,9 @@ public class SqlQueryProcessor implements QueryProcessor {
     /** Node SQL configuration. */
     private final SqlLocalConfiguration nodeCfg;
 
+    /** Directory for temporary files of the operators spilling intermediate results to disk. */
+    private final Path spillDir;
+
     /** Constructor. */
     public SqlQueryProcessor(
             Consumer<LongFunction<CompletableFuture<?>>> registry,
@@ -234,11 +269,13 @@ public class SqlQueryProcessor implements QueryProcessor {
             HybridClock clock,
             SchemaSyncService schemaSyncService,
             CatalogManager catalogManager,
+            MetaStorageManager metaStorageManager,
             MetricManager metricManager,
             SystemViewManager systemViewManager,
             PlacementDriver placementDriver,
             SqlDistributedConfiguration clusterCfg,
-            SqlLocalConfiguration nodeCfg
+            SqlLocalConfiguration nodeCfg,
+            Path spillDir
     ) {
         this.clusterSrvc = clusterSrvc;
         this.logicalTopologyService = logicalTopologyService;
@@ -255,9 +292,20 @@ public class SqlQueryProcessor implements QueryProcessor {
         this.placementDriver = placementDriver;
         this.clusterCfg = clusterCfg;
         this.nodeCfg = nodeCfg;
+        this.spillDir = spillDir;
+
+        sqlStatisticManager = new SqlStatisticManagerImpl(
+                clusterSrvc.nodeName(),
+                catalogManager,
+                tableManager,
+                schemaManager,
+                metaStorageManager,
+                clock
+        );
 
         sqlSchemaManager = new SqlSchemaManagerImpl(
                 catalogManager,
+                sqlStatisticManager,
                 CACHE_FACTORY,
                 SCHEMA_CACHE_SIZE
         );
@@ -270,10 +318,23 @@ public class SqlQueryProcessor implements QueryProcessor {
 
         taskExecutor = registerService(new QueryTaskExecutorImpl(nodeName, nodeCfg.execution().threadCount().value()));
         var mailboxRegistry = registerService(new MailboxRegistryImpl());
+        registerService(sqlStatisticManager);
 
         SqlClientMetricSource sqlClientMetricSource = new SqlClientMetricSource(openedCursors::size);
         metricManager.registerSource(sqlClientMetricSource);
 
+        SqlSpillMetricSource sqlSpillMetricSource = new SqlSpillMetricSource();
+        metricManager.registerSource(sqlSpillMetricSource);
+
+        var spillManager = registerService(new SpillManager(
+                spillDir,
+                nodeCfg.execution().spillThreshold().value(),
+                sqlSpillMetricSource
+        ));
+
+        MemoryTracker memoryTracker = MemoryTracker.root("node " + nodeName, nodeCfg.execution().memoryQuota().value());
+        metricManager.registerSource(new SqlMemoryMetricSource(memoryTracker));
+
         var prepareSvc = registerService(PrepareServiceImpl.create(
                 nodeName,
                 CACHE_FACTORY,
@@ -281,9 +342,18 @@ public class SqlQueryProcessor implements QueryProcessor {
                 dataStorageFieldsSupplier.get(),
                 metricManager,
                 clusterCfg,
-                nodeCfg
+                nodeCfg,
+                sqlSchemaManager
         ));
 
+        systemViewManager.register(prepareSvc);
+
+        for (CatalogEvent event : PLAN_AFFECTING_EVENTS) {
+            catalogManager.listen(event, parameters -> onCatalogChange(prepareSvc, parameters));
+        }
+
+        sqlStatisticManager.listen(tableId -> onStatisticsChange(prepareSvc, tableId));
+
         var msgSrvc = registerService(new MessageServiceImpl(
                 nodeName,
                 clusterSrvc.messagingService(),
@@ -298,7 +368,7 @@ public class SqlQueryProcessor implements QueryProcessor {
 
         this.prepareSvc = prepareSvc;
 
-        var ddlCommandHandler = new DdlCommandHandler(catalogManager);
+        var ddlCommandHandler = new DdlCommandHandler(catalogManager, sqlStatisticManager);
 
         var executableTableRegistry = new ExecutableTableRegistryImpl(
                 tableManager, schemaManager, sqlSchemaManager, replicaService, clock, TABLE_CACHE_SIZE
@@ -361,6 +431,10 @@ public class SqlQueryProcessor implements QueryProcessor {
                 mappingService,
                 executableTableRegistry,
                 dependencyResolver,
+                spillManager,
+                memoryTracker,
+                nodeCfg.execution().queryMemoryQuota().value(),
+                nodeCfg.execution().scanParallelism().value(),
                 EXECUTION_SERVICE_SHUTDOWN_TIMEOUT
         ));
 
@@ -374,6 +448,57 @@ public class SqlQueryProcessor implements QueryProcessor {
         return nullCompletedFuture();
     }
 
+    private CompletableFuture<Boolean> onCatalogChange(PrepareServiceImpl prepareSvc, CatalogEventParameters parameters) {
+        if (!busyLock.enterBusy()) {
+            return falseCompletedFuture();
+        }
+
+        try {
+            prepareSvc.onCatalogChange(parameters.catalogVersion(), changedTableId(parameters));
+        } finally {
+            busyLock.leaveBusy();
+        }
+
+        return falseCompletedFuture();
+    }
+
+    private void onStatisticsChange(PrepareServiceImpl prepareSvc, int tableId) {
+        if (!busyLock.enterBusy()) {
+            return;
+        }
+
+        try {
+            prepareSvc.onStatisticsChange(tableId);
+        } finally {
+            busyLock.leaveBusy();
+        }
+    }
+
+    private int changedTableId(CatalogEventParameters parameters) {
+        if (parameters instanceof TableEventParameters) {
+            return ((TableEventParameters) parameters).tableId();
+        }
+
+        if (parameters instanceof CreateIndexEventParameters) {
+            return ((CreateIndexEventParameters) parameters).indexDescriptor().tableId();
+        }
+
+        if (parameters instanceof IndexEventParameters) {
+            int indexId = ((IndexEventParameters) parameters).indexId();
+
+            // A removed index is only present in the previous version of the catalog.
+            CatalogIndexDescriptor index = catalogManager.index(indexId, parameters.catalogVersion());
+
+            if (index == null) {
+                index = catalogManager.index(indexId, parameters.catalogVersion() - 1);
+            }
+
+            return index == null ? PrepareServiceImpl.NO_TABLE : index.tableId();
+        }
+
+        return PrepareServiceImpl.NO_TABLE;
+    }
+
     // need to be refactored after TODO: https://issues.apache.org/jira/browse/IGNITE-20925
     /** Get primary replicas. */
     private CompletableFuture<List<NodeWithConsistencyToken>> primaryReplicas(IgniteTable table) {
@@ -428,6 +553,8 @@ public class SqlQueryProcessor implements QueryProcessor {
         openedCursors.clear();
 
         metricManager.unregisterSource(SqlClientMetricSource.NAME);
+        metricManager.unregisterSource(SqlSpillMetricSource.NAME);
+        metricManager.unregisterSource(SqlMemoryMetricSource.NAME);
 
         List<LifecycleAware> services = new ArrayList<>(this.services);
 
@@ -0,0 +1,96 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.sql.engine.exec;
+
+import java.nio.ByteBuffer;
+import java.util.List;
+import org.apache.ignite.internal.binarytuple.BinaryTupleParser;
+import org.apache.ignite.internal.schema.BinaryTuple;
+import org.apache.ignite.internal.sql.engine.exec.RowHandler.RowFactory;
+
+/**
+ * Packs a batch of rows into a single buffer of {@link BinaryTuple binary tuples} and unpacks it back.
+ *
+ * <p>Every row is framed as the number of elements and the size of the tuple followed by the tuple itself. Unpacked
+ * rows are views over the slices of the batch buffer, so the batch is not copied on the receiving side until
+ * a row is materialized by an operator.
+ */
+public final class BinaryTupleBatch {
+    /** Size of the frame header: number of elements and size of a tuple. */
+    private static final int HEADER_SIZE = 2 * Integer.BYTES;
+
+    private BinaryTupleBatch() {
+    }
+
+    /**
+     * Packs the given rows into a single buffer.
+     *
+     * @param handler Row handler.
+     * @param rows Rows to pack.
+     * @return Buffer containing the batch.
+     */
+    public static <RowT> ByteBuffer pack(RowHandler<RowT> handler, List<RowT> rows) {
+        BinaryTuple[] tuples = new BinaryTuple[rows.size()];
+        int size = 0;
+
+        for (int i = 0; i < tuples.length; i++) {
+            tuples[i] = handler.toBinaryTuple(rows.get(i));
+
+            size += HEADER_SIZE + tuples[i].byteBuffer().remaining();
+        }
+
+        ByteBuffer batch = ByteBuffer.allocate(size).order(BinaryTupleParser.ORDER);
+
+        for (BinaryTuple tuple : tuples) {
+            ByteBuffer buf = tuple.byteBuffer();
+
+            batch.putInt(tuple.elementCount());
+            batch.putInt(buf.remaining());
+            batch.put(buf);
+        }
+
+        return batch.flip();
+    }
+
+    /**
+     * Unpacks rows from the given batch. The rows share the memory of the batch buffer.
+     *
+     * @param batch Buffer containing the batch.
+     * @param factory Factory to create rows from the tuples.
+     * @param out List to add the rows to.
+     * @return Number of unpacked rows.
+     */
+    public static <RowT> int unpack(ByteBuffer batch, RowFactory<RowT> factory, List<RowT> out) {
+        ByteBuffer buf = batch.duplicate().order(BinaryTupleParser.ORDER);
+        int cnt = 0;
+
+        while (buf.hasRemaining()) {
+            int elementCount = buf.getInt();
+            int size = buf.getInt();
+
+            ByteBuffer tuple = buf.slice().limit(size).order(BinaryTupleParser.ORDER);
+
+            out.add(factory.create(new BinaryTuple(elementCount, tuple)));
+
+            buf.position(buf.position() + size);
+            cnt++;
+        }
+
+        return cnt;
+    }
+}
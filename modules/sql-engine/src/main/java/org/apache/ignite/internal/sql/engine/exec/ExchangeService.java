@@ -17,12 +17,11 @@
 
 package org.apache.ignite.internal.sql.engine.exec;
 
-import java.util.List;
+import java.nio.ByteBuffer;
 import java.util.UUID;
 import java.util.concurrent.CompletableFuture;
 import org.apache.ignite.internal.sql.engine.exec.rel.Inbox;
 import org.apache.ignite.internal.sql.engine.exec.rel.Outbox;
-import org.apache.ignite.internal.table.distributed.replication.request.BinaryTupleMessage;
 import org.jetbrains.annotations.Nullable;
 
 /**
@@ -43,12 +42,12 @@ public interface ExchangeService extends LifecycleAware {
      * @param exchangeId The ID of the exchange through which the data will be sent.
      * @param batchId The ID of the batch to which the data belongs.
      * @param last Indicates whether this is the last batch of data to be sent.
-     * @param rows The data to be sent.
+     * @param rows The data to be sent, packed by {@link BinaryTupleBatch}.
      * @return A {@link CompletableFuture future} representing the result of operation,
      *      which completes when the data has been sent.
      */
     CompletableFuture<Void> sendBatch(String nodeName, UUID queryId, long fragmentId, long exchangeId, int batchId, boolean last,
-            List<BinaryTupleMessage> rows);
+            ByteBuffer rows);
 
     /**
      * Asynchronously requests data from the specified node.
@@ -59,11 +58,12 @@ public interface ExchangeService extends LifecycleAware {
      * @param exchangeId The ID of the exchange through which the data will be requested.
      * @param amountOfBatches The number of batches of data to request.
      * @param state The state to propagate to the remote node, or null if state is not changed or not required.
+     * @param filter The filter of the rows to propagate to the remote node, or null if the rows are not filtered.
      * @return A {@link CompletableFuture future} representing the result of operation,
      *      which completes when the request message has been sent.
      */
     CompletableFuture<Void> request(String nodeName, UUID queryId, long fragmentId, long exchangeId, int amountOfBatches,
-            @Nullable SharedState state);
+            @Nullable SharedState state, @Nullable RuntimeFilter filter);
 
     /**
      * Asynchronously sends an error message to the specified node.
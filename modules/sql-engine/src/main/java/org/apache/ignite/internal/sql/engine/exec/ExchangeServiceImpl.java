@@ -20,7 +20,7 @@ package org.apache.ignite.internal.sql.engine.exec;
 import static org.apache.ignite.internal.lang.IgniteStringFormatter.format;
 import static org.apache.ignite.lang.ErrorGroups.Common.INTERNAL_ERR;
 
-import java.util.List;
+import java.nio.ByteBuffer;
 import java.util.UUID;
 import java.util.concurrent.CompletableFuture;
 import java.util.function.Consumer;
@@ -35,7 +35,6 @@ import org.apache.ignite.internal.sql.engine.message.QueryBatchMessage;
 import org.apache.ignite.internal.sql.engine.message.QueryBatchRequestMessage;
 import org.apache.ignite.internal.sql.engine.message.SqlQueryMessageGroup;
 import org.apache.ignite.internal.sql.engine.message.SqlQueryMessagesFactory;
-import org.apache.ignite.internal.table.distributed.replication.request.BinaryTupleMessage;
 import org.apache.ignite.internal.util.ExceptionUtils;
 import org.apache.ignite.lang.TraceableException;
 import org.jetbrains.annotations.Nullable;
@@ -76,7 +75,7 @@ public class ExchangeServiceImpl implements ExchangeService {
     /** {@inheritDoc} */
     @Override
     public CompletableFuture<Void> sendBatch(String nodeName, UUID qryId, long fragmentId, long exchangeId, int batchId,
-            boolean last, List<BinaryTupleMessage> rows) {
+            boolean last, ByteBuffer rows) {
 
         return messageService.send(
                 nodeName,
@@ -94,7 +93,7 @@ public class ExchangeServiceImpl implements ExchangeService {
     /** {@inheritDoc} */
     @Override
     public CompletableFuture<Void> request(String nodeName, UUID queryId, long fragmentId, long exchangeId, int amountOfBatches,
-            @Nullable SharedState state) {
+            @Nullable SharedState state, @Nullable RuntimeFilter filter) {
         return messageService.send(
                 nodeName,
                 FACTORY.queryBatchRequestMessage()
@@ -103,6 +102,7 @@ public class ExchangeServiceImpl implements ExchangeService {
                         .exchangeId(exchangeId)
                         .amountOfBatches(amountOfBatches)
                         .sharedState(state)
+                        .runtimeFilter(filter)
                         .build()
         );
     }
@@ -145,6 +145,12 @@ public class ExchangeServiceImpl implements ExchangeService {
                 if (state != null) {
                     outbox.onRewindRequest(nodeName, state, msg.amountOfBatches());
                 } else {
+                    RuntimeFilter filter = msg.runtimeFilter();
+
+                    if (filter != null) {
+                        outbox.onRuntimeFilter(nodeName, filter);
+                    }
+
                     outbox.onRequest(nodeName, msg.amountOfBatches());
                 }
             } catch (Throwable e) {
@@ -43,6 +43,7 @@ import org.apache.ignite.internal.sql.engine.exec.exp.ExpressionFactory;
 import org.apache.ignite.internal.sql.engine.exec.exp.ExpressionFactoryImpl;
 import org.apache.ignite.internal.sql.engine.exec.mapping.ColocationGroup;
 import org.apache.ignite.internal.sql.engine.exec.mapping.FragmentDescription;
+import org.apache.ignite.internal.sql.engine.exec.memory.MemoryTracker;
 import org.apache.ignite.internal.sql.engine.type.IgniteTypeFactory;
 import org.apache.ignite.internal.sql.engine.util.TypeUtils;
 import org.apache.ignite.network.ClusterNode;
@@ -87,6 +88,8 @@ public class ExecutionContext<RowT> implements DataContext {
 
     private final ZoneId timeZoneId;
 
+    private final MemoryTracker memoryTracker;
+
     private SharedState sharedState = new SharedState();
 
     /**
@@ -101,6 +104,7 @@ public class ExecutionContext<RowT> implements DataContext {
      * @param params Parameters.
      * @param txAttributes Transaction attributes.
      * @param timeZoneId Session time zone ID.
+     * @param memoryTracker Tracker of the memory held by the fragment.
      */
     @SuppressWarnings("AssignmentOrReturnOfFieldWithMutableType")
     public ExecutionContext(
@@ -112,7 +116,8 @@ public class ExecutionContext<RowT> implements DataContext {
             RowHandler<RowT> handler,
             Map<String, Object> params,
             TxAttributes txAttributes,
-            ZoneId timeZoneId
+            ZoneId timeZoneId,
+            MemoryTracker memoryTracker
     ) {
         this.executor = executor;
         this.qryId = qryId;
@@ -123,6 +128,7 @@ public class ExecutionContext<RowT> implements DataContext {
         this.originatingNodeName = originatingNodeName;
         this.txAttributes = txAttributes;
         this.timeZoneId = timeZoneId;
+        this.memoryTracker = memoryTracker;
 
         expressionFactory = new ExpressionFactoryImpl<>(
                 this,
@@ -190,6 +196,13 @@ public class ExecutionContext<RowT> implements DataContext {
         return handler;
     }
 
+    /**
+     * Get tracker of the memory held by the fragment.
+     */
+    public MemoryTracker memoryTracker() {
+        return memoryTracker;
+    }
+
     /**
      * Get expression factory.
      */
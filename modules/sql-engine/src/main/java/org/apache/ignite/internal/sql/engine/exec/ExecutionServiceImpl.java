@@ -77,9 +77,11 @@ import org.apache.ignite.internal.sql.engine.exec.mapping.FragmentDescription;
 import org.apache.ignite.internal.sql.engine.exec.mapping.MappedFragment;
 import org.apache.ignite.internal.sql.engine.exec.mapping.MappingParameters;
 import org.apache.ignite.internal.sql.engine.exec.mapping.MappingService;
+import org.apache.ignite.internal.sql.engine.exec.memory.MemoryTracker;
 import org.apache.ignite.internal.sql.engine.exec.rel.AbstractNode;
 import org.apache.ignite.internal.sql.engine.exec.rel.AsyncRootNode;
 import org.apache.ignite.internal.sql.engine.exec.rel.Outbox;
+import org.apache.ignite.internal.sql.engine.exec.spill.SpillManager;
 import org.apache.ignite.internal.sql.engine.message.ErrorMessage;
 import org.apache.ignite.internal.sql.engine.message.MessageService;
 import org.apache.ignite.internal.sql.engine.message.QueryCloseMessage;
@@ -161,6 +163,12 @@ public class ExecutionServiceImpl<RowT> implements ExecutionService, TopologyEve
 
     private final long shutdownTimeout;
 
+    /** Tracker of the memory held by all the queries running on the node. */
+    private final MemoryTracker memoryTracker;
+
+    /** Amount of memory, in bytes, a single query may hold on the node. {@code 0} means no limit. */
+    private final long queryMemoryQuota;
+
     /**
      * Creates the execution services.
      *
@@ -172,6 +180,10 @@ public class ExecutionServiceImpl<RowT> implements ExecutionService, TopologyEve
      * @param handler Row handler.
      * @param mailboxRegistry Mailbox registry.
      * @param exchangeSrvc Exchange service.
+     * @param spillManager Spill manager, {@code null} if operators must keep all intermediate rows in memory.
+     * @param memoryTracker Tracker of the memory held by all the queries running on the node.
+     * @param queryMemoryQuota Amount of memory, in bytes, a single query may hold on the node. {@code 0} means no limit.
+     * @param scanParallelism Number of concurrent scans every partition of a table is split into by default.
      * @param <RowT> Type of the sql row.
      * @return An execution service.
      */
@@ -187,6 +199,10 @@ public class ExecutionServiceImpl<RowT> implements ExecutionService, TopologyEve
             MappingService mappingService,
             ExecutableTableRegistry tableRegistry,
             ExecutionDependencyResolver dependencyResolver,
+            @Nullable SpillManager spillManager,
+            MemoryTracker memoryTracker,
+            long queryMemoryQuota,
+            int scanParallelism,
             long shutdownTimeout
     ) {
         return new ExecutionServiceImpl<>(
@@ -203,7 +219,11 @@ public class ExecutionServiceImpl<RowT> implements ExecutionService, TopologyEve
                         ctx,
                         mailboxRegistry,
                         exchangeSrvc,
-                        deps),
+                        deps,
+                        spillManager,
+                        scanParallelism),
+                memoryTracker,
+                queryMemoryQuota,
                 shutdownTimeout
         );
     }
@@ -219,6 +239,8 @@ public class ExecutionServiceImpl<RowT> implements ExecutionService, TopologyEve
      * @param taskExecutor Task executor.
      * @param handler Row handler.
      * @param implementorFactory Relational node implementor factory.
+     * @param memoryTracker Tracker of the memory held by all the queries running on the node.
+     * @param queryMemoryQuota Amount of memory, in bytes, a single query may hold on the node. {@code 0} means no limit.
      */
     public ExecutionServiceImpl(
             MessageService messageService,
@@ -231,6 +253,8 @@ public class ExecutionServiceImpl<RowT> implements ExecutionService, TopologyEve
             ExecutableTableRegistry tableRegistry,
             ExecutionDependencyResolver dependencyResolver,
             ImplementorFactory<RowT> implementorFactory,
+            MemoryTracker memoryTracker,
+            long queryMemoryQuota,
             long shutdownTimeout
     ) {
         this.localNode = topSrvc.localMember();
@@ -244,6 +268,8 @@ public class ExecutionServiceImpl<RowT> implements ExecutionService, TopologyEve
         this.tableRegistry = tableRegistry;
         this.dependencyResolver = dependencyResolver;
         this.implementorFactory = implementorFactory;
+        this.memoryTracker = memoryTracker;
+        this.queryMemoryQuota = queryMemoryQuota;
         this.shutdownTimeout = shutdownTimeout;
     }
 
@@ -337,6 +363,8 @@ public class ExecutionServiceImpl<RowT> implements ExecutionService, TopologyEve
             ExecutablePlan plan,
             @Nullable QueryPrefetchCallback callback
     ) {
+        MemoryTracker queryMemoryTracker = memoryTracker.child("query " + ctx.queryId(), queryMemoryQuota);
+
         ExecutionContext<RowT> ectx = new ExecutionContext<>(
                 taskExecutor,
                 ctx.queryId(),
@@ -346,10 +374,33 @@ public class ExecutionServiceImpl<RowT> implements ExecutionService, TopologyEve
                 handler,
                 Commons.parametersMap(ctx.parameters()),
                 TxAttributes.fromTx(tx),
-                ctx.timeZoneId()
+                ctx.timeZoneId(),
+                queryMemoryTracker
         );
 
-        return plan.execute(ectx, tx, tableRegistry, callback);
+        AsyncCursor<InternalSqlRow> cursor = plan.execute(ectx, tx, tableRegistry, callback);
+
+        // The plan is executed as soon as the cursor is exhausted, failed or closed, whatever is still reserved by then
+        // is released back to the node.
+        return new AsyncCursor<>() {
+            @Override
+            public CompletableFuture<BatchedResult<InternalSqlRow>> requestNextAsync(int rows) {
+                CompletableFuture<BatchedResult<InternalSqlRow>> fut = cursor.requestNextAsync(rows);
+
+                fut.whenComplete((batch, ex) -> {
+                    if (ex != null || !batch.hasMore()) {
+                        queryMemoryTracker.close();
+                    }
+                });
+
+                return fut;
+            }
+
+            @Override
+            public CompletableFuture<Void> closeAsync() {
+                return cursor.closeAsync().whenComplete((ignored, ex) -> queryMemoryTracker.close());
+            }
+        };
     }
 
     private AsyncCursor<InternalSqlRow> executeDdl(DdlPlan plan, @Nullable QueryPrefetchCallback callback) {
@@ -666,6 +717,9 @@ public class ExecutionServiceImpl<RowT> implements ExecutionService, TopologyEve
 
         private volatile Long rootFragmentId = null;
 
+        /** Tracker of the memory held by the fragments of the query running on the local node. */
+        private final MemoryTracker memoryTracker;
+
         private DistributedQueryManager(
                 String coordinatorNodeName,
                 boolean coordinator,
@@ -674,6 +728,7 @@ public class ExecutionServiceImpl<RowT> implements ExecutionService, TopologyEve
             this.ctx = ctx;
             this.coordinator = coordinator;
             this.coordinatorNodeName = coordinatorNodeName;
+            this.memoryTracker = ExecutionServiceImpl.this.memoryTracker.child("query " + ctx.queryId(), queryMemoryQuota);
 
             if (coordinator) {
                 var root = new CompletableFuture<AsyncRootNode<RowT, InternalSqlRow>>();
@@ -803,7 +858,8 @@ public class ExecutionServiceImpl<RowT> implements ExecutionService, TopologyEve
                     handler,
                     Commons.parametersMap(ctx.parameters()),
                     txAttributes,
-                    ctx.timeZoneId()
+                    ctx.timeZoneId(),
+                    memoryTracker.child("fragment " + desc.fragmentId(), 0)
             );
         }
 
@@ -1105,6 +1161,9 @@ public class ExecutionServiceImpl<RowT> implements ExecutionService, TopologyEve
 
                 queryManagerMap.remove(ctx.queryId());
 
+                // Fragments release their buffers on close, the rest is released here in case of failures.
+                memoryTracker.close();
+
                 try {
                     ctx.cancel().cancel();
                 } catch (Exception th) {
@@ -1112,7 +1171,12 @@ public class ExecutionServiceImpl<RowT> implements ExecutionService, TopologyEve
                 }
 
                 cancelFut.complete(null);
-            }).thenRun(() -> localFragments.forEach(f -> f.context().cancel()));
+            }).thenRun(() -> localFragments.forEach(f -> {
+                f.context().cancel();
+
+                // All the fragments are closed by now, release whatever their operators failed to release.
+                f.context().memoryTracker().close();
+            }));
 
             start.completeAsync(() -> null, taskExecutor);
 
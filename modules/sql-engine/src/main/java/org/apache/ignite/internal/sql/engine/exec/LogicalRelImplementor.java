@@ -35,6 +35,7 @@ import java.util.function.Supplier;
 import org.apache.calcite.plan.RelOptUtil;
 import org.apache.calcite.rel.RelCollation;
 import org.apache.calcite.rel.RelNode;
+import org.apache.calcite.rel.core.JoinInfo;
 import org.apache.calcite.rel.core.JoinRelType;
 import org.apache.calcite.rel.core.Minus;
 import org.apache.calcite.rel.core.Spool;
@@ -58,6 +59,7 @@ import org.apache.ignite.internal.sql.engine.exec.rel.CorrelatedNestedLoopJoinNo
 import org.apache.ignite.internal.sql.engine.exec.rel.DataSourceScanNode;
 import org.apache.ignite.internal.sql.engine.exec.rel.FilterNode;
 import org.apache.ignite.internal.sql.engine.exec.rel.HashAggregateNode;
+import org.apache.ignite.internal.sql.engine.exec.rel.HashJoinNode;
 import org.apache.ignite.internal.sql.engine.exec.rel.Inbox;
 import org.apache.ignite.internal.sql.engine.exec.rel.IndexScanNode;
 import org.apache.ignite.internal.sql.engine.exec.rel.IndexSpoolNode;
@@ -77,11 +79,13 @@ import org.apache.ignite.internal.sql.engine.exec.rel.TableScanNode;
 import org.apache.ignite.internal.sql.engine.exec.rel.TableSpoolNode;
 import org.apache.ignite.internal.sql.engine.exec.rel.UnionAllNode;
 import org.apache.ignite.internal.sql.engine.exec.row.RowSchema;
+import org.apache.ignite.internal.sql.engine.exec.spill.SpillManager;
 import org.apache.ignite.internal.sql.engine.prepare.bounds.SearchBounds;
 import org.apache.ignite.internal.sql.engine.rel.IgniteCorrelatedNestedLoopJoin;
 import org.apache.ignite.internal.sql.engine.rel.IgniteExchange;
 import org.apache.ignite.internal.sql.engine.rel.IgniteFilter;
 import org.apache.ignite.internal.sql.engine.rel.IgniteHashIndexSpool;
+import org.apache.ignite.internal.sql.engine.rel.IgniteHashJoin;
 import org.apache.ignite.internal.sql.engine.rel.IgniteIndexScan;
 import org.apache.ignite.internal.sql.engine.rel.IgniteKeyValueGet;
 import org.apache.ignite.internal.sql.engine.rel.IgniteKeyValueModify;
@@ -125,6 +129,7 @@ import org.apache.ignite.internal.sql.engine.trait.IgniteDistribution;
 import org.apache.ignite.internal.sql.engine.trait.TraitUtils;
 import org.apache.ignite.internal.sql.engine.type.IgniteTypeFactory;
 import org.apache.ignite.internal.sql.engine.util.Commons;
+import org.jetbrains.annotations.Nullable;
 
 /**
  * Implements a query plan.
@@ -146,6 +151,11 @@ public class LogicalRelImplementor<RowT> implements IgniteRelVisitor<Node<RowT>>
 
     private final ResolvedDependencies resolvedDependencies;
 
+    private final @Nullable SpillManager spillManager;
+
+    /** Number of concurrent scans every partition of a table is split into, unless a query hint says otherwise. */
+    private final int scanParallelism;
+
     /**
      * Constructor.
      *
@@ -159,10 +169,52 @@ public class LogicalRelImplementor<RowT> implements IgniteRelVisitor<Node<RowT>>
             MailboxRegistry mailboxRegistry,
             ExchangeService exchangeSvc,
             ResolvedDependencies resolvedDependencies) {
+        this(ctx, mailboxRegistry, exchangeSvc, resolvedDependencies, null);
+    }
+
+    /**
+     * Constructor.
+     *
+     * @param ctx Root context.
+     * @param mailboxRegistry Mailbox registry.
+     * @param exchangeSvc Exchange service.
+     * @param resolvedDependencies Dependencies required to execute this query.
+     * @param spillManager Spill manager, {@code null} if operators must keep all intermediate rows in memory.
+     */
+    public LogicalRelImplementor(
+            ExecutionContext<RowT> ctx,
+            MailboxRegistry mailboxRegistry,
+            ExchangeService exchangeSvc,
+            ResolvedDependencies resolvedDependencies,
+            @Nullable SpillManager spillManager) {
+        this(ctx, mailboxRegistry, exchangeSvc, resolvedDependencies, spillManager, 1);
+    }
+
+    /**
+     * Constructor.
+     *
+     * @param ctx Root context.
+     * @param mailboxRegistry Mailbox registry.
+     * @param exchangeSvc Exchange service.
+     * @param resolvedDependencies Dependencies required to execute this query.
+     * @param spillManager Spill manager, {@code null} if operators must keep all intermediate rows in memory.
+     * @param scanParallelism Number of concurrent scans every partition of a table is split into by default.
+     */
+    public LogicalRelImplementor(
+            ExecutionContext<RowT> ctx,
+            MailboxRegistry mailboxRegistry,
+            ExchangeService exchangeSvc,
+            ResolvedDependencies resolvedDependencies,
+            @Nullable SpillManager spillManager,
+            int scanParallelism) {
+        assert scanParallelism > 0 : scanParallelism;
+
         this.mailboxRegistry = mailboxRegistry;
         this.exchangeSvc = exchangeSvc;
         this.ctx = ctx;
         this.resolvedDependencies = resolvedDependencies;
+        this.spillManager = spillManager;
+        this.scanParallelism = scanParallelism;
 
         expressionFactory = ctx.expressionFactory();
         destinationFactory = new DestinationFactory<>(ctx.rowHandler(), resolvedDependencies);
@@ -339,6 +391,31 @@ public class LogicalRelImplementor<RowT> implements IgniteRelVisitor<Node<RowT>>
         return node;
     }
 
+    /** {@inheritDoc} */
+    @Override
+    public Node<RowT> visit(IgniteHashJoin rel) {
+        RelDataType leftType = rel.getLeft().getRowType();
+        RelDataType rightType = rel.getRight().getRowType();
+
+        RelDataType rowType = combinedRowType(ctx.getTypeFactory(), leftType, rightType);
+        BiPredicate<RowT, RowT> cond = expressionFactory.biPredicate(rel.getCondition(), rowType);
+
+        JoinInfo joinInfo = rel.analyzeCondition();
+
+        RowFactory<RowT> leftRowFactory = ctx.rowHandler().factory(rowSchemaFromRelTypes(RelOptUtil.getFieldTypeList(leftType)));
+        RowFactory<RowT> rightRowFactory = ctx.rowHandler().factory(rowSchemaFromRelTypes(RelOptUtil.getFieldTypeList(rightType)));
+
+        Node<RowT> node = new HashJoinNode<>(ctx, rel.getJoinType(), cond, joinInfo.leftKeys.toIntArray(),
+                joinInfo.rightKeys.toIntArray(), leftRowFactory, rightRowFactory, spillManager);
+
+        Node<RowT> leftInput = visit(rel.getLeft());
+        Node<RowT> rightInput = visit(rel.getRight());
+
+        node.register(asList(leftInput, rightInput));
+
+        return node;
+    }
+
     /** {@inheritDoc} */
     @Override
     public Node<RowT> visit(IgniteIndexScan rel) {
@@ -449,7 +526,8 @@ public class LogicalRelImplementor<RowT> implements IgniteRelVisitor<Node<RowT>>
                 partitions,
                 filters,
                 prj,
-                requiredColumns == null ? null : requiredColumns.toBitSet()
+                requiredColumns == null ? null : requiredColumns.toBitSet(),
+                rel.parallelism() > 0 ? rel.parallelism() : scanParallelism
         );
     }
 
@@ -530,8 +608,12 @@ public class LogicalRelImplementor<RowT> implements IgniteRelVisitor<Node<RowT>>
         Supplier<Integer> offset = (rel.offset == null) ? null : expressionFactory.execute(rel.offset);
         Supplier<Integer> fetch = (rel.fetch == null) ? null : expressionFactory.execute(rel.fetch);
 
+        RelDataType rowType = rel.getRowType();
+        RowSchema rowSchema = rowSchemaFromRelTypes(RelOptUtil.getFieldTypeList(rowType));
+        RowFactory<RowT> rowFactory = ctx.rowHandler().factory(rowSchema);
+
         SortNode<RowT> node = new SortNode<>(ctx, expressionFactory.comparator(collation), offset,
-                fetch);
+                fetch, spillManager, rowFactory);
 
         Node<RowT> input = visit(rel.getInput());
 
@@ -706,8 +788,10 @@ public class LogicalRelImplementor<RowT> implements IgniteRelVisitor<Node<RowT>>
 
         RowSchema rowSchema = rowSchemaFromRelTypes(RelOptUtil.getFieldTypeList(rowType));
         RowFactory<RowT> rowFactory = ctx.rowHandler().factory(rowSchema);
+        RowSchema inputSchema = rowSchemaFromRelTypes(RelOptUtil.getFieldTypeList(inputType));
 
-        HashAggregateNode<RowT> node = new HashAggregateNode<>(ctx, type, rel.getGroupSets(), accFactory, rowFactory);
+        HashAggregateNode<RowT> node = new HashAggregateNode<>(ctx, type, rel.getGroupSets(), accFactory, rowFactory,
+                inputSchema, spillManager);
 
         Node<RowT> input = visit(rel.getInput());
 
@@ -729,8 +813,10 @@ public class LogicalRelImplementor<RowT> implements IgniteRelVisitor<Node<RowT>>
 
         RowSchema rowSchema = rowSchemaFromRelTypes(RelOptUtil.getFieldTypeList(rowType));
         RowFactory<RowT> rowFactory = ctx.rowHandler().factory(rowSchema);
+        RowSchema inputSchema = rowSchemaFromRelTypes(RelOptUtil.getFieldTypeList(inputType));
 
-        HashAggregateNode<RowT> node = new HashAggregateNode<>(ctx, type, rel.getGroupSets(), accFactory, rowFactory);
+        HashAggregateNode<RowT> node = new HashAggregateNode<>(ctx, type, rel.getGroupSets(), accFactory, rowFactory,
+                inputSchema, spillManager);
 
         Node<RowT> input = visit(rel.getInput());
 
@@ -745,14 +831,17 @@ public class LogicalRelImplementor<RowT> implements IgniteRelVisitor<Node<RowT>>
         AggregateType type = AggregateType.REDUCE;
 
         RelDataType rowType = rel.getRowType();
+        RelDataType inputType = rel.getInput().getRowType();
 
         Supplier<List<AccumulatorWrapper<RowT>>> accFactory = expressionFactory.accumulatorsFactory(
                 type, rel.getAggregateCalls(), null);
 
         RowSchema rowSchema = rowSchemaFromRelTypes(RelOptUtil.getFieldTypeList(rowType));
         RowFactory<RowT> rowFactory = ctx.rowHandler().factory(rowSchema);
+        RowSchema inputSchema = rowSchemaFromRelTypes(RelOptUtil.getFieldTypeList(inputType));
 
-        HashAggregateNode<RowT> node = new HashAggregateNode<>(ctx, type, rel.getGroupSets(), accFactory, rowFactory);
+        HashAggregateNode<RowT> node = new HashAggregateNode<>(ctx, type, rel.getGroupSets(), accFactory, rowFactory,
+                inputSchema, spillManager);
 
         Node<RowT> input = visit(rel.getInput());
 
@@ -845,6 +934,7 @@ public class LogicalRelImplementor<RowT> implements IgniteRelVisitor<Node<RowT>>
         AggregateType type = AggregateType.REDUCE;
 
         RelDataType rowType = rel.getRowType();
+        RelDataType inputType = rel.getInput().getRowType();
 
         Supplier<List<AccumulatorWrapper<RowT>>> accFactory = expressionFactory.accumulatorsFactory(
                 type,
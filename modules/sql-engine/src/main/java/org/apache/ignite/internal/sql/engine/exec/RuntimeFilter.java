@@ -0,0 +1,209 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.ignite.internal.sql.engine.exec;
+
+import java.io.Serializable;
+import java.math.BigDecimal;
+import org.apache.ignite.internal.sql.engine.exec.exp.agg.GroupKey;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * A filter of the rows of the probe side of a hash join, built from the keys of the build side.
+ *
+ * <p>The join passes the filter to the remote fragments producing its probe side, thus the rows which have no match
+ * are dropped before they are serialized and sent over the network. The filter consists of a bloom filter over the
+ * hashes of the keys and, for a single key, of the range of its values. It may let through a row that has no match,
+ * but never drops a row that has one.
+ */
+public class RuntimeFilter implements Serializable {
+    private static final long serialVersionUID = -6320587316937394711L;
+
+    /** Number of bits per key. Together with {@link #HASH_FUNCTIONS} gives about 1% of false positives. */
+    private static final int BITS_PER_KEY = 10;
+
+    private static final int HASH_FUNCTIONS = 4;
+
+    /** Indexes of the key columns of the filtered rows. */
+    private final int[] keys;
+
+    private final long[] bits;
+
+    private final @Nullable Object min;
+
+    private final @Nullable Object max;
+
+    private RuntimeFilter(int[] keys, long[] bits, @Nullable Object min, @Nullable Object max) {
+        this.keys = keys;
+        this.bits = bits;
+        this.min = min;
+        this.max = max;
+    }
+
+    /**
+     * Creates a builder of the filter.
+     *
+     * @param keys Indexes of the key columns of the rows to filter.
+     * @param expectedKeys Expected number of distinct keys of the build side.
+     * @return Builder.
+     */
+    public static Builder builder(int[] keys, int expectedKeys) {
+        return new Builder(keys, expectedKeys);
+    }
+
+    /**
+     * Checks whether the row may have a match on the build side.
+     *
+     * @param handler Handler of the row.
+     * @param row Row.
+     * @return {@code false} if the row definitely has no match.
+     */
+    public <RowT> boolean test(RowHandler<RowT> handler, RowT row) {
+        Object first = normalize(handler.get(keys[0], row));
+
+        if (min != null && !inRange(first)) {
+            return false;
+        }
+
+        // Same as the hash of a group key built from the normalized values.
+        int hash = 31 + (first == null ? 0 : first.hashCode());
+
+        for (int i = 1; i < keys.length; i++) {
+            Object val = normalize(handler.get(keys[i], row));
+
+            hash = 31 * hash + (val == null ? 0 : val.hashCode());
+        }
+
+        return mightContain(hash);
+    }
+
+    /**
+     * Brings values that are equal in terms of SQL, but not in terms of {@link Object#equals(Object)},
+     * to the same representation.
+     *
+     * <p>A hash join must compare the keys in the same representation to have the filter consistent with the join.
+     */
+    public static @Nullable Object normalize(@Nullable Object val) {
+        if (val instanceof BigDecimal) {
+            BigDecimal dec = (BigDecimal) val;
+
+            return dec.signum() == 0 ? BigDecimal.ZERO : dec.stripTrailingZeros();
+        } else if (val instanceof Double && (Double) val == 0.0d) {
+            return 0.0d;
+        } else if (val instanceof Float && (Float) val == 0.0f) {
+            return 0.0f;
+        }
+
+        return val;
+    }
+
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    private boolean inRange(@Nullable Object val) {
+        assert min != null && max != null;
+
+        if (val == null || val.getClass() != min.getClass()) {
+            return true;
+        }
+
+        return ((Comparable) min).compareTo(val) <= 0 && ((Comparable) max).compareTo(val) >= 0;
+    }
+
+    private boolean mightContain(int hash) {
+        long h = spread(hash);
+        int mask = bits.length * Long.SIZE - 1;
+
+        for (int i = 0; i < HASH_FUNCTIONS; i++) {
+            int bit = ((int) h + i * (int) (h >>> 32)) & mask;
+
+            if ((bits[bit >>> 6] & (1L << bit)) == 0) {
+                return false;
+            }
+        }
+
+        return true;
+    }
+
+    private static long spread(int hash) {
+        long h = hash * 0x9E3779B97F4A7C15L;
+
+        return h ^ (h >>> 29);
+    }
+
+    /** Builder of the filter. */
+    public static class Builder {
+        private final int[] keys;
+
+        private final long[] bits;
+
+        private @Nullable Object min;
+
+        private @Nullable Object max;
+
+        /** Whether the range of the values is tracked, possible for a single key of a comparable type only. */
+        private boolean range;
+
+        private Builder(int[] keys, int expectedKeys) {
+            this.keys = keys;
+
+            long bitsCnt = Math.max(Long.SIZE, Long.highestOneBit(Math.max(1L, (long) expectedKeys * BITS_PER_KEY) * 2 - 1));
+
+            bits = new long[(int) (bitsCnt / Long.SIZE)];
+            range = keys.length == 1;
+        }
+
+        /**
+         * Adds a key of the build side.
+         *
+         * @param key Key built from the {@link #normalize(Object) normalized} values.
+         * @return {@code this} for chaining.
+         */
+        @SuppressWarnings({"unchecked", "rawtypes"})
+        public Builder add(GroupKey key) {
+            assert key.fieldsCount() == keys.length;
+
+            long h = spread(key.hashCode());
+            int mask = bits.length * Long.SIZE - 1;
+
+            for (int i = 0; i < HASH_FUNCTIONS; i++) {
+                int bit = ((int) h + i * (int) (h >>> 32)) & mask;
+
+                bits[bit >>> 6] |= 1L << bit;
+            }
+
+            Object val = key.field(0);
+
+            if (range && val != null) {
+                if (!(val instanceof Comparable) || (min != null && min.getClass() != val.getClass())) {
+                    range = false;
+                    min = max = null;
+                } else if (min == null) {
+                    min = max = val;
+                } else if (((Comparable) min).compareTo(val) > 0) {
+                    min = val;
+                } else if (((Comparable) max).compareTo(val) < 0) {
+                    max = val;
+                }
+            }
+
+            return this;
+        }
+
+        /** Builds the filter. */
+        public RuntimeFilter build() {
+            return new RuntimeFilter(keys, bits, range ? min : null, range ? max : null);
+        }
+    }
+}
@@ -48,6 +48,32 @@ public interface ScannableTable {
             @Nullable BitSet requiredColumns
     );
 
+    /**
+     * Performs a scan over a table partition split into disjoint slices of roughly the same size, so a partition may be read by
+     * several concurrent scans.
+     *
+     * <p>The default implementation doesn't split partitions and returns a single scan of the whole partition.
+     *
+     * @param ctx  Execution context.
+     * @param partWithConsistencyToken  Partition.
+     * @param rowFactory  Row factory.
+     * @param requiredColumns  Required columns.
+     * @param slices  Maximal number of slices.
+     * @return  Publishers producing the rows of the slices, at least one and at most {@code slices}.
+     * @param <RowT>  A type of row.
+     */
+    default <RowT> List<Publisher<RowT>> scanSlices(
+            ExecutionContext<RowT> ctx,
+            PartitionWithConsistencyToken partWithConsistencyToken,
+            RowFactory<RowT> rowFactory,
+            @Nullable BitSet requiredColumns,
+            int slices
+    ) {
+        assert slices > 0 : slices;
+
+        return List.of(scan(ctx, partWithConsistencyToken, rowFactory, requiredColumns));
+    }
+
     /**
      * Performs range scan using the given index.
      *
@@ -21,8 +21,10 @@ import static org.apache.ignite.internal.lang.IgniteStringFormatter.format;
 import static org.apache.ignite.internal.storage.index.SortedIndexStorage.GREATER_OR_EQUAL;
 import static org.apache.ignite.internal.storage.index.SortedIndexStorage.LESS_OR_EQUAL;
 
+import java.util.ArrayList;
 import java.util.BitSet;
 import java.util.List;
+import java.util.UUID;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.Flow.Publisher;
 import org.apache.ignite.internal.hlc.HybridTimestamp;
@@ -32,6 +34,8 @@ import org.apache.ignite.internal.schema.BinaryTuple;
 import org.apache.ignite.internal.schema.BinaryTuplePrefix;
 import org.apache.ignite.internal.sql.engine.exec.RowHandler.RowFactory;
 import org.apache.ignite.internal.sql.engine.exec.exp.RangeCondition;
+import org.apache.ignite.internal.storage.MvPartitionStorage;
+import org.apache.ignite.internal.storage.RowId;
 import org.apache.ignite.internal.table.InternalTable;
 import org.apache.ignite.internal.tx.InternalTransaction;
 import org.apache.ignite.internal.util.subscription.TransformingPublisher;
@@ -90,6 +94,78 @@ public class ScannableTableImpl implements ScannableTable {
         return new TransformingPublisher<>(pub, item -> rowConverter.toRow(ctx, item, rowFactory));
     }
 
+    /**
+     * {@inheritDoc}
+     *
+     * <p>Slices are ranges of row IDs. The range of row IDs stored in the local replica of the partition is split into ranges of
+     * equal width, so the slices are of roughly the same size whether the row IDs are random or ordered by insertion time. The bounds
+     * are chosen once for all the slices, so the slices never overlap nor miss a row.
+     */
+    @Override
+    public <RowT> List<Publisher<RowT>> scanSlices(
+            ExecutionContext<RowT> ctx,
+            PartitionWithConsistencyToken partWithConsistencyToken,
+            RowFactory<RowT> rowFactory,
+            @Nullable BitSet requiredColumns,
+            int slices
+    ) {
+        assert slices > 0 : slices;
+
+        List<UUID> bounds = slices == 1 ? List.of() : sliceBounds(partWithConsistencyToken.partId(), slices);
+
+        if (bounds.isEmpty()) {
+            return List.of(scan(ctx, partWithConsistencyToken, rowFactory, requiredColumns));
+        }
+
+        List<Publisher<RowT>> publishers = new ArrayList<>(bounds.size() + 1);
+
+        for (int i = 0; i <= bounds.size(); i++) {
+            UUID lowerRowId = i == 0 ? null : bounds.get(i - 1);
+            UUID upperRowId = i == bounds.size() ? null : bounds.get(i);
+
+            publishers.add(scan(ctx, partWithConsistencyToken, rowFactory, requiredColumns, lowerRowId, upperRowId));
+        }
+
+        return publishers;
+    }
+
+    private <RowT> Publisher<RowT> scan(
+            ExecutionContext<RowT> ctx,
+            PartitionWithConsistencyToken partWithConsistencyToken,
+            RowFactory<RowT> rowFactory,
+            @Nullable BitSet requiredColumns,
+            @Nullable UUID lowerRowId,
+            @Nullable UUID upperRowId
+    ) {
+        Publisher<BinaryRow> pub;
+        TxAttributes txAttributes = ctx.txAttributes();
+
+        if (txAttributes.readOnly()) {
+            HybridTimestamp readTime = txAttributes.time();
+
+            assert readTime != null;
+
+            pub = internalTable.scan(partWithConsistencyToken.partId(), txAttributes.id(), readTime, ctx.localNode(),
+                    lowerRowId, upperRowId, txAttributes.coordinatorId());
+        } else {
+            PrimaryReplica recipient = new PrimaryReplica(ctx.localNode(), partWithConsistencyToken.enlistmentConsistencyToken());
+
+            pub = internalTable.scan(
+                    partWithConsistencyToken.partId(),
+                    txAttributes.id(),
+                    txAttributes.commitPartition(),
+                    txAttributes.coordinatorId(),
+                    recipient,
+                    lowerRowId,
+                    upperRowId
+            );
+        }
+
+        TableRowConverter rowConverter = converterFactory.create(requiredColumns);
+
+        return new TransformingPublisher<>(pub, item -> rowConverter.toRow(ctx, item, rowFactory));
+    }
+
     /** {@inheritDoc} */
     @Override
     public <RowT> Publisher<RowT> indexRangeScan(
@@ -234,6 +310,43 @@ public class ScannableTableImpl implements ScannableTable {
                 });
     }
 
+    /**
+     * Splits the range of row IDs stored in the local replica of the partition into slices of equal width.
+     *
+     * @param partId Partition ID.
+     * @param slices Maximal number of slices.
+     * @return Inner bounds of the slices in ascending order, empty if the partition is not split.
+     */
+    private List<UUID> sliceBounds(int partId, int slices) {
+        MvPartitionStorage partition = internalTable.storage().getMvPartition(partId);
+
+        if (partition == null) {
+            return List.of();
+        }
+
+        RowId lowest = partition.closestRowId(RowId.lowestRowId(partId));
+        RowId highest = partition.highestRowId();
+
+        if (lowest == null || highest == null) {
+            return List.of();
+        }
+
+        // Row IDs are ordered by the signed most significant bits first, the difference fits into an unsigned long.
+        long step = Long.divideUnsigned(highest.mostSignificantBits() - lowest.mostSignificantBits(), slices);
+
+        if (step == 0) {
+            return List.of();
+        }
+
+        List<UUID> bounds = new ArrayList<>(slices - 1);
+
+        for (int i = 1; i < slices; i++) {
+            bounds.add(new UUID(lowest.mostSignificantBits() + step * i, Long.MIN_VALUE));
+        }
+
+        return bounds;
+    }
+
     private static <RowT> @Nullable BinaryTuplePrefix toBinaryTuplePrefix(
             int searchBoundSize,
             RowHandler<RowT> handler,
@@ -32,11 +32,14 @@ import org.apache.ignite.internal.catalog.IndexExistsValidationException;
 import org.apache.ignite.internal.catalog.IndexNotFoundValidationException;
 import org.apache.ignite.internal.catalog.TableExistsValidationException;
 import org.apache.ignite.internal.catalog.TableNotFoundValidationException;
+import org.apache.ignite.internal.catalog.descriptors.CatalogSchemaDescriptor;
+import org.apache.ignite.internal.catalog.descriptors.CatalogTableDescriptor;
 import org.apache.ignite.internal.sql.engine.prepare.ddl.AlterColumnCommand;
 import org.apache.ignite.internal.sql.engine.prepare.ddl.AlterTableAddCommand;
 import org.apache.ignite.internal.sql.engine.prepare.ddl.AlterTableDropCommand;
 import org.apache.ignite.internal.sql.engine.prepare.ddl.AlterZoneRenameCommand;
 import org.apache.ignite.internal.sql.engine.prepare.ddl.AlterZoneSetCommand;
+import org.apache.ignite.internal.sql.engine.prepare.ddl.AnalyzeTableCommand;
 import org.apache.ignite.internal.sql.engine.prepare.ddl.CreateIndexCommand;
 import org.apache.ignite.internal.sql.engine.prepare.ddl.CreateTableCommand;
 import org.apache.ignite.internal.sql.engine.prepare.ddl.CreateZoneCommand;
@@ -44,17 +47,21 @@ import org.apache.ignite.internal.sql.engine.prepare.ddl.DdlCommand;
 import org.apache.ignite.internal.sql.engine.prepare.ddl.DropIndexCommand;
 import org.apache.ignite.internal.sql.engine.prepare.ddl.DropTableCommand;
 import org.apache.ignite.internal.sql.engine.prepare.ddl.DropZoneCommand;
+import org.apache.ignite.internal.sql.engine.statistic.SqlStatisticManager;
 import org.apache.ignite.sql.SqlException;
 
 /** DDL commands handler. */
 public class DdlCommandHandler {
     private final CatalogManager catalogManager;
 
+    private final SqlStatisticManager statisticManager;
+
     /**
      * Constructor.
      */
-    public DdlCommandHandler(CatalogManager catalogManager) {
+    public DdlCommandHandler(CatalogManager catalogManager, SqlStatisticManager statisticManager) {
         this.catalogManager = catalogManager;
+        this.statisticManager = statisticManager;
     }
 
     /** Handles ddl commands. */
@@ -81,6 +88,8 @@ public class DdlCommandHandler {
             return handleAlterZone((AlterZoneSetCommand) cmd);
         } else if (cmd instanceof DropZoneCommand) {
             return handleDropZone((DropZoneCommand) cmd);
+        } else if (cmd instanceof AnalyzeTableCommand) {
+            return handleAnalyzeTable((AnalyzeTableCommand) cmd);
         } else {
             return failedFuture(new SqlException(STMT_VALIDATION_ERR, "Unsupported DDL operation ["
                     + "cmdName=" + (cmd == null ? null : cmd.getClass().getSimpleName()) + "; "
@@ -150,6 +159,19 @@ public class DdlCommandHandler {
                 .handle(handleModificationResult(cmd.ifTableExists(), TableNotFoundValidationException.class));
     }
 
+    /** Handles analyze table command. */
+    private CompletableFuture<Boolean> handleAnalyzeTable(AnalyzeTableCommand cmd) {
+        CatalogSchemaDescriptor schema = catalogManager.schema(cmd.schemaName(), catalogManager.latestCatalogVersion());
+        CatalogTableDescriptor table = schema == null ? null : schema.table(cmd.tableName());
+
+        if (table == null) {
+            return failedFuture(new TableNotFoundValidationException(
+                    "Table with name '" + cmd.schemaName() + "." + cmd.tableName() + "' not found"));
+        }
+
+        return statisticManager.analyze(table.id()).thenApply(unused -> true);
+    }
+
     private static BiFunction<Object, Throwable, Boolean> handleModificationResult(boolean ignoreExpectedError, Class<?> expErrCls) {
         return (val, err) -> {
             if (err == null) {
@@ -0,0 +1,200 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.sql.engine.exec.exp.agg;
+
+import java.util.Arrays;
+import java.util.function.BiConsumer;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Hash table of groups keyed by the binary form of a group key.
+ *
+ * <p>The table uses open addressing with linear probing over plain arrays, so a group costs a reference to the
+ * key bytes, a cached hash and a reference to the value, instead of a map entry, a {@link GroupKey} and an array of
+ * boxed fields.
+ *
+ * <p>The table is meant to be filled first and then drained with {@link #poll(BiConsumer)}. Lookups and insertions
+ * are not allowed while the table is being drained.
+ *
+ * @param <V> Type of the value.
+ */
+public class GroupTable<V> {
+    private static final int DEFAULT_CAPACITY = 64;
+
+    /** Approximate amount of memory occupied by a single slot of the table, in bytes. */
+    private static final int SLOT_SIZE = Integer.BYTES + 2 * 8;
+
+    private byte[][] keys;
+
+    private int[] hashes;
+
+    private Object[] vals;
+
+    private int size;
+
+    /** Position to continue draining from. */
+    private int drainPos;
+
+    /** Constructor. */
+    public GroupTable() {
+        init(DEFAULT_CAPACITY);
+    }
+
+    /**
+     * Returns the value mapped to the given key.
+     *
+     * @param key Binary form of the key.
+     * @param hash Hash of the key, see {@link #hash(byte[])}.
+     * @return Value or {@code null} if the key is absent.
+     */
+    @SuppressWarnings("unchecked")
+    public @Nullable V get(byte[] key, int hash) {
+        assert drainPos == 0 : "The table is being drained";
+
+        int mask = keys.length - 1;
+
+        for (int slot = hash & mask; keys[slot] != null; slot = (slot + 1) & mask) {
+            if (hashes[slot] == hash && Arrays.equals(keys[slot], key)) {
+                return (V) vals[slot];
+            }
+        }
+
+        return null;
+    }
+
+    /**
+     * Maps the value to the given key. The key must not be present in the table.
+     *
+     * @param key Binary form of the key.
+     * @param hash Hash of the key, see {@link #hash(byte[])}.
+     * @param val Value.
+     */
+    public void put(byte[] key, int hash, V val) {
+        assert drainPos == 0 : "The table is being drained";
+
+        if ((size + 1) * 4L > keys.length * 3L) {
+            resize();
+        }
+
+        insert(key, hash, val);
+
+        size++;
+    }
+
+    /**
+     * Removes an arbitrary entry from the table and passes it to the given consumer.
+     *
+     * @param consumer Consumer of the key and the value of the entry.
+     * @return {@code false} if the table is empty.
+     */
+    @SuppressWarnings("unchecked")
+    public boolean poll(BiConsumer<byte[], V> consumer) {
+        if (size == 0) {
+            return false;
+        }
+
+        while (keys[drainPos] == null) {
+            drainPos++;
+        }
+
+        byte[] key = keys[drainPos];
+        V val = (V) vals[drainPos];
+
+        keys[drainPos] = null;
+        vals[drainPos] = null;
+
+        if (--size == 0) {
+            // All the slots are empty again, so the table may be reused.
+            drainPos = 0;
+        }
+
+        consumer.accept(key, val);
+
+        return true;
+    }
+
+    /** Returns number of entries in the table. */
+    public int size() {
+        return size;
+    }
+
+    /** Returns {@code true} if the table has no entries. */
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /** Removes all the entries and releases the memory held by the table. */
+    public void clear() {
+        init(DEFAULT_CAPACITY);
+    }
+
+    /** Returns amount of memory occupied by the slots of the table, in bytes, not including keys and values. */
+    public long slotsSize() {
+        return (long) keys.length * SLOT_SIZE;
+    }
+
+    /**
+     * Computes a hash of the binary form of a key.
+     *
+     * @param key Binary form of the key.
+     * @return Hash.
+     */
+    public static int hash(byte[] key) {
+        int h = Arrays.hashCode(key);
+
+        // Spread the bits, since the lower bits pick a slot.
+        return h ^ (h >>> 16);
+    }
+
+    private void init(int capacity) {
+        keys = new byte[capacity][];
+        hashes = new int[capacity];
+        vals = new Object[capacity];
+        size = 0;
+        drainPos = 0;
+    }
+
+    private void resize() {
+        byte[][] oldKeys = keys;
+        int[] oldHashes = hashes;
+        Object[] oldVals = vals;
+
+        keys = new byte[oldKeys.length << 1][];
+        hashes = new int[keys.length];
+        vals = new Object[keys.length];
+
+        for (int i = 0; i < oldKeys.length; i++) {
+            if (oldKeys[i] != null) {
+                insert(oldKeys[i], oldHashes[i], oldVals[i]);
+            }
+        }
+    }
+
+    private void insert(byte[] key, int hash, Object val) {
+        int mask = keys.length - 1;
+        int slot = hash & mask;
+
+        while (keys[slot] != null) {
+            slot = (slot + 1) & mask;
+        }
+
+        keys[slot] = key;
+        hashes[slot] = hash;
+        vals[slot] = val;
+    }
+}
@@ -36,6 +36,7 @@ import org.apache.ignite.internal.sql.engine.rel.IgniteCorrelatedNestedLoopJoin;
 import org.apache.ignite.internal.sql.engine.rel.IgniteExchange;
 import org.apache.ignite.internal.sql.engine.rel.IgniteFilter;
 import org.apache.ignite.internal.sql.engine.rel.IgniteHashIndexSpool;
+import org.apache.ignite.internal.sql.engine.rel.IgniteHashJoin;
 import org.apache.ignite.internal.sql.engine.rel.IgniteIndexScan;
 import org.apache.ignite.internal.sql.engine.rel.IgniteKeyValueGet;
 import org.apache.ignite.internal.sql.engine.rel.IgniteKeyValueModify;
@@ -163,6 +164,11 @@ class FragmentMapper {
             return mapBiRel(rel);
         }
 
+        @Override
+        public Mapping visit(IgniteHashJoin rel) {
+            return mapBiRel(rel);
+        }
+
         @Override
         public Mapping visit(IgniteIndexScan rel) {
             return mapTableScan(rel.sourceId(), rel);
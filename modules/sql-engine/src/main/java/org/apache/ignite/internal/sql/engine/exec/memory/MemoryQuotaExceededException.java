@@ -0,0 +1,42 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.sql.engine.exec.memory;
+
+import static org.apache.ignite.lang.ErrorGroups.Sql.EXECUTION_CANCELLED_ERR;
+
+import org.apache.ignite.lang.IgniteException;
+
+/**
+ * The exception is thrown if a query is cancelled because its buffers exceed the memory quota.
+ */
+public class MemoryQuotaExceededException extends IgniteException {
+    private static final long serialVersionUID = 0L;
+
+    /**
+     * Constructor.
+     *
+     * @param trackerName Name of the tracker the quota of which is exceeded.
+     * @param limit Quota, in bytes.
+     * @param reserved Amount of memory, in bytes, reserved at the moment.
+     * @param requested Amount of memory, in bytes, that was requested.
+     */
+    public MemoryQuotaExceededException(String trackerName, long limit, long reserved, long requested) {
+        super(EXECUTION_CANCELLED_ERR, "The query was cancelled due to exceeding the memory quota [tracker=" + trackerName
+                + ", quota=" + limit + ", reserved=" + reserved + ", requested=" + requested + ']');
+    }
+}
@@ -0,0 +1,211 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.sql.engine.exec.memory;
+
+import java.util.concurrent.atomic.AtomicLong;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Tracks amount of memory held by the buffers of the queries being executed.
+ *
+ * <p>Trackers form a hierarchy: the node tracker is the parent of the trackers of the queries running on the node,
+ * a query tracker is the parent of the trackers of the fragments of the query, and a fragment tracker is shared by
+ * the {@link OperatorMemoryTracker operators} of the fragment. A reservation is accounted on every level, and fails
+ * with {@link MemoryQuotaExceededException} if it exceeds the limit of any of them.
+ *
+ * <p>The tracker is thread-safe.
+ */
+public class MemoryTracker {
+    /** Value of {@link #reserved} of a closed tracker. */
+    private static final long CLOSED = Long.MIN_VALUE;
+
+    private final @Nullable MemoryTracker parent;
+
+    private final String name;
+
+    /** Maximal amount of memory, in bytes, that can be reserved. {@code 0} means no limit. */
+    private final long limit;
+
+    /**
+     * Amount of memory, in bytes, reserved through this tracker, or {@link #CLOSED}. Reservations are accounted by the parent before this
+     * tracker, so closing the tracker releases to the parent exactly the amount that has been accounted here.
+     */
+    private final AtomicLong reserved = new AtomicLong();
+
+    /** Number of reservations rejected within the subtree. Maintained by the root tracker only. */
+    private final AtomicLong rejected = new AtomicLong();
+
+    private MemoryTracker(@Nullable MemoryTracker parent, String name, long limit) {
+        assert limit >= 0 : limit;
+
+        this.parent = parent;
+        this.name = name;
+        this.limit = limit;
+    }
+
+    /**
+     * Creates a root tracker.
+     *
+     * @param name Name of the tracker.
+     * @param limit Maximal amount of memory, in bytes, that can be reserved. {@code 0} means no limit.
+     * @return Memory tracker.
+     */
+    public static MemoryTracker root(String name, long limit) {
+        return new MemoryTracker(null, name, limit);
+    }
+
+    /**
+     * Creates a tracker which accounts its reservations against this one.
+     *
+     * @param name Name of the tracker.
+     * @param limit Maximal amount of memory, in bytes, that can be reserved. {@code 0} means no limit.
+     * @return Memory tracker.
+     */
+    public MemoryTracker child(String name, long limit) {
+        return new MemoryTracker(this, name, limit);
+    }
+
+    /**
+     * Reserves the given amount of memory.
+     *
+     * <p>Reservations made after the tracker has been closed are ignored.
+     *
+     * @param bytes Amount of memory, in bytes.
+     * @throws MemoryQuotaExceededException If the reservation exceeds the limit of this tracker or any of its parents.
+     */
+    public void reserve(long bytes) {
+        assert bytes >= 0 : bytes;
+
+        long cur = reserved.get();
+
+        if (cur == CLOSED) {
+            return;
+        }
+
+        // Fail fast, without touching the parents.
+        checkLimit(cur, bytes);
+
+        if (parent != null) {
+            parent.reserve(bytes);
+        }
+
+        while (true) {
+            cur = reserved.get();
+
+            if (cur == CLOSED) {
+                // The tracker has been closed concurrently and won't release the bytes accounted by the parent.
+                releaseParent(bytes);
+
+                return;
+            }
+
+            try {
+                checkLimit(cur, bytes);
+            } catch (MemoryQuotaExceededException e) {
+                releaseParent(bytes);
+
+                throw e;
+            }
+
+            if (reserved.compareAndSet(cur, cur + bytes)) {
+                return;
+            }
+        }
+    }
+
+    /**
+     * Releases the given amount of memory reserved earlier.
+     *
+     * <p>Releases made after the tracker has been closed are ignored, since closing releases everything.
+     *
+     * @param bytes Amount of memory, in bytes.
+     */
+    public void release(long bytes) {
+        assert bytes >= 0 : bytes;
+
+        while (true) {
+            long cur = reserved.get();
+
+            if (cur == CLOSED) {
+                return;
+            }
+
+            if (reserved.compareAndSet(cur, cur - bytes)) {
+                break;
+            }
+        }
+
+        releaseParent(bytes);
+    }
+
+    /**
+     * Releases all the memory reserved through this tracker. Subsequent reservations and releases are ignored.
+     *
+     * <p>May be called concurrently with {@link #reserve} and {@link #release}, e.g. when the query is cancelled.
+     */
+    public void close() {
+        long bytes = reserved.getAndSet(CLOSED);
+
+        if (bytes != CLOSED && bytes > 0) {
+            releaseParent(bytes);
+        }
+    }
+
+    /** Returns amount of memory, in bytes, reserved at the moment. */
+    public long reserved() {
+        long cur = reserved.get();
+
+        return cur == CLOSED ? 0 : cur;
+    }
+
+    /** Returns maximal amount of memory, in bytes, that can be reserved. {@code 0} means no limit. */
+    public long limit() {
+        return limit;
+    }
+
+    /** Returns number of reservations rejected by this tracker or any of its descendants. Supported by the root tracker only. */
+    public long rejectedReservations() {
+        assert parent == null : "Not a root tracker: " + name;
+
+        return rejected.get();
+    }
+
+    private void checkLimit(long cur, long bytes) {
+        if (limit > 0 && cur + bytes > limit) {
+            root().rejected.incrementAndGet();
+
+            throw new MemoryQuotaExceededException(name, limit, cur, bytes);
+        }
+    }
+
+    private void releaseParent(long bytes) {
+        if (parent != null) {
+            parent.release(bytes);
+        }
+    }
+
+    private MemoryTracker root() {
+        MemoryTracker root = this;
+
+        while (root.parent != null) {
+            root = root.parent;
+        }
+
+        return root;
+    }
+}
@@ -0,0 +1,104 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.sql.engine.exec.memory;
+
+/**
+ * Tracks amount of memory held by the buffers of a single operator.
+ *
+ * <p>To avoid contention on the shared trackers, memory is reserved from the fragment tracker in chunks, and is
+ * returned back once the operator holds much less than it has reserved.
+ *
+ * <p>The tracker is not thread-safe, and is meant to be used within the execution thread of the fragment.
+ */
+public class OperatorMemoryTracker {
+    /** Amount of memory, in bytes, reserved from the parent tracker at once. */
+    static final long CHUNK_SIZE = 64 * 1024;
+
+    private final MemoryTracker parent;
+
+    /** Amount of memory, in bytes, held by the operator. */
+    private long used;
+
+    /** Amount of memory, in bytes, reserved from the parent tracker. */
+    private long reserved;
+
+    /**
+     * Constructor.
+     *
+     * @param parent Tracker of the fragment the operator belongs to.
+     */
+    public OperatorMemoryTracker(MemoryTracker parent) {
+        this.parent = parent;
+    }
+
+    /**
+     * Accounts the given amount of memory as held by the operator.
+     *
+     * @param bytes Amount of memory, in bytes.
+     * @throws MemoryQuotaExceededException If the memory could not be reserved.
+     */
+    public void reserve(long bytes) {
+        assert bytes >= 0 : bytes;
+
+        long newUsed = used + bytes;
+
+        if (newUsed > reserved) {
+            long delta = Math.max(newUsed - reserved, CHUNK_SIZE);
+
+            parent.reserve(delta);
+
+            reserved += delta;
+        }
+
+        used = newUsed;
+    }
+
+    /**
+     * Accounts the given amount of memory as no longer held by the operator.
+     *
+     * @param bytes Amount of memory, in bytes.
+     */
+    public void release(long bytes) {
+        assert bytes >= 0 && bytes <= used : "bytes=" + bytes + ", used=" + used;
+
+        used -= bytes;
+
+        if (reserved - used > 2 * CHUNK_SIZE) {
+            long delta = reserved - used - CHUNK_SIZE;
+
+            parent.release(delta);
+
+            reserved -= delta;
+        }
+    }
+
+    /** Releases all the memory held by the operator. */
+    public void reset() {
+        if (reserved > 0) {
+            parent.release(reserved);
+        }
+
+        used = 0;
+        reserved = 0;
+    }
+
+    /** Returns amount of memory, in bytes, held by the operator. */
+    public long used() {
+        return used;
+    }
+}
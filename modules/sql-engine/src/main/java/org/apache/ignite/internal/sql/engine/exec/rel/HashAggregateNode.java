@@ -20,28 +20,52 @@ package org.apache.ignite.internal.sql.engine.exec.rel;
 import static java.util.stream.Collectors.toCollection;
 import static org.apache.ignite.internal.util.CollectionUtils.nullOrEmpty;
 
+import java.io.IOException;
+import java.nio.ByteBuffer;
 import java.util.ArrayDeque;
 import java.util.ArrayList;
 import java.util.Collections;
-import java.util.HashMap;
-import java.util.Iterator;
+import java.util.Deque;
 import java.util.List;
-import java.util.Map;
 import java.util.function.Supplier;
 import org.apache.calcite.util.ImmutableBitSet;
+import org.apache.ignite.internal.schema.BinaryTuple;
 import org.apache.ignite.internal.sql.engine.exec.ExecutionContext;
 import org.apache.ignite.internal.sql.engine.exec.RowHandler;
 import org.apache.ignite.internal.sql.engine.exec.RowHandler.RowFactory;
 import org.apache.ignite.internal.sql.engine.exec.exp.agg.AccumulatorWrapper;
 import org.apache.ignite.internal.sql.engine.exec.exp.agg.AggregateRow;
 import org.apache.ignite.internal.sql.engine.exec.exp.agg.AggregateType;
-import org.apache.ignite.internal.sql.engine.exec.exp.agg.GroupKey;
+import org.apache.ignite.internal.sql.engine.exec.exp.agg.GroupTable;
+import org.apache.ignite.internal.sql.engine.exec.memory.OperatorMemoryTracker;
+import org.apache.ignite.internal.sql.engine.exec.row.RowSchema;
+import org.apache.ignite.internal.sql.engine.exec.spill.SpillFile;
+import org.apache.ignite.internal.sql.engine.exec.spill.SpillManager;
+import org.apache.ignite.internal.util.HashUtils;
+import org.jetbrains.annotations.Nullable;
 
 /**
  * HashAggregateNode.
  * TODO Documentation https://issues.apache.org/jira/browse/IGNITE-15859
+ *
+ * <p>Groups are kept in a {@link GroupTable} keyed by the binary form of the group key. Once the estimated size of
+ * the groups of a grouping set exceeds the spill threshold, no new groups are created in memory: input rows of
+ * the groups that are not in memory yet are hash-partitioned to spill files instead. After the groups held in
+ * memory are emitted, the spilled partitions are aggregated one by one, and may be partitioned further if
+ * a partition still doesn't fit into memory.
+ *
+ * <p>The estimated size of the groups held in memory is accounted by the memory tracker of the fragment.
  */
 public class HashAggregateNode<RowT> extends AbstractNode<RowT> implements SingleNode<RowT>, Downstream<RowT> {
+    /** Number of partitions the overflowing groups are split into. */
+    static final int PARTITIONS = 16;
+
+    /** Maximal number of times the rows of the same group may be partitioned. */
+    private static final int MAX_SPILL_LEVEL = 4;
+
+    /** Rough estimate of the memory occupied by a group apart from its key: the state of accumulators and wrappers. */
+    private static final int GROUP_OVERHEAD = 128;
+
     private final AggregateType type;
 
     /** May be {@code null} when there are not accumulators (DISTINCT aggregate node). */
@@ -49,6 +73,12 @@ public class HashAggregateNode<RowT> extends AbstractNode<RowT> implements Singl
 
     private final RowFactory<RowT> rowFactory;
 
+    private final RowSchema inputSchema;
+
+    private final @Nullable SpillManager spillManager;
+
+    private final OperatorMemoryTracker memoryTracker;
+
     /** A bit set that contains fields included in all grouping sets. */
     private final ImmutableBitSet allFields;
 
@@ -64,15 +94,25 @@ public class HashAggregateNode<RowT> extends AbstractNode<RowT> implements Singl
      * Constructor.
      *
      * @param ctx Execution context.
+     * @param type Type of the aggregate.
+     * @param grpSets Grouping sets.
+     * @param accFactory Factory of the accumulators.
+     * @param rowFactory Factory of the output rows.
+     * @param inputSchema Schema of the input rows.
+     * @param spillManager Manager to spill rows to disk with, or {@code null} if spilling is not allowed.
      */
     public HashAggregateNode(
             ExecutionContext<RowT> ctx, AggregateType type, List<ImmutableBitSet> grpSets,
-            Supplier<List<AccumulatorWrapper<RowT>>> accFactory, RowFactory<RowT> rowFactory) {
+            Supplier<List<AccumulatorWrapper<RowT>>> accFactory, RowFactory<RowT> rowFactory,
+            RowSchema inputSchema, @Nullable SpillManager spillManager) {
         super(ctx);
 
         this.type = type;
         this.accFactory = accFactory;
         this.rowFactory = rowFactory;
+        this.inputSchema = inputSchema;
+        this.spillManager = spillManager != null && spillManager.enabled() ? spillManager : null;
+        this.memoryTracker = new OperatorMemoryTracker(ctx.memoryTracker());
 
         assert grpSets.size() <= Byte.MAX_VALUE : "Too many grouping sets";
 
@@ -139,6 +179,10 @@ public class HashAggregateNode<RowT> extends AbstractNode<RowT> implements Singl
 
         waiting = -1;
 
+        for (Grouping grouping : groupings) {
+            grouping.finishPass();
+        }
+
         flush();
     }
 
@@ -150,6 +194,16 @@ public class HashAggregateNode<RowT> extends AbstractNode<RowT> implements Singl
         groupings.forEach(Grouping::reset);
     }
 
+    /** {@inheritDoc} */
+    @Override
+    protected void closeInternal() {
+        super.closeInternal();
+
+        groupings.forEach(Grouping::releaseSpilled);
+
+        memoryTracker.reset();
+    }
+
     /** {@inheritDoc} */
     @Override
     protected Downstream<RowT> requestDownstream(int idx) {
@@ -220,43 +274,99 @@ public class HashAggregateNode<RowT> extends AbstractNode<RowT> implements Singl
 
         private final ImmutableBitSet grpFields;
 
-        private final Map<GroupKey, AggregateRow<RowT>> groups = new HashMap<>();
+        /** Factory of the rows holding the fields of a group key only. */
+        private final RowFactory<RowT> keyFactory;
+
+        private GroupTable<AggregateRow<RowT>> groups = new GroupTable<>();
+
+        /** Estimated amount of memory occupied by the groups. */
+        private long groupsSize;
+
+        /** How many times the rows being aggregated at the moment have been partitioned. */
+        private int level;
+
+        /** Partitions the overflowing rows are being written to, {@code null} until the groups exceed the threshold. */
+        private @Nullable List<SpillFile<RowT>> partitions;
+
+        /** Spilled partitions waiting to be aggregated, along with the level of each one. */
+        private final Deque<SpilledPartition<RowT>> pending = new ArrayDeque<>();
 
         private Grouping(byte grpId, ImmutableBitSet grpFields) {
             this.grpId = grpId;
             this.grpFields = grpFields;
+
+            RowSchema.Builder keySchema = RowSchema.builder();
+
+            for (int field : grpFields) {
+                keySchema.addField(inputSchema.fields().get(field));
+            }
+
+            keyFactory = context().rowHandler().factory(keySchema.build());
         }
 
         private void init() {
             // Initializes aggregates for case when no any rows will be added into the aggregate to have 0 as result.
             // Doesn't do it for MAP type due to we don't want send from MAP node zero results because it looks redundant.
             if (AggregateRow.addEmptyGroup(grpFields, type)) {
-                groups.put(GroupKey.EMPTY_GRP_KEY, create());
+                byte[] key = keyBytes(keyFactory.create());
+
+                groups.put(key, GroupTable.hash(key), create());
             }
         }
 
         private void reset() {
+            releaseSpilled();
+
             groups.clear();
+            releaseGroups();
+            level = 0;
 
             init();
         }
 
-        private void add(RowT row) {
+        private void add(RowT row) throws IOException {
             RowHandler<RowT> handler = context().rowHandler();
 
             if (!AggregateRow.groupMatches(handler, row, type, grpId)) {
                 return;
             }
 
-            GroupKey.Builder b = GroupKey.builder(grpFields.cardinality());
+            Object[] keyFields = new Object[grpFields.cardinality()];
+
+            int i = 0;
 
             for (int field : grpFields) {
-                b.add(handler.get(field, row));
+                keyFields[i++] = handler.get(field, row);
             }
 
-            GroupKey grpKey = b.build();
+            byte[] key = keyBytes(keyFactory.create(keyFields));
+            int hash = GroupTable.hash(key);
+
+            AggregateRow<RowT> aggRow = groups.get(key, hash);
+
+            if (aggRow == null) {
+                if (partitions != null) {
+                    // The group is not in memory and will never be, thus all its rows go to the same partition.
+                    partitions.get(partition(hash)).write(row);
+
+                    return;
+                }
+
+                long groupSize = key.length + GROUP_OVERHEAD;
+
+                memoryTracker.reserve(groupSize);
+
+                aggRow = create();
+
+                groups.put(key, hash, aggRow);
+
+                groupsSize += groupSize;
+
+                if (spillManager != null && level < MAX_SPILL_LEVEL && groupsSize + groups.slotsSize() > spillManager.threshold()) {
+                    startSpilling();
+                }
+            }
 
-            AggregateRow<RowT> aggRow = groups.computeIfAbsent(grpKey, k -> create());
             aggRow.update(allFields, handler, row);
         }
 
@@ -266,36 +376,40 @@ public class HashAggregateNode<RowT> extends AbstractNode<RowT> implements Singl
          * @param cnt Number of rows.
          * @return Actually sent rows number.
          */
-        private List<RowT> getRows(int cnt) {
-            Iterator<Map.Entry<GroupKey, AggregateRow<RowT>>> it = groups.entrySet().iterator();
-
-            int rowNum = Math.min(cnt, groups.size());
-            List<RowT> res = new ArrayList<>(rowNum);
+        private List<RowT> getRows(int cnt) throws IOException {
+            if (groups.isEmpty()) {
+                restoreNextPartition();
+            }
 
-            for (int i = 0; i < rowNum; i++) {
-                Map.Entry<GroupKey, AggregateRow<RowT>> entry = it.next();
+            List<RowT> res = new ArrayList<>(Math.min(cnt, groups.size()));
 
-                GroupKey grpKey = entry.getKey();
-                AggregateRow<RowT> aggRow = entry.getValue();
+            while (res.size() < cnt && groups.poll((key, aggRow) -> res.add(createOutputRow(key, aggRow)))) {
+                // No-op.
+            }
 
-                Object[] fields = aggRow.createOutput(allFields, grpId);
+            if (groups.isEmpty()) {
+                releaseGroups();
+            }
 
-                int j = 0;
-                int k = 0;
+            return res;
+        }
 
-                for (int field : allFields) {
-                    fields[j++] = grpFields.get(field) ? grpKey.field(k++) : null;
-                }
+        private RowT createOutputRow(byte[] key, AggregateRow<RowT> aggRow) {
+            RowHandler<RowT> handler = context().rowHandler();
+            RowT keyRow = keyFactory.create(new BinaryTuple(grpFields.cardinality(), key));
 
-                aggRow.writeTo(fields, allFields, grpId);
+            Object[] fields = aggRow.createOutput(allFields, grpId);
 
-                RowT row = rowFactory.create(fields);
+            int j = 0;
+            int k = 0;
 
-                res.add(row);
-                it.remove();
+            for (int field : allFields) {
+                fields[j++] = grpFields.get(field) ? handler.get(k++, keyRow) : null;
             }
 
-            return res;
+            aggRow.writeTo(fields, allFields, grpId);
+
+            return rowFactory.create(fields);
         }
 
         private AggregateRow<RowT> create() {
@@ -311,7 +425,105 @@ public class HashAggregateNode<RowT> extends AbstractNode<RowT> implements Singl
         }
 
         private boolean isEmpty() {
-            return groups.isEmpty();
+            return groups.isEmpty() && pending.isEmpty();
+        }
+
+        private void startSpilling() throws IOException {
+            assert spillManager != null;
+
+            RowFactory<RowT> inputRowFactory = context().rowHandler().factory(inputSchema);
+
+            partitions = new ArrayList<>(PARTITIONS);
+
+            for (int i = 0; i < PARTITIONS; i++) {
+                partitions.add(spillManager.createFile(inputRowFactory));
+            }
+        }
+
+        /** Completes the current aggregation pass, the partitions written during the pass are scheduled for aggregation. */
+        private void finishPass() throws IOException {
+            if (partitions == null) {
+                return;
+            }
+
+            List<SpillFile<RowT>> parts = partitions;
+
+            partitions = null;
+
+            for (SpillFile<RowT> file : parts) {
+                file.finishWrite();
+
+                if (file.rowsCount() > 0) {
+                    pending.add(new SpilledPartition<>(file, level + 1));
+                } else {
+                    file.close();
+                }
+            }
+        }
+
+        /** Aggregates the rows of the next spilled partition, if any. */
+        private void restoreNextPartition() throws IOException {
+            SpilledPartition<RowT> next = pending.poll();
+
+            if (next == null) {
+                return;
+            }
+
+            groups.clear();
+            releaseGroups();
+            level = next.level;
+
+            try (SpillFile<RowT> file = next.file) {
+                SpillFile<RowT>.Reader reader = file.reader();
+
+                for (RowT row = reader.next(); row != null; row = reader.next()) {
+                    add(row);
+                }
+            }
+
+            finishPass();
+        }
+
+        private void releaseGroups() {
+            memoryTracker.release(groupsSize);
+
+            groupsSize = 0;
+        }
+
+        private void releaseSpilled() {
+            if (partitions != null) {
+                partitions.forEach(SpillFile::close);
+                partitions = null;
+            }
+
+            pending.forEach(p -> p.file.close());
+            pending.clear();
+        }
+
+        private int partition(int hash) {
+            // Use a different hash on every level, otherwise the rows of a partition would all fall into the same sub-partition.
+            return Math.floorMod(HashUtils.hash32(hash, level), PARTITIONS);
+        }
+
+        private byte[] keyBytes(RowT keyRow) {
+            ByteBuffer buf = context().rowHandler().toBinaryTuple(keyRow).byteBuffer().duplicate();
+            byte[] bytes = new byte[buf.remaining()];
+
+            buf.get(bytes);
+
+            return bytes;
+        }
+    }
+
+    /** Spilled partition along with the number of times its rows have been partitioned. */
+    private static class SpilledPartition<RowT> {
+        private final SpillFile<RowT> file;
+
+        private final int level;
+
+        private SpilledPartition(SpillFile<RowT> file, int level) {
+            this.file = file;
+            this.level = level;
         }
     }
 }
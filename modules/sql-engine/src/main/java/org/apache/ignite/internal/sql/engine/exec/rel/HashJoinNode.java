@@ -0,0 +1,851 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.sql.engine.exec.rel;
+
+import static org.apache.ignite.internal.util.CollectionUtils.nullOrEmpty;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.function.BiPredicate;
+import org.apache.calcite.rel.core.JoinRelType;
+import org.apache.ignite.internal.sql.engine.exec.ExecutionContext;
+import org.apache.ignite.internal.sql.engine.exec.RowHandler;
+import org.apache.ignite.internal.sql.engine.exec.RowHandler.RowFactory;
+import org.apache.ignite.internal.sql.engine.exec.RuntimeFilter;
+import org.apache.ignite.internal.sql.engine.exec.exp.agg.GroupKey;
+import org.apache.ignite.internal.sql.engine.exec.memory.OperatorMemoryTracker;
+import org.apache.ignite.internal.sql.engine.exec.spill.RowSizeEstimator;
+import org.apache.ignite.internal.sql.engine.exec.spill.SpillFile;
+import org.apache.ignite.internal.sql.engine.exec.spill.SpillManager;
+import org.apache.ignite.internal.util.HashUtils;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Hash join node.
+ *
+ * <p>The right input is a build side: all its rows are put into a hash table by the values of the join keys. Then
+ * rows of the left input probe the table, and every candidate pair with equal keys is checked against the whole
+ * join condition.
+ *
+ * <p>When the estimated size of the build side exceeds the spill threshold, the node switches to the Grace mode:
+ * the build side is partitioned into {@link #PARTITIONS} files by the hash of the keys, and the probe side is
+ * partitioned the same way. Rows with equal keys always land to the partitions with the same number, so
+ * the partitions are joined pairwise, one at a time, thus only a single partition of the build side is kept
+ * in memory. A partition of the build side that still doesn't fit into memory is partitioned again, along with its pair
+ * of the probe side, using a different hash, up to {@link #MAX_SPILL_LEVEL} times.
+ *
+ * <p>When the probe side is received from remote fragments and the join doesn't emit the probe rows having no match,
+ * the keys of the build side are passed to the remote fragments as a {@link RuntimeFilter}, so the rows that can't
+ * match are dropped before they are sent.
+ */
+public class HashJoinNode<RowT> extends AbstractNode<RowT> {
+    /** Special value to highlights that all row were received and we are not waiting any more. */
+    private static final int NOT_WAITING = -1;
+
+    /** Number of partitions both inputs are split into once the build side doesn't fit into memory. */
+    static final int PARTITIONS = 16;
+
+    /** Maximal number of times the rows of the same key may be partitioned. */
+    private static final int MAX_SPILL_LEVEL = 4;
+
+    /** Maximal number of distinct keys of the build side to build a runtime filter for. */
+    static final int RUNTIME_FILTER_MAX_KEYS = 1 << 16;
+
+    private final JoinRelType joinType;
+
+    private final BiPredicate<RowT, RowT> cond;
+
+    private final int[] leftKeys;
+
+    private final int[] rightKeys;
+
+    private final RowHandler<RowT> handler;
+
+    private final RowFactory<RowT> leftRowFactory;
+
+    private final RowFactory<RowT> rightRowFactory;
+
+    private final @Nullable SpillManager spillManager;
+
+    private final RowSizeEstimator<RowT> sizeEstimator;
+
+    private final OperatorMemoryTracker memoryTracker;
+
+    private final Deque<RowT> leftInBuf = new ArrayDeque<>(inBufSize);
+
+    private Map<GroupKey, Bucket<RowT>> hashTable = new HashMap<>();
+
+    private int requested;
+
+    private int waitingLeft;
+
+    private int waitingRight;
+
+    private boolean inLoop;
+
+    /** Estimated amount of memory occupied by the hash table. */
+    private long tableSize;
+
+    /** Partitions the build side is being written to, {@code null} until the build side is spilled. */
+    private @Nullable List<SpillFile<RowT>> rightPartitions;
+
+    /** Partitions the probe side is being written to, {@code null} until the build side is spilled. */
+    private @Nullable List<SpillFile<RowT>> leftPartitions;
+
+    /** Spilled partitions waiting to be joined, {@code null} until the probe side is completely partitioned. */
+    private @Nullable Deque<PartitionPair<RowT>> pending;
+
+    /** Partition being joined at the moment. */
+    private @Nullable PartitionPair<RowT> current;
+
+    private @Nullable SpillFile<RowT>.Reader leftPartitionReader;
+
+    private @Nullable RowT left;
+
+    private @Nullable Bucket<RowT> bucket;
+
+    private int rightIdx;
+
+    private boolean matched;
+
+    private @Nullable Iterator<Bucket<RowT>> unmatchedIt;
+
+    private @Nullable Bucket<RowT> unmatchedBucket;
+
+    private int unmatchedIdx;
+
+    /**
+     * Constructor.
+     *
+     * @param ctx Execution context.
+     * @param joinType Join type.
+     * @param cond Join condition.
+     * @param leftKeys Indexes of the key columns of the left input.
+     * @param rightKeys Indexes of the key columns of the right input, in the same order as the left ones.
+     * @param leftRowFactory Factory of the rows of the left input.
+     * @param rightRowFactory Factory of the rows of the right input.
+     * @param spillManager Manager to spill rows to disk with, or {@code null} if spilling is not allowed.
+     */
+    public HashJoinNode(
+            ExecutionContext<RowT> ctx,
+            JoinRelType joinType,
+            BiPredicate<RowT, RowT> cond,
+            int[] leftKeys,
+            int[] rightKeys,
+            RowFactory<RowT> leftRowFactory,
+            RowFactory<RowT> rightRowFactory,
+            @Nullable SpillManager spillManager
+    ) {
+        super(ctx);
+
+        assert leftKeys.length == rightKeys.length && leftKeys.length > 0;
+
+        this.joinType = joinType;
+        this.cond = cond;
+        this.leftKeys = leftKeys;
+        this.rightKeys = rightKeys;
+        this.leftRowFactory = leftRowFactory;
+        this.rightRowFactory = rightRowFactory;
+        this.spillManager = spillManager != null && spillManager.enabled() ? spillManager : null;
+
+        handler = ctx.rowHandler();
+        sizeEstimator = new RowSizeEstimator<>(handler);
+        memoryTracker = new OperatorMemoryTracker(ctx.memoryTracker());
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public void request(int rowsCnt) throws Exception {
+        assert !nullOrEmpty(sources()) && sources().size() == 2;
+        assert rowsCnt > 0 && requested == 0;
+
+        checkState();
+
+        requested = rowsCnt;
+
+        if (!inLoop) {
+            context().execute(this::doJoin, this::onError);
+        }
+    }
+
+    private void doJoin() throws Exception {
+        checkState();
+
+        join();
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    protected void rewindInternal() {
+        requested = 0;
+        waitingLeft = 0;
+        waitingRight = 0;
+
+        leftInBuf.clear();
+
+        resetProbe();
+        releaseTable();
+        releasePartitions();
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    protected void closeInternal() {
+        super.closeInternal();
+
+        releasePartitions();
+
+        memoryTracker.reset();
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    protected Downstream<RowT> requestDownstream(int idx) {
+        if (idx == 0) {
+            return new Downstream<RowT>() {
+                /** {@inheritDoc} */
+                @Override
+                public void push(RowT row) throws Exception {
+                    pushLeft(row);
+                }
+
+                /** {@inheritDoc} */
+                @Override
+                public void end() throws Exception {
+                    endLeft();
+                }
+
+                /** {@inheritDoc} */
+                @Override
+                public void onError(Throwable e) {
+                    HashJoinNode.this.onError(e);
+                }
+            };
+        } else if (idx == 1) {
+            return new Downstream<RowT>() {
+                /** {@inheritDoc} */
+                @Override
+                public void push(RowT row) throws Exception {
+                    pushRight(row);
+                }
+
+                /** {@inheritDoc} */
+                @Override
+                public void end() throws Exception {
+                    endRight();
+                }
+
+                /** {@inheritDoc} */
+                @Override
+                public void onError(Throwable e) {
+                    HashJoinNode.this.onError(e);
+                }
+            };
+        }
+
+        throw new IndexOutOfBoundsException();
+    }
+
+    private void pushLeft(RowT row) throws Exception {
+        assert downstream() != null;
+        assert waitingLeft > 0;
+
+        checkState();
+
+        waitingLeft--;
+
+        if (leftPartitions != null) {
+            leftPartitions.get(partition(key(row, leftKeys), 0)).write(row);
+
+            if (waitingLeft == 0) {
+                leftSource().request(waitingLeft = inBufSize);
+            }
+
+            return;
+        }
+
+        leftInBuf.add(row);
+
+        join();
+    }
+
+    private void pushRight(RowT row) throws Exception {
+        assert downstream() != null;
+        assert waitingRight > 0;
+
+        checkState();
+
+        waitingRight--;
+
+        GroupKey key = key(row, rightKeys);
+
+        if (rightPartitions != null) {
+            rightPartitions.get(partition(key, 0)).write(row);
+        } else {
+            addToTable(key, row);
+
+            if (spillManager != null && tableSize > spillManager.threshold()) {
+                spillBuildSide();
+            }
+        }
+
+        if (waitingRight == 0) {
+            rightSource().request(waitingRight = inBufSize);
+        }
+    }
+
+    private void endLeft() throws Exception {
+        assert downstream() != null;
+        assert waitingLeft > 0;
+
+        checkState();
+
+        waitingLeft = NOT_WAITING;
+
+        join();
+    }
+
+    private void endRight() throws Exception {
+        assert downstream() != null;
+        assert waitingRight > 0;
+
+        checkState();
+
+        waitingRight = NOT_WAITING;
+
+        if (rightPartitions == null) {
+            pushRuntimeFilter();
+        }
+
+        join();
+    }
+
+    /** Passes the keys of the build side to the remote sources of the probe side, if the join allows it. */
+    private void pushRuntimeFilter() {
+        if (!(leftSource() instanceof Inbox) || hashTable.size() > RUNTIME_FILTER_MAX_KEYS) {
+            return;
+        }
+
+        // The probe rows having no match are dropped by these joins anyway.
+        if (joinType != JoinRelType.INNER && joinType != JoinRelType.SEMI && joinType != JoinRelType.RIGHT) {
+            return;
+        }
+
+        RuntimeFilter.Builder builder = RuntimeFilter.builder(leftKeys, hashTable.size());
+
+        for (GroupKey key : hashTable.keySet()) {
+            builder.add(key);
+        }
+
+        ((Inbox<?>) leftSource()).runtimeFilter(builder.build());
+    }
+
+    private Node<RowT> leftSource() {
+        return sources().get(0);
+    }
+
+    private Node<RowT> rightSource() {
+        return sources().get(1);
+    }
+
+    private void join() throws Exception {
+        if (waitingRight != NOT_WAITING) {
+            if (waitingRight == 0) {
+                rightSource().request(waitingRight = inBufSize);
+            }
+
+            return;
+        }
+
+        if (rightPartitions == null && pending == null) {
+            joinInMemory();
+        } else {
+            joinPartitioned();
+        }
+    }
+
+    private void joinInMemory() throws Exception {
+        boolean done = false;
+
+        inLoop = true;
+        try {
+            probe();
+
+            if (left == null && leftInBuf.isEmpty() && waitingLeft == NOT_WAITING) {
+                done = emitUnmatched();
+            }
+        } finally {
+            inLoop = false;
+        }
+
+        if (waitingLeft == 0 && leftInBuf.isEmpty()) {
+            leftSource().request(waitingLeft = inBufSize);
+        }
+
+        if (done && requested > 0) {
+            requested = 0;
+
+            releaseTable();
+
+            downstream().end();
+        }
+    }
+
+    private void joinPartitioned() throws Exception {
+        if (waitingLeft != NOT_WAITING) {
+            if (waitingLeft == 0) {
+                leftSource().request(waitingLeft = inBufSize);
+            }
+
+            return;
+        }
+
+        boolean done = false;
+
+        inLoop = true;
+        try {
+            if (pending == null) {
+                assert leftPartitions != null && rightPartitions != null;
+
+                pending = new ArrayDeque<>();
+
+                List<SpillFile<RowT>> rightParts = rightPartitions;
+                List<SpillFile<RowT>> leftParts = leftPartitions;
+
+                rightPartitions = null;
+                leftPartitions = null;
+
+                schedule(rightParts, leftParts, 1);
+            }
+
+            while (requested > 0) {
+                if (current == null) {
+                    current = pending.poll();
+
+                    if (current == null) {
+                        done = true;
+
+                        break;
+                    }
+
+                    if (!loadPartition(current)) {
+                        // The partition has been split into smaller ones.
+                        current = null;
+
+                        continue;
+                    }
+                }
+
+                probe();
+
+                if (left != null || leftPartitionReader.hasNext() || !emitUnmatched()) {
+                    // Downstream has had enough rows for now.
+                    break;
+                }
+
+                releaseTable();
+
+                current.close();
+                current = null;
+
+                leftPartitionReader = null;
+                unmatchedIt = null;
+            }
+        } finally {
+            inLoop = false;
+        }
+
+        if (done && requested > 0) {
+            requested = 0;
+
+            releasePartitions();
+
+            downstream().end();
+        }
+    }
+
+    /** Probes the hash table with the rows of the left input until either the input or the demand is exhausted. */
+    private void probe() throws Exception {
+        while (requested > 0) {
+            if (left == null) {
+                left = leftPartitionReader != null ? leftPartitionReader.next() : leftInBuf.poll();
+
+                if (left == null) {
+                    break;
+                }
+
+                bucket = hashTable.get(key(left, leftKeys));
+                rightIdx = 0;
+                matched = false;
+            }
+
+            if (bucket != null) {
+                while (requested > 0 && rightIdx < bucket.size()) {
+                    checkState();
+
+                    int idx = rightIdx++;
+                    RowT right = bucket.row(idx);
+
+                    if (!cond.test(left, right)) {
+                        continue;
+                    }
+
+                    matched = true;
+
+                    if (joinType == JoinRelType.SEMI || joinType == JoinRelType.ANTI) {
+                        // The first match decides it all.
+                        rightIdx = bucket.size();
+
+                        break;
+                    }
+
+                    if (joinType == JoinRelType.RIGHT || joinType == JoinRelType.FULL) {
+                        bucket.markMatched(idx);
+                    }
+
+                    requested--;
+                    downstream().push(handler.concat(left, right));
+                }
+
+                if (rightIdx < bucket.size()) {
+                    break;
+                }
+            }
+
+            RowT row = null;
+
+            switch (joinType) {
+                case LEFT:
+                case FULL:
+                    row = matched ? null : handler.concat(left, rightRowFactory.create());
+
+                    break;
+
+                case SEMI:
+                    row = matched ? left : null;
+
+                    break;
+
+                case ANTI:
+                    row = matched ? null : left;
+
+                    break;
+
+                default:
+                    break;
+            }
+
+            if (row != null) {
+                if (requested == 0) {
+                    break;
+                }
+
+                requested--;
+                downstream().push(row);
+            }
+
+            left = null;
+            bucket = null;
+        }
+    }
+
+    /**
+     * Emits rows of the build side that have not matched any row of the probe side, if the join type requires so.
+     *
+     * @return {@code true} if all such rows have been emitted.
+     */
+    private boolean emitUnmatched() throws Exception {
+        if (joinType != JoinRelType.RIGHT && joinType != JoinRelType.FULL) {
+            return true;
+        }
+
+        if (unmatchedIt == null) {
+            unmatchedIt = hashTable.values().iterator();
+        }
+
+        while (requested > 0) {
+            if (unmatchedBucket == null || unmatchedIdx == unmatchedBucket.size()) {
+                if (!unmatchedIt.hasNext()) {
+                    unmatchedBucket = null;
+
+                    return true;
+                }
+
+                unmatchedBucket = unmatchedIt.next();
+                unmatchedIdx = 0;
+
+                continue;
+            }
+
+            checkState();
+
+            int idx = unmatchedIdx++;
+
+            if (!unmatchedBucket.matched(idx)) {
+                requested--;
+                downstream().push(handler.concat(leftRowFactory.create(), unmatchedBucket.row(idx)));
+            }
+        }
+
+        return false;
+    }
+
+    /** Moves the whole hash table to the partition files, all subsequent rows of the build side go straight to the files. */
+    private void spillBuildSide() throws Exception {
+        assert spillManager != null;
+
+        List<SpillFile<RowT>> rightParts = new ArrayList<>(PARTITIONS);
+        List<SpillFile<RowT>> leftParts = new ArrayList<>(PARTITIONS);
+
+        // Assign the fields first so that files are released on close even if some of them failed to be created.
+        rightPartitions = rightParts;
+        leftPartitions = leftParts;
+
+        for (int i = 0; i < PARTITIONS; i++) {
+            rightParts.add(spillManager.createFile(rightRowFactory));
+            leftParts.add(spillManager.createFile(leftRowFactory));
+        }
+
+        spillTable(rightParts, 0);
+    }
+
+    /** Moves the rows of the hash table to the given partitions of the build side. */
+    private void spillTable(List<SpillFile<RowT>> rightParts, int level) throws Exception {
+        for (Map.Entry<GroupKey, Bucket<RowT>> entry : hashTable.entrySet()) {
+            SpillFile<RowT> file = rightParts.get(partition(entry.getKey(), level));
+            Bucket<RowT> rows = entry.getValue();
+
+            for (int i = 0; i < rows.size(); i++) {
+                file.write(rows.row(i));
+            }
+        }
+
+        releaseTable();
+    }
+
+    /**
+     * Builds the hash table from the given partition of the build side and opens its pair of the probe side. If the build
+     * side doesn't fit into memory, both sides are partitioned again and the new partitions are scheduled to be joined
+     * next.
+     *
+     * @return {@code true} if the partition is ready to be probed, {@code false} if it has been split.
+     */
+    private boolean loadPartition(PartitionPair<RowT> part) throws Exception {
+        SpillFile<RowT>.Reader reader = part.right.reader();
+
+        for (RowT row = reader.next(); row != null; row = reader.next()) {
+            addToTable(key(row, rightKeys), row);
+
+            if (spillManager != null && part.level < MAX_SPILL_LEVEL && tableSize > spillManager.threshold()) {
+                splitPartition(part, reader);
+
+                return false;
+            }
+        }
+
+        leftPartitionReader = part.left.reader();
+
+        return true;
+    }
+
+    /** Partitions the rows of the given pair once more, the rest of the build side rows are read from the given reader. */
+    private void splitPartition(PartitionPair<RowT> part, SpillFile<RowT>.Reader rightReader) throws Exception {
+        assert spillManager != null;
+
+        List<SpillFile<RowT>> rightParts = new ArrayList<>(PARTITIONS);
+        List<SpillFile<RowT>> leftParts = new ArrayList<>(PARTITIONS);
+
+        try {
+            for (int i = 0; i < PARTITIONS; i++) {
+                rightParts.add(spillManager.createFile(rightRowFactory));
+                leftParts.add(spillManager.createFile(leftRowFactory));
+            }
+
+            spillTable(rightParts, part.level);
+
+            for (RowT row = rightReader.next(); row != null; row = rightReader.next()) {
+                rightParts.get(partition(key(row, rightKeys), part.level)).write(row);
+            }
+
+            SpillFile<RowT>.Reader leftReader = part.left.reader();
+
+            for (RowT row = leftReader.next(); row != null; row = leftReader.next()) {
+                leftParts.get(partition(key(row, leftKeys), part.level)).write(row);
+            }
+        } catch (Exception e) {
+            rightParts.forEach(SpillFile::close);
+            leftParts.forEach(SpillFile::close);
+
+            throw e;
+        }
+
+        part.close();
+
+        schedule(rightParts, leftParts, part.level + 1);
+    }
+
+    /**
+     * Completes writing of the given partitions and puts them in front of the pending ones, so the partitions are joined
+     * depth first and the disk space is released as soon as possible.
+     */
+    private void schedule(List<SpillFile<RowT>> rightParts, List<SpillFile<RowT>> leftParts, int level) throws Exception {
+        assert pending != null;
+
+        for (int i = 0; i < PARTITIONS; i++) {
+            rightParts.get(i).finishWrite();
+            leftParts.get(i).finishWrite();
+        }
+
+        for (int i = PARTITIONS - 1; i >= 0; i--) {
+            PartitionPair<RowT> part = new PartitionPair<>(rightParts.get(i), leftParts.get(i), level);
+
+            if (part.right.rowsCount() == 0 && part.left.rowsCount() == 0) {
+                part.close();
+            } else {
+                pending.addFirst(part);
+            }
+        }
+    }
+
+    private void resetProbe() {
+        left = null;
+        bucket = null;
+        rightIdx = 0;
+        matched = false;
+
+        unmatchedIt = null;
+        unmatchedBucket = null;
+        unmatchedIdx = 0;
+    }
+
+    private void addToTable(GroupKey key, RowT row) {
+        long rowSize = sizeEstimator.estimate(row);
+
+        memoryTracker.reserve(rowSize);
+
+        tableSize += rowSize;
+
+        hashTable.computeIfAbsent(key, k -> new Bucket<>()).add(row);
+    }
+
+    private void releaseTable() {
+        hashTable = new HashMap<>();
+
+        memoryTracker.release(tableSize);
+
+        tableSize = 0;
+    }
+
+    private void releasePartitions() {
+        if (rightPartitions != null) {
+            rightPartitions.forEach(SpillFile::close);
+            rightPartitions = null;
+        }
+
+        if (leftPartitions != null) {
+            leftPartitions.forEach(SpillFile::close);
+            leftPartitions = null;
+        }
+
+        if (pending != null) {
+            pending.forEach(PartitionPair::close);
+            pending = null;
+        }
+
+        if (current != null) {
+            current.close();
+            current = null;
+        }
+
+        leftPartitionReader = null;
+    }
+
+    private GroupKey key(RowT row, int[] keys) {
+        Object[] fields = new Object[keys.length];
+
+        for (int i = 0; i < keys.length; i++) {
+            fields[i] = RuntimeFilter.normalize(handler.get(keys[i], row));
+        }
+
+        return new GroupKey(fields);
+    }
+
+    private static int partition(GroupKey key, int level) {
+        // Use a different hash on every level, otherwise the rows of a partition would all fall into the same sub-partition.
+        // This also spreads the bits, so the partition doesn't correlate with the bucket of the hash table of the partition.
+        return Math.floorMod(HashUtils.hash32(key.hashCode(), level), PARTITIONS);
+    }
+
+    /** Pair of partitions of the build and probe sides holding the rows with the same hash of the keys. */
+    private static class PartitionPair<RowT> {
+        private final SpillFile<RowT> right;
+
+        private final SpillFile<RowT> left;
+
+        /** Number of times the rows of the pair have been partitioned. */
+        private final int level;
+
+        private PartitionPair(SpillFile<RowT> right, SpillFile<RowT> left, int level) {
+            this.right = right;
+            this.left = left;
+            this.level = level;
+        }
+
+        private void close() {
+            right.close();
+            left.close();
+        }
+    }
+
+    /** Rows of the build side sharing the same key. */
+    private static class Bucket<RowT> {
+        private final List<RowT> rows = new ArrayList<>(1);
+
+        private @Nullable BitSet matched;
+
+        void add(RowT row) {
+            rows.add(row);
+        }
+
+        int size() {
+            return rows.size();
+        }
+
+        RowT row(int idx) {
+            return rows.get(idx);
+        }
+
+        void markMatched(int idx) {
+            if (matched == null) {
+                matched = new BitSet(rows.size());
+            }
+
+            matched.set(idx);
+        }
+
+        boolean matched(int idx) {
+            return matched != null && matched.get(idx);
+        }
+    }
+}
@@ -20,6 +20,7 @@ package org.apache.ignite.internal.sql.engine.exec.rel;
 import static org.apache.calcite.util.Util.unexpected;
 import static org.apache.ignite.internal.util.CollectionUtils.nullOrEmpty;
 
+import java.nio.ByteBuffer;
 import java.util.ArrayList;
 import java.util.Collection;
 import java.util.Comparator;
@@ -28,17 +29,20 @@ import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 import java.util.PriorityQueue;
+import java.util.function.LongConsumer;
 import org.apache.calcite.util.Pair;
 import org.apache.ignite.internal.lang.IgniteInternalCheckedException;
 import org.apache.ignite.internal.lang.IgniteInternalException;
 import org.apache.ignite.internal.sql.engine.NodeLeftException;
+import org.apache.ignite.internal.sql.engine.exec.BinaryTupleBatch;
 import org.apache.ignite.internal.sql.engine.exec.ExchangeService;
 import org.apache.ignite.internal.sql.engine.exec.ExecutionContext;
 import org.apache.ignite.internal.sql.engine.exec.MailboxRegistry;
 import org.apache.ignite.internal.sql.engine.exec.RowHandler.RowFactory;
+import org.apache.ignite.internal.sql.engine.exec.RuntimeFilter;
 import org.apache.ignite.internal.sql.engine.exec.SharedState;
+import org.apache.ignite.internal.sql.engine.exec.memory.OperatorMemoryTracker;
 import org.apache.ignite.internal.sql.engine.exec.rel.Inbox.RemoteSource.State;
-import org.apache.ignite.internal.table.distributed.replication.request.BinaryTupleMessage;
 import org.apache.ignite.internal.util.ExceptionUtils;
 import org.apache.ignite.lang.ErrorGroups.Common;
 import org.jetbrains.annotations.Nullable;
@@ -55,6 +59,7 @@ public class Inbox<RowT> extends AbstractNode<RowT> implements Mailbox<RowT>, Si
     private final @Nullable Comparator<RowT> comp;
     private final Map<String, RemoteSource<RowT>> perNodeBuffers;
     private final RowFactory<RowT> rowFactory;
+    private final OperatorMemoryTracker memoryTracker;
 
     private @Nullable List<RemoteSource<RowT>> remoteSources;
     private int requested;
@@ -93,9 +98,12 @@ public class Inbox<RowT> extends AbstractNode<RowT> implements Mailbox<RowT>, Si
         this.srcFragmentId = srcFragmentId;
         this.exchangeId = exchangeId;
 
+        this.memoryTracker = new OperatorMemoryTracker(ctx.memoryTracker());
+
         Map<String, RemoteSource<RowT>> sources = new HashMap<>();
         for (String nodeName : srcNodeNames) {
-            sources.put(nodeName, new RemoteSource<>((cnt, state) -> requestBatches(nodeName, cnt, state)));
+            sources.put(nodeName, new RemoteSource<>(
+                    (cnt, state, filter) -> requestBatches(nodeName, cnt, state, filter), memoryTracker::release));
         }
 
         this.perNodeBuffers = Map.copyOf(sources);
@@ -121,12 +129,26 @@ public class Inbox<RowT> extends AbstractNode<RowT> implements Mailbox<RowT>, Si
         }
     }
 
+    /**
+     * Sets a filter to pass to the remote sources along with the first request, so the sources drop the rows that don't
+     * pass it instead of sending them. The sources that have already been requested are not filtered.
+     *
+     * @param filter Filter of the rows.
+     */
+    public void runtimeFilter(RuntimeFilter filter) {
+        for (RemoteSource<RowT> source : perNodeBuffers.values()) {
+            source.runtimeFilter(filter);
+        }
+    }
+
     /** {@inheritDoc} */
     @Override
     public void closeInternal() {
         super.closeInternal();
 
         registry.unregister(this);
+
+        memoryTracker.reset();
     }
 
     /** {@inheritDoc} */
@@ -153,6 +175,9 @@ public class Inbox<RowT> extends AbstractNode<RowT> implements Mailbox<RowT>, Si
 
             source.reset(context().sharedState());
         }
+
+        // All the received batches have been dropped.
+        memoryTracker.reset();
     }
 
     /**
@@ -161,20 +186,21 @@ public class Inbox<RowT> extends AbstractNode<RowT> implements Mailbox<RowT>, Si
      * @param srcNodeName Source node consistent id.
      * @param batchId Batch ID.
      * @param last Last batch flag.
-     * @param rows Rows.
+     * @param rows Rows packed by {@link BinaryTupleBatch}.
      */
-    public void onBatchReceived(String srcNodeName, int batchId, boolean last, List<BinaryTupleMessage> rows) throws Exception {
+    public void onBatchReceived(String srcNodeName, int batchId, boolean last, ByteBuffer rows) throws Exception {
         RemoteSource<RowT> source = perNodeBuffers.get(srcNodeName);
 
         boolean waitingBefore = source.check() == State.WAITING;
 
-        List<RowT> rows0 = new ArrayList<>(rows.size());
+        List<RowT> rows0 = new ArrayList<>();
+        long bytes = rows.remaining();
 
-        for (BinaryTupleMessage row : rows) {
-            rows0.add(rowFactory.create(row.asBinaryTuple()));
-        }
+        BinaryTupleBatch.unpack(rows, rowFactory, rows0);
 
-        source.onBatchReceived(batchId, last, rows0);
+        memoryTracker.reserve(bytes);
+
+        source.onBatchReceived(batchId, last, rows0, bytes);
 
         if (requested > 0 && waitingBefore && source.check() != State.WAITING) {
             push();
@@ -345,8 +371,8 @@ public class Inbox<RowT> extends AbstractNode<RowT> implements Mailbox<RowT>, Si
         }
     }
 
-    private void requestBatches(String nodeName, int cnt, @Nullable SharedState state) {
-        exchange.request(nodeName, queryId(), srcFragmentId, exchangeId, cnt, state)
+    private void requestBatches(String nodeName, int cnt, @Nullable SharedState state, @Nullable RuntimeFilter filter) {
+        exchange.request(nodeName, queryId(), srcFragmentId, exchangeId, cnt, state, filter)
                 .whenComplete((ignored, ex) -> {
                     if (ex != null) {
                         IgniteInternalException wrapperEx = ExceptionUtils.withCause(
@@ -388,12 +414,16 @@ public class Inbox<RowT> extends AbstractNode<RowT> implements Mailbox<RowT>, Si
 
         private final List<RowT> rows;
 
+        /** Amount of memory, in bytes, reserved for the rows of the batch. */
+        private final long bytes;
+
         private int idx;
 
-        private Batch(int batchId, boolean last, List<RowT> rows) {
+        private Batch(int batchId, boolean last, List<RowT> rows, long bytes) {
             this.batchId = batchId;
             this.last = last;
             this.rows = rows;
+            this.bytes = bytes;
         }
 
         /** {@inheritDoc} */
@@ -433,7 +463,8 @@ public class Inbox<RowT> extends AbstractNode<RowT> implements Mailbox<RowT>, Si
     static final class RemoteSource<RowT> {
         @FunctionalInterface
         private interface BatchRequester {
-            void request(int amountOfBatches, @Nullable SharedState state) throws IgniteInternalCheckedException;
+            void request(int amountOfBatches, @Nullable SharedState state, @Nullable RuntimeFilter filter)
+                    throws IgniteInternalCheckedException;
         }
 
         /**
@@ -501,6 +532,9 @@ public class Inbox<RowT> extends AbstractNode<RowT> implements Mailbox<RowT>, Si
 
         private final BatchRequester batchRequester;
 
+        /** Releases the memory reserved for a batch once the batch is drained or dropped. */
+        private final LongConsumer memoryReleaser;
+
         private State state = State.WAITING;
         private int lastEnqueued = -1;
         private int lastRequested = -1;
@@ -514,8 +548,12 @@ public class Inbox<RowT> extends AbstractNode<RowT> implements Mailbox<RowT>, Si
          */
         private @Nullable SharedState sharedStateHolder = null;
 
-        private RemoteSource(BatchRequester batchRequester) {
+        /** The filter is propagated with the very first request only, the source applies it till the end of the stream. */
+        private @Nullable RuntimeFilter runtimeFilterHolder = null;
+
+        private RemoteSource(BatchRequester batchRequester, LongConsumer memoryReleaser) {
             this.batchRequester = batchRequester;
+            this.memoryReleaser = memoryReleaser;
         }
 
         /**
@@ -526,6 +564,7 @@ public class Inbox<RowT> extends AbstractNode<RowT> implements Mailbox<RowT>, Si
          */
         void reset(SharedState state) {
             sharedStateHolder = state;
+            runtimeFilterHolder = null;
             batches.clear();
 
             this.lastEnqueued = lastRequested;
@@ -533,16 +572,25 @@ public class Inbox<RowT> extends AbstractNode<RowT> implements Mailbox<RowT>, Si
             this.curr = null;
         }
 
+        /** Sets the filter to propagate to the source, unless the source has already been requested. */
+        void runtimeFilter(RuntimeFilter filter) {
+            if (lastRequested == -1) {
+                runtimeFilterHolder = filter;
+            }
+        }
+
         /** A handler for batches received from remote source. */
-        void onBatchReceived(int id, boolean last, List<RowT> rows) {
+        void onBatchReceived(int id, boolean last, List<RowT> rows, long bytes) {
             if (id <= lastEnqueued) {
                 // most probably it's a batch that was prefetched in advance,
                 // but the execution tree has been rewinded, so we just silently
                 // drop it
+                memoryReleaser.accept(bytes);
+
                 return;
             }
 
-            batches.offer(new Batch<>(id, last, rows));
+            batches.offer(new Batch<>(id, last, rows, bytes));
 
             if (state == State.WAITING && id == lastEnqueued + 1) {
                 advanceBatch();
@@ -562,9 +610,10 @@ public class Inbox<RowT> extends AbstractNode<RowT> implements Mailbox<RowT>, Si
 
                 lastRequested += countOfBatches;
 
-                batchRequester.request(countOfBatches, sharedStateHolder);
+                batchRequester.request(countOfBatches, sharedStateHolder, runtimeFilterHolder);
                 // shared state should be send only once until next rewind
                 sharedStateHolder = null;
+                runtimeFilterHolder = null;
             }
         }
 
@@ -597,6 +646,8 @@ public class Inbox<RowT> extends AbstractNode<RowT> implements Mailbox<RowT>, Si
             RowT row = curr.rows.set(curr.idx++, null);
 
             if (curr.idx == curr.rows.size()) {
+                memoryReleaser.accept(curr.bytes);
+
                 if (curr.last) {
                     state = State.END;
                 } else {
@@ -17,8 +17,7 @@
 
 package org.apache.ignite.internal.sql.engine.exec.rel;
 
-import static org.apache.ignite.internal.util.CollectionUtils.nullOrEmpty;
-
+import java.nio.ByteBuffer;
 import java.util.ArrayDeque;
 import java.util.ArrayList;
 import java.util.Deque;
@@ -31,16 +30,15 @@ import org.apache.ignite.internal.lang.IgniteInternalCheckedException;
 import org.apache.ignite.internal.lang.IgniteInternalException;
 import org.apache.ignite.internal.logger.IgniteLogger;
 import org.apache.ignite.internal.logger.Loggers;
-import org.apache.ignite.internal.schema.BinaryTuple;
+import org.apache.ignite.internal.sql.engine.exec.BinaryTupleBatch;
 import org.apache.ignite.internal.sql.engine.exec.ExchangeService;
 import org.apache.ignite.internal.sql.engine.exec.ExecutionContext;
 import org.apache.ignite.internal.sql.engine.exec.MailboxRegistry;
 import org.apache.ignite.internal.sql.engine.exec.RowHandler;
+import org.apache.ignite.internal.sql.engine.exec.RuntimeFilter;
 import org.apache.ignite.internal.sql.engine.exec.SharedState;
 import org.apache.ignite.internal.sql.engine.trait.Destination;
 import org.apache.ignite.internal.sql.engine.util.Commons;
-import org.apache.ignite.internal.table.distributed.TableMessagesFactory;
-import org.apache.ignite.internal.table.distributed.replication.request.BinaryTupleMessage;
 import org.apache.ignite.internal.util.ExceptionUtils;
 import org.apache.ignite.lang.ErrorGroups.Common;
 import org.jetbrains.annotations.Nullable;
@@ -50,7 +48,6 @@ import org.jetbrains.annotations.Nullable;
  */
 public class Outbox<RowT> extends AbstractNode<RowT> implements Mailbox<RowT>, SingleNode<RowT>, Downstream<RowT> {
     private static final IgniteLogger LOG = Loggers.forClass(Outbox.class);
-    private static final TableMessagesFactory TABLE_MESSAGES_FACTORY = new TableMessagesFactory();
 
     private final long exchangeId;
     private final long targetFragmentId;
@@ -59,6 +56,7 @@ public class Outbox<RowT> extends AbstractNode<RowT> implements Mailbox<RowT>, S
     private final Destination<RowT> dest;
     private final Map<String, RemoteDownstream<RowT>> nodeBuffers;
     private final Deque<RowT> inBuf = new ArrayDeque<>(inBufSize);
+    private final RowHandler<RowT> handler;
     /** Queue for requests, which requires rewind. */
     private Queue<RewindRequest> rewindQueue;
     private int waiting;
@@ -89,6 +87,7 @@ public class Outbox<RowT> extends AbstractNode<RowT> implements Mailbox<RowT>, S
         this.targetFragmentId = targetFragmentId;
         this.exchangeId = exchangeId;
         this.dest = dest;
+        this.handler = ctx.rowHandler();
 
         Map<String, RemoteDownstream<RowT>> downstreams = new HashMap<>();
         for (String nodeName : dest.targets()) {
@@ -122,6 +121,21 @@ public class Outbox<RowT> extends AbstractNode<RowT> implements Mailbox<RowT>, S
         }
     }
 
+    /**
+     * A handler which saves the filter of the rows to send to the given remote downstream.
+     *
+     * <p>The rows are filtered out before they are put into a batch. The rows which have been put into a batch before
+     * the filter is received are sent as is.
+     *
+     * @param nodeName An identifier of the demander.
+     * @param filter A filter of the rows.
+     */
+    public void onRuntimeFilter(String nodeName, RuntimeFilter filter) throws Exception {
+        checkState();
+
+        nodeBuffers.get(nodeName).runtimeFilter(filter);
+    }
+
     /**
      * Starts the execution of the fragment and keeps the result in the intermediate buffer.
      *
@@ -237,20 +251,7 @@ public class Outbox<RowT> extends AbstractNode<RowT> implements Mailbox<RowT>, S
     }
 
     private void sendBatch(String nodeName, int batchId, boolean last, List<RowT> rows) {
-        RowHandler<RowT> handler = context().rowHandler();
-
-        List<BinaryTupleMessage> rows0 = new ArrayList<>(rows.size());
-
-        for (RowT row : rows) {
-            BinaryTuple tuple = handler.toBinaryTuple(row);
-
-            rows0.add(
-                    TABLE_MESSAGES_FACTORY.binaryTupleMessage()
-                            .elementCount(tuple.elementCount())
-                            .tuple(tuple.byteBuffer())
-                            .build()
-            );
-        }
+        ByteBuffer rows0 = BinaryTupleBatch.pack(context().rowHandler(), rows);
 
         exchange.sendBatch(nodeName, queryId(), targetFragmentId, exchangeId, batchId, last, rows0)
                 .whenComplete((ignored, ex) -> {
@@ -298,12 +299,17 @@ public class Outbox<RowT> extends AbstractNode<RowT> implements Mailbox<RowT>, S
         while (!inBuf.isEmpty()) {
             checkState();
 
-            List<String> targets = dest.targets(inBuf.peek());
+            RowT row = inBuf.peek();
+            List<String> targets = dest.targets(row);
             List<RemoteDownstream<RowT>> buffers = new ArrayList<>(targets.size());
 
             for (String target : targets) {
                 RemoteDownstream<RowT> buffer = nodeBuffers.get(target);
 
+                if (!buffer.accepts(handler, row)) {
+                    continue;
+                }
+
                 if (!buffer.ready()) {
                     return;
                 }
@@ -311,9 +317,8 @@ public class Outbox<RowT> extends AbstractNode<RowT> implements Mailbox<RowT>, S
                 buffers.add(buffer);
             }
 
-            assert !nullOrEmpty(buffers);
-
-            RowT row = inBuf.remove();
+            // The row may be filtered out by all the targets.
+            inBuf.remove();
 
             for (RemoteDownstream<RowT> dest : buffers) {
                 dest.add(row);
@@ -471,6 +476,7 @@ public class Outbox<RowT> extends AbstractNode<RowT> implements Mailbox<RowT>, S
 
         private @Nullable List<RowT> curr;
         private int pendingCount;
+        private @Nullable RuntimeFilter filter;
 
         private RemoteDownstream(String nodeName, BatchSender<RowT> sender) {
             this.nodeName = nodeName;
@@ -489,6 +495,17 @@ public class Outbox<RowT> extends AbstractNode<RowT> implements Mailbox<RowT>, S
             lastSentBatchId += pendingCount;
             pendingCount = 0;
             curr = new ArrayList<>(IO_BATCH_SIZE);
+            filter = null;
+        }
+
+        /** Sets the filter of the rows to send. */
+        void runtimeFilter(RuntimeFilter filter) {
+            this.filter = filter;
+        }
+
+        /** Returns {@code false} if the row is filtered out, thus must not be sent to this downstream. */
+        boolean accepts(RowHandler<RowT> handler, RowT row) {
+            return filter == null || filter.test(handler, row);
         }
 
         /** A handler of a requests from downstream. */
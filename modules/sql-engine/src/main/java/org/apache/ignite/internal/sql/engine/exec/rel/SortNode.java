@@ -19,19 +19,35 @@ package org.apache.ignite.internal.sql.engine.exec.rel;
 
 import static org.apache.ignite.internal.util.CollectionUtils.nullOrEmpty;
 
+import java.io.IOException;
 import java.util.ArrayList;
 import java.util.Comparator;
 import java.util.List;
 import java.util.PriorityQueue;
 import java.util.function.Supplier;
 import org.apache.ignite.internal.sql.engine.exec.ExecutionContext;
+import org.apache.ignite.internal.sql.engine.exec.RowHandler.RowFactory;
+import org.apache.ignite.internal.sql.engine.exec.memory.OperatorMemoryTracker;
+import org.apache.ignite.internal.sql.engine.exec.spill.RowSizeEstimator;
+import org.apache.ignite.internal.sql.engine.exec.spill.SpillFile;
+import org.apache.ignite.internal.sql.engine.exec.spill.SpillManager;
+import org.apache.ignite.internal.sql.engine.util.Commons;
 import org.apache.ignite.internal.util.BoundedPriorityQueue;
 import org.jetbrains.annotations.Nullable;
 
 /**
  * Sort node.
+ *
+ * <p>If the node is given a {@link SpillManager}, an unlimited sort is performed as an external merge sort: once
+ * the estimated size of the buffered rows exceeds the {@link SpillManager#threshold() threshold}, the buffer is
+ * written to disk as a sorted run, and after the input is exhausted all the runs are k-way merged.
+ *
+ * <p>The rows buffered in memory are accounted by the memory tracker of the fragment.
  */
 public class SortNode<RowT> extends AbstractNode<RowT> implements SingleNode<RowT>, Downstream<RowT> {
+    /** Maximum number of runs merged at once. If there are more runs, they are merged in several passes. */
+    static final int MAX_MERGE_FAN_IN = 64;
+
     /** How many rows are requested by downstream. */
     private int requested;
 
@@ -49,6 +65,28 @@ public class SortNode<RowT> extends AbstractNode<RowT> implements SingleNode<Row
     /** Reverse-ordered rows in case of limited sort. */
     private List<RowT> reversed;
 
+    /** Rows comparator. */
+    private final Comparator<RowT> comp;
+
+    /** Spill manager, {@code null} if the node is not allowed to spill rows to disk. */
+    private final @Nullable SpillManager spillManager;
+
+    /** Factory to restore rows read from disk. */
+    private final @Nullable RowFactory<RowT> rowFactory;
+
+    private final RowSizeEstimator<RowT> sizeEstimator;
+
+    /** Estimated size of the rows buffered in memory. */
+    private long bufferedBytes;
+
+    private final OperatorMemoryTracker memoryTracker;
+
+    /** Sorted runs spilled to disk. */
+    private final List<SpillFile<RowT>> runs = new ArrayList<>();
+
+    /** Merge heap over the sorted runs, not {@code null} once the merge phase has been started. */
+    private @Nullable PriorityQueue<RunCursor<RowT>> mergeQueue;
+
     /**
      * Constructor.
      *
@@ -61,17 +99,48 @@ public class SortNode<RowT> extends AbstractNode<RowT> implements SingleNode<Row
             Comparator<RowT> comp,
             @Nullable Supplier<Integer> offset,
             @Nullable Supplier<Integer> fetch) {
+        this(ctx, comp, offset, fetch, null, null);
+    }
+
+    /**
+     * Constructor.
+     *
+     * @param ctx Execution context.
+     * @param comp Rows comparator.
+     * @param offset Offset.
+     * @param fetch Limit.
+     * @param spillManager Spill manager, {@code null} if the node must keep all the rows in memory.
+     * @param rowFactory Factory to restore spilled rows, must be provided along with the spill manager.
+     */
+    public SortNode(ExecutionContext<RowT> ctx,
+            Comparator<RowT> comp,
+            @Nullable Supplier<Integer> offset,
+            @Nullable Supplier<Integer> fetch,
+            @Nullable SpillManager spillManager,
+            @Nullable RowFactory<RowT> rowFactory) {
         super(ctx);
         assert fetch == null || fetch.get() >= 0;
         assert offset == null || offset.get() >= 0;
+        assert spillManager == null || rowFactory != null;
 
         limit = fetch == null ? -1 : fetch.get() + (offset == null ? 0 : offset.get());
 
+        this.comp = comp == null ? (Comparator<RowT>) Comparator.naturalOrder() : comp;
+        this.rowFactory = rowFactory;
+
         if (limit < 1) {
             rows = new PriorityQueue<>(comp);
+
+            // Limited sort holds no more than limit rows, so spilling makes sense for unlimited sort only.
+            this.spillManager = spillManager != null && spillManager.enabled() ? spillManager : null;
         } else {
             rows = new BoundedPriorityQueue<>(limit, comp == null ? (Comparator<RowT>) Comparator.reverseOrder() : comp.reversed());
+
+            this.spillManager = null;
         }
+
+        sizeEstimator = new RowSizeEstimator<>(context().rowHandler());
+        memoryTracker = new OperatorMemoryTracker(ctx.memoryTracker());
     }
 
     /**
@@ -93,6 +162,16 @@ public class SortNode<RowT> extends AbstractNode<RowT> implements SingleNode<Row
         if (reversed != null) {
             reversed.clear();
         }
+
+        releaseSpilledRuns();
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    protected void closeInternal() {
+        super.closeInternal();
+
+        releaseSpilledRuns();
     }
 
     /** {@inheritDoc} */
@@ -134,8 +213,23 @@ public class SortNode<RowT> extends AbstractNode<RowT> implements SingleNode<Row
 
         waiting--;
 
+        int bufferedRows = rows.size();
+
         rows.add(row);
 
+        // Limited sort evicts a row once the limit is reached, so the buffer doesn't grow anymore.
+        if (rows.size() > bufferedRows) {
+            long rowSize = sizeEstimator.estimate(row);
+
+            memoryTracker.reserve(rowSize);
+
+            bufferedBytes += rowSize;
+
+            if (spillManager != null && bufferedBytes > spillManager.threshold()) {
+                spillRun();
+            }
+        }
+
         if (waiting == 0) {
             source().request(waiting = inBufSize);
         }
@@ -151,6 +245,10 @@ public class SortNode<RowT> extends AbstractNode<RowT> implements SingleNode<Row
 
         waiting = -1;
 
+        if (!runs.isEmpty()) {
+            startMerge();
+        }
+
         flush();
     }
 
@@ -185,12 +283,12 @@ public class SortNode<RowT> extends AbstractNode<RowT> implements SingleNode<Row
                 processed = 0;
             }
 
-            while (requested > 0 && !(reversed == null ? rows.isEmpty() : reversed.isEmpty())) {
+            while (requested > 0 && hasMoreRows()) {
                 checkState();
 
                 requested--;
 
-                downstream().push(reversed == null ? rows.poll() : reversed.remove(reversed.size() - 1));
+                downstream().push(nextRow());
 
                 if (++processed >= inBufSize && requested > 0) {
                     // allow others to do their job
@@ -200,7 +298,9 @@ public class SortNode<RowT> extends AbstractNode<RowT> implements SingleNode<Row
                 }
             }
 
-            if (reversed == null ? rows.isEmpty() : reversed.isEmpty()) {
+            if (!hasMoreRows()) {
+                releaseSpilledRuns();
+
                 if (requested > 0) {
                     downstream().end();
                 }
@@ -211,4 +311,148 @@ public class SortNode<RowT> extends AbstractNode<RowT> implements SingleNode<Row
             inLoop = false;
         }
     }
+
+    private boolean hasMoreRows() {
+        if (mergeQueue != null) {
+            return !mergeQueue.isEmpty();
+        }
+
+        return reversed == null ? !rows.isEmpty() : !reversed.isEmpty();
+    }
+
+    private RowT nextRow() throws IOException {
+        if (mergeQueue != null) {
+            return pollMerged(mergeQueue);
+        }
+
+        return reversed == null ? rows.poll() : reversed.remove(reversed.size() - 1);
+    }
+
+    /** Writes all the buffered rows to disk as a new sorted run. */
+    private void spillRun() throws IOException {
+        assert spillManager != null && rowFactory != null;
+
+        SpillFile<RowT> run = spillManager.createFile(rowFactory);
+
+        // Register the run before writing, so it will be deleted even if writing fails.
+        runs.add(run);
+
+        while (!rows.isEmpty()) {
+            run.write(rows.poll());
+        }
+
+        run.finishWrite();
+
+        memoryTracker.release(bufferedBytes);
+
+        bufferedBytes = 0;
+    }
+
+    /**
+     * Prepares the merge of spilled runs and the rows remaining in memory. If there are too many runs, they are
+     * merged in several passes to limit the number of simultaneously opened files.
+     */
+    private void startMerge() throws IOException {
+        assert spillManager != null && rowFactory != null;
+
+        while (runs.size() > MAX_MERGE_FAN_IN) {
+            List<SpillFile<RowT>> batch = new ArrayList<>(runs.subList(0, MAX_MERGE_FAN_IN));
+
+            runs.subList(0, MAX_MERGE_FAN_IN).clear();
+
+            try {
+                SpillFile<RowT> merged = spillManager.createFile(rowFactory);
+
+                runs.add(merged);
+
+                PriorityQueue<RunCursor<RowT>> queue = openRuns(batch, null);
+
+                while (!queue.isEmpty()) {
+                    merged.write(pollMerged(queue));
+                }
+
+                merged.finishWrite();
+            } finally {
+                batch.forEach(Commons::closeQuiet);
+            }
+        }
+
+        mergeQueue = openRuns(runs, rows);
+    }
+
+    private PriorityQueue<RunCursor<RowT>> openRuns(List<SpillFile<RowT>> files, @Nullable PriorityQueue<RowT> inMemory)
+            throws IOException {
+        PriorityQueue<RunCursor<RowT>> queue = new PriorityQueue<>(files.size() + 1, (c1, c2) -> comp.compare(c1.current, c2.current));
+
+        for (SpillFile<RowT> file : files) {
+            SpillFile<RowT>.Reader reader = file.reader();
+
+            RunCursor<RowT> cursor = new RunCursor<>(reader::next);
+
+            if (cursor.advance()) {
+                queue.add(cursor);
+            }
+        }
+
+        if (inMemory != null) {
+            RunCursor<RowT> cursor = new RunCursor<>(inMemory::poll);
+
+            if (cursor.advance()) {
+                queue.add(cursor);
+            }
+        }
+
+        return queue;
+    }
+
+    private RowT pollMerged(PriorityQueue<RunCursor<RowT>> queue) throws IOException {
+        RunCursor<RowT> cursor = queue.poll();
+
+        assert cursor != null;
+
+        RowT row = cursor.current;
+
+        if (cursor.advance()) {
+            queue.add(cursor);
+        }
+
+        return row;
+    }
+
+    private void releaseSpilledRuns() {
+        mergeQueue = null;
+        bufferedBytes = 0;
+
+        memoryTracker.reset();
+
+        if (!runs.isEmpty()) {
+            runs.forEach(Commons::closeQuiet);
+            runs.clear();
+        }
+    }
+
+    /** Source of sorted rows. */
+    @FunctionalInterface
+    private interface RowSource<RowT> {
+        /** Returns next row or {@code null} if the source is exhausted. */
+        @Nullable RowT next() throws IOException;
+    }
+
+    /** Cursor over a sorted run, which holds the current row of the run. */
+    private static class RunCursor<RowT> {
+        private final RowSource<RowT> source;
+
+        private RowT current;
+
+        RunCursor(RowSource<RowT> source) {
+            this.source = source;
+        }
+
+        /** Moves the cursor to the next row, returns {@code false} if the run is exhausted. */
+        boolean advance() throws IOException {
+            current = source.next();
+
+            return current != null;
+        }
+    }
 }
@@ -20,6 +20,7 @@ package org.apache.ignite.internal.sql.engine.exec.rel;
 import java.util.BitSet;
 import java.util.Collection;
 import java.util.Iterator;
+import java.util.List;
 import java.util.concurrent.Flow.Publisher;
 import java.util.function.Function;
 import java.util.function.Predicate;
@@ -28,6 +29,7 @@ import org.apache.ignite.internal.sql.engine.exec.PartitionWithConsistencyToken;
 import org.apache.ignite.internal.sql.engine.exec.RowHandler;
 import org.apache.ignite.internal.sql.engine.exec.RowHandler.RowFactory;
 import org.apache.ignite.internal.sql.engine.exec.ScannableTable;
+import org.apache.ignite.internal.sql.engine.util.Commons;
 import org.apache.ignite.internal.util.SubscriptionUtils;
 import org.apache.ignite.internal.util.TransformingIterator;
 import org.jetbrains.annotations.Nullable;
@@ -47,6 +49,9 @@ public class TableScanNode<RowT> extends StorageScanNode<RowT> {
 
     private final @Nullable BitSet requiredColumns;
 
+    /** Number of concurrent scans every partition is split into. */
+    private final int parallelism;
+
     /**
      * Constructor.
      *
@@ -58,6 +63,7 @@ public class TableScanNode<RowT> extends StorageScanNode<RowT> {
      * @param filters Optional filter to filter out rows.
      * @param rowTransformer Optional projection function.
      * @param requiredColumns Optional set of column of interest.
+     * @param parallelism Number of concurrent scans every partition is split into.
      */
     public TableScanNode(
             ExecutionContext<RowT> ctx,
@@ -66,24 +72,39 @@ public class TableScanNode<RowT> extends StorageScanNode<RowT> {
             Collection<PartitionWithConsistencyToken> partsWithConsistencyTokens,
             @Nullable Predicate<RowT> filters,
             @Nullable Function<RowT, RowT> rowTransformer,
-            @Nullable BitSet requiredColumns
+            @Nullable BitSet requiredColumns,
+            int parallelism
     ) {
         super(ctx, filters, rowTransformer);
 
         assert partsWithConsistencyTokens != null && !partsWithConsistencyTokens.isEmpty();
+        assert parallelism > 0 : parallelism;
 
         this.table = table;
         this.partsWithConsistencyTokens = partsWithConsistencyTokens;
         this.rowFactory = rowFactory;
         this.requiredColumns = requiredColumns;
+        this.parallelism = parallelism;
     }
 
     /** {@inheritDoc} */
     @Override
+    @SuppressWarnings("unchecked")
     protected Publisher<RowT> scan() {
         Iterator<Publisher<? extends RowT>> it = new TransformingIterator<>(
                 partsWithConsistencyTokens.iterator(), partWithConsistencyToken -> {
-            return table.scan(context(), partWithConsistencyToken, rowFactory, requiredColumns);
+            if (parallelism == 1) {
+                return table.scan(context(), partWithConsistencyToken, rowFactory, requiredColumns);
+            }
+
+            List<Publisher<RowT>> slices = table.scanSlices(context(), partWithConsistencyToken, rowFactory, requiredColumns, parallelism);
+
+            if (slices.size() == 1) {
+                return slices.get(0);
+            }
+
+            // Slices of the partition are read concurrently, the order of rows is not defined anyway.
+            return SubscriptionUtils.merge(Commons.IN_BUFFER_SIZE, slices.toArray(new Publisher[0]));
         });
 
         return SubscriptionUtils.concat(it);
@@ -22,6 +22,8 @@ import static org.apache.ignite.internal.util.CollectionUtils.nullOrEmpty;
 import java.util.ArrayList;
 import java.util.List;
 import org.apache.ignite.internal.sql.engine.exec.ExecutionContext;
+import org.apache.ignite.internal.sql.engine.exec.memory.OperatorMemoryTracker;
+import org.apache.ignite.internal.sql.engine.exec.spill.RowSizeEstimator;
 
 /**
  * Table spool node.
@@ -51,6 +53,10 @@ public class TableSpoolNode<RowT> extends AbstractNode<RowT> implements SingleNo
      */
     private boolean inLoop;
 
+    private final RowSizeEstimator<RowT> sizeEstimator;
+
+    private final OperatorMemoryTracker memoryTracker;
+
     /**
      * Constructor.
      * TODO Documentation https://issues.apache.org/jira/browse/IGNITE-15859
@@ -64,6 +70,9 @@ public class TableSpoolNode<RowT> extends AbstractNode<RowT> implements SingleNo
         this.lazyRead = lazyRead;
 
         rows = new ArrayList<>();
+
+        sizeEstimator = new RowSizeEstimator<>(ctx.rowHandler());
+        memoryTracker = new OperatorMemoryTracker(ctx.memoryTracker());
     }
 
     /** {@inheritDoc} */
@@ -79,6 +88,14 @@ public class TableSpoolNode<RowT> extends AbstractNode<RowT> implements SingleNo
         rewindInternal();
     }
 
+    /** {@inheritDoc} */
+    @Override
+    protected void closeInternal() {
+        super.closeInternal();
+
+        memoryTracker.reset();
+    }
+
     /** {@inheritDoc} */
     @Override
     protected Downstream<RowT> requestDownstream(int idx) {
@@ -146,6 +163,8 @@ public class TableSpoolNode<RowT> extends AbstractNode<RowT> implements SingleNo
 
         waiting--;
 
+        memoryTracker.reserve(sizeEstimator.estimate(row));
+
         rows.add(row);
 
         if (waiting == 0) {
@@ -0,0 +1,66 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.sql.engine.exec.spill;
+
+import org.apache.ignite.internal.sql.engine.exec.RowHandler;
+
+/**
+ * Estimates the amount of memory occupied by buffered rows.
+ *
+ * <p>Measuring every row would require serializing it, so only every {@link #SAMPLE_RATE}-th row is
+ * measured, and the rest are assumed to be of the average size of the sampled ones.
+ */
+public class RowSizeEstimator<RowT> {
+    /** Every n-th row is measured. */
+    private static final int SAMPLE_RATE = 64;
+
+    /** Rough per-row overhead of the on-heap representation (row object, array of fields, references). */
+    private static final int ROW_OVERHEAD = 48;
+
+    private final RowHandler<RowT> handler;
+
+    private long rowsCount;
+
+    private long sampledCount;
+
+    private long sampledBytes;
+
+    /**
+     * Constructor.
+     *
+     * @param handler Row handler.
+     */
+    public RowSizeEstimator(RowHandler<RowT> handler) {
+        this.handler = handler;
+    }
+
+    /**
+     * Returns the estimated size of the given row in bytes.
+     *
+     * @param row Row to estimate.
+     * @return Estimated size in bytes.
+     */
+    public long estimate(RowT row) {
+        if (rowsCount++ % SAMPLE_RATE == 0) {
+            sampledBytes += handler.toBinaryTuple(row).byteBuffer().remaining();
+            sampledCount++;
+        }
+
+        return ROW_OVERHEAD + sampledBytes / sampledCount;
+    }
+}
@@ -0,0 +1,210 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.sql.engine.exec.spill;
+
+import java.io.BufferedInputStream;
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import org.apache.ignite.internal.schema.BinaryTuple;
+import org.apache.ignite.internal.sql.engine.exec.RowHandler;
+import org.apache.ignite.internal.sql.engine.exec.RowHandler.RowFactory;
+import org.apache.ignite.internal.sql.engine.util.Commons;
+import org.apache.ignite.internal.sql.metrics.SqlSpillMetricSource;
+import org.apache.ignite.internal.util.IgniteUtils;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Temporary file holding a sequence of rows serialized as binary tuples.
+ *
+ * <p>The file is written once, sequentially, and then may be read sequentially any number of times.
+ * Every row is stored as a length-prefixed binary tuple. The file is deleted on {@link #close()}.
+ *
+ * <p>Not thread-safe: the file is expected to be accessed from the execution thread of its owner only.
+ */
+public class SpillFile<RowT> implements AutoCloseable {
+    private static final int BUFFER_SIZE = 64 * 1024;
+
+    private final Path path;
+
+    private final RowFactory<RowT> rowFactory;
+
+    private final RowHandler<RowT> handler;
+
+    private final SqlSpillMetricSource metricSource;
+
+    private @Nullable DataOutputStream out;
+
+    private @Nullable Reader reader;
+
+    /** Number of elements in every tuple of the file, {@code -1} if nothing has been written yet. */
+    private int columnCount = -1;
+
+    private long rowsCount;
+
+    private long size;
+
+    SpillFile(Path path, RowFactory<RowT> rowFactory, SqlSpillMetricSource metricSource) throws IOException {
+        this.path = path;
+        this.rowFactory = rowFactory;
+        this.handler = rowFactory.handler();
+        this.metricSource = metricSource;
+
+        out = new DataOutputStream(new BufferedOutputStream(Files.newOutputStream(path), BUFFER_SIZE));
+    }
+
+    /**
+     * Appends a row to the file.
+     *
+     * @param row Row to append.
+     * @throws IOException If an I/O error occurs.
+     */
+    public void write(RowT row) throws IOException {
+        assert out != null : "File is not opened for writing: " + path;
+
+        BinaryTuple tuple = handler.toBinaryTuple(row);
+
+        if (columnCount == -1) {
+            columnCount = tuple.elementCount();
+        } else {
+            assert columnCount == tuple.elementCount() : "columnCount=" + columnCount + ", tupleSize=" + tuple.elementCount();
+        }
+
+        ByteBuffer buf = tuple.byteBuffer();
+        int len = buf.remaining();
+
+        out.writeInt(len);
+
+        if (buf.hasArray()) {
+            out.write(buf.array(), buf.arrayOffset() + buf.position(), len);
+        } else {
+            byte[] bytes = new byte[len];
+
+            buf.get(bytes);
+
+            out.write(bytes);
+        }
+
+        rowsCount++;
+        size += Integer.BYTES + len;
+    }
+
+    /**
+     * Completes writing. After this call no more rows can be appended, but the file can be read.
+     *
+     * @throws IOException If an I/O error occurs.
+     */
+    public void finishWrite() throws IOException {
+        assert out != null : "File is not opened for writing: " + path;
+
+        out.close();
+        out = null;
+
+        metricSource.recordSpillFile(size);
+    }
+
+    /**
+     * Opens the file for reading from the very beginning. A previously opened reader, if any, is closed.
+     *
+     * @return Reader of the rows.
+     * @throws IOException If an I/O error occurs.
+     */
+    public Reader reader() throws IOException {
+        assert out == null : "File is still being written: " + path;
+
+        closeReader();
+
+        reader = new Reader(new DataInputStream(new BufferedInputStream(Files.newInputStream(path), BUFFER_SIZE)));
+
+        return reader;
+    }
+
+    /** Returns number of rows written to the file. */
+    public long rowsCount() {
+        return rowsCount;
+    }
+
+    /** Returns size of the file in bytes. */
+    public long size() {
+        return size;
+    }
+
+    /** Closes all the streams and deletes the file. */
+    @Override
+    public void close() {
+        Commons.closeQuiet(out);
+        out = null;
+
+        closeReader();
+
+        IgniteUtils.deleteIfExists(path);
+    }
+
+    private void closeReader() {
+        if (reader != null) {
+            Commons.closeQuiet(reader.in);
+
+            reader = null;
+        }
+    }
+
+    /**
+     * Sequential reader of the rows stored in the file.
+     */
+    public class Reader {
+        private final DataInputStream in;
+
+        private long remaining = rowsCount;
+
+        private Reader(DataInputStream in) {
+            this.in = in;
+        }
+
+        /**
+         * Reads next row.
+         *
+         * @return Next row or {@code null} if there are no more rows.
+         * @throws IOException If an I/O error occurs.
+         */
+        public @Nullable RowT next() throws IOException {
+            if (remaining == 0) {
+                return null;
+            }
+
+            int len = in.readInt();
+            byte[] bytes = new byte[len];
+
+            in.readFully(bytes);
+
+            remaining--;
+
+            return rowFactory.create(new BinaryTuple(columnCount, bytes));
+        }
+
+        /**
+         * Returns {@code true} if there are more rows to read.
+         */
+        public boolean hasNext() {
+            return remaining > 0;
+        }
+    }
+}
@@ -0,0 +1,113 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.sql.engine.exec.spill;
+
+import static org.apache.ignite.lang.ErrorGroups.Common.INTERNAL_ERR;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.atomic.AtomicLong;
+import org.apache.ignite.internal.lang.IgniteInternalException;
+import org.apache.ignite.internal.logger.IgniteLogger;
+import org.apache.ignite.internal.logger.Loggers;
+import org.apache.ignite.internal.sql.engine.exec.LifecycleAware;
+import org.apache.ignite.internal.sql.engine.exec.RowHandler.RowFactory;
+import org.apache.ignite.internal.sql.metrics.SqlSpillMetricSource;
+import org.apache.ignite.internal.util.IgniteUtils;
+
+/**
+ * Manages temporary files that execution nodes use to spill intermediate rows to disk
+ * once their in-memory buffers exceed the configured threshold.
+ *
+ * <p>All files are created within a single directory, which is wiped out on both start and stop
+ * of the manager, so files left by a crashed node do not pile up.
+ */
+public class SpillManager implements LifecycleAware {
+    private static final IgniteLogger LOG = Loggers.forClass(SpillManager.class);
+
+    private final Path spillDir;
+
+    private final long threshold;
+
+    private final SqlSpillMetricSource metricSource;
+
+    private final AtomicLong fileIdGen = new AtomicLong();
+
+    /**
+     * Constructor.
+     *
+     * @param spillDir Directory to create spill files in.
+     * @param threshold Amount of memory, in bytes, a single operator may hold before spilling. {@code 0} disables spilling.
+     * @param metricSource Metric source to report spilled data to.
+     */
+    public SpillManager(Path spillDir, long threshold, SqlSpillMetricSource metricSource) {
+        assert threshold >= 0 : threshold;
+
+        this.spillDir = spillDir;
+        this.threshold = threshold;
+        this.metricSource = metricSource;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public void start() {
+        try {
+            IgniteUtils.deleteIfExistsThrowable(spillDir);
+
+            Files.createDirectories(spillDir);
+        } catch (IOException e) {
+            throw new IgniteInternalException(INTERNAL_ERR, "Unable to create SQL spill directory: " + spillDir, e);
+        }
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public void stop() {
+        if (!IgniteUtils.deleteIfExists(spillDir)) {
+            LOG.warn("Unable to clean up SQL spill directory [dir={}]", spillDir);
+        }
+    }
+
+    /**
+     * Returns amount of memory, in bytes, a single operator may hold before it has to spill rows to disk.
+     * {@code 0} means spilling is disabled.
+     */
+    public long threshold() {
+        return threshold;
+    }
+
+    /** Returns {@code true} if operators are allowed to spill rows to disk. */
+    public boolean enabled() {
+        return threshold > 0;
+    }
+
+    /**
+     * Creates a new empty spill file.
+     *
+     * @param rowFactory Factory to restore rows read from the file.
+     * @param <RowT> Type of the row.
+     * @return Spill file opened for writing.
+     * @throws IOException If the file could not be created.
+     */
+    public <RowT> SpillFile<RowT> createFile(RowFactory<RowT> rowFactory) throws IOException {
+        Path path = spillDir.resolve("spill-" + fileIdGen.incrementAndGet() + ".bin");
+
+        return new SpillFile<>(path, rowFactory, metricSource);
+    }
+}
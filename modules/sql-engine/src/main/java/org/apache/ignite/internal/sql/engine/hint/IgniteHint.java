@@ -34,7 +34,11 @@ public enum IgniteHint {
     /** Disables index usage. **/
     NO_INDEX(true),
     /** Forces index usage. */
-    FORCE_INDEX(true);
+    FORCE_INDEX(true),
+    /** Forces equi-joins to be executed as hash joins. */
+    USE_HASH_JOIN,
+    /** Sets the number of concurrent scans every partition of the table is split into. */
+    SCAN_PARALLELISM(true);
 
     private final boolean paramSupport;
 
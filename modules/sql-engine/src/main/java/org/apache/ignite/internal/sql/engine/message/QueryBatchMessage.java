@@ -17,9 +17,9 @@
 
 package org.apache.ignite.internal.sql.engine.message;
 
-import java.util.List;
+import java.nio.ByteBuffer;
 import org.apache.ignite.internal.network.annotations.Transferable;
-import org.apache.ignite.internal.table.distributed.replication.request.BinaryTupleMessage;
+import org.apache.ignite.internal.sql.engine.exec.BinaryTupleBatch;
 
 /**
  * QueryBatchMessage interface.
@@ -43,7 +43,7 @@ public interface QueryBatchMessage extends ExecutionContextAwareMessage {
     boolean last();
 
     /**
-     * Get rows.
+     * Get rows packed by {@link BinaryTupleBatch}.
      */
-    List<BinaryTupleMessage> rows();
+    ByteBuffer rows();
 }
@@ -19,6 +19,7 @@ package org.apache.ignite.internal.sql.engine.message;
 
 import org.apache.ignite.internal.network.annotations.Marshallable;
 import org.apache.ignite.internal.network.annotations.Transferable;
+import org.apache.ignite.internal.sql.engine.exec.RuntimeFilter;
 import org.apache.ignite.internal.sql.engine.exec.SharedState;
 import org.jetbrains.annotations.Nullable;
 
@@ -36,4 +37,8 @@ public interface QueryBatchRequestMessage extends ExecutionContextAwareMessage {
     /** Returns a state that has should be propagated to the target fragment. */
     @Marshallable
     @Nullable SharedState sharedState();
+
+    /** Returns a filter of the rows to send, which has to be applied by the target fragment. */
+    @Marshallable
+    @Nullable RuntimeFilter runtimeFilter();
 }
@@ -18,6 +18,7 @@
 package org.apache.ignite.internal.sql.engine.metadata;
 
 import org.apache.calcite.plan.volcano.RelSubset;
+import org.apache.calcite.rel.RelNode;
 import org.apache.calcite.rel.metadata.ReflectiveRelMetadataProvider;
 import org.apache.calcite.rel.metadata.RelMdDistinctRowCount;
 import org.apache.calcite.rel.metadata.RelMetadataProvider;
@@ -25,6 +26,10 @@ import org.apache.calcite.rel.metadata.RelMetadataQuery;
 import org.apache.calcite.rex.RexNode;
 import org.apache.calcite.util.BuiltInMethod;
 import org.apache.calcite.util.ImmutableBitSet;
+import org.apache.calcite.util.Util;
+import org.apache.ignite.internal.sql.engine.rel.ProjectableFilterableTableScan;
+import org.apache.ignite.internal.sql.engine.statistic.ColumnStatistics;
+import org.jetbrains.annotations.Nullable;
 
 /**
  * IgniteMdDistinctRowCount.
@@ -48,10 +53,75 @@ public class IgniteMdDistinctRowCount extends RelMdDistinctRowCount {
             return 1d;
         }
 
+        RelNode rel0 = Util.first(rel.getBest(), rel.getOriginal());
+
+        if (rel0 instanceof ProjectableFilterableTableScan) {
+            Double res = distinctRowCountFromStatistics((ProjectableFilterableTableScan) rel0, mq, groupKey, predicate);
+
+            if (res != null) {
+                return res;
+            }
+        }
+
         double rowCount = mq.getRowCount(rel);
 
         rowCount *= 1.0 - Math.pow(.5, groupKey.cardinality());
 
         return rowCount;
     }
+
+    /**
+     * Estimates number of distinct values of the group key over the table scan.
+     */
+    public Double getDistinctRowCount(
+            ProjectableFilterableTableScan rel,
+            RelMetadataQuery mq,
+            ImmutableBitSet groupKey,
+            RexNode predicate
+    ) {
+        if (groupKey.cardinality() == 0) {
+            return 1d;
+        }
+
+        Double res = distinctRowCountFromStatistics(rel, mq, groupKey, predicate);
+
+        return res != null ? res : super.getDistinctRowCount(rel, mq, groupKey, predicate);
+    }
+
+    /**
+     * Estimates number of distinct values of the group key from the collected statistics of the columns.
+     *
+     * @return Number of distinct values or {@code null} if some of the columns have not been analyzed.
+     */
+    private static @Nullable Double distinctRowCountFromStatistics(
+            ProjectableFilterableTableScan rel,
+            RelMetadataQuery mq,
+            ImmutableBitSet groupKey,
+            @Nullable RexNode predicate
+    ) {
+        if (rel.projects() != null) {
+            return null;
+        }
+
+        double ndv = 1.0;
+
+        for (int field : groupKey) {
+            ColumnStatistics stats = IgniteMdSelectivity.columnStatistics(rel, field);
+
+            if (stats == null) {
+                return null;
+            }
+
+            // NULL forms a group of its own.
+            ndv *= Math.max(1.0, stats.distinctValues()) + (stats.nullFraction() > 0 ? 1 : 0);
+        }
+
+        double rowCount = mq.getRowCount(rel);
+
+        if (predicate != null) {
+            rowCount *= mq.getSelectivity(rel, predicate);
+        }
+
+        return Math.max(1.0, Math.min(ndv, rowCount));
+    }
 }
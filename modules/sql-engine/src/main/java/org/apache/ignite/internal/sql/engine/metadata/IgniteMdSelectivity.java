@@ -27,10 +27,17 @@ import org.apache.calcite.rel.metadata.RelMdUtil;
 import org.apache.calcite.rel.metadata.RelMetadataProvider;
 import org.apache.calcite.rel.metadata.RelMetadataQuery;
 import org.apache.calcite.rex.RexCall;
+import org.apache.calcite.rex.RexDynamicParam;
+import org.apache.calcite.rex.RexInputRef;
+import org.apache.calcite.rex.RexLiteral;
+import org.apache.calcite.rex.RexLocalRef;
 import org.apache.calcite.rex.RexNode;
+import org.apache.calcite.rex.RexSlot;
 import org.apache.calcite.rex.RexUtil;
 import org.apache.calcite.sql.SqlKind;
+import org.apache.calcite.sql.type.SqlTypeUtil;
 import org.apache.calcite.util.BuiltInMethod;
+import org.apache.calcite.util.ImmutableBitSet;
 import org.apache.ignite.internal.sql.engine.prepare.bounds.ExactBounds;
 import org.apache.ignite.internal.sql.engine.prepare.bounds.MultiBounds;
 import org.apache.ignite.internal.sql.engine.prepare.bounds.RangeBounds;
@@ -39,7 +46,12 @@ import org.apache.ignite.internal.sql.engine.rel.AbstractIndexScan;
 import org.apache.ignite.internal.sql.engine.rel.IgniteHashIndexSpool;
 import org.apache.ignite.internal.sql.engine.rel.IgniteSortedIndexSpool;
 import org.apache.ignite.internal.sql.engine.rel.ProjectableFilterableTableScan;
+import org.apache.ignite.internal.sql.engine.schema.IgniteStatistic;
+import org.apache.ignite.internal.sql.engine.schema.IgniteTable;
+import org.apache.ignite.internal.sql.engine.statistic.ColumnStatistics;
+import org.apache.ignite.internal.sql.engine.statistic.Histogram;
 import org.apache.ignite.internal.sql.engine.util.RexUtils;
+import org.jetbrains.annotations.Nullable;
 
 /**
  * IgniteMdSelectivity.
@@ -88,16 +100,16 @@ public class IgniteMdSelectivity extends RelMdSelectivity {
      */
     public Double getSelectivity(ProjectableFilterableTableScan rel, RelMetadataQuery mq, RexNode predicate) {
         if (predicate == null) {
-            return RelMdUtil.guessSelectivity(rel.condition());
+            return estimateSelectivity(rel, rel.condition());
         }
 
         RexNode condition = rel.pushUpPredicate();
         if (condition == null) {
-            return RelMdUtil.guessSelectivity(predicate);
+            return rel.projects() == null ? estimateSelectivity(rel, predicate) : RelMdUtil.guessSelectivity(predicate);
         }
 
         RexNode diff = RelMdUtil.minusPreds(RexUtils.builder(rel), predicate, condition);
-        return RelMdUtil.guessSelectivity(diff);
+        return rel.projects() == null ? estimateSelectivity(rel, diff) : RelMdUtil.guessSelectivity(diff);
     }
 
     /**
@@ -132,6 +144,151 @@ public class IgniteMdSelectivity extends RelMdSelectivity {
         return mq.getSelectivity(rel.getInput(), rel.condition());
     }
 
+    /**
+     * Returns statistics of the table column referenced by the given field of the scan.
+     *
+     * @param rel Table scan.
+     * @param field Index of the field in the row type of the scan without projections.
+     * @return Column statistics or {@code null} if the table has not been analyzed.
+     */
+    static @Nullable ColumnStatistics columnStatistics(ProjectableFilterableTableScan rel, int field) {
+        IgniteTable table = rel.getTable().unwrap(IgniteTable.class);
+
+        if (table == null || !(table.getStatistic() instanceof IgniteStatistic)) {
+            return null;
+        }
+
+        ImmutableBitSet requiredColumns = rel.requiredColumns();
+        int colIdx = requiredColumns == null ? field : requiredColumns.nth(field);
+
+        String colName = table.descriptor().columnDescriptor(colIdx).name();
+
+        return ((IgniteStatistic) table.getStatistic()).columnStatistics(colName);
+    }
+
+    /**
+     * Estimates selectivity of the condition over the table scan, taking into account collected statistics of the
+     * columns, and falls back to a guess for the conjunctions statistics can't be applied to.
+     */
+    private static double estimateSelectivity(ProjectableFilterableTableScan rel, @Nullable RexNode condition) {
+        if (condition == null) {
+            return RelMdUtil.guessSelectivity(null);
+        }
+
+        double selectivity = 1.0;
+
+        for (RexNode conjunction : RelOptUtil.conjunctions(condition)) {
+            Double sel = columnSelectivity(rel, conjunction);
+
+            selectivity *= sel != null ? sel : RelMdUtil.guessSelectivity(conjunction);
+        }
+
+        return selectivity;
+    }
+
+    private static @Nullable Double columnSelectivity(ProjectableFilterableTableScan rel, RexNode conjunction) {
+        if (!(conjunction instanceof RexCall)) {
+            return null;
+        }
+
+        RexCall call = (RexCall) conjunction;
+        SqlKind kind = call.getKind();
+
+        if (kind == SqlKind.IS_NULL || kind == SqlKind.IS_NOT_NULL) {
+            ColumnStatistics stats = columnStatistics(rel, call.getOperands().get(0));
+
+            if (stats == null) {
+                return null;
+            }
+
+            return kind == SqlKind.IS_NULL ? stats.nullFraction() : 1.0 - stats.nullFraction();
+        }
+
+        if (!SqlKind.COMPARISON.contains(kind) || call.getOperands().size() != 2) {
+            return null;
+        }
+
+        RexNode left = RexUtil.removeCast(call.getOperands().get(0));
+        RexNode right = RexUtil.removeCast(call.getOperands().get(1));
+
+        if (!isFieldRef(left)) {
+            RexNode tmp = left;
+
+            left = right;
+            right = tmp;
+            kind = kind.reverse();
+        }
+
+        if (!isFieldRef(left) || !(right instanceof RexLiteral || right instanceof RexDynamicParam)) {
+            return null;
+        }
+
+        ColumnStatistics stats = columnStatistics(rel, left);
+
+        if (stats == null) {
+            return null;
+        }
+
+        double nonNull = 1.0 - stats.nullFraction();
+        double equal = 1.0 / Math.max(1.0, stats.distinctValues());
+
+        switch (kind) {
+            case EQUALS:
+                return nonNull * equal;
+
+            case NOT_EQUALS:
+                return nonNull * (1.0 - equal);
+
+            case LESS_THAN:
+            case LESS_THAN_OR_EQUAL:
+            case GREATER_THAN:
+            case GREATER_THAN_OR_EQUAL:
+                break;
+
+            default:
+                return null;
+        }
+
+        Histogram histogram = stats.histogram();
+
+        if (histogram == null || !(right instanceof RexLiteral) || !SqlTypeUtil.isNumeric(right.getType())) {
+            return null;
+        }
+
+        Double val = ((RexLiteral) right).getValueAs(Double.class);
+
+        if (val == null) {
+            return null;
+        }
+
+        double below = histogram.fractionBelow(val);
+        double belowOrEqual = Math.min(1.0, below + equal);
+
+        switch (kind) {
+            case LESS_THAN:
+                return nonNull * below;
+
+            case LESS_THAN_OR_EQUAL:
+                return nonNull * belowOrEqual;
+
+            case GREATER_THAN:
+                return nonNull * (1.0 - belowOrEqual);
+
+            default:
+                return nonNull * (1.0 - below);
+        }
+    }
+
+    private static @Nullable ColumnStatistics columnStatistics(ProjectableFilterableTableScan rel, RexNode node) {
+        node = RexUtil.removeCast(node);
+
+        return isFieldRef(node) ? columnStatistics(rel, ((RexSlot) node).getIndex()) : null;
+    }
+
+    private static boolean isFieldRef(RexNode node) {
+        return node instanceof RexLocalRef || node instanceof RexInputRef;
+    }
+
     /** Guess cost multiplier regarding search bounds only. */
     private static double guessCostMultiplier(SearchBounds bounds) {
         if (bounds instanceof ExactBounds) {
@@ -42,6 +42,9 @@ public class IgniteCost implements RelOptCost {
     /** Cost of a lookup at the hash. */
     public static final double HASH_LOOKUP_COST = 10;
 
+    /** Cost of putting a single row into a hash table, e.g. at the build phase of a hash join. */
+    public static final double HASH_BUILD_COST = 15;
+
     /** In case the fetch value is a DYNAMIC_PARAM. */
     public static final double FETCH_IS_PARAM_FACTOR = 0.01;
 
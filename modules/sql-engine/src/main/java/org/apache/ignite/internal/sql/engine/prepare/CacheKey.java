@@ -37,7 +37,7 @@ public class CacheKey {
 
     private final Object contextKey;
 
-    private final Object[] paramTypes;
+    private final ColumnType[] paramTypes;
 
     /**
      * Constructor.
@@ -57,6 +57,31 @@ public class CacheKey {
         this.paramTypes = paramTypes;
     }
 
+    /** Returns version of the catalog the plan is created for. */
+    int catalogVersion() {
+        return catalogVersion;
+    }
+
+    /** Returns name of the default schema. */
+    String schemaName() {
+        return schemaName;
+    }
+
+    /** Returns normalized query string. */
+    String query() {
+        return query;
+    }
+
+    /**
+     * Creates a key for the same statement, but another version of the catalog.
+     *
+     * @param catalogVersion Catalog version.
+     * @return Cache key.
+     */
+    CacheKey withCatalogVersion(int catalogVersion) {
+        return new CacheKey(catalogVersion, schemaName, query, contextKey, paramTypes);
+    }
+
     /** {@inheritDoc} */
     @Override
     public boolean equals(Object o) {
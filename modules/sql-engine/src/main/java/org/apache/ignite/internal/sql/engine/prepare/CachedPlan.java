@@ -0,0 +1,170 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.sql.engine.prepare;
+
+import it.unimi.dsi.fastutil.ints.IntOpenHashSet;
+import it.unimi.dsi.fastutil.ints.IntSet;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import org.apache.calcite.plan.RelOptTable;
+import org.apache.calcite.rel.RelNode;
+import org.apache.ignite.internal.sql.engine.schema.IgniteDataSource;
+import org.apache.ignite.internal.sql.engine.sql.ParsedResult;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Value of the plan cache.
+ *
+ * <p>Besides the plan itself, keeps the statement the plan was created for, so the plan can be re-created
+ * against a newer version of the catalog, and the ids of the tables the plan depends on, so the plan can be
+ * invalidated once any of these tables is changed.
+ */
+class CachedPlan {
+    private final ParsedResult parsedResult;
+
+    private final CompletableFuture<QueryPlan> plan;
+
+    /** Whether the plan was created for an older version of the catalog and reused as is. */
+    private final boolean reused;
+
+    private final LongAdder hits = new LongAdder();
+
+    private volatile long planningTime;
+
+    private volatile @Nullable IntSet tables;
+
+    /**
+     * Constructor.
+     *
+     * @param parsedResult Statement the plan is created for.
+     * @param plan Future that will be completed with the plan.
+     */
+    CachedPlan(ParsedResult parsedResult, CompletableFuture<QueryPlan> plan) {
+        this(parsedResult, plan, false);
+    }
+
+    private CachedPlan(ParsedResult parsedResult, CompletableFuture<QueryPlan> plan, boolean reused) {
+        this.parsedResult = parsedResult;
+        this.plan = plan;
+        this.reused = reused;
+    }
+
+    /**
+     * Records the plan is ready.
+     *
+     * @param plan Plan.
+     * @param planningTimeNanos Time spent on planning, in nanoseconds.
+     */
+    void onPlanned(QueryPlan plan, long planningTimeNanos) {
+        planningTime = TimeUnit.NANOSECONDS.toMillis(planningTimeNanos);
+        tables = dependencies(plan);
+    }
+
+    /** Returns statement the plan is created for. */
+    ParsedResult parsedResult() {
+        return parsedResult;
+    }
+
+    /** Returns future that will be completed with the plan. */
+    CompletableFuture<QueryPlan> plan() {
+        return plan;
+    }
+
+    /** Returns {@code true} if the plan was created for an older version of the catalog and reused as is. */
+    boolean reused() {
+        return reused;
+    }
+
+    /** Returns number of times the plan was taken from the cache. */
+    long hits() {
+        return hits.sum();
+    }
+
+    /** Records the plan was taken from the cache. */
+    void onHit() {
+        hits.increment();
+    }
+
+    /** Returns time spent on planning, in milliseconds. */
+    long planningTime() {
+        return planningTime;
+    }
+
+    /**
+     * Returns {@code true} if the plan is ready and the dependencies of the plan are known.
+     */
+    boolean ready() {
+        return tables != null;
+    }
+
+    /**
+     * Returns {@code true} if the plan depends on the table with the given id. Plans that are not {@link #ready()}
+     * are considered to depend on every table.
+     *
+     * @param tableId Id of the table.
+     */
+    boolean dependsOn(int tableId) {
+        IntSet tables0 = tables;
+
+        return tables0 == null || tables0.contains(tableId);
+    }
+
+    /** Creates a copy of this value to reuse the plan for another version of the catalog. */
+    CachedPlan reuse() {
+        assert ready();
+
+        CachedPlan copy = new CachedPlan(parsedResult, plan, true);
+
+        copy.planningTime = planningTime;
+        copy.tables = tables;
+
+        return copy;
+    }
+
+    /** Collects ids of the tables the given plan depends on. */
+    private static IntSet dependencies(QueryPlan plan) {
+        IntSet tables = new IntOpenHashSet();
+
+        if (plan instanceof MultiStepPlan) {
+            collectTables(((MultiStepPlan) plan).root(), tables);
+        } else if (plan instanceof KeyValueGetPlan) {
+            collectTables(((KeyValueGetPlan) plan).lookupNode(), tables);
+        } else if (plan instanceof KeyValueModifyPlan) {
+            collectTables(((KeyValueModifyPlan) plan).modifyNode(), tables);
+        }
+
+        return tables;
+    }
+
+    private static void collectTables(RelNode rel, IntSet tables) {
+        RelOptTable table = rel.getTable();
+
+        if (table != null) {
+            IgniteDataSource dataSource = table.unwrap(IgniteDataSource.class);
+
+            if (dataSource != null) {
+                tables.add(dataSource.id());
+            }
+        }
+
+        for (RelNode input : rel.getInputs()) {
+            collectTables(input, tables);
+        }
+    }
+}
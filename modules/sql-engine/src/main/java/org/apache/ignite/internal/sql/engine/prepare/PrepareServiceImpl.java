@@ -20,12 +20,15 @@ package org.apache.ignite.internal.sql.engine.prepare;
 import static org.apache.ignite.internal.sql.engine.prepare.CacheKey.EMPTY_CLASS_ARRAY;
 import static org.apache.ignite.internal.sql.engine.prepare.PlannerHelper.optimize;
 import static org.apache.ignite.internal.sql.engine.trait.TraitUtils.distributionPresent;
+import static org.apache.ignite.internal.sql.engine.util.Commons.FRAMEWORK_CONFIG;
 import static org.apache.ignite.lang.ErrorGroups.Sql.PLANNING_TIMEOUT_ERR;
 
 import java.util.ArrayList;
 import java.util.Collections;
+import java.util.IdentityHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 import java.util.UUID;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.CompletionException;
@@ -34,13 +37,16 @@ import java.util.concurrent.ThreadPoolExecutor;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicLong;
 import java.util.function.Function;
+import java.util.function.Supplier;
 import org.apache.calcite.plan.RelOptPlanner;
 import org.apache.calcite.rel.type.RelDataType;
 import org.apache.calcite.rel.type.RelDataTypeField;
+import org.apache.calcite.schema.SchemaPlus;
 import org.apache.calcite.sql.SqlDdl;
 import org.apache.calcite.sql.SqlExplain;
 import org.apache.calcite.sql.SqlNode;
 import org.apache.calcite.sql.SqlNodeList;
+import org.apache.calcite.tools.Frameworks;
 import org.apache.ignite.internal.catalog.commands.CatalogUtils;
 import org.apache.ignite.internal.lang.SqlExceptionMapperUtil;
 import org.apache.ignite.internal.logger.IgniteLogger;
@@ -55,6 +61,7 @@ import org.apache.ignite.internal.sql.engine.prepare.ddl.DdlSqlToCommandConverte
 import org.apache.ignite.internal.sql.engine.rel.IgniteKeyValueGet;
 import org.apache.ignite.internal.sql.engine.rel.IgniteKeyValueModify;
 import org.apache.ignite.internal.sql.engine.rel.IgniteRel;
+import org.apache.ignite.internal.sql.engine.schema.SqlSchemaManager;
 import org.apache.ignite.internal.sql.engine.sql.ParsedResult;
 import org.apache.ignite.internal.sql.engine.util.BaseQueryContext;
 import org.apache.ignite.internal.sql.engine.util.Cloner;
@@ -64,9 +71,15 @@ import org.apache.ignite.internal.sql.engine.util.cache.Cache;
 import org.apache.ignite.internal.sql.engine.util.cache.CacheFactory;
 import org.apache.ignite.internal.sql.metrics.SqlPlanCacheMetricSource;
 import org.apache.ignite.internal.storage.DataStorageManager;
+import org.apache.ignite.internal.systemview.api.SystemView;
+import org.apache.ignite.internal.systemview.api.SystemViewProvider;
+import org.apache.ignite.internal.systemview.api.SystemViews;
 import org.apache.ignite.internal.thread.NamedThreadFactory;
 import org.apache.ignite.internal.type.NativeTypeSpec;
+import org.apache.ignite.internal.type.NativeTypes;
+import org.apache.ignite.internal.util.CompletableFutures;
 import org.apache.ignite.internal.util.ExceptionUtils;
+import org.apache.ignite.internal.util.SubscriptionUtils;
 import org.apache.ignite.lang.ErrorGroups.Sql;
 import org.apache.ignite.sql.ColumnMetadata;
 import org.apache.ignite.sql.ColumnType;
@@ -77,7 +90,7 @@ import org.jetbrains.annotations.Nullable;
 /**
  * An implementation of the {@link PrepareService} that uses a Calcite-based query planner to validate and optimize a given query.
  */
-public class PrepareServiceImpl implements PrepareService {
+public class PrepareServiceImpl implements PrepareService, SystemViewProvider {
     private static final IgniteLogger LOG = Loggers.forClass(PrepareServiceImpl.class);
 
     /** DML metadata holder. */
@@ -91,12 +104,15 @@ public class PrepareServiceImpl implements PrepareService {
 
     private static final long THREAD_TIMEOUT_MS = 60_000;
 
+    /** Id of the table passed to {@link #onCatalogChange(int, int)} when a change does not affect any table. */
+    public static final int NO_TABLE = -1;
+
     private final UUID prepareServiceId = UUID.randomUUID();
     private final AtomicLong planIdGen = new AtomicLong();
 
     private final DdlSqlToCommandConverter ddlConverter;
 
-    private final Cache<CacheKey, CompletableFuture<QueryPlan>> cache;
+    private final Cache<CacheKey, CachedPlan> cache;
 
     private final String nodeName;
 
@@ -110,6 +126,11 @@ public class PrepareServiceImpl implements PrepareService {
 
     private final SqlPlanCacheMetricSource sqlPlanCacheMetricSource;
 
+    private final SqlSchemaManager sqlSchemaManager;
+
+    /** Latest version of the catalog the cached plans were reused for. Guarded by {@code this}. */
+    private int lastCatalogVersion = -1;
+
     /**
      * Factory method.
      *
@@ -120,6 +141,7 @@ public class PrepareServiceImpl implements PrepareService {
      * @param metricManager Metric manager.
      * @param clusterCfg  Cluster SQL configuration.
      * @param nodeCfg Node SQL configuration.
+     * @param sqlSchemaManager Schema manager to re-plan cached statements against newer versions of the catalog.
      */
     public static PrepareServiceImpl create(
             String nodeName,
@@ -128,7 +150,8 @@ public class PrepareServiceImpl implements PrepareService {
             Map<String, Map<String, Class<?>>> dataStorageFields,
             MetricManager metricManager,
             SqlDistributedConfiguration clusterCfg,
-            SqlLocalConfiguration nodeCfg
+            SqlLocalConfiguration nodeCfg,
+            SqlSchemaManager sqlSchemaManager
     ) {
         return new PrepareServiceImpl(
                 nodeName,
@@ -137,7 +160,8 @@ public class PrepareServiceImpl implements PrepareService {
                 new DdlSqlToCommandConverter(dataStorageFields, () -> CatalogUtils.DEFAULT_STORAGE_ENGINE),
                 clusterCfg.planner().maxPlanningTime().value(),
                 nodeCfg.planner().threadCount().value(),
-                metricManager
+                metricManager,
+                sqlSchemaManager
         );
     }
 
@@ -150,6 +174,7 @@ public class PrepareServiceImpl implements PrepareService {
      * @param ddlConverter A converter of the DDL-related AST to the actual command.
      * @param plannerTimeout Timeout in milliseconds to planning.
      * @param metricManager Metric manager.
+     * @param sqlSchemaManager Schema manager to re-plan cached statements against newer versions of the catalog.
      */
     public PrepareServiceImpl(
             String nodeName,
@@ -158,17 +183,18 @@ public class PrepareServiceImpl implements PrepareService {
             DdlSqlToCommandConverter ddlConverter,
             long plannerTimeout,
             int plannerThreadCount,
-            MetricManager metricManager
+            MetricManager metricManager,
+            SqlSchemaManager sqlSchemaManager
     ) {
         this.nodeName = nodeName;
         this.ddlConverter = ddlConverter;
         this.plannerTimeout = plannerTimeout;
         this.metricManager = metricManager;
         this.plannerThreadCount = plannerThreadCount;
+        this.sqlSchemaManager = sqlSchemaManager;
 
         sqlPlanCacheMetricSource = new SqlPlanCacheMetricSource();
         cache = cacheFactory.create(cacheSize, sqlPlanCacheMetricSource);
-
     }
 
     /** {@inheritDoc} */
@@ -324,7 +350,7 @@ public class PrepareServiceImpl implements PrepareService {
             // Use parameter metadata to compute a cache key.
             CacheKey key = createCacheKeyFromParameterMetadata(stmt.parsedResult, ctx, stmt.parameterMetadata);
 
-            CompletableFuture<QueryPlan> planFut = cache.get(key, k -> CompletableFuture.supplyAsync(() -> {
+            return cachedPlan(key, stmt.parsedResult, () -> {
                 IgnitePlanner planner = ctx.planner();
 
                 ValidationResult validated = stmt.value;
@@ -350,9 +376,7 @@ public class PrepareServiceImpl implements PrepareService {
                 }
 
                 return new MultiStepPlan(nextPlanId(), SqlQueryType.QUERY, clonedTree, resultSetMetadata, parameterMetadata);
-            }, planningPool));
-
-            return planFut.thenApply(Function.identity());
+            });
         });
     }
 
@@ -390,7 +414,7 @@ public class PrepareServiceImpl implements PrepareService {
             // Use parameter metadata to compute a cache key.
             CacheKey key = createCacheKeyFromParameterMetadata(stmt.parsedResult, ctx, stmt.parameterMetadata);
 
-            CompletableFuture<QueryPlan> planFut = cache.get(key, k -> CompletableFuture.supplyAsync(() -> {
+            return cachedPlan(key, stmt.parsedResult, () -> {
                 IgnitePlanner planner = ctx.planner();
 
                 SqlNode validatedNode = stmt.value;
@@ -413,12 +437,54 @@ public class PrepareServiceImpl implements PrepareService {
                 }
 
                 return new MultiStepPlan(nextPlanId(), SqlQueryType.DML, clonedTree, DML_METADATA, parameterMetadata);
-            }, planningPool));
-
-            return planFut.thenApply(Function.identity());
+            });
         });
     }
 
+    /**
+     * Returns a plan from the cache, or creates a new one with the given planner if there is no such plan in the cache.
+     *
+     * @param key Cache key.
+     * @param parsedResult Statement to create the plan for.
+     * @param planner Function creating a plan. Invoked in the planning pool.
+     * @return Future that will be completed with the plan.
+     */
+    private CompletableFuture<QueryPlan> cachedPlan(CacheKey key, ParsedResult parsedResult, Supplier<QueryPlan> planner) {
+        CompletableFuture<QueryPlan> planFut = new CompletableFuture<>();
+        CachedPlan candidate = new CachedPlan(parsedResult, planFut);
+
+        CachedPlan cached = cache.get(key, k -> candidate);
+
+        if (cached != candidate) {
+            cached.onHit();
+
+            return cached.plan().thenApply(Function.identity());
+        }
+
+        long startTime = System.nanoTime();
+
+        try {
+            CompletableFuture.supplyAsync(planner, planningPool).whenComplete((plan, ex) -> {
+                if (ex != null) {
+                    planFut.completeExceptionally(ex);
+
+                    return;
+                }
+
+                long planningTime = System.nanoTime() - startTime;
+
+                candidate.onPlanned(plan, planningTime);
+                sqlPlanCacheMetricSource.recordPlanningTime(TimeUnit.NANOSECONDS.toMillis(planningTime));
+
+                planFut.complete(plan);
+            });
+        } catch (Throwable t) {
+            planFut.completeExceptionally(t);
+        }
+
+        return planFut.thenApply(Function.identity());
+    }
+
     /**
      * Tries to find a prepared plan if all parameters are set.
      *
@@ -440,9 +506,11 @@ public class PrepareServiceImpl implements PrepareService {
 
         CacheKey cacheKey = tryCreateCacheKeyFromParameterValues(parsedResult, ctx);
         if (cacheKey != null) {
-            CompletableFuture<QueryPlan> f = cache.get(cacheKey);
-            if (f != null) {
-                return f;
+            CachedPlan cached = cache.get(cacheKey);
+            if (cached != null) {
+                cached.onHit();
+
+                return cached.plan();
             }
         }
         return null;
@@ -518,6 +586,169 @@ public class PrepareServiceImpl implements PrepareService {
         return new CacheKey(catalogVersion, ctx.schemaName(), parsedResult.normalizedQuery(), distributed, paramTypes);
     }
 
+    /**
+     * Handles a change of the catalog.
+     *
+     * <p>Since a new version of the catalog gives new cache keys, plans created for the previous version which do not
+     * depend on the changed table are moved to the keys of the new version and reused as is. The rest of the plans are
+     * removed and created again against the new version in background, so the statements do not have to wait for planning
+     * once the version becomes active. Plans of the older versions are removed, so the cache holds a single entry per
+     * statement.
+     *
+     * <p>A version of the catalog may include several changes, in which case the method is invoked for every change.
+     *
+     * @param catalogVersion Version of the catalog including the change.
+     * @param tableId Id of the changed table or {@link #NO_TABLE} if the change does not affect any table.
+     */
+    public synchronized void onCatalogChange(int catalogVersion, int tableId) {
+        if (catalogVersion < lastCatalogVersion) {
+            return;
+        }
+
+        List<Map.Entry<CacheKey, CachedPlan>> stale = new ArrayList<>();
+
+        if (catalogVersion > lastCatalogVersion) {
+            int prevVersion = lastCatalogVersion < 0 ? catalogVersion - 1 : lastCatalogVersion;
+
+            lastCatalogVersion = catalogVersion;
+
+            int reused = 0;
+
+            for (Map.Entry<CacheKey, CachedPlan> entry : snapshot()) {
+                CacheKey key = entry.getKey();
+                CachedPlan cached = entry.getValue();
+
+                if (key.catalogVersion() >= catalogVersion) {
+                    continue;
+                }
+
+                if (key.catalogVersion() == prevVersion && cached.ready()) {
+                    if (cached.dependsOn(tableId)) {
+                        stale.add(entry);
+                    } else {
+                        cache.put(key.withCatalogVersion(catalogVersion), cached.reuse());
+
+                        reused++;
+                    }
+                }
+
+                cache.remove(key);
+            }
+
+            sqlPlanCacheMetricSource.recordReuses(reused);
+        } else {
+            // Another change within the same version: the plans reused for the version may not be valid anymore.
+            // The plans created against the version itself already take the change into account.
+            Set<CachedPlan> removed = Collections.newSetFromMap(new IdentityHashMap<>());
+
+            for (Map.Entry<CacheKey, CachedPlan> entry : snapshot()) {
+                CachedPlan cached = entry.getValue();
+
+                if (entry.getKey().catalogVersion() == catalogVersion && cached.reused() && cached.dependsOn(tableId)) {
+                    stale.add(entry);
+                    removed.add(cached);
+                }
+            }
+
+            if (!removed.isEmpty()) {
+                cache.removeIfValue(removed::contains);
+            }
+        }
+
+        sqlPlanCacheMetricSource.recordInvalidations(stale.size());
+
+        for (Map.Entry<CacheKey, CachedPlan> entry : stale) {
+            replanAsync(entry.getKey().schemaName(), entry.getValue().parsedResult(), catalogVersion);
+        }
+    }
+
+    /**
+     * Handles an update of the statistics of a table.
+     *
+     * <p>The plans depending on the table were chosen with the previous statistics, so they are removed from the cache
+     * and created again with the new statistics in background.
+     *
+     * @param tableId Id of the table.
+     */
+    public synchronized void onStatisticsChange(int tableId) {
+        List<Map.Entry<CacheKey, CachedPlan>> stale = new ArrayList<>();
+
+        for (Map.Entry<CacheKey, CachedPlan> entry : snapshot()) {
+            CachedPlan cached = entry.getValue();
+
+            if (cached.ready() && cached.dependsOn(tableId)) {
+                stale.add(entry);
+
+                cache.remove(entry.getKey());
+            }
+        }
+
+        sqlPlanCacheMetricSource.recordInvalidations(stale.size());
+
+        for (Map.Entry<CacheKey, CachedPlan> entry : stale) {
+            CacheKey key = entry.getKey();
+
+            replanAsync(key.schemaName(), entry.getValue().parsedResult(), key.catalogVersion());
+        }
+    }
+
+    private void replanAsync(String schemaName, ParsedResult parsedResult, int catalogVersion) {
+        sqlSchemaManager.schemaReadyFuture(catalogVersion)
+                .thenCompose(unused -> {
+                    SchemaPlus schema = sqlSchemaManager.schema(catalogVersion).getSubSchema(schemaName);
+
+                    if (schema == null) {
+                        // The schema was dropped, nothing to plan.
+                        return CompletableFutures.<QueryPlan>nullCompletedFuture();
+                    }
+
+                    BaseQueryContext ctx = BaseQueryContext.builder()
+                            .frameworkConfig(Frameworks.newConfigBuilder(FRAMEWORK_CONFIG).defaultSchema(schema).build())
+                            .queryId(UUID.randomUUID())
+                            .build();
+
+                    return prepareAsync(parsedResult, ctx);
+                })
+                .whenComplete((plan, ex) -> {
+                    if (ex != null) {
+                        LOG.debug("Failed to re-plan a statement [query={}, catalogVersion={}]",
+                                ex, parsedResult.normalizedQuery(), catalogVersion);
+                    }
+                });
+    }
+
+    private List<Map.Entry<CacheKey, CachedPlan>> snapshot() {
+        List<Map.Entry<CacheKey, CachedPlan>> entries = new ArrayList<>();
+
+        cache.forEach((key, cached) -> entries.add(Map.entry(key, cached)));
+
+        return entries;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public List<SystemView<?>> systemViews() {
+        return List.of(createCachedPlansView());
+    }
+
+    private SystemView<?> createCachedPlansView() {
+        Iterable<Map.Entry<CacheKey, CachedPlan>> viewData = () -> snapshot().iterator();
+
+        return SystemViews.<Map.Entry<CacheKey, CachedPlan>>nodeViewBuilder()
+                .name("SQL_CACHED_QUERY_PLANS")
+                .nodeNameColumnAlias("NODE_NAME")
+                .addColumn("CATALOG_VERSION", NativeTypes.INT32, entry -> entry.getKey().catalogVersion())
+                .addColumn("SCHEMA", NativeTypes.STRING, entry -> entry.getKey().schemaName())
+                .addColumn("QUERY", NativeTypes.STRING, entry -> entry.getKey().query())
+                .addColumn("QUERY_TYPE", NativeTypes.STRING, entry -> entry.getValue().parsedResult().queryType().name())
+                .addColumn("READY", NativeTypes.BOOLEAN, entry -> entry.getValue().ready())
+                .addColumn("REUSED", NativeTypes.BOOLEAN, entry -> entry.getValue().reused())
+                .addColumn("HITS", NativeTypes.INT64, entry -> entry.getValue().hits())
+                .addColumn("PLANNING_TIME", NativeTypes.INT64, entry -> entry.getValue().planningTime())
+                .dataProvider(SubscriptionUtils.fromIterable(viewData))
+                .build();
+    }
+
     private static ResultSetMetadata resultSetMetadata(
             RelDataType rowType,
             @Nullable List<List<String>> origins,
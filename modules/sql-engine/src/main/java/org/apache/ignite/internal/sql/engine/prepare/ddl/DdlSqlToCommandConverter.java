@@ -94,6 +94,7 @@ import org.apache.ignite.internal.sql.engine.sql.IgniteSqlAlterTableAddColumn;
 import org.apache.ignite.internal.sql.engine.sql.IgniteSqlAlterTableDropColumn;
 import org.apache.ignite.internal.sql.engine.sql.IgniteSqlAlterZoneRenameTo;
 import org.apache.ignite.internal.sql.engine.sql.IgniteSqlAlterZoneSet;
+import org.apache.ignite.internal.sql.engine.sql.IgniteSqlAnalyze;
 import org.apache.ignite.internal.sql.engine.sql.IgniteSqlCreateIndex;
 import org.apache.ignite.internal.sql.engine.sql.IgniteSqlCreateTable;
 import org.apache.ignite.internal.sql.engine.sql.IgniteSqlCreateTableOption;
@@ -256,6 +257,10 @@ public class DdlSqlToCommandConverter {
             return convertDropZone((IgniteSqlDropZone) ddlNode, ctx);
         }
 
+        if (ddlNode instanceof IgniteSqlAnalyze) {
+            return convertAnalyze((IgniteSqlAnalyze) ddlNode, ctx);
+        }
+
         throw new SqlException(STMT_VALIDATION_ERR, "Unsupported operation ["
                 + "sqlNodeKind=" + ddlNode.getKind() + "; "
                 + "querySql=\"" + ctx.query() + "\"]");
@@ -511,6 +516,21 @@ public class DdlSqlToCommandConverter {
         return dropTblCmd;
     }
 
+    /**
+     * Converts a given Analyze AST to a AnalyzeTable command.
+     *
+     * @param analyzeNode Root node of the given AST.
+     * @param ctx Planning context.
+     */
+    private AnalyzeTableCommand convertAnalyze(IgniteSqlAnalyze analyzeNode, PlanningContext ctx) {
+        AnalyzeTableCommand analyzeCmd = new AnalyzeTableCommand();
+
+        analyzeCmd.schemaName(deriveSchemaName(analyzeNode.name(), ctx));
+        analyzeCmd.tableName(deriveObjectName(analyzeNode.name(), ctx, "tableName"));
+
+        return analyzeCmd;
+    }
+
     /**
      * Converts create index to appropriate wrapper.
      */
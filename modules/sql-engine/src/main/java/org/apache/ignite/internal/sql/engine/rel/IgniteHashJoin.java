@@ -0,0 +1,141 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.sql.engine.rel;
+
+import static org.apache.calcite.rel.RelCollations.EMPTY;
+
+import java.util.List;
+import java.util.Set;
+import org.apache.calcite.plan.RelOptCluster;
+import org.apache.calcite.plan.RelOptCost;
+import org.apache.calcite.plan.RelOptPlanner;
+import org.apache.calcite.plan.RelTraitSet;
+import org.apache.calcite.rel.RelInput;
+import org.apache.calcite.rel.RelNode;
+import org.apache.calcite.rel.core.CorrelationId;
+import org.apache.calcite.rel.core.Join;
+import org.apache.calcite.rel.core.JoinRelType;
+import org.apache.calcite.rel.metadata.RelMetadataQuery;
+import org.apache.calcite.rex.RexNode;
+import org.apache.calcite.util.Pair;
+import org.apache.ignite.internal.sql.engine.metadata.cost.IgniteCost;
+import org.apache.ignite.internal.sql.engine.metadata.cost.IgniteCostFactory;
+import org.apache.ignite.internal.sql.engine.util.Commons;
+
+/**
+ * Relational expression that joins two inputs by equality of their keys using a hash table.
+ *
+ * <p>The right input is a build side: it's fully materialized into a hash table first, which is then probed by the rows of
+ * the left input. If the build side doesn't fit into the memory, both inputs are partitioned to disk by the hash of the
+ * join keys and then joined partition by partition. Thus, the output has no particular order.
+ */
+public class IgniteHashJoin extends AbstractIgniteJoin {
+    /**
+     * Creates a Join.
+     *
+     * @param cluster      Cluster.
+     * @param traitSet     Trait set.
+     * @param left         Left input.
+     * @param right        Right input.
+     * @param condition    Join condition.
+     * @param variablesSet Set variables that are set by the LHS and used by the RHS and are not available to nodes
+     *                     above this Join in the tree.
+     * @param joinType     Join type.
+     */
+    public IgniteHashJoin(RelOptCluster cluster, RelTraitSet traitSet, RelNode left, RelNode right,
+            RexNode condition, Set<CorrelationId> variablesSet, JoinRelType joinType) {
+        super(cluster, traitSet, left, right, condition, variablesSet, joinType);
+    }
+
+    /**
+     * Constructor used for deserialization.
+     *
+     * @param input Serialized representation.
+     */
+    public IgniteHashJoin(RelInput input) {
+        this(input.getCluster(),
+                input.getTraitSet().replace(IgniteConvention.INSTANCE),
+                input.getInputs().get(0),
+                input.getInputs().get(1),
+                input.getExpression("condition"),
+                Set.copyOf(Commons.transform(input.getIntegerList("variablesSet"), CorrelationId::new)),
+                input.getEnum("joinType", JoinRelType.class));
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public RelOptCost computeSelfCost(RelOptPlanner planner, RelMetadataQuery mq) {
+        IgniteCostFactory costFactory = (IgniteCostFactory) planner.getCostFactory();
+
+        double leftCount = mq.getRowCount(getLeft());
+
+        if (Double.isInfinite(leftCount)) {
+            return costFactory.makeInfiniteCost();
+        }
+
+        double rightCount = mq.getRowCount(getRight());
+
+        if (Double.isInfinite(rightCount)) {
+            return costFactory.makeInfiniteCost();
+        }
+
+        double rows = leftCount + rightCount;
+
+        double cpu = rightCount * (IgniteCost.HASH_BUILD_COST + IgniteCost.ROW_PASS_THROUGH_COST)
+                + leftCount * (IgniteCost.HASH_LOOKUP_COST + IgniteCost.ROW_COMPARISON_COST + IgniteCost.ROW_PASS_THROUGH_COST);
+
+        double rightSize = rightCount * getRight().getRowType().getFieldCount() * IgniteCost.AVERAGE_FIELD_SIZE;
+
+        return costFactory.makeCost(rows, cpu, 0, rightSize, 0);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public List<Pair<RelTraitSet, List<RelTraitSet>>> deriveCollation(RelTraitSet nodeTraits, List<RelTraitSet> inputTraits) {
+        // Rows of the left input may be spilled to disk and joined partition by partition, so no collation is preserved.
+        return List.of(Pair.of(nodeTraits.replace(EMPTY),
+                List.of(inputTraits.get(0).replace(EMPTY), inputTraits.get(1).replace(EMPTY))));
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public Pair<RelTraitSet, List<RelTraitSet>> passThroughCollation(RelTraitSet nodeTraits, List<RelTraitSet> inputTraits) {
+        return Pair.of(nodeTraits.replace(EMPTY),
+                List.of(inputTraits.get(0).replace(EMPTY), inputTraits.get(1).replace(EMPTY)));
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public Join copy(RelTraitSet traitSet, RexNode condition, RelNode left, RelNode right, JoinRelType joinType,
+            boolean semiJoinDone) {
+        return new IgniteHashJoin(getCluster(), traitSet, left, right, condition, variablesSet, joinType);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public <T> T accept(IgniteRelVisitor<T> visitor) {
+        return visitor.visit(this);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public IgniteRel clone(RelOptCluster cluster, List<IgniteRel> inputs) {
+        return new IgniteHashJoin(cluster, getTraitSet(), inputs.get(0), inputs.get(1), getCondition(),
+                getVariablesSet(), getJoinType());
+    }
+}
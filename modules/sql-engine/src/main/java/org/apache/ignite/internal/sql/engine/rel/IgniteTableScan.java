@@ -28,6 +28,7 @@ import org.apache.calcite.rel.RelWriter;
 import org.apache.calcite.rel.hint.RelHint;
 import org.apache.calcite.rex.RexNode;
 import org.apache.calcite.util.ImmutableBitSet;
+import org.apache.ignite.internal.sql.engine.util.HintUtils;
 import org.jetbrains.annotations.Nullable;
 
 /**
@@ -36,6 +37,9 @@ import org.jetbrains.annotations.Nullable;
 public class IgniteTableScan extends ProjectableFilterableTableScan implements SourceAwareIgniteRel {
     private final long sourceId;
 
+    /** Number of concurrent scans every partition is split into, {@code 0} to use the default one. */
+    private final int parallelism;
+
     /**
      * Constructor used for deserialization.
      *
@@ -50,6 +54,9 @@ public class IgniteTableScan extends ProjectableFilterableTableScan implements S
         } else {
             sourceId = -1;
         }
+
+        Object parallelismObj = input.get("parallelism");
+        parallelism = parallelismObj != null ? ((Number) parallelismObj).intValue() : 0;
     }
 
     /**
@@ -111,9 +118,24 @@ public class IgniteTableScan extends ProjectableFilterableTableScan implements S
             @Nullable List<RexNode> proj,
             @Nullable RexNode cond,
             @Nullable ImmutableBitSet requiredColumns
+    ) {
+        this(sourceId, cluster, traits, hints, tbl, proj, cond, requiredColumns, HintUtils.scanParallelism(hints));
+    }
+
+    private IgniteTableScan(
+            long sourceId,
+            RelOptCluster cluster,
+            RelTraitSet traits,
+            List<RelHint> hints,
+            RelOptTable tbl,
+            @Nullable List<RexNode> proj,
+            @Nullable RexNode cond,
+            @Nullable ImmutableBitSet requiredColumns,
+            int parallelism
     ) {
         super(cluster, traits, hints, tbl, proj, cond, requiredColumns);
         this.sourceId = sourceId;
+        this.parallelism = parallelism;
     }
 
     /** {@inheritDoc} */
@@ -122,11 +144,17 @@ public class IgniteTableScan extends ProjectableFilterableTableScan implements S
         return sourceId;
     }
 
+    /** Returns number of concurrent scans every partition is split into, {@code 0} to use the default one. */
+    public int parallelism() {
+        return parallelism;
+    }
+
     /** {@inheritDoc} */
     @Override
     protected RelWriter explainTerms0(RelWriter pw) {
         return super.explainTerms0(pw)
-                .itemIf("sourceId", sourceId, sourceId != -1);
+                .itemIf("sourceId", sourceId, sourceId != -1)
+                .itemIf("parallelism", parallelism, parallelism > 0);
     }
 
     /** {@inheritDoc} */
@@ -138,13 +166,15 @@ public class IgniteTableScan extends ProjectableFilterableTableScan implements S
     /** {@inheritDoc} */
     @Override
     public IgniteRel clone(long sourceId) {
-        return new IgniteTableScan(sourceId, getCluster(), getTraitSet(), getHints(), getTable(), projects, condition, requiredColumns);
+        return new IgniteTableScan(
+                sourceId, getCluster(), getTraitSet(), getHints(), getTable(), projects, condition, requiredColumns, parallelism);
     }
 
     /** {@inheritDoc} */
     @Override
     public IgniteRel clone(RelOptCluster cluster, List<IgniteRel> inputs) {
-        return new IgniteTableScan(sourceId, cluster, getTraitSet(), getHints(), getTable(), projects, condition, requiredColumns);
+        return new IgniteTableScan(
+                sourceId, cluster, getTraitSet(), getHints(), getTable(), projects, condition, requiredColumns, parallelism);
     }
 
     /** {@inheritDoc} */
@@ -0,0 +1,104 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.sql.engine.rule;
+
+import static org.apache.ignite.internal.util.CollectionUtils.nullOrEmpty;
+
+import java.util.List;
+import org.apache.calcite.plan.RelOptCluster;
+import org.apache.calcite.plan.RelOptPlanner;
+import org.apache.calcite.plan.RelOptRule;
+import org.apache.calcite.plan.RelOptRuleCall;
+import org.apache.calcite.plan.RelTraitSet;
+import org.apache.calcite.rel.PhysicalNode;
+import org.apache.calcite.rel.RelNode;
+import org.apache.calcite.rel.core.JoinInfo;
+import org.apache.calcite.rel.logical.LogicalJoin;
+import org.apache.calcite.rel.metadata.RelMetadataQuery;
+import org.apache.calcite.rel.type.RelDataTypeField;
+import org.apache.calcite.util.IntPair;
+import org.apache.ignite.internal.sql.engine.rel.IgniteConvention;
+import org.apache.ignite.internal.sql.engine.rel.IgniteHashJoin;
+import org.apache.ignite.internal.sql.engine.util.HintUtils;
+
+/**
+ * Converts an equi-join to a hash join.
+ *
+ * <p>The hash join competes with other join algorithms by cost. The USE_HASH_JOIN hint overrides the choice: other join
+ * rules don't fire for a hinted join the hash join is applicable to.
+ */
+public class HashJoinConverterRule extends AbstractIgniteConverterRule<LogicalJoin> {
+    public static final RelOptRule INSTANCE = new HashJoinConverterRule();
+
+    /**
+     * Creates a converter.
+     */
+    public HashJoinConverterRule() {
+        super(LogicalJoin.class, "HashJoinConverter");
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public boolean matches(RelOptRuleCall call) {
+        return isApplicable(call.rel(0));
+    }
+
+    /**
+     * Returns {@code true} if the join must be executed as a hash join, that is the join is hinted with USE_HASH_JOIN and
+     * the hash join is applicable to it.
+     *
+     * @param logicalJoin Logical join.
+     */
+    public static boolean isForced(LogicalJoin logicalJoin) {
+        return HintUtils.isHashJoinForced(logicalJoin) && isApplicable(logicalJoin);
+    }
+
+    private static boolean isApplicable(LogicalJoin logicalJoin) {
+        JoinInfo joinInfo = logicalJoin.analyzeCondition();
+
+        if (nullOrEmpty(joinInfo.pairs())) {
+            return false;
+        }
+
+        List<RelDataTypeField> leftFields = logicalJoin.getLeft().getRowType().getFieldList();
+        List<RelDataTypeField> rightFields = logicalJoin.getRight().getRowType().getFieldList();
+
+        // Keys are compared by hash and equality of their values, thus both sides of every pair
+        // must be represented by the same java type.
+        for (IntPair pair : joinInfo.pairs()) {
+            if (leftFields.get(pair.source).getType().getSqlTypeName() != rightFields.get(pair.target).getType().getSqlTypeName()) {
+                return false;
+            }
+        }
+
+        return true;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    protected PhysicalNode convert(RelOptPlanner planner, RelMetadataQuery mq, LogicalJoin rel) {
+        RelOptCluster cluster = rel.getCluster();
+        RelTraitSet outTraits = cluster.traitSetOf(IgniteConvention.INSTANCE);
+        RelTraitSet leftInTraits = cluster.traitSetOf(IgniteConvention.INSTANCE);
+        RelTraitSet rightInTraits = cluster.traitSetOf(IgniteConvention.INSTANCE);
+        RelNode left = convert(rel.getLeft(), leftInTraits);
+        RelNode right = convert(rel.getRight(), rightInTraits);
+
+        return new IgniteHashJoin(cluster, outTraits, left, right, rel.getCondition(), rel.getVariablesSet(), rel.getJoinType());
+    }
+}
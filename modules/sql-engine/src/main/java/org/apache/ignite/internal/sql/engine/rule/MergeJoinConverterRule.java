@@ -51,6 +51,10 @@ public class MergeJoinConverterRule extends AbstractIgniteConverterRule<LogicalJ
     public boolean matches(RelOptRuleCall call) {
         LogicalJoin logicalJoin = call.rel(0);
 
+        if (HashJoinConverterRule.isForced(logicalJoin)) {
+            return false;
+        }
+
         return !nullOrEmpty(logicalJoin.analyzeCondition().pairs()) && logicalJoin.analyzeCondition().isEqui();
     }
 
@@ -20,6 +20,7 @@ package org.apache.ignite.internal.sql.engine.rule;
 import org.apache.calcite.plan.RelOptCluster;
 import org.apache.calcite.plan.RelOptPlanner;
 import org.apache.calcite.plan.RelOptRule;
+import org.apache.calcite.plan.RelOptRuleCall;
 import org.apache.calcite.plan.RelTraitSet;
 import org.apache.calcite.rel.PhysicalNode;
 import org.apache.calcite.rel.RelNode;
@@ -41,6 +42,12 @@ public class NestedLoopJoinConverterRule extends AbstractIgniteConverterRule<Log
         super(LogicalJoin.class, "NestedLoopJoinConverter");
     }
 
+    /** {@inheritDoc} */
+    @Override
+    public boolean matches(RelOptRuleCall call) {
+        return !HashJoinConverterRule.isForced(call.rel(0));
+    }
+
     /** {@inheritDoc} */
     @Override
     protected PhysicalNode convert(RelOptPlanner planner, RelMetadataQuery mq, LogicalJoin rel) {
@@ -18,7 +18,10 @@
 package org.apache.ignite.internal.sql.engine.schema;
 
 import java.util.function.DoubleSupplier;
+import java.util.function.Supplier;
 import org.apache.calcite.schema.Statistic;
+import org.apache.ignite.internal.sql.engine.statistic.ColumnStatistics;
+import org.apache.ignite.internal.sql.engine.statistic.TableStatistics;
 import org.apache.ignite.internal.sql.engine.trait.IgniteDistribution;
 import org.jetbrains.annotations.Nullable;
 
@@ -35,6 +38,10 @@ public class IgniteStatistic implements Statistic {
 
     private final DoubleSupplier minRows;
 
+    private final Supplier<@Nullable TableStatistics> statistics;
+
+    private final int tableVersion;
+
     /** Constructor. */
     public IgniteStatistic(DoubleSupplier rowCountSupplier, IgniteDistribution distribution) {
         this(rowCountSupplier, distribution, () -> MIN_ROWS);
@@ -42,14 +49,33 @@ public class IgniteStatistic implements Statistic {
 
     /** Constructor. */
     public IgniteStatistic(DoubleSupplier rowCountSupplier, IgniteDistribution distribution, @Nullable DoubleSupplier minRows) {
+        this(rowCountSupplier, distribution, minRows, () -> null, -1);
+    }
+
+    /** Constructor. */
+    public IgniteStatistic(
+            DoubleSupplier rowCountSupplier,
+            IgniteDistribution distribution,
+            @Nullable DoubleSupplier minRows,
+            Supplier<@Nullable TableStatistics> statistics,
+            int tableVersion
+    ) {
         this.distribution = distribution;
         this.rowCountSupplier = rowCountSupplier;
         this.minRows = minRows == null ? () -> MIN_ROWS : minRows;
+        this.statistics = statistics;
+        this.tableVersion = tableVersion;
     }
 
     /** {@inheritDoc} */
     @Override
     public final Double getRowCount() {
+        TableStatistics stats = statistics.get();
+
+        if (stats != null) {
+            return Math.max(1.0, stats.rowCount());
+        }
+
         double localRowCnt = rowCountSupplier.getAsDouble();
 
         // Forbid zero result, to prevent zero cost for table and index scans.
@@ -62,4 +88,19 @@ public class IgniteStatistic implements Statistic {
     public IgniteDistribution getDistribution() {
         return distribution;
     }
+
+    /**
+     * Returns statistics of the column collected by {@code ANALYZE}.
+     *
+     * <p>The statistics collected for another version of the table are ignored, since a column with the same name may be
+     * a different column there.
+     *
+     * @param columnName Column name.
+     * @return Column statistics or {@code null} if the table has not been analyzed since its last change.
+     */
+    public @Nullable ColumnStatistics columnStatistics(String columnName) {
+        TableStatistics stats = statistics.get();
+
+        return stats == null || stats.tableVersion() != tableVersion ? null : stats.column(columnName);
+    }
 }
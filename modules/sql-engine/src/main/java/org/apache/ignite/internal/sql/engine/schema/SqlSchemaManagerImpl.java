@@ -51,6 +51,7 @@ import org.apache.ignite.internal.catalog.descriptors.CatalogZoneDescriptor;
 import org.apache.ignite.internal.lang.IgniteInternalException;
 import org.apache.ignite.internal.schema.DefaultValueGenerator;
 import org.apache.ignite.internal.sql.engine.schema.IgniteIndex.Type;
+import org.apache.ignite.internal.sql.engine.statistic.SqlStatisticManager;
 import org.apache.ignite.internal.sql.engine.trait.IgniteDistribution;
 import org.apache.ignite.internal.sql.engine.trait.IgniteDistributions;
 import org.apache.ignite.internal.sql.engine.util.Commons;
@@ -69,9 +70,12 @@ public class SqlSchemaManagerImpl implements SqlSchemaManager {
 
     private final Cache<Long, IgniteTable> tableCache;
 
+    private final SqlStatisticManager statisticManager;
+
     /** Constructor. */
-    public SqlSchemaManagerImpl(CatalogManager catalogManager, CacheFactory factory, int cacheSize) {
+    public SqlSchemaManagerImpl(CatalogManager catalogManager, SqlStatisticManager statisticManager, CacheFactory factory, int cacheSize) {
         this.catalogManager = catalogManager;
+        this.statisticManager = statisticManager;
         this.schemaCache = factory.create(cacheSize);
         this.tableCache = factory.create(cacheSize);
     }
@@ -150,7 +154,7 @@ public class SqlSchemaManagerImpl implements SqlSchemaManager {
         return cacheKey | tableId;
     }
 
-    private static SchemaPlus createRootSchema(Catalog catalog) {
+    private SchemaPlus createRootSchema(Catalog catalog) {
         SchemaPlus rootSchema = Frameworks.createRootSchema(false);
 
         for (CatalogSchemaDescriptor schemaDescriptor : catalog.schemas()) {
@@ -161,7 +165,7 @@ public class SqlSchemaManagerImpl implements SqlSchemaManager {
         return rootSchema;
     }
 
-    private static IgniteSchema createSqlSchema(Catalog catalog, CatalogSchemaDescriptor schemaDescriptor) {
+    private IgniteSchema createSqlSchema(Catalog catalog, CatalogSchemaDescriptor schemaDescriptor) {
         int catalogVersion = catalog.version();
         String schemaName = schemaDescriptor.name();
 
@@ -346,7 +350,7 @@ public class SqlSchemaManagerImpl implements SqlSchemaManager {
         return columnDescriptor;
     }
 
-    private static IgniteTable createTable(
+    private IgniteTable createTable(
             Catalog catalog,
             CatalogTableDescriptor tableDescriptor
     ) {
@@ -376,7 +380,7 @@ public class SqlSchemaManagerImpl implements SqlSchemaManager {
         return createTable(tableDescriptor, descriptor, tableIndexes, zoneDescriptor.partitions());
     }
 
-    private static IgniteTable createTable(
+    private IgniteTable createTable(
             CatalogTableDescriptor catalogTableDescriptor,
             TableDescriptor tableDescriptor,
             Map<String, IgniteIndex> indexes,
@@ -387,7 +391,13 @@ public class SqlSchemaManagerImpl implements SqlSchemaManager {
 
         //TODO IGNITE-19558: The table is not available at planning stage.
         // Let's fix table statistics keeping in mind IGNITE-19558 issue.
-        IgniteStatistic statistic = new IgniteStatistic(() -> 0.0d, tableDescriptor.distribution());
+        IgniteStatistic statistic = new IgniteStatistic(
+                () -> 0.0d,
+                tableDescriptor.distribution(),
+                null,
+                () -> statisticManager.tableStatistics(tableId),
+                catalogTableDescriptor.tableVersion()
+        );
 
         IgniteIndex primaryIndex = indexes.values().stream()
                 .filter(IgniteIndex::primaryKey)
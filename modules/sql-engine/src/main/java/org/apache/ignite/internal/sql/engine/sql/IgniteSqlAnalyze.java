@@ -0,0 +1,85 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.sql.engine.sql;
+
+import java.util.List;
+import org.apache.calcite.sql.SqlCall;
+import org.apache.calcite.sql.SqlDdl;
+import org.apache.calcite.sql.SqlIdentifier;
+import org.apache.calcite.sql.SqlKind;
+import org.apache.calcite.sql.SqlLiteral;
+import org.apache.calcite.sql.SqlNode;
+import org.apache.calcite.sql.SqlOperator;
+import org.apache.calcite.sql.SqlWriter;
+import org.apache.calcite.sql.parser.SqlParserPos;
+import org.apache.calcite.util.ImmutableNullableList;
+import org.checkerframework.checker.nullness.qual.Nullable;
+
+/**
+ * Parse tree for {@code ANALYZE} statement.
+ */
+public class IgniteSqlAnalyze extends SqlDdl {
+
+    /** ANALYZE operator. */
+    protected static class Operator extends IgniteSqlSpecialOperator {
+
+        /** Constructor. */
+        protected Operator() {
+            super("ANALYZE", SqlKind.OTHER_DDL);
+        }
+
+        /** {@inheritDoc} */
+        @Override
+        public SqlCall createCall(@Nullable SqlLiteral functionQualifier, SqlParserPos pos,
+                @Nullable SqlNode... operands) {
+            return new IgniteSqlAnalyze(pos, (SqlIdentifier) operands[0]);
+        }
+    }
+
+    /** Analyze operator. */
+    private static final SqlOperator OPERATOR = new Operator();
+
+    private final SqlIdentifier name;
+
+    /** Constructor. */
+    public IgniteSqlAnalyze(SqlParserPos pos, SqlIdentifier name) {
+        super(OPERATOR, pos);
+
+        this.name = name;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public List<SqlNode> getOperandList() {
+        return ImmutableNullableList.of(name);
+    }
+
+    /** Returns table name. */
+    public SqlIdentifier name() {
+        return name;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public void unparse(SqlWriter writer, int leftPrec, int rightPrec) {
+        writer.keyword("ANALYZE");
+        writer.keyword("TABLE");
+
+        name.unparse(writer, leftPrec, rightPrec);
+    }
+}
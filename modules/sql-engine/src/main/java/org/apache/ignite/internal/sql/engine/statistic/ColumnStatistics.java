@@ -0,0 +1,65 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.sql.engine.statistic;
+
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Statistics of a table column.
+ */
+public class ColumnStatistics {
+    private final double distinctValues;
+
+    private final double nullFraction;
+
+    private final @Nullable Histogram histogram;
+
+    /**
+     * Constructor.
+     *
+     * @param distinctValues Estimated number of distinct non-null values.
+     * @param nullFraction Fraction of the rows having {@code null} in the column.
+     * @param histogram Histogram of the non-null values, if the column is numeric.
+     */
+    public ColumnStatistics(double distinctValues, double nullFraction, @Nullable Histogram histogram) {
+        this.distinctValues = distinctValues;
+        this.nullFraction = nullFraction;
+        this.histogram = histogram;
+    }
+
+    /** Returns estimated number of distinct non-null values. */
+    public double distinctValues() {
+        return distinctValues;
+    }
+
+    /** Returns fraction of the rows having {@code null} in the column. */
+    public double nullFraction() {
+        return nullFraction;
+    }
+
+    /** Returns histogram of the non-null values, or {@code null} if the column is not numeric. */
+    public @Nullable Histogram histogram() {
+        return histogram;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public String toString() {
+        return "ColumnStatistics [distinctValues=" + distinctValues + ", nullFraction=" + nullFraction + ", histogram=" + histogram + ']';
+    }
+}
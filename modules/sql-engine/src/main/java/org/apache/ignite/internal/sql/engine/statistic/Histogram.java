@@ -0,0 +1,133 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.sql.engine.statistic;
+
+import java.util.Arrays;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Equi-depth histogram of the values of a numeric column.
+ *
+ * <p>Every bucket holds approximately the same number of values, so the histogram describes skewed distributions
+ * much better than a uniform distribution between the minimal and maximal values does. Values within a bucket are
+ * assumed to be distributed uniformly.
+ */
+public class Histogram {
+    /** Bounds of the buckets: the bucket {@code i} holds the values between {@code bounds[i]} and {@code bounds[i + 1]}. */
+    private final double[] bounds;
+
+    /**
+     * Constructor.
+     *
+     * @param bounds Bounds of the buckets in ascending order.
+     */
+    public Histogram(double[] bounds) {
+        assert bounds.length >= 2 : bounds.length;
+
+        this.bounds = bounds;
+    }
+
+    /**
+     * Builds a histogram over the given values.
+     *
+     * @param sortedValues Values sorted in ascending order.
+     * @param buckets Maximal number of buckets.
+     * @return Histogram or {@code null} if there are no values.
+     */
+    public static @Nullable Histogram build(double[] sortedValues, int buckets) {
+        if (sortedValues.length == 0) {
+            return null;
+        }
+
+        int cnt = Math.min(buckets, sortedValues.length);
+        double[] bounds = new double[cnt + 1];
+
+        for (int i = 0; i < cnt; i++) {
+            bounds[i] = sortedValues[(int) ((long) i * sortedValues.length / cnt)];
+        }
+
+        bounds[cnt] = sortedValues[sortedValues.length - 1];
+
+        return new Histogram(bounds);
+    }
+
+    /** Returns bounds of the buckets in ascending order. */
+    double[] bounds() {
+        return bounds;
+    }
+
+    /** Returns number of buckets. */
+    public int buckets() {
+        return bounds.length - 1;
+    }
+
+    /** Returns minimal value. */
+    public double min() {
+        return bounds[0];
+    }
+
+    /** Returns maximal value. */
+    public double max() {
+        return bounds[bounds.length - 1];
+    }
+
+    /**
+     * Estimates the fraction of the values that are less than the given one.
+     *
+     * @param value Value.
+     * @return Fraction of the values in the range {@code [0, 1]}.
+     */
+    public double fractionBelow(double value) {
+        int buckets = buckets();
+
+        if (value <= bounds[0]) {
+            return 0.0;
+        }
+
+        if (value > bounds[buckets]) {
+            return 1.0;
+        }
+
+        // Looks for the bucket containing the value: bounds[lo] < value <= bounds[lo + 1].
+        int lo = 0;
+        int hi = buckets - 1;
+
+        while (lo < hi) {
+            int mid = (lo + hi) >>> 1;
+
+            if (bounds[mid + 1] < value) {
+                lo = mid + 1;
+            } else {
+                hi = mid;
+            }
+        }
+
+        double lower = bounds[lo];
+        double upper = bounds[lo + 1];
+
+        double inBucket = upper > lower ? (value - lower) / (upper - lower) : 0.5;
+
+        return (lo + inBucket) / buckets;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public String toString() {
+        return "Histogram" + Arrays.toString(bounds);
+    }
+}
@@ -0,0 +1,50 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.sql.engine.statistic;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.function.IntConsumer;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Provides the planner with statistics of the tables.
+ */
+public interface SqlStatisticManager {
+    /**
+     * Returns statistics of the table.
+     *
+     * @param tableId Table ID.
+     * @return Statistics or {@code null} if the table has not been analyzed yet.
+     */
+    @Nullable TableStatistics tableStatistics(int tableId);
+
+    /**
+     * Collects statistics of the table and makes them available to every node of the cluster.
+     *
+     * @param tableId Table ID.
+     * @return Future which completes once the statistics are collected and published.
+     */
+    CompletableFuture<Void> analyze(int tableId);
+
+    /**
+     * Registers a listener that is notified every time the statistics of a table are updated or removed.
+     *
+     * @param listener Listener accepting the ID of the table.
+     */
+    void listen(IntConsumer listener);
+}
@@ -0,0 +1,234 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.sql.engine.statistic;
+
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static org.apache.ignite.internal.metastorage.dsl.Conditions.exists;
+import static org.apache.ignite.internal.metastorage.dsl.Operations.noop;
+import static org.apache.ignite.internal.metastorage.dsl.Operations.remove;
+import static org.apache.ignite.internal.util.CompletableFutures.nullCompletedFuture;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.function.IntConsumer;
+import org.apache.ignite.internal.catalog.CatalogService;
+import org.apache.ignite.internal.catalog.events.CatalogEvent;
+import org.apache.ignite.internal.catalog.events.DropTableEventParameters;
+import org.apache.ignite.internal.event.EventListener;
+import org.apache.ignite.internal.hlc.HybridClock;
+import org.apache.ignite.internal.lang.ByteArray;
+import org.apache.ignite.internal.logger.IgniteLogger;
+import org.apache.ignite.internal.logger.Loggers;
+import org.apache.ignite.internal.metastorage.Entry;
+import org.apache.ignite.internal.metastorage.EntryEvent;
+import org.apache.ignite.internal.metastorage.MetaStorageManager;
+import org.apache.ignite.internal.metastorage.WatchEvent;
+import org.apache.ignite.internal.metastorage.WatchListener;
+import org.apache.ignite.internal.schema.SchemaManager;
+import org.apache.ignite.internal.schema.SchemaRegistry;
+import org.apache.ignite.internal.sql.engine.exec.LifecycleAware;
+import org.apache.ignite.internal.table.distributed.TableManager;
+import org.apache.ignite.internal.thread.NamedThreadFactory;
+import org.apache.ignite.internal.util.Cursor;
+import org.apache.ignite.internal.util.IgniteUtils;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Statistic manager which keeps statistics of the tables in the meta storage.
+ *
+ * <p>Statistics are collected on the node which executes {@code ANALYZE} and published under a meta storage key, so
+ * every node of the cluster picks them up with a watch and plans queries with the same numbers.
+ */
+public class SqlStatisticManagerImpl implements SqlStatisticManager, LifecycleAware {
+    private static final IgniteLogger LOG = Loggers.forClass(SqlStatisticManagerImpl.class);
+
+    private static final String STATISTICS_KEY_PREFIX = "sql.statistics.";
+
+    /** Maximal number of rows sampled to collect statistics of a table. */
+    static final int SAMPLE_SIZE = 30_000;
+
+    /** Maximal number of buckets of a column histogram. */
+    static final int HISTOGRAM_BUCKETS = 64;
+
+    private final String nodeName;
+
+    private final CatalogService catalogService;
+
+    private final TableManager tableManager;
+
+    private final SchemaManager schemaManager;
+
+    private final MetaStorageManager metaStorageManager;
+
+    private final HybridClock clock;
+
+    private final StatisticsCollector collector = new StatisticsCollector(SAMPLE_SIZE, HISTOGRAM_BUCKETS);
+
+    private final Map<Integer, TableStatistics> statistics = new ConcurrentHashMap<>();
+
+    private final List<IntConsumer> changeListeners = new CopyOnWriteArrayList<>();
+
+    private final EventListener<DropTableEventParameters> dropTableListener = EventListener.fromConsumer(this::onTableDrop);
+
+    private final WatchListener listener = new WatchListener() {
+        @Override
+        public CompletableFuture<Void> onUpdate(WatchEvent event) {
+            for (EntryEvent entryEvent : event.entryEvents()) {
+                onEntry(entryEvent.newEntry());
+            }
+
+            return nullCompletedFuture();
+        }
+
+        @Override
+        public void onError(Throwable e) {
+            LOG.warn("Unable to process SQL statistics update", e);
+        }
+    };
+
+    private volatile ExecutorService executor;
+
+    /**
+     * Constructor.
+     *
+     * @param nodeName Name of the local node.
+     * @param catalogService Catalog service.
+     * @param tableManager Table manager.
+     * @param schemaManager Schema manager.
+     * @param metaStorageManager Meta storage manager.
+     * @param clock Hybrid clock to choose the timestamp to read the rows at.
+     */
+    public SqlStatisticManagerImpl(
+            String nodeName,
+            CatalogService catalogService,
+            TableManager tableManager,
+            SchemaManager schemaManager,
+            MetaStorageManager metaStorageManager,
+            HybridClock clock
+    ) {
+        this.nodeName = nodeName;
+        this.catalogService = catalogService;
+        this.tableManager = tableManager;
+        this.schemaManager = schemaManager;
+        this.metaStorageManager = metaStorageManager;
+        this.clock = clock;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public void start() {
+        executor = Executors.newSingleThreadExecutor(NamedThreadFactory.create(nodeName, "sql-statistics", LOG));
+
+        ByteArray prefix = ByteArray.fromString(STATISTICS_KEY_PREFIX);
+
+        metaStorageManager.registerPrefixWatch(prefix, listener);
+
+        catalogService.listen(CatalogEvent.TABLE_DROP, dropTableListener);
+
+        metaStorageManager.recoveryFinishedFuture().thenAccept(revision -> {
+            try (Cursor<Entry> cursor = metaStorageManager.prefixLocally(prefix, revision)) {
+                for (Entry entry : cursor) {
+                    onEntry(entry);
+                }
+            }
+        });
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public void stop() {
+        catalogService.removeListener(CatalogEvent.TABLE_DROP, dropTableListener);
+
+        metaStorageManager.unregisterWatch(listener);
+
+        IgniteUtils.shutdownAndAwaitTermination(executor, 10, TimeUnit.SECONDS);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public @Nullable TableStatistics tableStatistics(int tableId) {
+        return statistics.get(tableId);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public CompletableFuture<Void> analyze(int tableId) {
+        return tableManager.tableAsync(tableId)
+                .thenApplyAsync(table -> {
+                    SchemaRegistry schemaRegistry = schemaManager.schemaRegistry(tableId);
+
+                    assert schemaRegistry != null : "SchemaRegistry does not exist: " + tableId;
+
+                    return collector.collect(table.internalTable(), schemaRegistry, clock.now());
+                }, executor)
+                .thenCompose(stats -> {
+                    if (stats == null) {
+                        LOG.info("No partitions of the table are stored locally, statistics are not updated [tableId={}]", tableId);
+
+                        return nullCompletedFuture();
+                    }
+
+                    return metaStorageManager.put(statisticsKey(tableId), TableStatisticsSerializer.serialize(stats));
+                });
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public void listen(IntConsumer listener) {
+        changeListeners.add(listener);
+    }
+
+    private void onTableDrop(DropTableEventParameters parameters) {
+        ByteArray key = statisticsKey(parameters.tableId());
+
+        // Every node handles the event, the conditional removal keeps the meta storage from getting a revision per node.
+        metaStorageManager.invoke(exists(key), remove(key), noop())
+                .whenComplete((res, ex) -> {
+                    if (ex != null) {
+                        LOG.warn("Unable to remove statistics of a dropped table [tableId={}]", ex, parameters.tableId());
+                    }
+                });
+    }
+
+    private void onEntry(Entry entry) {
+        String key = new String(entry.key(), UTF_8);
+        int tableId = Integer.parseInt(key.substring(STATISTICS_KEY_PREFIX.length()));
+
+        byte[] value = entry.value();
+
+        if (value == null || entry.tombstone()) {
+            statistics.remove(tableId);
+        } else {
+            statistics.put(tableId, TableStatisticsSerializer.deserialize(value));
+        }
+
+        for (IntConsumer changeListener : changeListeners) {
+            changeListener.accept(tableId);
+        }
+    }
+
+    private static ByteArray statisticsKey(int tableId) {
+        return ByteArray.fromString(STATISTICS_KEY_PREFIX + tableId);
+    }
+}
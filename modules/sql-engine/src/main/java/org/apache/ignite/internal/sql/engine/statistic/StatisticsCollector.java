@@ -0,0 +1,252 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.sql.engine.statistic;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+import org.apache.ignite.internal.hlc.HybridTimestamp;
+import org.apache.ignite.internal.schema.BinaryRow;
+import org.apache.ignite.internal.schema.Column;
+import org.apache.ignite.internal.schema.SchemaDescriptor;
+import org.apache.ignite.internal.schema.SchemaRegistry;
+import org.apache.ignite.internal.schema.row.Row;
+import org.apache.ignite.internal.storage.MvPartitionStorage;
+import org.apache.ignite.internal.storage.PartitionTimestampCursor;
+import org.apache.ignite.internal.storage.ReadResult;
+import org.apache.ignite.internal.table.InternalTable;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Collects statistics of a table by sampling the partitions stored on the local node.
+ *
+ * <p>Rows are sampled with reservoir sampling, so a single pass over the partitions is enough regardless of their
+ * size. The number of rows in the table is extrapolated from the local partitions to all of them, and the number of
+ * distinct values of a column is extrapolated from the sample with the Duj1 estimator of Haas and Stokes.
+ */
+public class StatisticsCollector {
+    private final int sampleSize;
+
+    private final int histogramBuckets;
+
+    /**
+     * Constructor.
+     *
+     * @param sampleSize Maximal number of rows to sample.
+     * @param histogramBuckets Maximal number of buckets of a histogram.
+     */
+    public StatisticsCollector(int sampleSize, int histogramBuckets) {
+        assert sampleSize > 0 : sampleSize;
+        assert histogramBuckets > 0 : histogramBuckets;
+
+        this.sampleSize = sampleSize;
+        this.histogramBuckets = histogramBuckets;
+    }
+
+    /**
+     * Collects statistics of the table.
+     *
+     * @param table Table to analyze.
+     * @param schemaRegistry Schema registry of the table.
+     * @param readTimestamp Timestamp to read the rows at. Only the versions committed before the timestamp are taken into
+     *      account, write intents of the transactions in progress are skipped.
+     * @return Statistics or {@code null} if none of the partitions of the table is stored on the local node.
+     */
+    public @Nullable TableStatistics collect(InternalTable table, SchemaRegistry schemaRegistry, HybridTimestamp readTimestamp) {
+        List<BinaryRow> sample = new ArrayList<>(sampleSize);
+        long seen = 0;
+        int localPartitions = 0;
+
+        for (int partId = 0; partId < table.partitions(); partId++) {
+            MvPartitionStorage partition = table.storage().getMvPartition(partId);
+
+            if (partition == null) {
+                continue;
+            }
+
+            localPartitions++;
+
+            try (PartitionTimestampCursor cursor = partition.scan(readTimestamp)) {
+                while (cursor.hasNext()) {
+                    BinaryRow row = committedRow(partition, cursor.next());
+
+                    if (row == null) {
+                        continue;
+                    }
+
+                    seen++;
+
+                    if (sample.size() < sampleSize) {
+                        sample.add(row);
+                    } else {
+                        long idx = ThreadLocalRandom.current().nextLong(seen);
+
+                        if (idx < sampleSize) {
+                            sample.set((int) idx, row);
+                        }
+                    }
+                }
+            }
+        }
+
+        if (localPartitions == 0) {
+            return null;
+        }
+
+        SchemaDescriptor schema = schemaRegistry.lastKnownSchema();
+        List<Column> columns = schema.columns();
+        List<Object[]> rows = new ArrayList<>(sample.size());
+
+        for (BinaryRow binRow : sample) {
+            Row row = schemaRegistry.resolve(binRow, schema);
+            Object[] vals = new Object[columns.size()];
+
+            for (int i = 0; i < vals.length; i++) {
+                vals[i] = row.value(columns.get(i).schemaIndex());
+            }
+
+            rows.add(vals);
+        }
+
+        List<String> names = new ArrayList<>(columns.size());
+
+        for (Column col : columns) {
+            names.add(col.name());
+        }
+
+        return build(schema.version(), seen * table.partitions() / localPartitions, names, rows);
+    }
+
+    /** Returns the row committed before the write intent, if the read result is a write intent. */
+    private static @Nullable BinaryRow committedRow(MvPartitionStorage partition, ReadResult res) {
+        if (!res.isWriteIntent()) {
+            return res.binaryRow();
+        }
+
+        HybridTimestamp commitTs = res.newestCommitTimestamp();
+
+        if (commitTs == null) {
+            // The row is inserted by a transaction in progress.
+            return null;
+        }
+
+        ReadResult committed = partition.read(res.rowId(), commitTs);
+
+        assert !committed.isWriteIntent() : res.rowId();
+
+        return committed.binaryRow();
+    }
+
+    /**
+     * Builds statistics from a sample of the rows.
+     *
+     * @param tableVersion Version of the table the rows belong to.
+     * @param rowCount Estimated number of rows in the table.
+     * @param columns Names of the columns.
+     * @param sample Sampled rows, values are in the order of the columns.
+     * @return Table statistics.
+     */
+    TableStatistics build(int tableVersion, long rowCount, List<String> columns, List<Object[]> sample) {
+        Map<String, ColumnStatistics> stats = new HashMap<>();
+
+        for (int i = 0; i < columns.size(); i++) {
+            stats.put(columns.get(i), columnStatistics(i, rowCount, sample));
+        }
+
+        return new TableStatistics(tableVersion, rowCount, stats);
+    }
+
+    private ColumnStatistics columnStatistics(int col, long rowCount, List<Object[]> sample) {
+        if (sample.isEmpty()) {
+            return new ColumnStatistics(0, 0, null);
+        }
+
+        Map<Object, Integer> freqs = new HashMap<>();
+        double[] numbers = new double[sample.size()];
+        int numbersCnt = 0;
+        int nulls = 0;
+        boolean numeric = true;
+
+        for (Object[] row : sample) {
+            Object val = row[col];
+
+            if (val == null) {
+                nulls++;
+
+                continue;
+            }
+
+            freqs.merge(val, 1, Integer::sum);
+
+            if (numeric && val instanceof Number) {
+                numbers[numbersCnt++] = ((Number) val).doubleValue();
+            } else {
+                numeric = false;
+            }
+        }
+
+        int nonNull = sample.size() - nulls;
+        double nullFraction = (double) nulls / sample.size();
+
+        if (nonNull == 0) {
+            return new ColumnStatistics(0, nullFraction, null);
+        }
+
+        int singletons = 0;
+
+        for (int freq : freqs.values()) {
+            if (freq == 1) {
+                singletons++;
+            }
+        }
+
+        double totalNonNull = Math.max(nonNull, rowCount * (1 - nullFraction));
+
+        double ndv = distinctValues(nonNull, freqs.size(), singletons, totalNonNull);
+
+        Histogram histogram = null;
+
+        if (numeric) {
+            double[] sorted = Arrays.copyOf(numbers, numbersCnt);
+
+            Arrays.sort(sorted);
+
+            histogram = Histogram.build(sorted, histogramBuckets);
+        }
+
+        return new ColumnStatistics(ndv, nullFraction, histogram);
+    }
+
+    /**
+     * Estimates the number of distinct values with the Duj1 estimator.
+     *
+     * @param sampled Number of sampled values.
+     * @param distinct Number of distinct values in the sample.
+     * @param singletons Number of values occurring exactly once in the sample.
+     * @param total Total number of values.
+     * @return Estimated number of distinct values.
+     */
+    static double distinctValues(int sampled, int distinct, int singletons, double total) {
+        double ndv = (double) sampled * distinct / (sampled - singletons + (double) singletons * sampled / total);
+
+        return Math.max(distinct, Math.min(ndv, total));
+    }
+}
@@ -0,0 +1,80 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.sql.engine.statistic;
+
+import java.util.Map;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Statistics of a table collected by {@link StatisticsCollector}.
+ */
+public class TableStatistics {
+    private final int tableVersion;
+
+    private final long rowCount;
+
+    private final Map<String, ColumnStatistics> columns;
+
+    /**
+     * Constructor.
+     *
+     * @param tableVersion Version of the table the statistics were collected for.
+     * @param rowCount Estimated number of rows in the table.
+     * @param columns Statistics of the columns by column name.
+     */
+    public TableStatistics(int tableVersion, long rowCount, Map<String, ColumnStatistics> columns) {
+        this.tableVersion = tableVersion;
+        this.rowCount = rowCount;
+        this.columns = columns;
+    }
+
+    /**
+     * Returns version of the table the statistics were collected for.
+     *
+     * <p>Columns are identified by name, so the statistics of the columns are only valid for this very version of the table.
+     */
+    public int tableVersion() {
+        return tableVersion;
+    }
+
+    /** Returns estimated number of rows in the table. */
+    public long rowCount() {
+        return rowCount;
+    }
+
+    /**
+     * Returns statistics of the column.
+     *
+     * @param name Column name.
+     * @return Column statistics or {@code null} if the column was not analyzed.
+     */
+    public @Nullable ColumnStatistics column(String name) {
+        return columns.get(name);
+    }
+
+    /** Returns statistics of the columns by column name. */
+    Map<String, ColumnStatistics> columns() {
+        return columns;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    public String toString() {
+        return "TableStatistics [tableVersion=" + tableVersion + ", rowCount=" + rowCount + ", columns=" + columns + ']';
+    }
+}
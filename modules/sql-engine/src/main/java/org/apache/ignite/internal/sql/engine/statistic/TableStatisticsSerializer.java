@@ -0,0 +1,161 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.sql.engine.statistic;
+
+import static org.apache.ignite.internal.lang.IgniteStringFormatter.format;
+
+import java.io.IOException;
+import java.util.HashMap;
+import java.util.Map;
+import org.apache.ignite.internal.util.io.IgniteUnsafeDataInput;
+import org.apache.ignite.internal.util.io.IgniteUnsafeDataOutput;
+import org.apache.ignite.lang.MarshallerException;
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Serializer of {@link TableStatistics} stored in the meta storage.
+ *
+ * <p>The format is specified explicitly, so the statistics published by a node can be read by the nodes of other versions.
+ * A change of the format requires a new {@link #PROTOCOL_VERSION}, the versions known so far must remain readable.
+ *
+ * <p>Format description:
+ * <pre>
+ * (size) | description
+ * ------------------------------
+ *     2  | data format version ({@link #PROTOCOL_VERSION})
+ *     4  | version of the table the statistics were collected for
+ *     8  | row count
+ *     4  | number of columns
+ * &lt;list&gt; | column statistics
+ * </pre>
+ *
+ * <p>Column statistics format:
+ * <pre>
+ *  &lt;utf&gt; | column name
+ *     8  | number of distinct values
+ *     8  | fraction of nulls
+ *     4  | number of histogram bounds, {@code -1} if there is no histogram
+ * &lt;list&gt; | histogram bounds, 8 bytes each
+ * </pre>
+ */
+public class TableStatisticsSerializer {
+    /** Current data format version. */
+    private static final int PROTOCOL_VERSION = 1;
+
+    /** Initial capacity (in bytes) of the buffer used for data output. */
+    private static final int INITIAL_BUFFER_CAPACITY = 1024;
+
+    private TableStatisticsSerializer() {
+        // No-op.
+    }
+
+    /**
+     * Serializes the statistics.
+     *
+     * @param stats Statistics.
+     * @return Serialized statistics.
+     */
+    public static byte[] serialize(TableStatistics stats) {
+        try (IgniteUnsafeDataOutput output = new IgniteUnsafeDataOutput(INITIAL_BUFFER_CAPACITY)) {
+            output.writeShort(PROTOCOL_VERSION);
+
+            output.writeInt(stats.tableVersion());
+            output.writeLong(stats.rowCount());
+
+            Map<String, ColumnStatistics> columns = stats.columns();
+
+            output.writeInt(columns.size());
+
+            for (Map.Entry<String, ColumnStatistics> entry : columns.entrySet()) {
+                ColumnStatistics column = entry.getValue();
+                Histogram histogram = column.histogram();
+
+                output.writeUTF(entry.getKey());
+                output.writeDouble(column.distinctValues());
+                output.writeDouble(column.nullFraction());
+
+                if (histogram == null) {
+                    output.writeInt(-1);
+                } else {
+                    double[] bounds = histogram.bounds();
+
+                    output.writeInt(bounds.length);
+
+                    for (double bound : bounds) {
+                        output.writeDouble(bound);
+                    }
+                }
+            }
+
+            return output.array();
+        } catch (Throwable t) {
+            throw new MarshallerException(t);
+        }
+    }
+
+    /**
+     * Deserializes the statistics.
+     *
+     * @param bytes Serialized statistics.
+     * @return Statistics.
+     */
+    public static TableStatistics deserialize(byte[] bytes) {
+        try (IgniteUnsafeDataInput input = new IgniteUnsafeDataInput(bytes)) {
+            int version = input.readShort();
+
+            if (version > PROTOCOL_VERSION) {
+                throw new IllegalStateException(format("Statistics could not be deserialized because they were using "
+                        + "a newer version of the serialization protocol [objectVersion={}, supported={}]", version, PROTOCOL_VERSION));
+            }
+
+            int tableVersion = input.readInt();
+            long rowCount = input.readLong();
+            int columnsCnt = input.readInt();
+
+            Map<String, ColumnStatistics> columns = new HashMap<>(columnsCnt);
+
+            for (int i = 0; i < columnsCnt; i++) {
+                String name = input.readUTF();
+                double distinctValues = input.readDouble();
+                double nullFraction = input.readDouble();
+
+                columns.put(name, new ColumnStatistics(distinctValues, nullFraction, readHistogram(input)));
+            }
+
+            return new TableStatistics(tableVersion, rowCount, columns);
+        } catch (Throwable t) {
+            throw new MarshallerException(t);
+        }
+    }
+
+    private static @Nullable Histogram readHistogram(IgniteUnsafeDataInput input) throws IOException {
+        int boundsCnt = input.readInt();
+
+        if (boundsCnt < 0) {
+            return null;
+        }
+
+        double[] bounds = new double[boundsCnt];
+
+        for (int i = 0; i < boundsCnt; i++) {
+            bounds[i] = input.readDouble();
+        }
+
+        return new Histogram(bounds);
+    }
+}
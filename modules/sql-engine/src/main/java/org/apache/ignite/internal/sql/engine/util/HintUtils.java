@@ -18,6 +18,8 @@
 package org.apache.ignite.internal.sql.engine.util;
 
 import static org.apache.ignite.internal.sql.engine.hint.IgniteHint.EXPAND_DISTINCT_AGG;
+import static org.apache.ignite.internal.sql.engine.hint.IgniteHint.SCAN_PARALLELISM;
+import static org.apache.ignite.internal.sql.engine.hint.IgniteHint.USE_HASH_JOIN;
 
 import java.util.Arrays;
 import java.util.EnumSet;
@@ -29,6 +31,7 @@ import org.apache.calcite.rel.core.AggregateCall;
 import org.apache.calcite.rel.hint.Hintable;
 import org.apache.calcite.rel.hint.RelHint;
 import org.apache.calcite.rel.logical.LogicalAggregate;
+import org.apache.calcite.rel.logical.LogicalJoin;
 import org.apache.ignite.internal.sql.engine.hint.IgniteHint;
 
 /**
@@ -50,6 +53,38 @@ public class HintUtils {
                 && rel.getAggCallList().stream().anyMatch(AggregateCall::isDistinct);
     }
 
+    /**
+     * Return {@code true} if the USE_HASH_JOIN hint presents in provided logical join.
+     *
+     * @param rel Logical join to check on use hash join hint.
+     */
+    public static boolean isHashJoinForced(LogicalJoin rel) {
+        return rel.getHints().stream()
+                .anyMatch(r -> r.hintName.equals(USE_HASH_JOIN.name()));
+    }
+
+    /**
+     * Returns the number of concurrent scans requested by the SCAN_PARALLELISM hint, or {@code 0} if there is no such hint or its
+     * option is not a positive number.
+     *
+     * @param hints Hints of a table scan.
+     */
+    public static int scanParallelism(List<RelHint> hints) {
+        for (RelHint hint : hints) {
+            if (!hint.hintName.equals(SCAN_PARALLELISM.name()) || hint.listOptions.size() != 1) {
+                continue;
+            }
+
+            try {
+                return Math.max(0, Integer.parseInt(hint.listOptions.get(0).trim()));
+            } catch (NumberFormatException ignored) {
+                return 0;
+            }
+        }
+
+        return 0;
+    }
+
     /**
      * Generate string representation of the hint together with a list of parameters. Can be used as is in query.
      *
@@ -17,6 +17,7 @@
 
 package org.apache.ignite.internal.sql.engine.util.cache;
 
+import java.util.function.BiConsumer;
 import java.util.function.BiFunction;
 import java.util.function.Function;
 import java.util.function.Predicate;
@@ -60,6 +61,13 @@ public interface Cache<K, V> {
      */
     void put(K key, V value);
 
+    /**
+     * Removes the mapping for the {@code key} from this cache, if present.
+     *
+     * @param key A key whose mapping is to be removed.
+     */
+    void remove(K key);
+
     /** Clears the given cache. That is, remove all keys and associated values. */
     void clear();
 
@@ -79,4 +87,13 @@ public interface Cache<K, V> {
      * @param valueFilter A predicate which returns {@code true} for the values of entries to be removed.
      */
     void removeIfValue(Predicate<? super V> valueFilter);
+
+    /**
+     * Performs the given action for each entry of the cache.
+     *
+     * <p>The iteration is weakly consistent: entries added or removed concurrently may or may not be observed.
+     *
+     * @param action The action to be performed for each entry.
+     */
+    void forEach(BiConsumer<? super K, ? super V> action);
 }
@@ -21,6 +21,7 @@ import com.github.benmanes.caffeine.cache.Caffeine;
 import com.github.benmanes.caffeine.cache.RemovalCause;
 import com.github.benmanes.caffeine.cache.stats.CacheStats;
 import java.util.concurrent.Executor;
+import java.util.function.BiConsumer;
 import java.util.function.BiFunction;
 import java.util.function.Function;
 import java.util.function.Predicate;
@@ -134,6 +135,11 @@ public class CaffeineCacheFactory implements CacheFactory {
             cache.put(key, value);
         }
 
+        @Override
+        public void remove(K key) {
+            cache.invalidate(key);
+        }
+
         @Override
         public void clear() {
             cache.invalidateAll();
@@ -148,5 +154,10 @@ public class CaffeineCacheFactory implements CacheFactory {
         public void removeIfValue(Predicate<? super V> valueFilter) {
             cache.asMap().values().removeIf(valueFilter);
         }
+
+        @Override
+        public void forEach(BiConsumer<? super K, ? super V> action) {
+            cache.asMap().forEach(action);
+        }
     }
 }
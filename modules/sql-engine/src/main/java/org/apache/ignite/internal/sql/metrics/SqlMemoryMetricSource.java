@@ -0,0 +1,63 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.sql.metrics;
+
+import org.apache.ignite.internal.metrics.AbstractMetricSource;
+import org.apache.ignite.internal.metrics.MetricSetBuilder;
+import org.apache.ignite.internal.sql.engine.exec.memory.MemoryTracker;
+
+/**
+ * Metric source, which provides metrics of memory held by the buffers of the queries running on the node.
+ */
+public class SqlMemoryMetricSource extends AbstractMetricSource<SqlMemoryMetricSource.Holder> {
+    public static final String NAME = "sql.memory";
+
+    private final MemoryTracker memoryTracker;
+
+    /**
+     * Constructor.
+     *
+     * @param memoryTracker Root tracker of the memory held by the queries running on the node.
+     */
+    public SqlMemoryMetricSource(MemoryTracker memoryTracker) {
+        super(NAME);
+
+        this.memoryTracker = memoryTracker;
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    protected void init(MetricSetBuilder bldr, Holder holder) {
+        bldr.longGauge("ReservedBytes", "Amount of memory reserved by the buffers of the running queries", memoryTracker::reserved);
+        bldr.longGauge("Quota", "Amount of memory the buffers of the running queries may hold, 0 if unlimited", memoryTracker::limit);
+        bldr.longGauge("QuotaExceeded", "Total number of memory reservations rejected due to exceeding a memory quota",
+                memoryTracker::rejectedReservations);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    protected Holder createHolder() {
+        return new Holder();
+    }
+
+    /**
+     * Holder.
+     */
+    protected static class Holder implements AbstractMetricSource.Holder<Holder> {
+    }
+}
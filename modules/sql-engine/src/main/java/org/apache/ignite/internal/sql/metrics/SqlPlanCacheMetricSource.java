@@ -19,6 +19,7 @@ package org.apache.ignite.internal.sql.metrics;
 
 import org.apache.ignite.internal.metrics.AbstractMetricSource;
 import org.apache.ignite.internal.metrics.AtomicLongMetric;
+import org.apache.ignite.internal.metrics.DistributionMetric;
 import org.apache.ignite.internal.metrics.MetricSetBuilder;
 import org.apache.ignite.internal.sql.engine.util.cache.StatsCounter;
 
@@ -28,6 +29,9 @@ import org.apache.ignite.internal.sql.engine.util.cache.StatsCounter;
 public class SqlPlanCacheMetricSource extends AbstractMetricSource<SqlPlanCacheMetricSource.Holder> implements StatsCounter {
     public static final String NAME = "sql.plan.cache";
 
+    /** Bounds of the planning time histogram, in milliseconds. */
+    private static final long[] PLANNING_TIME_BOUNDS = {1, 10, 50, 100, 500, 1_000, 5_000};
+
     /** Constructor. */
     public SqlPlanCacheMetricSource() {
         super(NAME);
@@ -51,11 +55,53 @@ public class SqlPlanCacheMetricSource extends AbstractMetricSource<SqlPlanCacheM
         }
     }
 
+    /**
+     * Records time spent on planning of a statement.
+     *
+     * @param millis Planning time, in milliseconds.
+     */
+    public void recordPlanningTime(long millis) {
+        Holder h = holder();
+
+        if (h != null) {
+            h.planningTime.add(millis);
+        }
+    }
+
+    /**
+     * Records plans that were dropped from the cache, since the tables they depend on were changed.
+     *
+     * @param count Number of plans.
+     */
+    public void recordInvalidations(int count) {
+        Holder h = holder();
+
+        if (h != null) {
+            h.invalidations.add(count);
+        }
+    }
+
+    /**
+     * Records plans that were reused for a newer catalog version, since the tables they depend on were not changed.
+     *
+     * @param count Number of plans.
+     */
+    public void recordReuses(int count) {
+        Holder h = holder();
+
+        if (h != null) {
+            h.reuses.add(count);
+        }
+    }
+
     /** {@inheritDoc} */
     @Override
     protected void init(MetricSetBuilder bldr, Holder holder) {
         bldr.register(holder.cachePlanHits);
         bldr.register(holder.cachePlanMisses);
+        bldr.register(holder.planningTime);
+        bldr.register(holder.invalidations);
+        bldr.register(holder.reuses);
     }
 
     /** {@inheritDoc} */
@@ -70,5 +116,11 @@ public class SqlPlanCacheMetricSource extends AbstractMetricSource<SqlPlanCacheM
     protected static class Holder implements AbstractMetricSource.Holder<Holder> {
         private final AtomicLongMetric cachePlanHits = new AtomicLongMetric("Hits", "Cache plan hits");
         private final AtomicLongMetric cachePlanMisses = new AtomicLongMetric("Misses", "Cache plan misses");
+        private final DistributionMetric planningTime = new DistributionMetric(
+                "PlanningTime", "Distribution of time spent on planning of statements, in milliseconds", PLANNING_TIME_BOUNDS);
+        private final AtomicLongMetric invalidations = new AtomicLongMetric(
+                "Invalidations", "Cached plans dropped since the tables they depend on were changed");
+        private final AtomicLongMetric reuses = new AtomicLongMetric(
+                "Reuses", "Cached plans reused for a newer catalog version since the tables they depend on were not changed");
     }
 }
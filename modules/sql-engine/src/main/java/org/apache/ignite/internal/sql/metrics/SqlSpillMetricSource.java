@@ -0,0 +1,70 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.sql.metrics;
+
+import org.apache.ignite.internal.metrics.AbstractMetricSource;
+import org.apache.ignite.internal.metrics.AtomicLongMetric;
+import org.apache.ignite.internal.metrics.MetricSetBuilder;
+
+/**
+ * Metric source, which provides metrics of intermediate query results spilled to disk.
+ */
+public class SqlSpillMetricSource extends AbstractMetricSource<SqlSpillMetricSource.Holder> {
+    public static final String NAME = "sql.spill";
+
+    /** Constructor. */
+    public SqlSpillMetricSource() {
+        super(NAME);
+    }
+
+    /**
+     * Records a spill file that has been completely written.
+     *
+     * @param bytes Size of the file in bytes.
+     */
+    public void recordSpillFile(long bytes) {
+        Holder h = holder();
+
+        if (h != null) {
+            h.spillFiles.increment();
+            h.spilledBytes.add(bytes);
+        }
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    protected void init(MetricSetBuilder bldr, Holder holder) {
+        bldr.register(holder.spilledBytes);
+        bldr.register(holder.spillFiles);
+    }
+
+    /** {@inheritDoc} */
+    @Override
+    protected Holder createHolder() {
+        return new Holder();
+    }
+
+    /**
+     * Holder.
+     */
+    protected static class Holder implements AbstractMetricSource.Holder<Holder> {
+        private final AtomicLongMetric spilledBytes = new AtomicLongMetric("SpilledBytes", "Total number of bytes spilled to disk");
+        private final AtomicLongMetric spillFiles = new AtomicLongMetric(
+                "SpillFiles", "Total number of spill files (e.g. sorted runs) written to disk");
+    }
+}
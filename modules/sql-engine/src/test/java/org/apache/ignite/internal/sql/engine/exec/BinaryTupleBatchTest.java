@@ -0,0 +1,88 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.sql.engine.exec;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.List;
+import org.apache.ignite.internal.sql.engine.exec.RowHandler.RowFactory;
+import org.apache.ignite.internal.sql.engine.exec.SqlRowHandler.RowWrapper;
+import org.apache.ignite.internal.sql.engine.exec.row.RowSchema;
+import org.apache.ignite.internal.type.NativeTypes;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests for {@link BinaryTupleBatch}.
+ */
+public class BinaryTupleBatchTest {
+    private final RowHandler<RowWrapper> handler = SqlRowHandler.INSTANCE;
+
+    private final RowFactory<RowWrapper> factory = handler.factory(RowSchema.builder()
+            .addField(NativeTypes.INT32)
+            .addField(NativeTypes.STRING, true)
+            .build());
+
+    @Test
+    public void packAndUnpack() {
+        List<RowWrapper> rows = new ArrayList<>();
+
+        for (int i = 0; i < 100; i++) {
+            rows.add(factory.create(i, i % 10 == 0 ? null : "val_" + i));
+        }
+
+        ByteBuffer batch = BinaryTupleBatch.pack(handler, rows);
+
+        List<RowWrapper> res = new ArrayList<>();
+
+        assertEquals(rows.size(), BinaryTupleBatch.unpack(batch, factory, res));
+        assertEquals(rows.size(), res.size());
+
+        // Unpacking must not consume the batch.
+        assertEquals(0, batch.position());
+
+        for (int i = 0; i < res.size(); i++) {
+            RowWrapper row = res.get(i);
+
+            assertEquals(i, handler.get(0, row));
+
+            if (i % 10 == 0) {
+                assertNull(handler.get(1, row));
+            } else {
+                assertEquals("val_" + i, handler.get(1, row));
+            }
+
+            // Rows are views over the batch buffer.
+            assertSame(batch.array(), handler.toBinaryTuple(row).byteBuffer().array());
+        }
+    }
+
+    @Test
+    public void emptyBatch() {
+        ByteBuffer batch = BinaryTupleBatch.pack(handler, List.of());
+
+        List<RowWrapper> res = new ArrayList<>();
+
+        assertEquals(0, BinaryTupleBatch.unpack(batch, factory, res));
+        assertFalse(batch.hasRemaining());
+    }
+}
@@ -87,6 +87,7 @@ import org.apache.ignite.internal.sql.engine.exec.mapping.ExecutionTarget;
 import org.apache.ignite.internal.sql.engine.exec.mapping.ExecutionTargetFactory;
 import org.apache.ignite.internal.sql.engine.exec.mapping.ExecutionTargetProvider;
 import org.apache.ignite.internal.sql.engine.exec.mapping.MappingServiceImpl;
+import org.apache.ignite.internal.sql.engine.exec.memory.MemoryTracker;
 import org.apache.ignite.internal.sql.engine.exec.rel.AbstractNode;
 import org.apache.ignite.internal.sql.engine.exec.rel.Inbox;
 import org.apache.ignite.internal.sql.engine.exec.rel.Node;
@@ -183,7 +184,7 @@ public class ExecutionServiceImplTest extends BaseIgniteAbstractTest {
         testCluster = new TestCluster();
         executionServices = nodeNames.stream().map(this::create).collect(Collectors.toList());
         prepareService = new PrepareServiceImpl("test", 0, CaffeineCacheFactory.INSTANCE, null, PLANNING_TIMEOUT, PLANNING_THREAD_COUNT,
-                new MetricManager());
+                new MetricManager(), mock(SqlSchemaManager.class));
         parserService = new ParserServiceImpl(0, EmptyCacheFactory.INSTANCE);
 
         prepareService.start();
@@ -250,6 +251,37 @@ public class ExecutionServiceImplTest extends BaseIgniteAbstractTest {
         assertTrue(batchFut.toCompletableFuture().isCompletedExceptionally());
     }
 
+    /**
+     * Memory reserved by the fragments and not released by their operators is released once the query is closed.
+     */
+    @Test
+    public void testFragmentMemoryIsReleasedOnClose() throws Exception {
+        ExecutionService execService = executionServices.get(0);
+        BaseQueryContext ctx = createContext();
+        QueryPlan plan = prepare("SELECT * FROM test_tbl", ctx);
+
+        nodeNames.stream().map(testCluster::node).forEach(TestNode::pauseScan);
+
+        InternalTransaction tx = new NoOpTransaction(nodeNames.get(0));
+        AsyncCursor<InternalSqlRow> cursor = execService.executePlan(tx, plan, ctx);
+
+        assertTrue(waitForCondition(
+                () -> executionServices.stream().map(es -> es.localFragments(ctx.queryId()).size())
+                        .mapToInt(i -> i).sum() == 4, TIMEOUT_IN_MS));
+
+        List<AbstractNode<?>> execNodes = executionServices.stream()
+                .flatMap(s -> s.localFragments(ctx.queryId()).stream()).collect(Collectors.toList());
+
+        execNodes.forEach(node -> node.context().memoryTracker().reserve(1024));
+
+        await(cursor.closeAsync());
+
+        awaitContextCancellation(execNodes);
+
+        assertTrue(waitForCondition(
+                () -> execNodes.stream().allMatch(node -> node.context().memoryTracker().reserved() == 0), TIMEOUT_IN_MS));
+    }
+
     /**
      * The very simple case where a query is cancelled in the middle of a normal execution.
      */
@@ -876,6 +908,8 @@ public class ExecutionServiceImplTest extends BaseIgniteAbstractTest {
                 executableTableRegistry,
                 dependencyResolver,
                 (ctx, deps) -> node.implementor(ctx, mailboxRegistry, exchangeService, deps),
+                MemoryTracker.root(nodeName, 0),
+                0,
                 SHUTDOWN_TIMEOUT
         );
 
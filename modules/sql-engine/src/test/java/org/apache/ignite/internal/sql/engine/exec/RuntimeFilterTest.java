@@ -0,0 +1,117 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.ignite.internal.sql.engine.exec;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.math.BigDecimal;
+import org.apache.ignite.internal.sql.engine.exec.exp.agg.GroupKey;
+import org.apache.ignite.internal.sql.engine.framework.ArrayRowHandler;
+import org.apache.ignite.internal.util.ByteUtils;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests for {@link RuntimeFilter}.
+ */
+public class RuntimeFilterTest {
+    private final RowHandler<Object[]> handler = ArrayRowHandler.INSTANCE;
+
+    @Test
+    public void keysOfBuildSidePass() {
+        RuntimeFilter.Builder builder = RuntimeFilter.builder(new int[]{1, 0}, 1_000);
+
+        for (int i = 0; i < 1_000; i++) {
+            builder.add(key(i * 3, "val_" + i));
+        }
+
+        RuntimeFilter filter = builder.build();
+
+        for (int i = 0; i < 1_000; i++) {
+            assertTrue(filter.test(handler, new Object[]{"val_" + i, i * 3}), "i=" + i);
+        }
+
+        int falsePositives = 0;
+
+        for (int i = 0; i < 10_000; i++) {
+            if (filter.test(handler, new Object[]{"val_" + i, i * 3 + 1})) {
+                falsePositives++;
+            }
+        }
+
+        // About 1% is expected.
+        assertTrue(falsePositives < 500, "falsePositives=" + falsePositives);
+    }
+
+    @Test
+    public void emptyBuildSide() {
+        RuntimeFilter filter = RuntimeFilter.builder(new int[]{0}, 0).build();
+
+        assertFalse(filter.test(handler, new Object[]{1}));
+        assertFalse(filter.test(handler, new Object[]{null}));
+    }
+
+    @Test
+    public void valuesOutOfRangeAreFilteredOut() {
+        RuntimeFilter.Builder builder = RuntimeFilter.builder(new int[]{0}, 10);
+
+        for (int i = 10; i < 20; i++) {
+            builder.add(key(i));
+        }
+
+        RuntimeFilter filter = builder.build();
+
+        for (int i = 0; i < 30; i++) {
+            boolean inRange = i >= 10 && i < 20;
+
+            assertEquals(inRange, filter.test(handler, new Object[]{i}), "i=" + i);
+        }
+    }
+
+    @Test
+    public void keysAreNormalized() {
+        RuntimeFilter decimals = RuntimeFilter.builder(new int[]{0}, 1)
+                .add(key(RuntimeFilter.normalize(new BigDecimal("1.50"))))
+                .build();
+
+        assertTrue(decimals.test(handler, new Object[]{new BigDecimal("1.5000")}));
+        assertTrue(decimals.test(handler, new Object[]{new BigDecimal("1.5")}));
+
+        RuntimeFilter doubles = RuntimeFilter.builder(new int[]{0}, 1)
+                .add(key(RuntimeFilter.normalize(-0.0d)))
+                .build();
+
+        assertTrue(doubles.test(handler, new Object[]{0.0d}));
+    }
+
+    @Test
+    public void filterIsSerializable() {
+        RuntimeFilter filter = RuntimeFilter.builder(new int[]{0}, 1)
+                .add(key("val"))
+                .build();
+
+        RuntimeFilter copy = ByteUtils.fromBytes(ByteUtils.toBytes(filter));
+
+        assertTrue(copy.test(handler, new Object[]{"val"}));
+        assertFalse(copy.test(handler, new Object[]{"zzz"}));
+    }
+
+    private static GroupKey key(Object... fields) {
+        return new GroupKey(fields);
+    }
+}
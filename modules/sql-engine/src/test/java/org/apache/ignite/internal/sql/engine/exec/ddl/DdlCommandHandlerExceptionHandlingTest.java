@@ -22,6 +22,7 @@ import static org.apache.ignite.internal.distributionzones.DistributionZonesTest
 import static org.apache.ignite.internal.testframework.matchers.CompletableFutureExceptionMatcher.willThrow;
 import static org.apache.ignite.internal.testframework.matchers.CompletableFutureMatcher.willCompleteSuccessfully;
 import static org.hamcrest.MatcherAssert.assertThat;
+import static org.mockito.Mockito.mock;
 
 import java.util.concurrent.CompletableFuture;
 import org.apache.ignite.internal.catalog.CatalogManager;
@@ -30,6 +31,7 @@ import org.apache.ignite.internal.catalog.DistributionZoneNotFoundValidationExce
 import org.apache.ignite.internal.hlc.HybridClockImpl;
 import org.apache.ignite.internal.sql.engine.prepare.ddl.CreateZoneCommand;
 import org.apache.ignite.internal.sql.engine.prepare.ddl.DropZoneCommand;
+import org.apache.ignite.internal.sql.engine.statistic.SqlStatisticManager;
 import org.apache.ignite.internal.testframework.IgniteAbstractTest;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
@@ -48,7 +50,7 @@ public class DdlCommandHandlerExceptionHandlingTest extends IgniteAbstractTest {
         catalogManager = createTestCatalogManager("test", new HybridClockImpl());
         assertThat(catalogManager.start(), willCompleteSuccessfully());
 
-        commandHandler = new DdlCommandHandler(catalogManager);
+        commandHandler = new DdlCommandHandler(catalogManager, mock(SqlStatisticManager.class));
     }
 
     @AfterEach
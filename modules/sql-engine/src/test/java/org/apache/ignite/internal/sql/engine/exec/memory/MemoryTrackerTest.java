@@ -0,0 +1,161 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.sql.engine.exec.memory;
+
+import static org.apache.ignite.internal.testframework.IgniteTestUtils.runRace;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests for {@link MemoryTracker} and {@link OperatorMemoryTracker}.
+ */
+public class MemoryTrackerTest {
+    @Test
+    public void reservationIsAccountedOnEveryLevel() {
+        MemoryTracker node = MemoryTracker.root("node", 0);
+        MemoryTracker query = node.child("query", 0);
+        MemoryTracker fragment = query.child("fragment", 0);
+
+        fragment.reserve(100);
+
+        assertEquals(100, fragment.reserved());
+        assertEquals(100, query.reserved());
+        assertEquals(100, node.reserved());
+
+        fragment.release(40);
+
+        assertEquals(60, fragment.reserved());
+        assertEquals(60, query.reserved());
+        assertEquals(60, node.reserved());
+    }
+
+    @Test
+    public void reservationExceedingParentQuotaIsRolledBack() {
+        MemoryTracker node = MemoryTracker.root("node", 150);
+        MemoryTracker query1 = node.child("query1", 0);
+        MemoryTracker query2 = node.child("query2", 100);
+
+        query1.reserve(100);
+        query2.reserve(50);
+
+        // Exceeds the quota of the node.
+        assertThrows(MemoryQuotaExceededException.class, () -> query2.reserve(10));
+
+        assertEquals(50, query2.reserved());
+        assertEquals(150, node.reserved());
+
+        query1.release(100);
+
+        // Exceeds the quota of the query.
+        assertThrows(MemoryQuotaExceededException.class, () -> query2.reserve(60));
+
+        assertEquals(50, query2.reserved());
+        assertEquals(50, node.reserved());
+        assertEquals(2, node.rejectedReservations());
+    }
+
+    @Test
+    public void closeReleasesEverything() {
+        MemoryTracker node = MemoryTracker.root("node", 0);
+        MemoryTracker query = node.child("query", 0);
+        MemoryTracker fragment = query.child("fragment", 0);
+
+        fragment.reserve(100);
+
+        query.close();
+
+        assertEquals(0, query.reserved());
+        assertEquals(0, node.reserved());
+
+        // Late releases and reservations of the fragment don't affect the node.
+        fragment.release(100);
+        fragment.reserve(100);
+
+        assertEquals(0, node.reserved());
+    }
+
+    @Test
+    public void concurrentCloseReleasesExactlyWhatHasBeenReserved() {
+        MemoryTracker node = MemoryTracker.root("node", 0);
+        MemoryTracker query = node.child("query", 0);
+
+        for (int i = 0; i < 100; i++) {
+            MemoryTracker fragment = query.child("fragment", 0);
+
+            fragment.reserve(1000);
+
+            runRace(
+                    () -> {
+                        for (int j = 0; j < 1000; j++) {
+                            fragment.reserve(10);
+                        }
+                    },
+                    () -> {
+                        for (int j = 0; j < 1000; j++) {
+                            fragment.release(1);
+                        }
+                    },
+                    fragment::close
+            );
+
+            assertEquals(0, fragment.reserved());
+            assertEquals(0, query.reserved());
+            assertEquals(0, node.reserved());
+        }
+    }
+
+    @Test
+    public void operatorReservesMemoryInChunks() {
+        MemoryTracker fragment = MemoryTracker.root("fragment", 0);
+        OperatorMemoryTracker operator = new OperatorMemoryTracker(fragment);
+
+        operator.reserve(10);
+
+        assertEquals(10, operator.used());
+        assertEquals(OperatorMemoryTracker.CHUNK_SIZE, fragment.reserved());
+
+        operator.reserve(OperatorMemoryTracker.CHUNK_SIZE * 3);
+
+        assertEquals(OperatorMemoryTracker.CHUNK_SIZE * 3 + 10, fragment.reserved());
+
+        operator.release(OperatorMemoryTracker.CHUNK_SIZE * 3);
+
+        assertEquals(10, operator.used());
+        assertEquals(OperatorMemoryTracker.CHUNK_SIZE + 10, fragment.reserved());
+
+        operator.reset();
+
+        assertEquals(0, operator.used());
+        assertEquals(0, fragment.reserved());
+    }
+
+    @Test
+    public void operatorReservationExceedingQuotaIsNotAccounted() {
+        MemoryTracker fragment = MemoryTracker.root("fragment", OperatorMemoryTracker.CHUNK_SIZE);
+        OperatorMemoryTracker operator = new OperatorMemoryTracker(fragment);
+
+        operator.reserve(OperatorMemoryTracker.CHUNK_SIZE);
+
+        assertThrows(MemoryQuotaExceededException.class, () -> operator.reserve(1));
+
+        assertEquals(OperatorMemoryTracker.CHUNK_SIZE, operator.used());
+        assertEquals(OperatorMemoryTracker.CHUNK_SIZE, fragment.reserved());
+    }
+}
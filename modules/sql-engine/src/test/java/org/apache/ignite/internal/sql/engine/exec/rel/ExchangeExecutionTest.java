@@ -51,6 +51,8 @@ import org.apache.ignite.internal.sql.engine.exec.MailboxRegistryImpl;
 import org.apache.ignite.internal.sql.engine.exec.QueryTaskExecutor;
 import org.apache.ignite.internal.sql.engine.exec.QueryTaskExecutorImpl;
 import org.apache.ignite.internal.sql.engine.exec.RowHandler;
+import org.apache.ignite.internal.sql.engine.exec.RuntimeFilter;
+import org.apache.ignite.internal.sql.engine.exec.exp.agg.GroupKey;
 import org.apache.ignite.internal.sql.engine.exec.mapping.FragmentDescription;
 import org.apache.ignite.internal.sql.engine.exec.row.RowSchema;
 import org.apache.ignite.internal.sql.engine.framework.ArrayRowHandler;
@@ -208,6 +210,46 @@ public class ExchangeExecutionTest extends AbstractExecutionTest<Object[]> {
         return args.stream();
     }
 
+    @Test
+    public void runtimeFilterDropsRowsOnSourceSide() {
+        UUID queryId = UUID.randomUUID();
+
+        int rowCount = 2 * Commons.IO_BATCH_SIZE;
+
+        int idx = 0;
+        for (ClusterNode node : List.of(ROOT_NODE, ANOTHER_NODE)) {
+            List<Object[]> rows = new ArrayList<>(rowCount);
+
+            for (int i = 0; i < rowCount; i++) {
+                rows.add(new Object[]{i, idx});
+            }
+
+            createSourceFragment(queryId, node, serviceFactory, DataProvider.fromCollection(rows));
+
+            idx++;
+        }
+
+        AsyncRootNode<Object[], Object[]> root = createRootFragment(queryId, -1, ROOT_NODE, NODE_NAMES, false, serviceFactory);
+
+        Inbox<?> inbox = (Inbox<?>) IgniteTestUtils.getFieldValue(root, AsyncRootNode.class, "source");
+
+        RuntimeFilter.Builder builder = RuntimeFilter.builder(new int[]{0}, 10);
+
+        for (int i = 10; i < 20; i++) {
+            builder.add(new GroupKey(new Object[]{i}));
+        }
+
+        RuntimeFilter filter = builder.build();
+
+        await(inbox.context().submit(() -> inbox.runtimeFilter(filter), inbox::onError));
+
+        BatchedResult<Object[]> res = await(root.requestNextAsync(rowCount));
+
+        assertFalse(res.hasMore());
+        assertEquals(NODE_NAMES.size() * 10, res.items().size());
+        assertThat(res.items(), everyItem(new PredicateMatcher<>(e -> (int) e[0] >= 10 && (int) e[0] < 20, "key in range")));
+    }
+
     /**
      * This test verifies that races between batches from previous request and subtree rewinding are
      * handled properly.
@@ -20,12 +20,14 @@ package org.apache.ignite.internal.sql.engine.exec.rel;
 import static org.apache.ignite.internal.sql.engine.exec.exp.agg.AggregateType.MAP;
 import static org.apache.ignite.internal.sql.engine.exec.exp.agg.AggregateType.REDUCE;
 import static org.apache.ignite.internal.sql.engine.exec.exp.agg.AggregateType.SINGLE;
+import static org.apache.ignite.internal.sql.engine.util.TypeUtils.rowSchemaFromRelTypes;
 import static org.apache.ignite.internal.util.CollectionUtils.first;
 
 import java.util.Comparator;
 import java.util.List;
 import java.util.Objects;
 import java.util.stream.IntStream;
+import org.apache.calcite.plan.RelOptUtil;
 import org.apache.calcite.rel.RelCollation;
 import org.apache.calcite.rel.RelCollations;
 import org.apache.calcite.rel.core.AggregateCall;
@@ -35,6 +37,7 @@ import org.apache.calcite.util.ImmutableIntList;
 import org.apache.calcite.util.mapping.Mapping;
 import org.apache.ignite.internal.sql.engine.exec.ExecutionContext;
 import org.apache.ignite.internal.sql.engine.exec.RowHandler;
+import org.apache.ignite.internal.sql.engine.exec.row.RowSchema;
 import org.apache.ignite.internal.sql.engine.rel.agg.MapReduceAggregates;
 import org.apache.ignite.internal.sql.engine.rel.agg.MapReduceAggregates.MapReduceAgg;
 import org.apache.ignite.internal.sql.engine.util.Commons;
@@ -61,7 +64,9 @@ public class HashAggregateExecutionTest extends BaseAggregateTest {
                 SINGLE,
                 grpSets,
                 accFactory(ctx, call, SINGLE, inRowType),
-                rowFactory
+                rowFactory,
+                inputSchema(inRowType),
+                null
         );
 
         agg.register(scan);
@@ -78,6 +83,10 @@ public class HashAggregateExecutionTest extends BaseAggregateTest {
         return sort;
     }
 
+    private static RowSchema inputSchema(RelDataType rowType) {
+        return rowSchemaFromRelTypes(RelOptUtil.getFieldTypeList(rowType));
+    }
+
     private RelCollation createOutCollation(List<ImmutableBitSet> grpSets) {
         RelCollation collation;
 
@@ -111,7 +120,9 @@ public class HashAggregateExecutionTest extends BaseAggregateTest {
                 MAP,
                 grpSets,
                 accFactory(ctx, call, MAP, inRowType),
-                rowFactory
+                rowFactory,
+                inputSchema(inRowType),
+                null
         );
 
         aggMap.register(scan);
@@ -125,7 +136,9 @@ public class HashAggregateExecutionTest extends BaseAggregateTest {
                 REDUCE,
                 grpSets,
                 accFactory(ctx, mapReduceAgg.getReduceCall(), REDUCE, aggRowType),
-                rowFactory
+                rowFactory,
+                inputSchema(aggRowType),
+                null
         );
 
         aggRdc.register(aggMap);
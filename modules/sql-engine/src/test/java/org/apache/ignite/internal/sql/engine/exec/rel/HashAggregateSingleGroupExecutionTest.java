@@ -20,6 +20,7 @@ package org.apache.ignite.internal.sql.engine.exec.rel;
 import static org.apache.ignite.internal.sql.engine.exec.exp.agg.AggregateType.MAP;
 import static org.apache.ignite.internal.sql.engine.exec.exp.agg.AggregateType.REDUCE;
 import static org.apache.ignite.internal.sql.engine.exec.exp.agg.AggregateType.SINGLE;
+import static org.apache.ignite.internal.sql.engine.util.TypeUtils.rowSchemaFromRelTypes;
 import static org.apache.ignite.internal.util.ArrayUtils.asList;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
@@ -29,6 +30,7 @@ import com.google.common.collect.ImmutableList;
 import java.util.Arrays;
 import java.util.List;
 import java.util.function.Supplier;
+import org.apache.calcite.plan.RelOptUtil;
 import org.apache.calcite.rel.RelCollations;
 import org.apache.calcite.rel.core.AggregateCall;
 import org.apache.calcite.rel.type.RelDataType;
@@ -39,6 +41,7 @@ import org.apache.ignite.internal.sql.engine.exec.ExecutionContext;
 import org.apache.ignite.internal.sql.engine.exec.RowHandler;
 import org.apache.ignite.internal.sql.engine.exec.exp.agg.AccumulatorWrapper;
 import org.apache.ignite.internal.sql.engine.exec.exp.agg.AggregateType;
+import org.apache.ignite.internal.sql.engine.exec.row.RowSchema;
 import org.apache.ignite.internal.sql.engine.framework.ArrayRowHandler;
 import org.apache.ignite.internal.sql.engine.rel.agg.MapReduceAggregates;
 import org.apache.ignite.internal.sql.engine.rel.agg.MapReduceAggregates.MapReduceAgg;
@@ -198,14 +201,14 @@ public class HashAggregateSingleGroupExecutionTest extends AbstractExecutionTest
         List<ImmutableBitSet> grpSets = List.of(ImmutableBitSet.of());
 
         HashAggregateNode<Object[]> map = new HashAggregateNode<>(ctx, MAP, grpSets,
-                accFactory(ctx, mapCall, MAP, rowType), rowFactory());
+                accFactory(ctx, mapCall, MAP, rowType), rowFactory(), inputSchema(rowType), null);
         map.register(scan);
 
         RelDataType hashRowType = PlanUtils.createHashAggRowType(grpSets, tf, rowType, List.of(mapCall));
         MapReduceAgg reduceAggCall = MapReduceAggregates.createMapReduceAggCall(mapCall, 0);
 
         HashAggregateNode<Object[]> reduce = new HashAggregateNode<>(ctx, REDUCE, grpSets,
-                accFactory(ctx, reduceAggCall.getReduceCall(), REDUCE, hashRowType), rowFactory());
+                accFactory(ctx, reduceAggCall.getReduceCall(), REDUCE, hashRowType), rowFactory(), inputSchema(hashRowType), null);
         reduce.register(map);
 
         try (RootNode<Object[]> root = new RootNode<>(ctx)) {
@@ -417,7 +420,11 @@ public class HashAggregateSingleGroupExecutionTest extends AbstractExecutionTest
 
         Supplier<List<AccumulatorWrapper<Object[]>>> accFactory = accFactory(ctx, call, type, rowType);
 
-        return new HashAggregateNode<>(ctx, type, grpSets, accFactory, rowFactory());
+        return new HashAggregateNode<>(ctx, type, grpSets, accFactory, rowFactory(), inputSchema(rowType), null);
+    }
+
+    private static RowSchema inputSchema(RelDataType rowType) {
+        return rowSchemaFromRelTypes(RelOptUtil.getFieldTypeList(rowType));
     }
 
     private HashAggregateNode<Object[]> newMapHashAggNode(ExecutionContext<Object[]> ctx,
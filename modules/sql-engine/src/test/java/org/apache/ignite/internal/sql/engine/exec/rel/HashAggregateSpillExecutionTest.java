@@ -0,0 +1,165 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.sql.engine.exec.rel;
+
+import static org.apache.ignite.internal.sql.engine.exec.exp.agg.AggregateType.SINGLE;
+import static org.apache.ignite.internal.sql.engine.util.TypeUtils.rowSchemaFromRelTypes;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Stream;
+import org.apache.calcite.plan.RelOptUtil;
+import org.apache.calcite.rel.RelCollations;
+import org.apache.calcite.rel.core.AggregateCall;
+import org.apache.calcite.rel.type.RelDataType;
+import org.apache.calcite.sql.fun.SqlStdOperatorTable;
+import org.apache.calcite.util.ImmutableBitSet;
+import org.apache.calcite.util.ImmutableIntList;
+import org.apache.ignite.internal.metrics.LongMetric;
+import org.apache.ignite.internal.metrics.MetricSet;
+import org.apache.ignite.internal.sql.engine.exec.ExecutionContext;
+import org.apache.ignite.internal.sql.engine.exec.RowHandler;
+import org.apache.ignite.internal.sql.engine.exec.spill.SpillManager;
+import org.apache.ignite.internal.sql.engine.framework.ArrayRowHandler;
+import org.apache.ignite.internal.sql.engine.type.IgniteTypeFactory;
+import org.apache.ignite.internal.sql.engine.util.TypeUtils;
+import org.apache.ignite.internal.sql.metrics.SqlSpillMetricSource;
+import org.apache.ignite.internal.type.NativeTypes;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+/**
+ * Tests for {@link HashAggregateNode} spilling groups to disk.
+ */
+public class HashAggregateSpillExecutionTest extends AbstractExecutionTest<Object[]> {
+    private Path spillDir;
+
+    private MetricSet metricSet;
+
+    private SpillManager spillManager;
+
+    @BeforeEach
+    void startSpillManager() {
+        spillDir = workDir.resolve("spill");
+
+        SqlSpillMetricSource metricSource = new SqlSpillMetricSource();
+
+        metricSet = metricSource.enable();
+
+        // Tiny threshold to make a few thousands of groups spill several times.
+        spillManager = new SpillManager(spillDir, 4 * 1024, metricSource);
+        spillManager.start();
+    }
+
+    @AfterEach
+    void stopSpillManager() {
+        spillManager.stop();
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {0, 10, 5_000, 20_000})
+    public void groupByWithSpilling(int groupsCnt) throws IOException {
+        ExecutionContext<Object[]> ctx = executionContext();
+        IgniteTypeFactory tf = ctx.getTypeFactory();
+        RelDataType rowType = TypeUtils.createRowType(tf, TypeUtils.native2relationalTypes(tf, NativeTypes.STRING, NativeTypes.INT32));
+
+        List<Object[]> data = new ArrayList<>();
+        Map<String, Integer> expected = new HashMap<>();
+
+        for (int i = 0; i < groupsCnt; i++) {
+            String key = "grp_" + i;
+
+            for (int j = 0; j <= i % 3; j++) {
+                data.add(row(key, j + 1));
+            }
+
+            expected.put(key, (i % 3 + 1) * (i % 3 + 2) / 2);
+        }
+
+        AggregateCall call = AggregateCall.create(
+                SqlStdOperatorTable.SUM,
+                false,
+                false,
+                false,
+                ImmutableIntList.of(1),
+                -1,
+                RelCollations.EMPTY,
+                tf.createJavaType(int.class),
+                null);
+
+        ScanNode<Object[]> scan = new ScanNode<>(ctx, data);
+
+        HashAggregateNode<Object[]> agg = new HashAggregateNode<>(
+                ctx,
+                SINGLE,
+                List.of(ImmutableBitSet.of(0)),
+                ctx.expressionFactory().accumulatorsFactory(SINGLE, List.of(call), rowType),
+                rowFactory(),
+                rowSchemaFromRelTypes(RelOptUtil.getFieldTypeList(rowType)),
+                spillManager
+        );
+
+        agg.register(scan);
+
+        RootNode<Object[]> root = new RootNode<>(ctx);
+
+        root.register(agg);
+
+        int rows = 0;
+
+        while (root.hasNext()) {
+            Object[] row = root.next();
+
+            assertEquals(expected.remove(row[0]), row[1], "key=" + row[0]);
+
+            rows++;
+        }
+
+        assertEquals(groupsCnt, rows);
+        assertTrue(expected.isEmpty());
+
+        if (groupsCnt >= 5_000) {
+            assertTrue(metricSet.<LongMetric>get("SpillFiles").value() > 0);
+            assertTrue(metricSet.<LongMetric>get("SpilledBytes").value() > 0);
+        } else {
+            assertEquals(0, metricSet.<LongMetric>get("SpillFiles").value());
+        }
+
+        root.close();
+
+        // All the partitions must be removed once the groups are consumed.
+        try (Stream<Path> files = Files.list(spillDir)) {
+            assertNull(files.findAny().orElse(null));
+        }
+    }
+
+    @Override
+    protected RowHandler<Object[]> rowHandler() {
+        return ArrayRowHandler.INSTANCE;
+    }
+}
@@ -0,0 +1,383 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.sql.engine.exec.rel;
+
+import static org.apache.calcite.rel.core.JoinRelType.ANTI;
+import static org.apache.calcite.rel.core.JoinRelType.FULL;
+import static org.apache.calcite.rel.core.JoinRelType.INNER;
+import static org.apache.calcite.rel.core.JoinRelType.LEFT;
+import static org.apache.calcite.rel.core.JoinRelType.RIGHT;
+import static org.apache.calcite.rel.core.JoinRelType.SEMI;
+import static org.apache.ignite.internal.testframework.IgniteTestUtils.await;
+import static org.apache.ignite.internal.util.ArrayUtils.asList;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Objects;
+import java.util.Random;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import org.apache.calcite.rel.core.JoinRelType;
+import org.apache.ignite.internal.metrics.LongMetric;
+import org.apache.ignite.internal.metrics.MetricSet;
+import org.apache.ignite.internal.sql.engine.exec.ExecutionContext;
+import org.apache.ignite.internal.sql.engine.exec.RowHandler;
+import org.apache.ignite.internal.sql.engine.exec.TestDownstream;
+import org.apache.ignite.internal.sql.engine.exec.row.RowSchema;
+import org.apache.ignite.internal.sql.engine.exec.spill.SpillManager;
+import org.apache.ignite.internal.sql.engine.framework.ArrayRowHandler;
+import org.apache.ignite.internal.sql.metrics.SqlSpillMetricSource;
+import org.apache.ignite.internal.type.NativeTypes;
+import org.jetbrains.annotations.Nullable;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+
+/**
+ * Tests for {@link HashJoinNode}.
+ */
+public class HashJoinExecutionTest extends AbstractExecutionTest<Object[]> {
+    private static final RowSchema LEFT_SCHEMA = RowSchema.builder()
+            .addField(NativeTypes.INT32)
+            .addField(NativeTypes.STRING)
+            .addField(NativeTypes.INT32)
+            .build();
+
+    private static final RowSchema RIGHT_SCHEMA = RowSchema.builder()
+            .addField(NativeTypes.INT32)
+            .addField(NativeTypes.STRING)
+            .build();
+
+    private Path spillDir;
+
+    private MetricSet metricSet;
+
+    private SpillManager spillManager;
+
+    @BeforeEach
+    void startSpillManager() {
+        spillDir = workDir.resolve("spill");
+
+        SqlSpillMetricSource metricSource = new SqlSpillMetricSource();
+        metricSet = metricSource.enable();
+
+        // Tiny threshold to make the build side spill.
+        spillManager = new SpillManager(spillDir, 4 * 1024, metricSource);
+        spillManager.start();
+    }
+
+    @AfterEach
+    void stopSpillManager() {
+        spillManager.stop();
+    }
+
+    @Test
+    public void joinEmptyTables() {
+        verifyJoin(EMPTY, EMPTY, INNER, EMPTY);
+        verifyJoin(EMPTY, EMPTY, LEFT, EMPTY);
+        verifyJoin(EMPTY, EMPTY, RIGHT, EMPTY);
+        verifyJoin(EMPTY, EMPTY, FULL, EMPTY);
+        verifyJoin(EMPTY, EMPTY, SEMI, EMPTY);
+        verifyJoin(EMPTY, EMPTY, ANTI, EMPTY);
+    }
+
+    @Test
+    public void joinEmptyLeftTable() {
+        Object[][] right = {
+                {1, "Core"},
+                {1, "OLD_Core"},
+                {2, "SQL"}
+        };
+
+        verifyJoin(EMPTY, right, INNER, EMPTY);
+        verifyJoin(EMPTY, right, LEFT, EMPTY);
+        verifyJoin(EMPTY, right, RIGHT, new Object[][]{
+                {null, null, "Core"},
+                {null, null, "OLD_Core"},
+                {null, null, "SQL"}
+        });
+        verifyJoin(EMPTY, right, FULL, new Object[][]{
+                {null, null, "Core"},
+                {null, null, "OLD_Core"},
+                {null, null, "SQL"}
+        });
+        verifyJoin(EMPTY, right, SEMI, EMPTY);
+        verifyJoin(EMPTY, right, ANTI, EMPTY);
+    }
+
+    @Test
+    public void joinEmptyRightTable() {
+        Object[][] left = {
+                {1, "Roman", null},
+                {2, "Igor", 1},
+                {3, "Alexey", 2}
+        };
+
+        verifyJoin(left, EMPTY, INNER, EMPTY);
+        verifyJoin(left, EMPTY, LEFT, new Object[][]{
+                {1, "Roman", null},
+                {2, "Igor", null},
+                {3, "Alexey", null}
+        });
+        verifyJoin(left, EMPTY, RIGHT, EMPTY);
+        verifyJoin(left, EMPTY, FULL, new Object[][]{
+                {1, "Roman", null},
+                {2, "Igor", null},
+                {3, "Alexey", null}
+        });
+        verifyJoin(left, EMPTY, SEMI, EMPTY);
+        verifyJoin(left, EMPTY, ANTI, new Object[][]{
+                {1, "Roman"},
+                {2, "Igor"},
+                {3, "Alexey"}
+        });
+    }
+
+    @Test
+    public void joinManyToMany() {
+        Object[][] left = {
+                {1, "Roman", null},
+                {2, "Igor", 1},
+                {3, "Taras", 1},
+                {4, "Alexey", 2},
+                {5, "Ivan", 4},
+                {6, "Andrey", 4}
+        };
+
+        Object[][] right = {
+                {1, "Core"},
+                {1, "OLD_Core"},
+                {2, "SQL"},
+                {3, "Arch"},
+                {4, "QA"},
+                {4, "OLD_QA"},
+                {null, "Unknown"}
+        };
+
+        verifyJoin(left, right, INNER, new Object[][]{
+                {2, "Igor", "Core"},
+                {2, "Igor", "OLD_Core"},
+                {3, "Taras", "Core"},
+                {3, "Taras", "OLD_Core"},
+                {4, "Alexey", "SQL"},
+                {5, "Ivan", "QA"},
+                {5, "Ivan", "OLD_QA"},
+                {6, "Andrey", "QA"},
+                {6, "Andrey", "OLD_QA"}
+        });
+        verifyJoin(left, right, LEFT, new Object[][]{
+                {1, "Roman", null},
+                {2, "Igor", "Core"},
+                {2, "Igor", "OLD_Core"},
+                {3, "Taras", "Core"},
+                {3, "Taras", "OLD_Core"},
+                {4, "Alexey", "SQL"},
+                {5, "Ivan", "QA"},
+                {5, "Ivan", "OLD_QA"},
+                {6, "Andrey", "QA"},
+                {6, "Andrey", "OLD_QA"}
+        });
+        verifyJoin(left, right, RIGHT, new Object[][]{
+                {2, "Igor", "Core"},
+                {2, "Igor", "OLD_Core"},
+                {3, "Taras", "Core"},
+                {3, "Taras", "OLD_Core"},
+                {4, "Alexey", "SQL"},
+                {5, "Ivan", "QA"},
+                {5, "Ivan", "OLD_QA"},
+                {6, "Andrey", "QA"},
+                {6, "Andrey", "OLD_QA"},
+                {null, null, "Arch"},
+                {null, null, "Unknown"}
+        });
+        verifyJoin(left, right, FULL, new Object[][]{
+                {1, "Roman", null},
+                {2, "Igor", "Core"},
+                {2, "Igor", "OLD_Core"},
+                {3, "Taras", "Core"},
+                {3, "Taras", "OLD_Core"},
+                {4, "Alexey", "SQL"},
+                {5, "Ivan", "QA"},
+                {5, "Ivan", "OLD_QA"},
+                {6, "Andrey", "QA"},
+                {6, "Andrey", "OLD_QA"},
+                {null, null, "Arch"},
+                {null, null, "Unknown"}
+        });
+        verifyJoin(left, right, SEMI, new Object[][]{
+                {2, "Igor"},
+                {3, "Taras"},
+                {4, "Alexey"},
+                {5, "Ivan"},
+                {6, "Andrey"},
+        });
+        verifyJoin(left, right, ANTI, new Object[][]{
+                {1, "Roman"}
+        });
+    }
+
+    @ParameterizedTest
+    @EnumSource(value = JoinRelType.class, names = {"INNER", "LEFT", "RIGHT", "FULL", "SEMI", "ANTI"})
+    public void joinWithSpilling(JoinRelType joinType) throws IOException {
+        Random rnd = new Random();
+
+        Object[][] left = new Object[5_000][];
+        Object[][] right = new Object[5_000][];
+
+        for (int i = 0; i < left.length; i++) {
+            left[i] = new Object[]{i, "left_" + i, rnd.nextInt(left.length * 2)};
+        }
+
+        for (int i = 0; i < right.length; i++) {
+            right[i] = new Object[]{rnd.nextInt(right.length * 2), "right_" + i};
+        }
+
+        verifyJoin(left, right, joinType, expectedJoin(left, right, joinType));
+
+        assertTrue(metricSet.<LongMetric>get("SpillFiles").value() > 0);
+
+        // All the partitions must be removed once the rows are consumed.
+        try (Stream<Path> files = Files.list(spillDir)) {
+            assertEquals(0, files.count());
+        }
+    }
+
+    @ParameterizedTest
+    @EnumSource(value = JoinRelType.class, names = {"INNER", "LEFT", "RIGHT", "FULL", "SEMI", "ANTI"})
+    public void joinWithSkewedBuildSide(JoinRelType joinType) throws IOException {
+        Random rnd = new Random();
+
+        Object[][] left = new Object[2_000][];
+        Object[][] right = new Object[4_000][];
+
+        for (int i = 0; i < left.length; i++) {
+            left[i] = new Object[]{i, "left_" + i, i % 10 == 0 ? 0 : rnd.nextInt(right.length)};
+        }
+
+        // Half of the build side shares the same key, such a partition can't be split and exceeds the threshold anyway.
+        for (int i = 0; i < right.length; i++) {
+            right[i] = new Object[]{i % 2 == 0 ? 0 : rnd.nextInt(right.length), "right_" + i};
+        }
+
+        verifyJoin(left, right, joinType, expectedJoin(left, right, joinType));
+
+        assertTrue(metricSet.<LongMetric>get("SpillFiles").value() > HashJoinNode.PARTITIONS * 2);
+
+        try (Stream<Path> files = Files.list(spillDir)) {
+            assertEquals(0, files.count());
+        }
+    }
+
+    /**
+     * Creates execution tree and executes it. Then compares the result of the execution with the given one, regardless of
+     * the order of the rows.
+     *
+     * @param left Data for left table.
+     * @param right Data for right table.
+     * @param joinType Join type.
+     * @param expRes Expected result.
+     */
+    private void verifyJoin(Object[][] left, Object[][] right, JoinRelType joinType, Object[][] expRes) {
+        ExecutionContext<Object[]> ctx = executionContext(true);
+
+        ScanNode<Object[]> leftNode = new ScanNode<>(ctx, Arrays.asList(left));
+        ScanNode<Object[]> rightNode = new ScanNode<>(ctx, Arrays.asList(right));
+
+        HashJoinNode<Object[]> join = new HashJoinNode<>(ctx, joinType, (r1, r2) -> Objects.equals(r1[2], r2[0]),
+                new int[]{2}, new int[]{0}, rowHandler().factory(LEFT_SCHEMA), rowHandler().factory(RIGHT_SCHEMA), spillManager);
+        join.register(asList(leftNode, rightNode));
+
+        boolean semiOrAnti = joinType == SEMI || joinType == ANTI;
+
+        ProjectNode<Object[]> project = new ProjectNode<>(ctx, r -> semiOrAnti ? new Object[]{r[0], r[1]} : new Object[]{r[0], r[1], r[4]});
+        project.register(join);
+
+        // first, let's rewind just created tree -- it's how it actually being executed
+        project.rewind();
+
+        int times = 2;
+        do {
+            TestDownstream<Object[]> downstream = new TestDownstream<>();
+            project.onRegister(downstream);
+
+            ctx.execute(() -> project.request(1024), project::onError);
+
+            assertEquals(sorted(Arrays.asList(expRes)), sorted(await(downstream.result())));
+
+            // now let's rewind and restart test to check whether all state has been correctly reset
+            project.rewind();
+        } while (times-- > 0);
+    }
+
+    private static Object[][] expectedJoin(Object[][] left, Object[][] right, JoinRelType joinType) {
+        List<Object[]> res = new ArrayList<>();
+        boolean[] rightMatched = new boolean[right.length];
+
+        for (Object[] l : left) {
+            boolean matched = false;
+
+            for (int i = 0; i < right.length; i++) {
+                if (!Objects.equals(l[2], right[i][0])) {
+                    continue;
+                }
+
+                matched = true;
+                rightMatched[i] = true;
+
+                if (joinType != SEMI && joinType != ANTI) {
+                    res.add(new Object[]{l[0], l[1], right[i][1]});
+                }
+            }
+
+            if (matched && joinType == SEMI || !matched && joinType == ANTI) {
+                res.add(new Object[]{l[0], l[1]});
+            } else if (!matched && (joinType == LEFT || joinType == FULL)) {
+                res.add(new Object[]{l[0], l[1], null});
+            }
+        }
+
+        if (joinType == RIGHT || joinType == FULL) {
+            for (int i = 0; i < right.length; i++) {
+                if (!rightMatched[i]) {
+                    res.add(new Object[]{null, null, right[i][1]});
+                }
+            }
+        }
+
+        return res.toArray(EMPTY);
+    }
+
+    private static List<String> sorted(@Nullable List<Object[]> rows) {
+        assert rows != null;
+
+        return rows.stream().map(Arrays::toString).sorted().collect(Collectors.toList());
+    }
+
+    @Override
+    protected RowHandler<Object[]> rowHandler() {
+        return ArrayRowHandler.INSTANCE;
+    }
+}
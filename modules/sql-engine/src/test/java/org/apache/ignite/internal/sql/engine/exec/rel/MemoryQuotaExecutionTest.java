@@ -0,0 +1,106 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.sql.engine.exec.rel;
+
+import static org.apache.ignite.internal.testframework.IgniteTestUtils.assertThrowsWithCause;
+import static org.apache.ignite.internal.testframework.IgniteTestUtils.waitForCondition;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import org.apache.ignite.internal.sql.engine.exec.ExecutionContext;
+import org.apache.ignite.internal.sql.engine.exec.RowHandler;
+import org.apache.ignite.internal.sql.engine.exec.memory.MemoryQuotaExceededException;
+import org.apache.ignite.internal.sql.engine.exec.memory.MemoryTracker;
+import org.apache.ignite.internal.sql.engine.framework.ArrayRowHandler;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests for accounting of the memory held by the buffering nodes.
+ */
+public class MemoryQuotaExecutionTest extends AbstractExecutionTest<Object[]> {
+    private static final long QUERY_QUOTA = 1024 * 1024;
+
+    private final MemoryTracker nodeTracker = MemoryTracker.root("node", 0);
+
+    @Test
+    public void queryExceedingQuotaIsCancelled() throws Exception {
+        ExecutionContext<Object[]> ctx = executionContext();
+
+        RootNode<Object[]> root = sortedRows(ctx, 100_000);
+
+        assertThrowsWithCause(root::hasNext, MemoryQuotaExceededException.class);
+
+        root.close();
+
+        assertTrue(nodeTracker.rejectedReservations() > 0);
+        assertTrue(waitForCondition(() -> nodeTracker.reserved() == 0, 5_000), "reserved=" + nodeTracker.reserved());
+    }
+
+    @Test
+    public void memoryIsReleasedOnceRowsAreConsumed() throws Exception {
+        ExecutionContext<Object[]> ctx = executionContext();
+
+        RootNode<Object[]> root = sortedRows(ctx, 1_000);
+
+        for (int i = 0; i < 1_000; i++) {
+            assertTrue(root.hasNext());
+            assertEquals(i, root.next()[0]);
+        }
+
+        assertFalse(root.hasNext());
+
+        root.close();
+
+        assertEquals(0, nodeTracker.rejectedReservations());
+        assertTrue(waitForCondition(() -> nodeTracker.reserved() == 0, 5_000), "reserved=" + nodeTracker.reserved());
+    }
+
+    private RootNode<Object[]> sortedRows(ExecutionContext<Object[]> ctx, int size) {
+        List<Object[]> data = new ArrayList<>(size);
+
+        for (int i = size - 1; i >= 0; i--) {
+            data.add(row(i, "val_" + i));
+        }
+
+        ScanNode<Object[]> scan = new ScanNode<>(ctx, data);
+
+        SortNode<Object[]> sort = new SortNode<>(ctx, Comparator.comparing(r -> (Integer) r[0]));
+
+        sort.register(scan);
+
+        RootNode<Object[]> root = new RootNode<>(ctx);
+
+        root.register(sort);
+
+        return root;
+    }
+
+    @Override
+    protected MemoryTracker memoryTracker() {
+        return nodeTracker.child("query", QUERY_QUOTA).child("fragment", 0);
+    }
+
+    @Override
+    protected RowHandler<Object[]> rowHandler() {
+        return ArrayRowHandler.INSTANCE;
+    }
+}
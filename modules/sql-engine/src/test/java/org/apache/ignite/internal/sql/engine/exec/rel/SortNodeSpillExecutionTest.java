@@ -0,0 +1,179 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.sql.engine.exec.rel;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+import java.util.stream.Stream;
+import org.apache.ignite.internal.metrics.LongMetric;
+import org.apache.ignite.internal.metrics.MetricSet;
+import org.apache.ignite.internal.sql.engine.exec.ExecutionContext;
+import org.apache.ignite.internal.sql.engine.exec.RowHandler;
+import org.apache.ignite.internal.sql.engine.exec.RowHandler.RowFactory;
+import org.apache.ignite.internal.sql.engine.exec.row.RowSchema;
+import org.apache.ignite.internal.sql.engine.exec.spill.SpillManager;
+import org.apache.ignite.internal.sql.engine.framework.ArrayRowHandler;
+import org.apache.ignite.internal.sql.metrics.SqlSpillMetricSource;
+import org.apache.ignite.internal.type.NativeTypes;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+/**
+ * Tests for {@link SortNode} spilling sorted runs to disk.
+ */
+public class SortNodeSpillExecutionTest extends AbstractExecutionTest<Object[]> {
+    private static final RowSchema ROW_SCHEMA = RowSchema.builder()
+            .addField(NativeTypes.INT32)
+            .addField(NativeTypes.STRING)
+            .build();
+
+    private static final Comparator<Object[]> COMPARATOR = Comparator.comparing(r -> (Integer) r[0]);
+
+    private Path spillDir;
+
+    private SqlSpillMetricSource metricSource;
+
+    private MetricSet metricSet;
+
+    private SpillManager spillManager;
+
+    @BeforeEach
+    void startSpillManager() {
+        spillDir = workDir.resolve("spill");
+        metricSource = new SqlSpillMetricSource();
+        metricSet = metricSource.enable();
+
+        // Tiny threshold to produce lots of runs.
+        spillManager = new SpillManager(spillDir, 4 * 1024, metricSource);
+        spillManager.start();
+    }
+
+    @AfterEach
+    void stopSpillManager() {
+        spillManager.stop();
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {0, 1, 10, 512, 4_000, 20_000})
+    public void sortWithSpilling(int size) throws IOException {
+        ExecutionContext<Object[]> ctx = executionContext();
+
+        RowFactory<Object[]> rowFactory = rowHandler().factory(ROW_SCHEMA);
+
+        List<Object[]> data = new ArrayList<>(size);
+        Random rnd = new Random();
+
+        for (int i = 0; i < size; i++) {
+            int key = rnd.nextInt(size);
+
+            data.add(row(key, "val_" + key));
+        }
+
+        ScanNode<Object[]> scan = new ScanNode<>(ctx, data);
+
+        SortNode<Object[]> sort = new SortNode<>(ctx, COMPARATOR, null, null, spillManager, rowFactory);
+
+        sort.register(scan);
+
+        RootNode<Object[]> root = new RootNode<>(ctx);
+
+        root.register(sort);
+
+        List<Object[]> expected = new ArrayList<>(data);
+
+        expected.sort(COMPARATOR);
+
+        for (Object[] expRow : expected) {
+            assertTrue(root.hasNext());
+
+            Object[] row = root.next();
+
+            assertEquals(expRow[0], row[0]);
+            assertEquals("val_" + row[0], row[1]);
+        }
+
+        assertFalse(root.hasNext());
+
+        long spillFiles = metricSet.<LongMetric>get("SpillFiles").value();
+
+        if (size >= 4_000) {
+            assertTrue(spillFiles > 0);
+            assertTrue(metricSet.<LongMetric>get("SpilledBytes").value() > 0);
+        }
+
+        if (size >= 20_000) {
+            // Runs have been merged in several passes.
+            assertTrue(spillFiles > SortNode.MAX_MERGE_FAN_IN, "spillFiles=" + spillFiles);
+        }
+
+        root.close();
+
+        // All the runs must be removed once the rows are consumed.
+        try (Stream<Path> files = Files.list(spillDir)) {
+            assertEquals(0, files.count());
+        }
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {100, 5_000})
+    public void limitedSortIsNotSpilled(int size) throws IOException {
+        ExecutionContext<Object[]> ctx = executionContext();
+
+        List<Object[]> data = new ArrayList<>(size);
+
+        for (int i = size; i > 0; i--) {
+            data.add(row(i, "val_" + i));
+        }
+
+        ScanNode<Object[]> scan = new ScanNode<>(ctx, data);
+
+        SortNode<Object[]> sort = new SortNode<>(ctx, COMPARATOR, () -> 0, () -> 3, spillManager, rowHandler().factory(ROW_SCHEMA));
+
+        sort.register(scan);
+
+        RootNode<Object[]> root = new RootNode<>(ctx);
+
+        root.register(sort);
+
+        for (int i = 1; i <= 3; i++) {
+            assertTrue(root.hasNext());
+            assertArrayEquals(row(i, "val_" + i), root.next());
+        }
+
+        assertFalse(root.hasNext());
+
+        assertEquals(0, metricSet.<LongMetric>get("SpillFiles").value());
+    }
+
+    @Override
+    protected RowHandler<Object[]> rowHandler() {
+        return ArrayRowHandler.INSTANCE;
+    }
+}
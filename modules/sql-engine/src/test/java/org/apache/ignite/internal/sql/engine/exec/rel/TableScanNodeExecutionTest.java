@@ -21,14 +21,20 @@ import static org.apache.ignite.internal.replicator.ReplicaManager.DEFAULT_IDLE_
 import static org.apache.ignite.internal.sql.engine.util.TypeUtils.rowSchemaFromRelTypes;
 import static org.apache.ignite.internal.util.IgniteUtils.closeAll;
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.Mockito.RETURNS_DEEP_STUBS;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.when;
 
 import it.unimi.dsi.fastutil.ints.Int2ObjectMaps;
+import java.util.Arrays;
 import java.util.BitSet;
+import java.util.HashSet;
 import java.util.LinkedList;
 import java.util.List;
+import java.util.Set;
 import java.util.UUID;
 import java.util.concurrent.CopyOnWriteArraySet;
 import java.util.concurrent.CountDownLatch;
@@ -57,6 +63,7 @@ import org.apache.ignite.internal.sql.engine.exec.ExecutionContext;
 import org.apache.ignite.internal.sql.engine.exec.PartitionWithConsistencyToken;
 import org.apache.ignite.internal.sql.engine.exec.RowHandler;
 import org.apache.ignite.internal.sql.engine.exec.RowHandler.RowFactory;
+import org.apache.ignite.internal.sql.engine.exec.ScannableTable;
 import org.apache.ignite.internal.sql.engine.exec.ScannableTableImpl;
 import org.apache.ignite.internal.sql.engine.exec.TableRowConverter;
 import org.apache.ignite.internal.sql.engine.exec.row.RowSchema;
@@ -77,6 +84,7 @@ import org.apache.ignite.internal.tx.impl.TxManagerImpl;
 import org.apache.ignite.internal.tx.storage.state.TxStateTableStorage;
 import org.apache.ignite.internal.tx.test.TestLocalRwTxCounter;
 import org.apache.ignite.internal.type.NativeTypes;
+import org.apache.ignite.internal.util.SubscriptionUtils;
 import org.apache.ignite.network.ClusterNode;
 import org.apache.ignite.network.NetworkAddress;
 import org.apache.ignite.network.SingleClusterNodeResolver;
@@ -85,6 +93,8 @@ import org.jetbrains.annotations.Nullable;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
 
 /**
  * Tests execution flow of TableScanNode.
@@ -175,7 +185,7 @@ public class TableScanNodeExecutionTest extends AbstractExecutionTest<Object[]>
             };
             ScannableTableImpl scanableTable = new ScannableTableImpl(internalTable, rf -> rowConverter);
             TableScanNode<Object[]> scanNode = new TableScanNode<>(ctx, rowFactory, scanableTable,
-                    partsWithConsistencyTokens, null, null, null);
+                    partsWithConsistencyTokens, null, null, null, 1);
 
             RootNode<Object[]> root = new RootNode<>(ctx);
 
@@ -193,6 +203,61 @@ public class TableScanNodeExecutionTest extends AbstractExecutionTest<Object[]>
         }
     }
 
+    @ParameterizedTest
+    @ValueSource(ints = {1, 2, 7})
+    public void testParallelScan(int parallelism) {
+        ExecutionContext<Object[]> ctx = executionContext();
+        IgniteTypeFactory tf = ctx.getTypeFactory();
+
+        RelDataType rowType = TypeUtils.createRowType(tf, TypeUtils.native2relationalTypes(tf,
+                NativeTypes.INT32, NativeTypes.INT32, NativeTypes.INT32));
+
+        RowFactory<Object[]> rowFactory = ctx.rowHandler().factory(rowSchemaFromRelTypes(List.of(rowType)));
+
+        List<PartitionWithConsistencyToken> partsWithConsistencyTokens = IntStream.range(0, 3)
+                .mapToObj(p -> new PartitionWithConsistencyToken(p, -1L))
+                .collect(Collectors.toList());
+
+        int sliceSize = Commons.IN_BUFFER_SIZE + 11;
+
+        ScannableTable table = mock(ScannableTable.class);
+
+        when(table.scanSlices(any(), any(), any(), any(), anyInt())).thenAnswer(invocation -> {
+            int part = invocation.<PartitionWithConsistencyToken>getArgument(1).partId();
+
+            assertEquals(parallelism, invocation.<Integer>getArgument(4));
+
+            return IntStream.range(0, parallelism)
+                    .mapToObj(slice -> SubscriptionUtils.fromIterable(IntStream.range(0, sliceSize)
+                            .mapToObj(i -> new Object[] {part, slice, i})
+                            .collect(Collectors.toList())))
+                    .collect(Collectors.toList());
+        });
+
+        when(table.scan(any(), any(), any(), any())).thenAnswer(invocation -> {
+            int part = invocation.<PartitionWithConsistencyToken>getArgument(1).partId();
+
+            return SubscriptionUtils.fromIterable(IntStream.range(0, sliceSize)
+                    .mapToObj(i -> new Object[] {part, 0, i})
+                    .collect(Collectors.toList()));
+        });
+
+        TableScanNode<Object[]> scanNode = new TableScanNode<>(ctx, rowFactory, table,
+                partsWithConsistencyTokens, null, null, null, parallelism);
+
+        RootNode<Object[]> root = new RootNode<>(ctx);
+
+        root.register(scanNode);
+
+        Set<List<Object>> rows = new HashSet<>();
+
+        while (root.hasNext()) {
+            assertTrue(rows.add(Arrays.asList(root.next())));
+        }
+
+        assertEquals(partsWithConsistencyTokens.size() * parallelism * sliceSize, rows.size());
+    }
+
     @AfterEach
     public void afterEach() throws Exception {
         closeAll(closeables);
@@ -0,0 +1,114 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.sql.engine.planner;
+
+import java.util.function.UnaryOperator;
+import org.apache.ignite.internal.sql.engine.framework.TestBuilders.TableBuilder;
+import org.apache.ignite.internal.sql.engine.rel.IgniteHashJoin;
+import org.apache.ignite.internal.sql.engine.rel.IgniteMergeJoin;
+import org.apache.ignite.internal.sql.engine.rel.IgniteNestedLoopJoin;
+import org.apache.ignite.internal.sql.engine.schema.IgniteSchema;
+import org.apache.ignite.internal.sql.engine.trait.IgniteDistributions;
+import org.apache.ignite.internal.type.NativeTypes;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests for planning of {@link IgniteHashJoin}.
+ */
+public class HashJoinPlannerTest extends AbstractPlannerTest {
+    private static final IgniteSchema SCHEMA = createSchemaFrom(
+            table("T0"),
+            table("T1")
+    );
+
+    private static final IgniteSchema INDEXED_SCHEMA = createSchemaFrom(
+            table("T0").andThen(addSortIndex("JID")),
+            table("T1").andThen(addSortIndex("JID"))
+    );
+
+    @Test
+    public void hashJoinIsChosenByCost() throws Exception {
+        String sql = "select * from t0 join t1 on t0.jid = t1.jid";
+
+        // Both inputs would have to be sorted for a merge join.
+        assertPlan(sql, SCHEMA, nodeOrAnyChild(isInstanceOf(IgniteHashJoin.class)));
+    }
+
+    @Test
+    public void mergeJoinIsChosenForSortedInputs() throws Exception {
+        String sql = "select * from t0 join t1 on t0.jid = t1.jid";
+
+        assertPlan(sql, INDEXED_SCHEMA, nodeOrAnyChild(isInstanceOf(IgniteMergeJoin.class))
+                .and(nodeOrAnyChild(isInstanceOf(IgniteHashJoin.class)).negate()));
+    }
+
+    @Test
+    public void hintOverridesCost() throws Exception {
+        String sql = "select /*+ USE_HASH_JOIN */ * from t0 join t1 on t0.jid = t1.jid";
+
+        assertPlan(sql, INDEXED_SCHEMA, nodeOrAnyChild(isInstanceOf(IgniteHashJoin.class))
+                .and(nodeOrAnyChild(isInstanceOf(IgniteMergeJoin.class)).negate()));
+    }
+
+    @Test
+    public void equiJoinWithHint() throws Exception {
+        String sql = "select /*+ USE_HASH_JOIN */ * from t0 join t1 on t0.jid = t1.jid and t0.val > t1.val";
+
+        assertPlan(sql, SCHEMA, nodeOrAnyChild(isInstanceOf(IgniteHashJoin.class)));
+    }
+
+    @Test
+    public void outerJoinWithHint() throws Exception {
+        String sql = "select /*+ USE_HASH_JOIN */ * from t0 full join t1 on t0.jid = t1.jid";
+
+        assertPlan(sql, SCHEMA, nodeOrAnyChild(isInstanceOf(IgniteHashJoin.class)));
+    }
+
+    @Test
+    public void disabledHashJoin() throws Exception {
+        String sql = "select * from t0 join t1 on t0.jid = t1.jid";
+
+        assertPlan(sql, SCHEMA, nodeOrAnyChild(isInstanceOf(IgniteHashJoin.class)).negate(), "HashJoinConverter");
+    }
+
+    @Test
+    public void nonEquiJoinIsNotHashJoin() throws Exception {
+        String sql = "select /*+ USE_HASH_JOIN */ * from t0 join t1 on t0.jid > t1.jid";
+
+        assertPlan(sql, SCHEMA, nodeOrAnyChild(isInstanceOf(IgniteNestedLoopJoin.class))
+                .and(nodeOrAnyChild(isInstanceOf(IgniteHashJoin.class)).negate()));
+    }
+
+    @Test
+    public void keysOfDifferentTypesAreNotHashJoined() throws Exception {
+        String sql = "select /*+ USE_HASH_JOIN */ * from t0 join t1 on t0.jid = t1.bid";
+
+        assertPlan(sql, SCHEMA, nodeOrAnyChild(isInstanceOf(IgniteHashJoin.class)).negate());
+    }
+
+    private static UnaryOperator<TableBuilder> table(String tableName) {
+        return tableBuilder -> tableBuilder
+                .name(tableName)
+                .addColumn("ID", NativeTypes.INT32)
+                .addColumn("JID", NativeTypes.INT32)
+                .addColumn("BID", NativeTypes.INT64)
+                .addColumn("VAL", NativeTypes.STRING)
+                .size(DEFAULT_TBL_SIZE)
+                .distribution(IgniteDistributions.single());
+    }
+}
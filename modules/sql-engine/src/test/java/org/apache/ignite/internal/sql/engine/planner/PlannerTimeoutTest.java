@@ -66,7 +66,7 @@ public class PlannerTimeoutTest extends AbstractPlannerTest {
         BaseQueryContext ctx = baseQueryContext(Collections.singletonList(schema), null);
 
         PrepareService prepareService = new PrepareServiceImpl("test", 0,
-                CaffeineCacheFactory.INSTANCE, null, plannerTimeout, 1, new MetricManager());
+                CaffeineCacheFactory.INSTANCE, null, plannerTimeout, 1, new MetricManager(), null);
         prepareService.start();
         try {
             ParserService parserService = new ParserServiceImpl(0, EmptyCacheFactory.INSTANCE);
@@ -0,0 +1,75 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+package org.apache.ignite.internal.sql.engine.planner.hints;
+
+import org.apache.ignite.internal.sql.engine.planner.AbstractPlannerTest;
+import org.apache.ignite.internal.sql.engine.schema.IgniteSchema;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Planner test for the scan parallelism hint.
+ */
+public class ScanParallelismHintPlannerTest extends AbstractPlannerTest {
+    private static IgniteSchema SCHEMA;
+
+    private static final String TBL1 = "TBL1";
+
+    private static final String TBL2 = "TBL2";
+
+    @BeforeAll
+    public static void setup() {
+        SCHEMA = createSchemaFrom(
+                createSimpleTable(TBL1, 100_000),
+                createSimpleTable(TBL2, 100_000)
+        );
+    }
+
+    @Test
+    public void testWithoutHint() throws Exception {
+        assertPlan("SELECT * FROM TBL1", SCHEMA, nodeOrAnyChild(isTableScan(TBL1).and(scan -> scan.parallelism() == 0)));
+    }
+
+    @Test
+    public void testSingleTable() throws Exception {
+        assertPlan("SELECT /*+ SCAN_PARALLELISM(4) */ * FROM TBL1", SCHEMA,
+                nodeOrAnyChild(isTableScan(TBL1).and(scan -> scan.parallelism() == 4)));
+
+        assertPlan("SELECT /*+ SCAN_PARALLELISM('4') */ * FROM TBL1 WHERE val1 = 'v'", SCHEMA,
+                nodeOrAnyChild(isTableScan(TBL1).and(scan -> scan.parallelism() == 4)));
+    }
+
+    @Test
+    public void testWrongOptions() throws Exception {
+        assertPlan("SELECT /*+ SCAN_PARALLELISM */ * FROM TBL1", SCHEMA,
+                nodeOrAnyChild(isTableScan(TBL1).and(scan -> scan.parallelism() == 0)));
+
+        assertPlan("SELECT /*+ SCAN_PARALLELISM(many) */ * FROM TBL1", SCHEMA,
+                nodeOrAnyChild(isTableScan(TBL1).and(scan -> scan.parallelism() == 0)));
+
+        assertPlan("SELECT /*+ SCAN_PARALLELISM(2, 4) */ * FROM TBL1", SCHEMA,
+                nodeOrAnyChild(isTableScan(TBL1).and(scan -> scan.parallelism() == 0)));
+    }
+
+    @Test
+    public void testJoin() throws Exception {
+        String sql = "SELECT /*+ SCAN_PARALLELISM(3) */ t1.val1, t2.val2 FROM TBL1 t1 JOIN TBL2 t2 ON t1.val3 = t2.val3";
+
+        assertPlan(sql, SCHEMA, nodeOrAnyChild(isTableScan(TBL1).and(scan -> scan.parallelism() == 3))
+                .and(nodeOrAnyChild(isTableScan(TBL2).and(scan -> scan.parallelism() == 3))));
+    }
+}
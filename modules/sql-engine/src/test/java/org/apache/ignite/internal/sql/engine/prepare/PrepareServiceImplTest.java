@@ -20,6 +20,7 @@ package org.apache.ignite.internal.sql.engine.prepare;
 import static org.apache.ignite.internal.sql.engine.util.Commons.FRAMEWORK_CONFIG;
 import static org.apache.ignite.internal.sql.engine.util.SqlTestUtils.assertThrowsSqlException;
 import static org.apache.ignite.internal.testframework.IgniteTestUtils.await;
+import static org.apache.ignite.internal.util.CompletableFutures.nullCompletedFuture;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.instanceOf;
 import static org.hamcrest.Matchers.sameInstance;
@@ -28,10 +29,14 @@ import static org.junit.jupiter.api.Assertions.assertNotSame;
 import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
 
 import java.util.ArrayList;
 import java.util.List;
 import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 import org.apache.calcite.schema.SchemaPlus;
@@ -41,6 +46,7 @@ import org.apache.ignite.internal.sql.engine.framework.TestBuilders;
 import org.apache.ignite.internal.sql.engine.prepare.ddl.DdlSqlToCommandConverter;
 import org.apache.ignite.internal.sql.engine.schema.IgniteSchema;
 import org.apache.ignite.internal.sql.engine.schema.IgniteTable;
+import org.apache.ignite.internal.sql.engine.schema.SqlSchemaManager;
 import org.apache.ignite.internal.sql.engine.sql.ParsedResult;
 import org.apache.ignite.internal.sql.engine.sql.ParserServiceImpl;
 import org.apache.ignite.internal.sql.engine.trait.IgniteDistributions;
@@ -67,6 +73,8 @@ import org.junit.jupiter.params.provider.MethodSource;
 public class PrepareServiceImplTest extends BaseIgniteAbstractTest {
     private static final List<PrepareService> createdServices = new ArrayList<>();
 
+    private static final int TABLE_ID = 42;
+
     @AfterEach
     public void stopServices() throws Exception {
         for (PrepareService createdService : createdServices) {
@@ -194,6 +202,99 @@ public class PrepareServiceImplTest extends BaseIgniteAbstractTest {
         );
     }
 
+    @Test
+    public void planIsReusedForNewCatalogVersionIfTablesAreNotChanged() {
+        PrepareServiceImpl service = createPlannerService(mock(SqlSchemaManager.class));
+
+        QueryPlan plan = await(service.prepareAsync(parse("SELECT * FROM t"), createContext(createSchema(0))));
+
+        service.onCatalogChange(1, TABLE_ID + 1);
+
+        QueryPlan reusedPlan = await(service.prepareAsync(parse("SELECT * FROM t"), createContext(createSchema(1))));
+
+        assertSame(plan, reusedPlan);
+    }
+
+    @Test
+    public void planIsReplannedForNewCatalogVersionIfTableIsChanged() {
+        IgniteSchema newSchema = createSchema(1);
+
+        SqlSchemaManager schemaManager = mock(SqlSchemaManager.class);
+
+        when(schemaManager.schemaReadyFuture(1)).thenReturn(nullCompletedFuture());
+        when(schemaManager.schema(1)).thenReturn(wrap(newSchema).getParentSchema());
+
+        PrepareServiceImpl service = createPlannerService(schemaManager);
+
+        QueryPlan plan = await(service.prepareAsync(parse("SELECT * FROM t"), createContext(createSchema(0))));
+
+        service.onCatalogChange(1, TABLE_ID);
+
+        // The statement is planned again in background.
+        verify(schemaManager, timeout(5_000)).schema(1);
+
+        QueryPlan newPlan = await(service.prepareAsync(parse("SELECT * FROM t"), createContext(newSchema)));
+
+        assertNotSame(plan, newPlan);
+    }
+
+    @Test
+    public void reusedPlanIsDroppedOnAnotherChangeWithinSameVersion() {
+        SqlSchemaManager schemaManager = mock(SqlSchemaManager.class);
+
+        when(schemaManager.schemaReadyFuture(1)).thenReturn(new CompletableFuture<>());
+
+        PrepareServiceImpl service = createPlannerService(schemaManager);
+
+        QueryPlan plan = await(service.prepareAsync(parse("SELECT * FROM t"), createContext(createSchema(0))));
+
+        service.onCatalogChange(1, PrepareServiceImpl.NO_TABLE);
+        service.onCatalogChange(1, TABLE_ID);
+
+        QueryPlan newPlan = await(service.prepareAsync(parse("SELECT * FROM t"), createContext(createSchema(1))));
+
+        assertNotSame(plan, newPlan);
+    }
+
+    @Test
+    public void planIsMovedToNewCatalogVersion() {
+        PrepareServiceImpl service = createPlannerService(mock(SqlSchemaManager.class));
+
+        QueryPlan plan = await(service.prepareAsync(parse("SELECT * FROM t"), createContext(createSchema(0))));
+
+        service.onCatalogChange(1, TABLE_ID + 1);
+
+        // The plan is not kept for the previous version anymore.
+        QueryPlan oldVersionPlan = await(service.prepareAsync(parse("SELECT * FROM t"), createContext(createSchema(0))));
+
+        assertNotSame(plan, oldVersionPlan);
+    }
+
+    @Test
+    public void planIsReplannedOnStatisticsChange() {
+        IgniteSchema schema = createSchema(0);
+
+        SqlSchemaManager schemaManager = mock(SqlSchemaManager.class);
+
+        when(schemaManager.schemaReadyFuture(0)).thenReturn(nullCompletedFuture());
+        when(schemaManager.schema(0)).thenReturn(wrap(schema).getParentSchema());
+
+        PrepareServiceImpl service = createPlannerService(schemaManager);
+
+        QueryPlan plan = await(service.prepareAsync(parse("SELECT * FROM t"), createContext(schema)));
+
+        service.onStatisticsChange(TABLE_ID + 1);
+
+        assertSame(plan, await(service.prepareAsync(parse("SELECT * FROM t"), createContext(schema))));
+
+        service.onStatisticsChange(TABLE_ID);
+
+        // The statement is planned again in background.
+        verify(schemaManager, timeout(5_000)).schema(0);
+
+        assertNotSame(plan, await(service.prepareAsync(parse("SELECT * FROM t"), createContext(schema))));
+    }
+
     @ParameterizedTest
     @MethodSource("parameterTypes")
     public void prepareParamInPredicateAllTypes(NativeType nativeType, int precision, int scale) {
@@ -292,9 +393,25 @@ public class PrepareServiceImplTest extends BaseIgniteAbstractTest {
         return new IgniteSchema("PUBLIC", 0, List.of(table));
     }
 
+    private static IgniteSchema createSchema(int version) {
+        IgniteTable table = TestBuilders.table()
+                .name("T")
+                .tableId(TABLE_ID)
+                .addColumn("A", NativeTypes.INT64)
+                .addColumn("C", NativeTypes.INT32)
+                .distribution(IgniteDistributions.single())
+                .build();
+
+        return new IgniteSchema("PUBLIC", version, List.of(table));
+    }
+
     private static PrepareService createPlannerService() {
-        PrepareService service = new PrepareServiceImpl("test", 1_000, CaffeineCacheFactory.INSTANCE,
-                mock(DdlSqlToCommandConverter.class), 5_000, 2, mock(MetricManager.class));
+        return createPlannerService(mock(SqlSchemaManager.class));
+    }
+
+    private static PrepareServiceImpl createPlannerService(SqlSchemaManager schemaManager) {
+        PrepareServiceImpl service = new PrepareServiceImpl("test", 1_000, CaffeineCacheFactory.INSTANCE,
+                mock(DdlSqlToCommandConverter.class), 5_000, 2, mock(MetricManager.class), schemaManager);
 
         createdServices.add(service);
 
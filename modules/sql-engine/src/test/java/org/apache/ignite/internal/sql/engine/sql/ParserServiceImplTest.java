@@ -27,6 +27,7 @@ import static org.junit.jupiter.api.Assertions.assertNotSame;
 import static org.junit.jupiter.api.Assertions.assertSame;
 
 import java.util.List;
+import java.util.function.BiConsumer;
 import java.util.function.BiFunction;
 import java.util.function.Function;
 import java.util.function.Predicate;
@@ -222,6 +223,11 @@ public class ParserServiceImplTest {
                     // NO-OP
                 }
 
+                @Override
+                public void remove(K key) {
+                    // NO-OP
+                }
+
                 @Override
                 public void clear() {
                     // NO-OP
@@ -236,6 +242,11 @@ public class ParserServiceImplTest {
                 public void removeIfValue(Predicate<? super V> valueFilter) {
                     // NO-OP.
                 }
+
+                @Override
+                public void forEach(BiConsumer<? super K, ? super V> action) {
+                    // NO-OP.
+                }
             };
         }
 
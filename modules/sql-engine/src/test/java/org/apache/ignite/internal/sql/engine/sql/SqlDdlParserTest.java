@@ -579,6 +579,38 @@ public class SqlDdlParserTest extends AbstractDdlParserTest {
         expectUnparsed(node, "DROP TABLE IF EXISTS \"MY_TABLE\"");
     }
 
+    @Test
+    public void analyzeTable() {
+        var query = "analyze table my_schema.my_table";
+
+        SqlNode node = parse(query);
+
+        assertThat(node, instanceOf(IgniteSqlAnalyze.class));
+
+        var analyze = (IgniteSqlAnalyze) node;
+
+        assertThat(analyze.name().names, is(List.of("MY_SCHEMA", "MY_TABLE")));
+
+        expectUnparsed(node, "ANALYZE TABLE \"MY_SCHEMA\".\"MY_TABLE\"");
+    }
+
+    @Test
+    public void analyzeWithoutTableKeyword() {
+        var query = "analyze my_table";
+
+        SqlNode node = parse(query);
+
+        assertThat(node, instanceOf(IgniteSqlAnalyze.class));
+        assertThat(((IgniteSqlAnalyze) node).name().names, is(List.of("MY_TABLE")));
+    }
+
+    @Test
+    public void analyzeIsNotReserved() {
+        SqlNode node = parse("create table analyze (id int primary key, analyze int)");
+
+        assertThat(node, instanceOf(IgniteSqlCreateTable.class));
+    }
+
     @Test
     public void dropIndexSimpleCase() {
         var query = "drop index my_index";
@@ -0,0 +1,127 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.sql.engine.statistic;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests for {@link StatisticsCollector}.
+ */
+public class StatisticsCollectorTest {
+    private final StatisticsCollector collector = new StatisticsCollector(1_000, 16);
+
+    @Test
+    public void columnStatistics() {
+        List<Object[]> sample = new ArrayList<>();
+
+        for (int i = 0; i < 1_000; i++) {
+            sample.add(new Object[] {i, i % 10 == 0 ? null : "val_" + (i % 5), i % 4 == 0 ? null : (long) (i % 100)});
+        }
+
+        TableStatistics stats = collector.build(1, 1_000, List.of("ID", "STR", "NUM"), sample);
+
+        assertEquals(1, stats.tableVersion());
+        assertEquals(1_000, stats.rowCount());
+
+        ColumnStatistics id = stats.column("ID");
+
+        assertNotNull(id);
+        assertEquals(1_000, id.distinctValues(), 0.0);
+        assertEquals(0.0, id.nullFraction(), 0.0);
+        assertNotNull(id.histogram());
+        assertEquals(0, id.histogram().min(), 0.0);
+        assertEquals(999, id.histogram().max(), 0.0);
+
+        ColumnStatistics str = stats.column("STR");
+
+        assertNotNull(str);
+        assertEquals(5, str.distinctValues(), 0.0);
+        assertEquals(0.1, str.nullFraction(), 1e-9);
+        assertNull(str.histogram());
+
+        ColumnStatistics num = stats.column("NUM");
+
+        assertNotNull(num);
+        assertEquals(0.25, num.nullFraction(), 1e-9);
+        assertNotNull(num.histogram());
+
+        assertNull(stats.column("UNKNOWN"));
+    }
+
+    @Test
+    public void emptySample() {
+        TableStatistics stats = collector.build(1, 0, List.of("ID"), List.of());
+
+        ColumnStatistics id = stats.column("ID");
+
+        assertNotNull(id);
+        assertEquals(0, id.distinctValues(), 0.0);
+        assertNull(id.histogram());
+    }
+
+    @Test
+    public void distinctValuesEstimation() {
+        // All the sampled values are unique: the column is likely unique.
+        assertEquals(1_000_000, StatisticsCollector.distinctValues(1_000, 1_000, 1_000, 1_000_000), 0.0);
+
+        // No singletons: the sample has likely seen all the values.
+        assertEquals(10, StatisticsCollector.distinctValues(1_000, 10, 0, 1_000_000), 0.0);
+
+        double ndv = StatisticsCollector.distinctValues(1_000, 500, 200, 1_000_000);
+
+        assertTrue(ndv > 500 && ndv < 1_000_000, "ndv=" + ndv);
+    }
+
+    @Test
+    public void histogram() {
+        double[] values = new double[1_000];
+
+        for (int i = 0; i < values.length; i++) {
+            values[i] = i;
+        }
+
+        Histogram histogram = Histogram.build(values, 10);
+
+        assertNotNull(histogram);
+        assertEquals(10, histogram.buckets());
+
+        assertEquals(0.0, histogram.fractionBelow(-1), 0.0);
+        assertEquals(0.0, histogram.fractionBelow(0), 0.0);
+        assertEquals(1.0, histogram.fractionBelow(1_000), 0.0);
+        assertEquals(0.5, histogram.fractionBelow(500), 0.01);
+
+        double prev = 0.0;
+
+        for (int i = 0; i < 1_000; i += 7) {
+            double fraction = histogram.fractionBelow(i);
+
+            assertTrue(fraction >= prev, "value=" + i);
+
+            prev = fraction;
+        }
+
+        assertNull(Histogram.build(new double[0], 10));
+    }
+}
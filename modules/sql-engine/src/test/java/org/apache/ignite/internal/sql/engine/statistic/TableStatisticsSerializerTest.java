@@ -0,0 +1,73 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.sql.engine.statistic;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.util.Map;
+import org.apache.ignite.lang.MarshallerException;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests for {@link TableStatisticsSerializer}.
+ */
+public class TableStatisticsSerializerTest {
+    @Test
+    public void serializeAndDeserialize() {
+        TableStatistics stats = new TableStatistics(3, 1_000, Map.of(
+                "ID", new ColumnStatistics(1_000, 0.0, new Histogram(new double[] {0, 250, 500, 999})),
+                "STR", new ColumnStatistics(5, 0.1, null)
+        ));
+
+        TableStatistics restored = TableStatisticsSerializer.deserialize(TableStatisticsSerializer.serialize(stats));
+
+        assertEquals(3, restored.tableVersion());
+        assertEquals(1_000, restored.rowCount());
+
+        ColumnStatistics id = restored.column("ID");
+
+        assertNotNull(id);
+        assertEquals(1_000, id.distinctValues(), 0.0);
+        assertEquals(0.0, id.nullFraction(), 0.0);
+        assertNotNull(id.histogram());
+        assertArrayEquals(new double[] {0, 250, 500, 999}, id.histogram().bounds(), 0.0);
+
+        ColumnStatistics str = restored.column("STR");
+
+        assertNotNull(str);
+        assertEquals(5, str.distinctValues(), 0.0);
+        assertEquals(0.1, str.nullFraction(), 0.0);
+        assertNull(str.histogram());
+
+        assertNull(restored.column("UNKNOWN"));
+    }
+
+    @Test
+    public void newerFormatIsRejected() {
+        byte[] bytes = TableStatisticsSerializer.serialize(new TableStatistics(1, 0, Map.of()));
+
+        // Data format version is the first two bytes.
+        bytes[0] = (byte) 0x7F;
+
+        assertThrows(MarshallerException.class, () -> TableStatisticsSerializer.deserialize(bytes));
+    }
+}
@@ -100,6 +100,76 @@ public class CompositeSubscriptionTest {
         }
     }
 
+    @Test
+    public void testUnorderedMerge() throws Throwable {
+        for (int pubCnt = 1; pubCnt <= PROBE_CNT * 10; pubCnt += 10) {
+            for (int dataCnt : new int[] {0, 1, PROBE_CNT * 10}) {
+                Integer[][] data = new Integer[pubCnt][dataCnt];
+                int[] expData = new int[pubCnt * dataCnt];
+                int k = 0;
+
+                for (int i = 0; i < pubCnt; i++) {
+                    for (int j = 0; j < dataCnt; j++) {
+                        data[i][j] = k;
+                        expData[k] = k++;
+                    }
+                }
+
+                TestPublisher<Integer>[] publishers = new TestPublisher[pubCnt];
+
+                for (int i = 0; i < pubCnt; i++) {
+                    publishers[i] = new TestPublisher<>(data[i]);
+                }
+
+                AtomicReference<Subscription> subscriptionRef = new AtomicReference<>();
+                SubscriberListener<Integer> lsnr = new SubscriberListener<>();
+
+                lsnr.reset(expData.length + 1);
+
+                SubscriptionUtils.merge(Math.max(1, dataCnt / 4), publishers).subscribe(new Subscriber<Integer>() {
+                    @Override
+                    public void onSubscribe(Subscription subscription) {
+                        subscriptionRef.set(subscription);
+                    }
+
+                    @Override
+                    public void onNext(Integer item) {
+                        lsnr.onNext(item);
+                    }
+
+                    @Override
+                    public void onError(Throwable t) {
+                        assert false;
+                    }
+
+                    @Override
+                    public void onComplete() {
+                        lsnr.onComplete();
+                    }
+                });
+
+                // Request more than available to get the completion signal.
+                CompletableFuture.runAsync(() -> subscriptionRef.get().request(expData.length + 1));
+
+                Assertions.assertTrue(lsnr.awaitComplete(10), "Execution timeout [pubCnt=" + pubCnt + ", results=" + lsnr + ']');
+                Assertions.assertEquals(1, lsnr.onCompleteCntr.get());
+
+                // Items of different publishers come in any order.
+                int[] resArr = lsnr.res.stream().mapToInt(Integer::intValue).sorted().toArray();
+
+                Assertions.assertArrayEquals(expData, resArr);
+
+                for (TestPublisher<Integer> pub : publishers) {
+                    Throwable err = pub.errRef.get();
+
+                    if (err != null) {
+                        throw err;
+                    }
+                }
+            }
+        }
+    }
+
     /**
      * Test composite publishing-subscribing.
      *
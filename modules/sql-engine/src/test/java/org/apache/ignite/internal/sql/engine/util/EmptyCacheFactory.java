@@ -17,6 +17,7 @@
 
 package org.apache.ignite.internal.sql.engine.util;
 
+import java.util.function.BiConsumer;
 import java.util.function.BiFunction;
 import java.util.function.Function;
 import java.util.function.Predicate;
@@ -66,6 +67,11 @@ public class EmptyCacheFactory implements CacheFactory {
             // NO-OP
         }
 
+        @Override
+        public void remove(K key) {
+            // NO-OP
+        }
+
         @Override
         public void clear() {
             // NO-OP
@@ -80,5 +86,10 @@ public class EmptyCacheFactory implements CacheFactory {
         public void removeIfValue(Predicate<? super V> valueFilter) {
             // NO-OP.
         }
+
+        @Override
+        public void forEach(BiConsumer<? super K, ? super V> action) {
+            // NO-OP.
+        }
     }
 }
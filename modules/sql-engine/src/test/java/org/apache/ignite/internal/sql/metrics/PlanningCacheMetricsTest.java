@@ -50,7 +50,7 @@ public class PlanningCacheMetricsTest extends AbstractPlannerTest {
         MetricManager metricManager = new MetricManager();
         // Run clean up tasks in the current thread, so no eviction event is delayed.
         CacheFactory cacheFactory = CaffeineCacheFactory.create(Runnable::run);
-        PrepareService prepareService = new PrepareServiceImpl("test", 2, cacheFactory, null, 15_000L, 2, metricManager);
+        PrepareService prepareService = new PrepareServiceImpl("test", 2, cacheFactory, null, 15_000L, 2, metricManager, null);
 
         prepareService.start();
 
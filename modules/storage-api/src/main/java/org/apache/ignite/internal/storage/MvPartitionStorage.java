@@ -17,6 +17,8 @@
 
 package org.apache.ignite.internal.storage;
 
+import java.util.ArrayList;
+import java.util.List;
 import java.util.UUID;
 import java.util.concurrent.CompletableFuture;
 import org.apache.ignite.internal.close.ManuallyCloseable;
@@ -87,6 +89,23 @@ public interface MvPartitionStorage extends ManuallyCloseable {
         boolean tryLock(RowId rowId);
     }
 
+    /**
+     * Listener of the rows evicted by the storage to free up memory.
+     */
+    @SuppressWarnings("PublicInnerClass")
+    @FunctionalInterface
+    interface EvictionListener {
+        /**
+         * Called when the storage evicts a row, which has a single committed version, before the row is removed. The row ID is locked
+         * by the storage for the duration of the call, and the call may happen in any thread writing to any storage that shares memory
+         * with this one.
+         *
+         * @param rowId Row ID.
+         * @param row Committed version of the row.
+         */
+        void onEviction(RowId rowId, BinaryRow row);
+    }
+
     /**
      * Executes {@link WriteClosure} atomically, meaning that partial result of an incomplete closure will never be written to the
      * physical device, thus guaranteeing data consistency after restart. Simply runs the closure in case of a volatile storage.
@@ -159,6 +178,24 @@ public interface MvPartitionStorage extends ManuallyCloseable {
      */
     ReadResult read(RowId rowId, HybridTimestamp timestamp) throws StorageException;
 
+    /**
+     * Reads the values of several rows from the storage as they were at the given timestamp, see {@link #read(RowId, HybridTimestamp)}.
+     * Implementations may look the rows up in the order of their IDs, sharing the lookup state between them.
+     *
+     * @param rowIds Row ids.
+     * @param timestamp Timestamp.
+     * @return Read results, in the order of the row ids.
+     */
+    default List<ReadResult> readAll(List<RowId> rowIds, HybridTimestamp timestamp) throws StorageException {
+        List<ReadResult> results = new ArrayList<>(rowIds.size());
+
+        for (RowId rowId : rowIds) {
+            results.add(read(rowId, timestamp));
+        }
+
+        return results;
+    }
+
     /**
      * Creates (or replaces) an uncommitted (aka pending) version, assigned to the given transaction id.
      * In details:
@@ -233,6 +270,19 @@ public interface MvPartitionStorage extends ManuallyCloseable {
      */
     PartitionTimestampCursor scan(HybridTimestamp timestamp) throws StorageException;
 
+    /**
+     * Scans a range of row IDs of the partition and returns a cursor of values at the given timestamp. Same as
+     * {@link #scan(HybridTimestamp)}, but only returns the rows with IDs in {@code [lowerBound, upperBound)}, which allows to split a
+     * single partition scan into several independent ones.
+     *
+     * @param timestamp Timestamp. Can't be {@code null}.
+     * @param lowerBound Lower bound of row IDs, inclusive.
+     * @param upperBound Upper bound of row IDs, exclusive, {@code null} if unbounded.
+     * @return Cursor.
+     * @throws StorageException If failed to read data from the storage.
+     */
+    PartitionTimestampCursor scan(HybridTimestamp timestamp, RowId lowerBound, @Nullable RowId upperBound) throws StorageException;
+
     /**
      * Returns a row id, existing in the storage, that's greater or equal than the lower bound. {@code null} if not found.
      *
@@ -241,6 +291,13 @@ public interface MvPartitionStorage extends ManuallyCloseable {
      */
     @Nullable RowId closestRowId(RowId lowerBound) throws StorageException;
 
+    /**
+     * Returns the highest row id existing in the storage. {@code null} if the storage is empty.
+     *
+     * @throws StorageException If failed to read data from the storage.
+     */
+    @Nullable RowId highestRowId() throws StorageException;
+
     /**
      * Returns the head of GC queue.
      *
@@ -271,6 +328,24 @@ public interface MvPartitionStorage extends ManuallyCloseable {
     @Deprecated
     long rowsCount() throws StorageException;
 
+    /**
+     * Returns {@code true} if the storage prefers the row IDs of new rows to grow monotonically, see {@link RowIdGenerator}, {@code false}
+     * if the row IDs should be random.
+     */
+    default boolean timeOrderedRowIds() {
+        return false;
+    }
+
+    /**
+     * Sets the listener of the evicted rows. Only the storages of the volatile data regions with eviction enabled evict rows, the rest
+     * of the storages ignore the listener.
+     *
+     * @param listener Listener of the evicted rows.
+     */
+    default void setEvictionListener(EvictionListener listener) {
+        // No-op.
+    }
+
     /**
      * Closes the storage.
      *
@@ -0,0 +1,73 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.storage;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Generator of {@link RowId row IDs} for new rows of a partition.
+ *
+ * <p>By default, row IDs are random UUIDs. Time ordered IDs, if the partition storage prefers them (see
+ * {@link MvPartitionStorage#timeOrderedRowIds()}), grow monotonically: the most significant bits of a UUID hold the current time in
+ * milliseconds followed by a counter, and the least significant bits are random. Rows inserted one after another are stored next to each
+ * other, so LSM storages keyed by row IDs append to the end of the key space instead of writing all over it: RocksDB flushes files that
+ * don't overlap, and compactions move them to lower levels without rewriting. B+Trees, on the contrary, would make their rightmost leaf
+ * a point of contention for all the inserting threads.
+ *
+ * <p>The random part makes collisions of time ordered IDs generated by different nodes, for example after a change of the primary
+ * replica, as unlikely as collisions of random UUIDs, since the time parts are also likely to differ.
+ */
+public class RowIdGenerator {
+    /** Number of bits of the counter of IDs generated within the same millisecond. */
+    private static final int COUNTER_BITS = 16;
+
+    private final int partitionId;
+
+    private final boolean timeOrdered;
+
+    /** Most significant bits of the last generated ID. */
+    private final AtomicLong lastMsb = new AtomicLong();
+
+    /**
+     * Constructor.
+     *
+     * @param partitionId Partition ID.
+     * @param timeOrdered Whether to generate time ordered row IDs instead of random ones.
+     */
+    public RowIdGenerator(int partitionId, boolean timeOrdered) {
+        this.partitionId = partitionId;
+        this.timeOrdered = timeOrdered;
+    }
+
+    /**
+     * Generates a row ID. Time ordered row IDs are greater than all row IDs previously generated by this generator.
+     */
+    public RowId nextRowId() {
+        if (!timeOrdered) {
+            return new RowId(partitionId);
+        }
+
+        long timeMsb = System.currentTimeMillis() << COUNTER_BITS;
+
+        // If more IDs than the counter fits are generated within a millisecond, the time part runs ahead of the clock for a while.
+        long msb = lastMsb.updateAndGet(last -> Math.max(last + 1, timeMsb));
+
+        return new RowId(partitionId, msb, ThreadLocalRandom.current().nextLong());
+    }
+}
@@ -20,6 +20,7 @@ package org.apache.ignite.internal.storage;
 import static org.apache.ignite.internal.worker.ThreadAssertions.assertThreadAllowsToRead;
 import static org.apache.ignite.internal.worker.ThreadAssertions.assertThreadAllowsToWrite;
 
+import java.util.List;
 import java.util.UUID;
 import java.util.concurrent.CompletableFuture;
 import org.apache.ignite.internal.hlc.HybridTimestamp;
@@ -89,6 +90,13 @@ public class ThreadAssertingMvPartitionStorage implements MvPartitionStorage {
         return partitionStorage.read(rowId, timestamp);
     }
 
+    @Override
+    public List<ReadResult> readAll(List<RowId> rowIds, HybridTimestamp timestamp) throws StorageException {
+        assertThreadAllowsToRead();
+
+        return partitionStorage.readAll(rowIds, timestamp);
+    }
+
     @Override
     public @Nullable BinaryRow addWrite(RowId rowId, @Nullable BinaryRow row, UUID txId, int commitTableId, int commitPartitionId)
             throws TxIdMismatchException, StorageException {
@@ -132,6 +140,13 @@ public class ThreadAssertingMvPartitionStorage implements MvPartitionStorage {
         return new ThreadAssertingPartitionTimestampCursor(partitionStorage.scan(timestamp));
     }
 
+    @Override
+    public PartitionTimestampCursor scan(HybridTimestamp timestamp, RowId lowerBound, @Nullable RowId upperBound) throws StorageException {
+        assertThreadAllowsToRead();
+
+        return new ThreadAssertingPartitionTimestampCursor(partitionStorage.scan(timestamp, lowerBound, upperBound));
+    }
+
     @Override
     public @Nullable RowId closestRowId(RowId lowerBound) throws StorageException {
         assertThreadAllowsToRead();
@@ -139,6 +154,13 @@ public class ThreadAssertingMvPartitionStorage implements MvPartitionStorage {
         return partitionStorage.closestRowId(lowerBound);
     }
 
+    @Override
+    public @Nullable RowId highestRowId() throws StorageException {
+        assertThreadAllowsToRead();
+
+        return partitionStorage.highestRowId();
+    }
+
     @Override
     public @Nullable GcEntry peek(HybridTimestamp lowWatermark) {
         assertThreadAllowsToRead();
@@ -160,6 +182,16 @@ public class ThreadAssertingMvPartitionStorage implements MvPartitionStorage {
         return partitionStorage.rowsCount();
     }
 
+    @Override
+    public boolean timeOrderedRowIds() {
+        return partitionStorage.timeOrderedRowIds();
+    }
+
+    @Override
+    public void setEvictionListener(EvictionListener listener) {
+        partitionStorage.setEvictionListener(listener);
+    }
+
     @Override
     public void close() {
         partitionStorage.close();
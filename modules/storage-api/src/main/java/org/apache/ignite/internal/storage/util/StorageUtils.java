@@ -17,9 +17,12 @@
 
 package org.apache.ignite.internal.storage.util;
 
+import java.util.Arrays;
+import java.util.List;
 import java.util.function.Supplier;
 import org.apache.ignite.internal.lang.IgniteInternalCheckedException;
 import org.apache.ignite.internal.lang.IgniteStringFormatter;
+import org.apache.ignite.internal.storage.RowId;
 import org.apache.ignite.internal.storage.StorageClosedException;
 import org.apache.ignite.internal.storage.StorageException;
 import org.apache.ignite.internal.storage.StorageRebalanceException;
@@ -155,6 +158,24 @@ public class StorageUtils {
         }
     }
 
+    /**
+     * Returns the positions of the row IDs in the list, sorted in the order of the row IDs, so that batched lookups go through the
+     * storage sequentially.
+     *
+     * @param rowIds Row IDs.
+     */
+    public static int[] sortedRowIdPositions(List<RowId> rowIds) {
+        Integer[] positions = new Integer[rowIds.size()];
+
+        for (int i = 0; i < positions.length; i++) {
+            positions[i] = i;
+        }
+
+        Arrays.sort(positions, (i0, i1) -> rowIds.get(i0).compareTo(rowIds.get(i1)));
+
+        return Arrays.stream(positions).mapToInt(Integer::intValue).toArray();
+    }
+
     private static String createStorageInProcessOfRebalanceErrorMessage(String storageInfo) {
         return IgniteStringFormatter.format("Storage in the process of rebalancing: [{}]", storageInfo);
     }
@@ -0,0 +1,69 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.storage;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.greaterThan;
+import static org.hamcrest.Matchers.greaterThanOrEqualTo;
+import static org.hamcrest.Matchers.is;
+
+import org.apache.ignite.internal.testframework.BaseIgniteAbstractTest;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests for {@link RowIdGenerator}.
+ */
+public class RowIdGeneratorTest extends BaseIgniteAbstractTest {
+    private static final int PARTITION_ID = 1;
+
+    private final RowIdGenerator generator = new RowIdGenerator(PARTITION_ID, true);
+
+    @Test
+    void rowIdsGrowMonotonically() {
+        RowId previous = generator.nextRowId();
+
+        // Many more IDs than the counter of a single millisecond fits.
+        for (int i = 0; i < 1_000_000; i++) {
+            RowId rowId = generator.nextRowId();
+
+            assertThat(rowId.partitionId(), is(PARTITION_ID));
+            assertThat(rowId, is(greaterThan(previous)));
+
+            previous = rowId;
+        }
+    }
+
+    @Test
+    void rowIdsFollowTime() {
+        long before = System.currentTimeMillis();
+
+        RowId rowId = generator.nextRowId();
+
+        assertThat(rowId.mostSignificantBits() >>> 16, is(greaterThanOrEqualTo(before)));
+    }
+
+    @Test
+    void randomRowIds() {
+        RowIdGenerator randomGenerator = new RowIdGenerator(PARTITION_ID, false);
+
+        RowId rowId = randomGenerator.nextRowId();
+
+        assertThat(rowId.partitionId(), is(PARTITION_ID));
+        assertThat(rowId.uuid().version(), is(4));
+    }
+}
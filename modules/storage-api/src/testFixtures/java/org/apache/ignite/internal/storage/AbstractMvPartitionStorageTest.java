@@ -125,6 +125,41 @@ public abstract class AbstractMvPartitionStorageTest extends BaseMvPartitionStor
         assertNull(read(rowId, HybridTimestamp.MAX_VALUE));
     }
 
+    /**
+     * Tests that {@link MvPartitionStorage#readAll(List, HybridTimestamp)} returns the same results as reads of the rows one by one.
+     */
+    @Test
+    public void testReadAll() {
+        RowId committedRowId = new RowId(PARTITION_ID);
+
+        HybridTimestamp commitTs = clock.now();
+
+        addWriteCommitted(committedRowId, binaryRow, commitTs);
+
+        RowId writeIntentRowId = insert(binaryRow2, txId);
+
+        RowId absentRowId = new RowId(PARTITION_ID);
+
+        List<RowId> rowIds = List.of(absentRowId, writeIntentRowId, committedRowId, writeIntentRowId);
+
+        for (HybridTimestamp timestamp : List.of(commitTs.subtractPhysicalTime(1), commitTs, clock.now(), HybridTimestamp.MAX_VALUE)) {
+            List<ReadResult> readResults = storage.readAll(rowIds, timestamp);
+
+            assertEquals(rowIds.size(), readResults.size());
+
+            for (int i = 0; i < rowIds.size(); i++) {
+                ReadResult expected = storage.read(rowIds.get(i), timestamp);
+                ReadResult actual = readResults.get(i);
+
+                assertEquals(rowIds.get(i), actual.rowId());
+                assertEquals(expected.isWriteIntent(), actual.isWriteIntent());
+                assertEquals(unwrap(expected), unwrap(actual));
+            }
+        }
+
+        assertEquals(List.of(), storage.readAll(List.of(), HybridTimestamp.MAX_VALUE));
+    }
+
     /**
      * Tests basic invariants of {@link MvPartitionStorage#commitWrite(RowId, HybridTimestamp)}.
      */
@@ -241,6 +276,56 @@ public abstract class AbstractMvPartitionStorageTest extends BaseMvPartitionStor
         assertEquals(List.of(value1, value2), convert(scan(HybridTimestamp.MAX_VALUE)));
     }
 
+    /**
+     * Tests {@link MvPartitionStorage#scan(HybridTimestamp, RowId, RowId)}.
+     */
+    @Test
+    public void testRangeScan() {
+        RowId rowId1 = new RowId(PARTITION_ID, -10, 0);
+        RowId rowId2 = new RowId(PARTITION_ID, 0, 0);
+        RowId rowId3 = new RowId(PARTITION_ID, 10, 0);
+
+        TestValue value1 = new TestValue(10, "xxx");
+        TestValue value2 = new TestValue(20, "yyy");
+        TestValue value3 = new TestValue(30, "zzz");
+
+        addWrite(rowId1, binaryRow(new TestKey(1, "1"), value1), txId);
+        addWrite(rowId2, binaryRow(new TestKey(2, "2"), value2), txId);
+        addWrite(rowId3, binaryRow(new TestKey(3, "3"), value3), txId);
+
+        HybridTimestamp commitTs = clock.now();
+
+        commitWrite(rowId1, commitTs);
+        commitWrite(rowId2, commitTs);
+        commitWrite(rowId3, commitTs);
+
+        HybridTimestamp removeTs = clock.now();
+
+        // Committed tombstones are skipped, write intents are not.
+        addWriteCommitted(rowId3, null, removeTs);
+
+        addWrite(rowId2, null, newTransactionId());
+
+        RowId lowest = RowId.lowestRowId(PARTITION_ID);
+
+        assertEquals(List.of(value1), convert(storage.scan(removeTs, lowest, rowId2)));
+        assertEquals(List.of(value1), convert(storage.scan(HybridTimestamp.MAX_VALUE, lowest, rowId2)));
+        assertEquals(List.of(value1), convert(storage.scan(removeTs, rowId1, rowId1.increment())));
+        assertEquals(List.of(), convert(storage.scan(removeTs, rowId1.increment(), rowId2)));
+        assertEquals(List.of(value3), convert(storage.scan(commitTs, rowId3, null)));
+        assertEquals(List.of(), convert(storage.scan(removeTs, rowId3, null)));
+
+        try (PartitionTimestampCursor cursor = storage.scan(removeTs, rowId2, rowId3)) {
+            ReadResult res = cursor.next();
+
+            assertTrue(res.isWriteIntent());
+            assertNull(res.binaryRow());
+            assertEquals(value2, value(cursor.committed(commitTs)));
+
+            assertFalse(cursor.hasNext());
+        }
+    }
+
     @SuppressWarnings("ConstantConditions")
     @Test
     public void testTransactionScanCursorInvariants() {
@@ -1154,6 +1239,22 @@ public abstract class AbstractMvPartitionStorageTest extends BaseMvPartitionStor
         assertNull(storage.closestRowId(rowId2.increment()));
     }
 
+    @Test
+    void testHighestRowId() {
+        assertNull(storage.highestRowId());
+
+        RowId rowId1 = new RowId(PARTITION_ID, -1, 0);
+        RowId rowId2 = new RowId(PARTITION_ID, 1, -1);
+
+        addWrite(rowId2, binaryRow2, txId);
+
+        assertEquals(rowId2, storage.highestRowId());
+
+        addWrite(rowId1, binaryRow, txId);
+
+        assertEquals(rowId2, storage.highestRowId());
+    }
+
     @Test
     public void addWriteCommittedAddsCommittedVersion() {
         RowId rowId = new RowId(PARTITION_ID);
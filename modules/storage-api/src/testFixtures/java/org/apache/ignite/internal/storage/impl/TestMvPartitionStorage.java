@@ -22,6 +22,7 @@ import static org.apache.ignite.internal.util.CompletableFutures.nullCompletedFu
 
 import java.util.Arrays;
 import java.util.Iterator;
+import java.util.Map;
 import java.util.NavigableSet;
 import java.util.NoSuchElementException;
 import java.util.UUID;
@@ -462,8 +463,19 @@ public class TestMvPartitionStorage implements MvPartitionStorage {
     public PartitionTimestampCursor scan(HybridTimestamp timestamp) {
         checkStorageClosedOrInProcessOfRebalance();
 
-        Iterator<VersionChain> iterator = map.values().iterator();
+        return scan(timestamp, map.values().iterator());
+    }
+
+    @Override
+    public PartitionTimestampCursor scan(HybridTimestamp timestamp, RowId lowerBound, @Nullable RowId upperBound) {
+        checkStorageClosedOrInProcessOfRebalance();
+
+        Map<RowId, VersionChain> range = upperBound == null ? map.tailMap(lowerBound) : map.subMap(lowerBound, upperBound);
+
+        return scan(timestamp, range.values().iterator());
+    }
 
+    private PartitionTimestampCursor scan(HybridTimestamp timestamp, Iterator<VersionChain> iterator) {
         pendingCursors.incrementAndGet();
 
         return new PartitionTimestampCursor() {
@@ -536,6 +548,15 @@ public class TestMvPartitionStorage implements MvPartitionStorage {
         };
     }
 
+    @Override
+    public @Nullable RowId highestRowId() throws StorageException {
+        checkStorageClosedOrInProcessOfRebalance();
+
+        Map.Entry<RowId, VersionChain> last = map.lastEntry();
+
+        return last == null ? null : last.getKey();
+    }
+
     @Override
     public @Nullable RowId closestRowId(RowId lowerBound) throws StorageException {
         checkStorageClosedOrInProcessOfRebalance();
@@ -17,11 +17,15 @@
 
 package org.apache.ignite.internal.storage.pagememory;
 
+import static org.apache.ignite.internal.pagememory.configuration.schema.PersistentPageMemoryDataRegionConfigurationSchema.DEFLATE_PAGE_COMPRESSION;
 import static org.apache.ignite.internal.util.Constants.GiB;
 import static org.apache.ignite.internal.util.Constants.MiB;
 
 import java.util.Arrays;
 import java.util.concurrent.atomic.AtomicLong;
+import org.apache.ignite.internal.fileio.DirectFileIoFactory;
+import org.apache.ignite.internal.fileio.FileIo;
+import org.apache.ignite.internal.fileio.FileIoFactory;
 import org.apache.ignite.internal.pagememory.DataRegion;
 import org.apache.ignite.internal.pagememory.configuration.schema.PersistentPageMemoryDataRegionConfiguration;
 import org.apache.ignite.internal.pagememory.configuration.schema.PersistentPageMemoryDataRegionView;
@@ -29,8 +33,10 @@ import org.apache.ignite.internal.pagememory.io.PageIoRegistry;
 import org.apache.ignite.internal.pagememory.persistence.PartitionMetaManager;
 import org.apache.ignite.internal.pagememory.persistence.PersistentPageMemory;
 import org.apache.ignite.internal.pagememory.persistence.checkpoint.CheckpointManager;
+import org.apache.ignite.internal.pagememory.persistence.compression.PageCompression;
 import org.apache.ignite.internal.pagememory.persistence.store.FilePageStoreManager;
 import org.apache.ignite.internal.storage.StorageException;
+import org.jetbrains.annotations.Nullable;
 
 /**
  * Implementation of {@link DataRegion} for persistent case.
@@ -67,6 +73,10 @@ class PersistentPageMemoryDataRegion implements DataRegion<PersistentPageMemory>
 
     private volatile AtomicLong pageListCacheLimit;
 
+    private volatile @Nullable PageCompression pageCompression;
+
+    private volatile @Nullable FileIoFactory fileIoFactory;
+
     /**
      * Constructor.
      *
@@ -109,6 +119,7 @@ class PersistentPageMemoryDataRegion implements DataRegion<PersistentPageMemory>
                 null,
                 (pageMemory0, fullPageId, buf) -> checkpointManager.writePageToDeltaFilePageStore(pageMemory0, fullPageId, buf, true),
                 checkpointManager.checkpointTimeoutLock(),
+                dataRegionConfigView.writeThrottling() ? checkpointManager::currentCheckpointMetricsTracker : null,
                 pageSize
         );
 
@@ -116,6 +127,14 @@ class PersistentPageMemoryDataRegion implements DataRegion<PersistentPageMemory>
 
         pageListCacheLimit = new AtomicLong((long) (pageMemory.totalPages() * PAGE_LIST_CACHE_LIMIT_THRESHOLD));
 
+        if (DEFLATE_PAGE_COMPRESSION.equals(dataRegionConfigView.pageCompression())) {
+            pageCompression = new PageCompression(dataRegionConfigView.pageCompressionLevel());
+        }
+
+        if (dataRegionConfigView.directIo()) {
+            fileIoFactory = new DirectFileIoFactory();
+        }
+
         this.pageMemory = pageMemory;
     }
 
@@ -166,6 +185,20 @@ class PersistentPageMemoryDataRegion implements DataRegion<PersistentPageMemory>
         return pageListCacheLimit;
     }
 
+    /**
+     * Returns compression of the pages written to the file page stores of the region, {@code null} if the compression is disabled.
+     */
+    public @Nullable PageCompression pageCompression() {
+        return pageCompression;
+    }
+
+    /**
+     * Returns {@link FileIo} factory for the file page stores of the region, {@code null} if the one of the storage engine is used.
+     */
+    public @Nullable FileIoFactory fileIoFactory() {
+        return fileIoFactory;
+    }
+
     /**
      * Calculates the size of segments in bytes.
      *
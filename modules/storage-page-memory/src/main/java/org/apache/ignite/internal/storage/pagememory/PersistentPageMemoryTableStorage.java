@@ -477,7 +477,11 @@ public class PersistentPageMemoryTableStorage extends AbstractPageMemoryTableSto
             ByteBuffer buffer
     ) throws StorageException {
         try {
-            FilePageStore filePageStore = dataRegion.filePageStoreManager().readOrCreateStore(groupPartitionId, buffer);
+            FilePageStore filePageStore = dataRegion.filePageStoreManager().readOrCreateStore(
+                    groupPartitionId,
+                    buffer,
+                    dataRegion.fileIoFactory()
+            );
 
             assert !filePageStore.isMarkedToDestroy() : IgniteStringFormatter.format(
                     "Should not be marked for deletion: [tableId={}, partitionId={}]",
@@ -485,6 +489,8 @@ public class PersistentPageMemoryTableStorage extends AbstractPageMemoryTableSto
                     groupPartitionId.getPartitionId()
             );
 
+            filePageStore.setPageCompression(dataRegion.pageCompression());
+
             filePageStore.ensure();
 
             return filePageStore;
@@ -18,13 +18,21 @@
 package org.apache.ignite.internal.storage.pagememory;
 
 import static org.apache.ignite.internal.pagememory.PageIdAllocator.FLAG_AUX;
+import static org.apache.ignite.internal.pagememory.configuration.schema.VolatilePageMemoryDataRegionConfigurationSchema.DISABLED_EVICTION_MODE;
+import static org.apache.ignite.internal.pagememory.configuration.schema.VolatilePageMemoryDataRegionConfigurationSchema.RANDOM_2_LRU_EVICTION_MODE;
+import static org.apache.ignite.internal.pagememory.configuration.schema.VolatilePageMemoryDataRegionConfigurationSchema.RANDOM_LRU_EVICTION_MODE;
 import static org.apache.ignite.internal.util.IgniteUtils.closeAllManually;
 
 import org.apache.ignite.internal.lang.IgniteInternalCheckedException;
 import org.apache.ignite.internal.pagememory.DataRegion;
 import org.apache.ignite.internal.pagememory.PageMemory;
 import org.apache.ignite.internal.pagememory.configuration.schema.VolatilePageMemoryDataRegionConfiguration;
+import org.apache.ignite.internal.pagememory.configuration.schema.VolatilePageMemoryDataRegionView;
+import org.apache.ignite.internal.pagememory.evict.PageAbstractEvictionTracker;
 import org.apache.ignite.internal.pagememory.evict.PageEvictionTracker;
+import org.apache.ignite.internal.pagememory.evict.PageEvictionTrackerNoOp;
+import org.apache.ignite.internal.pagememory.evict.Random2LruPageEvictionTracker;
+import org.apache.ignite.internal.pagememory.evict.RandomLruPageEvictionTracker;
 import org.apache.ignite.internal.pagememory.inmemory.VolatilePageMemory;
 import org.apache.ignite.internal.pagememory.io.PageIoRegistry;
 import org.apache.ignite.internal.pagememory.metric.IoStatisticsHolderNoOp;
@@ -32,10 +40,15 @@ import org.apache.ignite.internal.pagememory.reuse.ReuseList;
 import org.apache.ignite.internal.pagememory.util.PageLockListenerNoOp;
 import org.apache.ignite.internal.storage.StorageException;
 import org.apache.ignite.internal.storage.pagememory.index.freelist.IndexColumnsFreeList;
+import org.apache.ignite.internal.storage.pagememory.mv.RowVersionEvictor;
 import org.apache.ignite.internal.storage.pagememory.mv.RowVersionFreeList;
+import org.jetbrains.annotations.Nullable;
 
 /**
  * Implementation of {@link DataRegion} for in-memory case.
+ *
+ * <p>If the eviction is enabled in the configuration, the region behaves like a bounded cache: once the share of the allocated pages
+ * exceeds the eviction threshold, the rows of the data pages chosen by the configured algorithm are evicted before inserting new ones.
  */
 public class VolatilePageMemoryDataRegion implements DataRegion<VolatilePageMemory> {
     private static final int FREE_LIST_GROUP_ID = 0;
@@ -56,13 +69,17 @@ public class VolatilePageMemoryDataRegion implements DataRegion<VolatilePageMemo
 
     private volatile IndexColumnsFreeList indexColumnsFreeList;
 
+    private volatile @Nullable PageAbstractEvictionTracker evictionTracker;
+
+    private volatile @Nullable RowVersionEvictor rowVersionEvictor;
+
     /**
      * Constructor.
      *
      * @param cfg Data region configuration.
      * @param ioRegistry IO registry.
      * @param pageSize Page size in bytes.
-     * @param pageEvictionTracker Eviction tracker to use.
+     * @param pageEvictionTracker Eviction tracker to use if the eviction is disabled in the configuration.
      */
     public VolatilePageMemoryDataRegion(
             VolatilePageMemoryDataRegionConfiguration cfg,
@@ -84,19 +101,77 @@ public class VolatilePageMemoryDataRegion implements DataRegion<VolatilePageMemo
 
         pageMemory.start();
 
+        PageAbstractEvictionTracker evictionTracker = createEvictionTracker(pageMemory);
+
         try {
-            rowVersionFreeList = createRowVersionFreeList(pageMemory);
+            if (evictionTracker == null) {
+                rowVersionFreeList = createRowVersionFreeList(pageMemory, pageEvictionTracker);
 
-            indexColumnsFreeList = createIndexColumnsFreeList(pageMemory, rowVersionFreeList);
+                indexColumnsFreeList = createIndexColumnsFreeList(pageMemory, rowVersionFreeList, pageEvictionTracker);
+            } else {
+                evictionTracker.start();
+
+                rowVersionFreeList = createRowVersionFreeList(pageMemory, evictionTracker);
+
+                // Only the row versions can be evicted, so the pages of index columns are not tracked.
+                indexColumnsFreeList = createIndexColumnsFreeList(pageMemory, rowVersionFreeList, PageEvictionTrackerNoOp.INSTANCE);
+            }
         } catch (IgniteInternalCheckedException e) {
             throw new StorageException("Error creating a RowVersionFreeList", e);
         }
 
+        this.evictionTracker = evictionTracker;
         this.pageMemory = pageMemory;
     }
 
+    private @Nullable PageAbstractEvictionTracker createEvictionTracker(VolatilePageMemory pageMemory) {
+        VolatilePageMemoryDataRegionView dataRegionView = cfg.value();
+
+        String evictionMode = dataRegionView.evictionMode();
+
+        if (DISABLED_EVICTION_MODE.equals(evictionMode)) {
+            return null;
+        }
+
+        RowVersionEvictor rowVersionEvictor = new RowVersionEvictor(pageMemory, FREE_LIST_GROUP_ID);
+
+        PageAbstractEvictionTracker evictionTracker;
+
+        switch (evictionMode) {
+            case RANDOM_LRU_EVICTION_MODE:
+                evictionTracker = new RandomLruPageEvictionTracker(
+                        pageMemory,
+                        dataRegionView.evictionThreshold(),
+                        dataRegionView.emptyPagesPoolSize(),
+                        () -> rowVersionFreeList.emptyDataPages(),
+                        rowVersionEvictor
+                );
+
+                break;
+
+            case RANDOM_2_LRU_EVICTION_MODE:
+                evictionTracker = new Random2LruPageEvictionTracker(
+                        pageMemory,
+                        dataRegionView.evictionThreshold(),
+                        dataRegionView.emptyPagesPoolSize(),
+                        () -> rowVersionFreeList.emptyDataPages(),
+                        rowVersionEvictor
+                );
+
+                break;
+
+            default:
+                throw new StorageException("Unknown eviction mode: " + evictionMode);
+        }
+
+        this.rowVersionEvictor = rowVersionEvictor;
+
+        return evictionTracker;
+    }
+
     private RowVersionFreeList createRowVersionFreeList(
-            PageMemory pageMemory
+            PageMemory pageMemory,
+            PageEvictionTracker pageEvictionTracker
     ) throws IgniteInternalCheckedException {
         long metaPageId = pageMemory.allocatePage(FREE_LIST_GROUP_ID, FREE_LIST_PARTITION_ID, FLAG_AUX);
 
@@ -115,8 +190,11 @@ public class VolatilePageMemoryDataRegion implements DataRegion<VolatilePageMemo
         );
     }
 
-    private IndexColumnsFreeList createIndexColumnsFreeList(VolatilePageMemory pageMemory, ReuseList reuseList)
-            throws IgniteInternalCheckedException {
+    private IndexColumnsFreeList createIndexColumnsFreeList(
+            VolatilePageMemory pageMemory,
+            ReuseList reuseList,
+            PageEvictionTracker pageEvictionTracker
+    ) throws IgniteInternalCheckedException {
         long metaPageId = pageMemory.allocatePage(FREE_LIST_GROUP_ID, FREE_LIST_PARTITION_ID, FLAG_AUX);
 
         return new IndexColumnsFreeList(
@@ -141,7 +219,8 @@ public class VolatilePageMemoryDataRegion implements DataRegion<VolatilePageMemo
         closeAllManually(
                 rowVersionFreeList,
                 indexColumnsFreeList,
-                pageMemory != null ? () -> pageMemory.stop(true) : null
+                pageMemory != null ? () -> pageMemory.stop(true) : null,
+                evictionTracker != null ? evictionTracker::stop : null
         );
     }
 
@@ -172,6 +251,20 @@ public class VolatilePageMemoryDataRegion implements DataRegion<VolatilePageMemo
         return indexColumnsFreeList;
     }
 
+    /**
+     * Returns the eviction tracker of the data pages storing row versions, {@code null} if the eviction is disabled.
+     */
+    public @Nullable PageAbstractEvictionTracker evictionTracker() {
+        return evictionTracker;
+    }
+
+    /**
+     * Returns the evictor of the row versions stored in the region, {@code null} if the eviction is disabled.
+     */
+    public @Nullable RowVersionEvictor rowVersionEvictor() {
+        return rowVersionEvictor;
+    }
+
     /**
      * Checks that the data region has started.
      *
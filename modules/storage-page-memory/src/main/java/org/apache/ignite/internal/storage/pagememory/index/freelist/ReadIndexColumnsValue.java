@@ -30,7 +30,7 @@ public class ReadIndexColumnsValue extends ReadPageMemoryRowValue {
     }
 
     @Override
-    protected int valueOffsetInFirstSlot() {
+    protected int valueOffsetInFirstSlot(long pageAddr) {
         return IndexColumns.VALUE_OFFSET;
     }
 }
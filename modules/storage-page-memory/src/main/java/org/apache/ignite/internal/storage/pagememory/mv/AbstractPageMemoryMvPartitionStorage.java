@@ -17,12 +17,14 @@
 
 package org.apache.ignite.internal.storage.pagememory.mv;
 
+import static org.apache.ignite.internal.storage.util.StorageUtils.sortedRowIdPositions;
 import static org.apache.ignite.internal.storage.util.StorageUtils.throwExceptionDependingOnStorageState;
 import static org.apache.ignite.internal.storage.util.StorageUtils.throwExceptionDependingOnStorageStateOnRebalance;
 import static org.apache.ignite.internal.storage.util.StorageUtils.throwExceptionIfStorageNotInRunnableOrRebalanceState;
 import static org.apache.ignite.internal.storage.util.StorageUtils.throwStorageExceptionIfItCause;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.List;
 import java.util.UUID;
 import java.util.concurrent.ConcurrentHashMap;
@@ -324,25 +326,51 @@ public abstract class AbstractPageMemoryMvPartitionStorage implements MvPartitio
         return busy(() -> {
             throwExceptionIfStorageNotInRunnableState();
 
-            if (rowId.partitionId() != partitionId) {
-                throw new IllegalArgumentException(
-                        String.format("RowId partition [%d] is not equal to storage partition [%d].", rowId.partitionId(), partitionId));
+            checkPartitionId(rowId);
+
+            return readRow(rowId, timestamp);
+        });
+    }
+
+    @Override
+    public List<ReadResult> readAll(List<RowId> rowIds, HybridTimestamp timestamp) throws StorageException {
+        return busy(() -> {
+            throwExceptionIfStorageNotInRunnableState();
+
+            rowIds.forEach(this::checkPartitionId);
+
+            ReadResult[] results = new ReadResult[rowIds.size()];
+
+            // Lookups in the key order descend through the same inner pages of the tree one after another.
+            for (int i : sortedRowIdPositions(rowIds)) {
+                results[i] = readRow(rowIds.get(i), timestamp);
             }
 
-            return findVersionChain(rowId, versionChain -> {
-                if (versionChain == null) {
-                    return ReadResult.empty(rowId);
-                }
+            return Arrays.asList(results);
+        });
+    }
 
-                if (lookingForLatestVersion(timestamp)) {
-                    return findLatestRowVersion(versionChain);
-                } else {
-                    return findRowVersionByTimestamp(versionChain, timestamp);
-                }
-            });
+    private ReadResult readRow(RowId rowId, HybridTimestamp timestamp) {
+        return findVersionChain(rowId, versionChain -> {
+            if (versionChain == null) {
+                return ReadResult.empty(rowId);
+            }
+
+            if (lookingForLatestVersion(timestamp)) {
+                return findLatestRowVersion(versionChain);
+            } else {
+                return findRowVersionByTimestamp(versionChain, timestamp);
+            }
         });
     }
 
+    private void checkPartitionId(RowId rowId) {
+        if (rowId.partitionId() != partitionId) {
+            throw new IllegalArgumentException(
+                    String.format("RowId partition [%d] is not equal to storage partition [%d].", rowId.partitionId(), partitionId));
+        }
+    }
+
     private static boolean lookingForLatestVersion(HybridTimestamp timestamp) {
         return timestamp == HybridTimestamp.MAX_VALUE;
     }
@@ -500,6 +528,18 @@ public abstract class AbstractPageMemoryMvPartitionStorage implements MvPartitio
         );
     }
 
+    /**
+     * Creates a row version to be stored in the partition.
+     *
+     * @param rowId Row ID of the version chain.
+     * @param commitTimestamp Commit timestamp, {@code null} for a write intent.
+     * @param nextLink Partitionless link of the next version in the chain.
+     * @param row Binary row, {@code null} for a tombstone.
+     */
+    RowVersion createRowVersion(RowId rowId, @Nullable HybridTimestamp commitTimestamp, long nextLink, @Nullable BinaryRow row) {
+        return new RowVersion(partitionId, 0, commitTimestamp, nextLink, row);
+    }
+
     void insertRowVersion(RowVersion rowVersion) {
         try {
             rowVersionFreeList.insertDataRow(rowVersion);
@@ -519,6 +559,8 @@ public abstract class AbstractPageMemoryMvPartitionStorage implements MvPartitio
             assert rowIsLocked(rowId);
 
             try {
+                rowVersionFreeList.ensureFreeSpace();
+
                 AddWriteInvokeClosure addWrite = new AddWriteInvokeClosure(rowId, row, txId, commitTableId, commitPartitionId, this);
 
                 versionChainTree.invoke(new VersionChainKey(rowId), null, addWrite);
@@ -606,6 +648,8 @@ public abstract class AbstractPageMemoryMvPartitionStorage implements MvPartitio
             assert rowIsLocked(rowId);
 
             try {
+                rowVersionFreeList.ensureFreeSpace();
+
                 AddWriteCommittedInvokeClosure addWriteCommitted = new AddWriteCommittedInvokeClosure(rowId, row, commitTimestamp,
                         this);
 
@@ -652,6 +696,34 @@ public abstract class AbstractPageMemoryMvPartitionStorage implements MvPartitio
         });
     }
 
+    @Override
+    public PartitionTimestampCursor scan(HybridTimestamp timestamp, RowId lowerBound, @Nullable RowId upperBound) throws StorageException {
+        return busy(() -> {
+            throwExceptionIfStorageNotInRunnableState();
+
+            if (lookingForLatestVersion(timestamp)) {
+                return new LatestVersionsCursor(this, lowerBound, upperBound);
+            } else {
+                return new TimestampCursor(this, timestamp, lowerBound, upperBound);
+            }
+        });
+    }
+
+    @Override
+    public @Nullable RowId highestRowId() throws StorageException {
+        return busy(() -> {
+            throwExceptionIfStorageNotInRunnableState();
+
+            try {
+                VersionChain last = versionChainTree.findLast();
+
+                return last == null ? null : last.rowId();
+            } catch (IgniteInternalCheckedException e) {
+                throw new StorageException("Error occurred while trying to read a row id", e);
+            }
+        });
+    }
+
     @Override
     public @Nullable RowId closestRowId(RowId lowerBound) throws StorageException {
         return busy(() -> {
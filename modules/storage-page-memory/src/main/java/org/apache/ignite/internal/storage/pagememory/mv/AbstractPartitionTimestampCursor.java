@@ -34,6 +34,12 @@ import org.jetbrains.annotations.Nullable;
 abstract class AbstractPartitionTimestampCursor implements PartitionTimestampCursor {
     protected final AbstractPageMemoryMvPartitionStorage storage;
 
+    /** Lower bound of row IDs, inclusive, {@code null} if unbounded. */
+    private final @Nullable RowId lowerBound;
+
+    /** Upper bound of row IDs, exclusive, {@code null} if unbounded. */
+    private final @Nullable RowId upperBound;
+
     private @Nullable Cursor<ReadResult> cursor;
 
     private boolean iterationExhausted;
@@ -43,7 +49,17 @@ abstract class AbstractPartitionTimestampCursor implements PartitionTimestampCur
     private @Nullable RowId currentRowId;
 
     AbstractPartitionTimestampCursor(AbstractPageMemoryMvPartitionStorage storage) {
+        this(storage, null, null);
+    }
+
+    AbstractPartitionTimestampCursor(
+            AbstractPageMemoryMvPartitionStorage storage,
+            @Nullable RowId lowerBound,
+            @Nullable RowId upperBound
+    ) {
         this.storage = storage;
+        this.lowerBound = lowerBound;
+        this.upperBound = upperBound;
     }
 
     @Override
@@ -150,12 +166,19 @@ abstract class AbstractPartitionTimestampCursor implements PartitionTimestampCur
         }
 
         try {
-            cursor = storage.versionChainTree.find(null, null, new TreeRowMapClosure<>() {
-                @Override
-                public ReadResult map(VersionChain treeRow) {
-                    return findRowVersion(treeRow);
-                }
-            }, null);
+            cursor = storage.versionChainTree.find(
+                    lowerBound == null ? null : new VersionChainKey(lowerBound),
+                    upperBound == null ? null : new VersionChainKey(upperBound),
+                    true,
+                    false,
+                    new TreeRowMapClosure<>() {
+                        @Override
+                        public ReadResult map(VersionChain treeRow) {
+                            return findRowVersion(treeRow);
+                        }
+                    },
+                    null
+            );
         } catch (IgniteInternalCheckedException e) {
             throwStorageExceptionIfItCause(e);
 
@@ -125,7 +125,7 @@ class AddWriteCommittedInvokeClosure implements InvokeClosure<VersionChain> {
     }
 
     private RowVersion insertCommittedRowVersion(@Nullable BinaryRow row, HybridTimestamp commitTimestamp, long nextPartitionlessLink) {
-        RowVersion rowVersion = new RowVersion(storage.partitionId, commitTimestamp, nextPartitionlessLink, row);
+        RowVersion rowVersion = storage.createRowVersion(rowId, commitTimestamp, nextPartitionlessLink, row);
 
         storage.insertRowVersion(rowVersion);
 
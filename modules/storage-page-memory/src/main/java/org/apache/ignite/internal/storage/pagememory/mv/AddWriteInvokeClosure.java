@@ -123,7 +123,7 @@ class AddWriteInvokeClosure implements InvokeClosure<VersionChain> {
     }
 
     private RowVersion insertRowVersion(@Nullable BinaryRow row, long nextPartitionlessLink) {
-        RowVersion rowVersion = new RowVersion(storage.partitionId, nextPartitionlessLink, row);
+        RowVersion rowVersion = storage.createRowVersion(rowId, null, nextPartitionlessLink, row);
 
         storage.insertRowVersion(rowVersion);
 
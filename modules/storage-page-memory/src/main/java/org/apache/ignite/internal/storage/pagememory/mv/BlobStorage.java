@@ -17,6 +17,7 @@
 
 package org.apache.ignite.internal.storage.pagememory.mv;
 
+import java.nio.ByteBuffer;
 import java.util.Objects;
 import org.apache.ignite.internal.lang.IgniteInternalCheckedException;
 import org.apache.ignite.internal.pagememory.PageIdAllocator;
@@ -37,6 +38,10 @@ import org.jetbrains.annotations.Nullable;
  * Used to store a limited number of blobs (just byte arrays) per partition. Each blob is stored in a sequence
  * of pages forming a linked list (a previous page links to the next one).
  *
+ * <p>Blobs are read fragment by fragment straight from the read locked pages, see {@link #readBlob(long, BlobFragmentConsumer)}, and
+ * written chunk by chunk into the pages in place, reusing the chain being rewritten, see {@link BlobAppender}. The byte array methods
+ * are built on top of them, so a blob is copied exactly once in both directions.
+ *
  * <p>If a lot of blobs (comparable with the number of rows) needs to be stored in a partition, another mechanism
  * (probably using a {@link org.apache.ignite.internal.pagememory.freelist.FreeList}) should be used.
  */
@@ -49,7 +54,9 @@ public class BlobStorage extends DataStructure {
 
     private final ReadFragment readFragment = new ReadFragment();
 
-    private final WriteFragment writeFragment = new WriteFragment();
+    private final AppendFragment appendFragment = new AppendFragment();
+
+    private final FinishBlob finishBlob = new FinishBlob();
 
     /**
      * Creates a new instance.
@@ -69,7 +76,25 @@ public class BlobStorage extends DataStructure {
      * @throws IgniteInternalCheckedException If something goes wrong.
      */
     public byte[] readBlob(long firstPageId) throws IgniteInternalCheckedException {
-        ReadState readState = new ReadState();
+        CollectFragments collectFragments = new CollectFragments();
+
+        readBlob(firstPageId, collectFragments);
+
+        assert collectFragments.bytes != null;
+
+        return collectFragments.bytes;
+    }
+
+    /**
+     * Reads a blob stored starting at a page with the given ID, passing its fragments to the consumer one by one, in order,
+     * without copying them to heap. The consumer is called at least once, even for an empty blob.
+     *
+     * @param firstPageId ID of first page.
+     * @param consumer Consumer of the fragments.
+     * @throws IgniteInternalCheckedException If something goes wrong.
+     */
+    void readBlob(long firstPageId, BlobFragmentConsumer consumer) throws IgniteInternalCheckedException {
+        ReadState readState = new ReadState(consumer);
 
         long pageId = firstPageId;
 
@@ -90,10 +115,6 @@ public class BlobStorage extends DataStructure {
 
             pageId = readState.nextPageId;
         }
-
-        assert readState.bytes != null;
-
-        return readState.bytes;
     }
 
     /**
@@ -118,34 +139,37 @@ public class BlobStorage extends DataStructure {
         doStore(firstPageId, bytes);
     }
 
-    private long doStore(long maybeFirstPageId, byte[] bytes) throws IgniteInternalCheckedException {
-        Objects.requireNonNull(bytes, "bytes is null");
+    /**
+     * Starts writing a new blob chunk by chunk.
+     *
+     * @return Appender of the blob chunks.
+     * @throws IgniteInternalCheckedException If something goes wrong.
+     */
+    BlobAppender startBlob() throws IgniteInternalCheckedException {
+        return new BlobAppender(allocatePageIfNeeded(NO_PAGE_ID));
+    }
 
-        long firstPageId = allocatePageIfNeeded(maybeFirstPageId);
+    /**
+     * Starts rewriting the blob content chunk by chunk. The blob must not be read until the appender is {@link BlobAppender#finish()
+     * finished}.
+     *
+     * @param firstPageId ID of the first page in the chain storing the blob.
+     * @return Appender of the blob chunks.
+     */
+    BlobAppender startBlobUpdate(long firstPageId) {
+        assert firstPageId != NO_PAGE_ID;
 
-        WriteState state = new WriteState(bytes);
-        state.pageId = firstPageId;
+        return new BlobAppender(firstPageId);
+    }
 
-        do {
-            Boolean ok = PageHandler.writePage(
-                    pageMem,
-                    grpId,
-                    state.pageId,
-                    PageLockListenerNoOp.INSTANCE,
-                    writeFragment,
-                    null,
-                    state,
-                    0,
-                    false,
-                    statisticsHolder
-            );
+    private long doStore(long maybeFirstPageId, byte[] bytes) throws IgniteInternalCheckedException {
+        Objects.requireNonNull(bytes, "bytes is null");
 
-            assert ok : state.pageId;
-        } while (!state.stop);
+        BlobAppender appender = new BlobAppender(allocatePageIfNeeded(maybeFirstPageId));
 
-        freePagesStartingWith(state.firstPageToFreeId);
+        appender.append(ByteBuffer.wrap(bytes));
 
-        return firstPageId;
+        return appender.finish();
     }
 
     private long allocatePageIfNeeded(long maybePageId) throws IgniteInternalCheckedException {
@@ -185,18 +209,131 @@ public class BlobStorage extends DataStructure {
         return reuseBag;
     }
 
+    /**
+     * Consumer of blob fragments.
+     */
+    @FunctionalInterface
+    interface BlobFragmentConsumer {
+        /**
+         * Consumes the next fragment of a blob.
+         *
+         * @param fragment Read-only buffer over the fragment bytes. It points directly to the page memory and is only valid until
+         *      the method returns.
+         * @param totalLength Total length of the blob.
+         * @throws IgniteInternalCheckedException If something goes wrong.
+         */
+        void accept(ByteBuffer fragment, int totalLength) throws IgniteInternalCheckedException;
+    }
+
+    /**
+     * Writes a blob chunk by chunk, reusing the pages of the chain being rewritten, if any. Not thread-safe.
+     */
+    class BlobAppender {
+        private final long firstPageId;
+
+        /** ID of the page being written. */
+        private long pageId;
+
+        /** Number of bytes written to the fragment of the current page. */
+        private int fragmentOffset;
+
+        private long totalLength;
+
+        /** Chunk being appended. */
+        private @Nullable ByteBuffer chunk;
+
+        private boolean finished;
+
+        private BlobAppender(long firstPageId) {
+            this.firstPageId = firstPageId;
+            this.pageId = firstPageId;
+        }
+
+        /**
+         * Appends the bytes of the chunk, from its position to its limit. The chunk is consumed, that is its position is moved to
+         * its limit.
+         *
+         * @param chunk Chunk of the blob.
+         * @throws IgniteInternalCheckedException If something goes wrong.
+         */
+        public void append(ByteBuffer chunk) throws IgniteInternalCheckedException {
+            assert !finished : "Blob is already finished: " + firstPageId;
+
+            if (totalLength + chunk.remaining() > Integer.MAX_VALUE) {
+                throw new IgniteInternalCheckedException("Blob is too large: " + (totalLength + chunk.remaining()));
+            }
+
+            this.chunk = chunk;
+
+            try {
+                while (chunk.hasRemaining()) {
+                    Boolean ok = PageHandler.writePage(
+                            pageMem,
+                            grpId,
+                            pageId,
+                            PageLockListenerNoOp.INSTANCE,
+                            appendFragment,
+                            null,
+                            this,
+                            0,
+                            false,
+                            statisticsHolder
+                    );
+
+                    assert ok : pageId;
+                }
+            } finally {
+                this.chunk = null;
+            }
+        }
+
+        /**
+         * Finishes the blob, recycling the pages of the rewritten chain that are no longer needed.
+         *
+         * @return ID of the page starting the chain representing the blob.
+         * @throws IgniteInternalCheckedException If something goes wrong.
+         */
+        public long finish() throws IgniteInternalCheckedException {
+            assert !finished : "Blob is already finished: " + firstPageId;
+
+            finished = true;
+
+            Long firstPageToFreeId = PageHandler.writePage(pageMem, grpId, pageId, PageLockListenerNoOp.INSTANCE,
+                    finishBlob, null, this, 0, NO_PAGE_ID, statisticsHolder);
+
+            if (pageId != firstPageId) {
+                PageHandler.writePage(pageMem, grpId, firstPageId, PageLockListenerNoOp.INSTANCE,
+                        finishBlob, null, this, 0, NO_PAGE_ID, statisticsHolder);
+            }
+
+            freePagesStartingWith(firstPageToFreeId);
+
+            return firstPageId;
+        }
+
+        private boolean isFirstPage() {
+            return pageId == firstPageId;
+        }
+    }
+
     /**
      * State of a read operation.
      */
     private static class ReadState {
-        private byte @Nullable [] bytes;
+        private final BlobFragmentConsumer consumer;
+
+        private int totalLength = -1;
 
         private int bytesOffset;
 
         private long nextPageId = NO_PAGE_ID;
 
+        private ReadState(BlobFragmentConsumer consumer) {
+            this.consumer = consumer;
+        }
+
         private boolean isFirstPage() {
-            return bytesOffset == 0;
+            return totalLength == -1;
         }
     }
 
@@ -209,22 +346,22 @@ public class BlobStorage extends DataStructure {
                 IoStatisticsHolder statHolder) throws IgniteInternalCheckedException {
             BlobFragmentIo blobIo = (BlobFragmentIo) io;
 
-            if (state.bytes == null) {
-                assert state.isFirstPage();
+            boolean firstPage = state.isFirstPage();
 
-                state.bytes = new byte[blobIo.getTotalLength(pageAddr)];
+            if (firstPage) {
+                state.totalLength = blobIo.getTotalLength(pageAddr);
             }
 
-            int capacityForBytes = blobIo.getCapacityForFragmentBytes(pageSize(), state.isFirstPage());
-            int fragmentLength = Math.min(capacityForBytes, state.bytes.length - state.bytesOffset);
+            int capacityForBytes = blobIo.getCapacityForFragmentBytes(pageSize(), firstPage);
+            int fragmentLength = Math.min(capacityForBytes, state.totalLength - state.bytesOffset);
 
-            blobIo.getFragmentBytes(pageAddr, state.isFirstPage(), state.bytes, state.bytesOffset, fragmentLength);
+            state.consumer.accept(blobIo.fragmentBuffer(pageAddr, firstPage, fragmentLength), state.totalLength);
 
             long nextPageId = blobIo.getNextPageId(pageAddr);
 
             int newBytesOffset = state.bytesOffset + fragmentLength;
 
-            if (newBytesOffset < state.bytes.length) {
+            if (newBytesOffset < state.totalLength) {
                 assert nextPageId != NO_PAGE_ID;
 
                 state.nextPageId = nextPageId;
@@ -241,64 +378,93 @@ public class BlobStorage extends DataStructure {
     }
 
     /**
-     * State of a write operation.
+     * Collects fragments of a blob to a byte array.
      */
-    private static class WriteState {
-        private final byte[] bytes;
+    private static class CollectFragments implements BlobFragmentConsumer {
+        private byte @Nullable [] bytes;
+
         private int bytesOffset;
 
-        private long pageId;
+        @Override
+        public void accept(ByteBuffer fragment, int totalLength) {
+            if (bytes == null) {
+                bytes = new byte[totalLength];
+            }
 
-        private boolean stop;
-        private long firstPageToFreeId = NO_PAGE_ID;
+            int fragmentLength = fragment.remaining();
 
-        private WriteState(byte[] bytes) {
-            this.bytes = bytes;
-        }
+            fragment.get(bytes, bytesOffset, fragmentLength);
 
-        private boolean isFirstPage() {
-            return bytesOffset == 0;
+            bytesOffset += fragmentLength;
         }
     }
 
     /**
-     * Writes a fragment to a page.
+     * Appends as many bytes of a chunk as fit to a page, linking the next page of the chain if the chunk is not over.
      */
-    private class WriteFragment implements PageHandler<WriteState, Boolean> {
+    private class AppendFragment implements PageHandler<BlobAppender, Boolean> {
         @Override
-        public Boolean run(int groupId, long pageId, long page, long pageAddr, PageIo io, WriteState state, int unused,
+        public Boolean run(int groupId, long pageId, long page, long pageAddr, PageIo io, BlobAppender appender, int unused,
                 IoStatisticsHolder statHolder) throws IgniteInternalCheckedException {
             BlobFragmentIo blobIo = (BlobFragmentIo) io;
 
-            int capacityForBytes = blobIo.getCapacityForFragmentBytes(pageSize(), state.isFirstPage());
+            ByteBuffer chunk = appender.chunk;
 
-            int fragmentLength = Math.min(capacityForBytes, state.bytes.length - state.bytesOffset);
+            assert chunk != null;
 
-            if (state.isFirstPage()) {
-                blobIo.setTotalLength(pageAddr, state.bytes.length);
-            }
+            int capacityForBytes = blobIo.getCapacityForFragmentBytes(pageSize(), appender.isFirstPage());
 
-            blobIo.setFragmentBytes(pageAddr, state.isFirstPage(), state.bytes, state.bytesOffset, fragmentLength);
+            int fragmentLength = Math.min(capacityForBytes - appender.fragmentOffset, chunk.remaining());
 
-            int newBytesOffset = state.bytesOffset + fragmentLength;
+            if (fragmentLength > 0) {
+                ByteBuffer fragment = chunk.duplicate();
 
-            long maybeNextPageId = blobIo.getNextPageId(pageAddr);
+                fragment.limit(fragment.position() + fragmentLength);
 
-            if (newBytesOffset < state.bytes.length) {
-                long nextPageId = allocatePageIfNeeded(maybeNextPageId);
+                blobIo.setFragmentBytes(pageAddr, appender.isFirstPage(), appender.fragmentOffset, fragment);
+
+                chunk.position(chunk.position() + fragmentLength);
+
+                appender.fragmentOffset += fragmentLength;
+                appender.totalLength += fragmentLength;
+            }
+
+            if (chunk.hasRemaining()) {
+                long nextPageId = allocatePageIfNeeded(blobIo.getNextPageId(pageAddr));
 
                 blobIo.setNextPageId(pageAddr, nextPageId);
 
-                state.bytesOffset = newBytesOffset;
-                state.pageId = nextPageId;
-            } else {
+                appender.pageId = nextPageId;
+                appender.fragmentOffset = 0;
+            }
+
+            return true;
+        }
+    }
+
+    /**
+     * Terminates the chain at the last page of a blob and writes the total length to its first page.
+     * Returns ID of the first page of the rest of the rewritten chain, if any.
+     */
+    private class FinishBlob implements PageHandler<BlobAppender, Long> {
+        @Override
+        public Long run(int groupId, long pageId, long page, long pageAddr, PageIo io, BlobAppender appender, int unused,
+                IoStatisticsHolder statHolder) {
+            BlobFragmentIo blobIo = (BlobFragmentIo) io;
+
+            long firstPageToFreeId = NO_PAGE_ID;
+
+            if (pageId == appender.pageId) {
+                firstPageToFreeId = blobIo.getNextPageId(pageAddr);
+
                 blobIo.setNextPageId(pageAddr, NO_PAGE_ID);
+            }
 
-                state.firstPageToFreeId = maybeNextPageId;
-                state.stop = true;
+            if (pageId == appender.firstPageId) {
+                blobIo.setTotalLength(pageAddr, (int) appender.totalLength);
             }
 
-            return true;
+            return firstPageToFreeId;
         }
     }
 
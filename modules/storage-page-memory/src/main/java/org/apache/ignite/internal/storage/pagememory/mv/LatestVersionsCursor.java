@@ -18,6 +18,8 @@
 package org.apache.ignite.internal.storage.pagememory.mv;
 
 import org.apache.ignite.internal.storage.ReadResult;
+import org.apache.ignite.internal.storage.RowId;
+import org.jetbrains.annotations.Nullable;
 
 /**
  * Implementation of the cursor that iterates over the page memory storage with the respect to the transaction id. Scans the partition
@@ -29,6 +31,10 @@ class LatestVersionsCursor extends AbstractPartitionTimestampCursor {
         super(storage);
     }
 
+    LatestVersionsCursor(AbstractPageMemoryMvPartitionStorage storage, @Nullable RowId lowerBound, @Nullable RowId upperBound) {
+        super(storage, lowerBound, upperBound);
+    }
+
     @Override
     ReadResult findRowVersion(VersionChain versionChain) {
         return storage.findLatestRowVersion(versionChain);
@@ -26,6 +26,7 @@ import org.apache.ignite.internal.storage.pagememory.mv.gc.io.GcInnerIo;
 import org.apache.ignite.internal.storage.pagememory.mv.gc.io.GcLeafIo;
 import org.apache.ignite.internal.storage.pagememory.mv.gc.io.GcMetaIo;
 import org.apache.ignite.internal.storage.pagememory.mv.io.BlobFragmentIo;
+import org.apache.ignite.internal.storage.pagememory.mv.io.OwnedRowVersionDataIo;
 import org.apache.ignite.internal.storage.pagememory.mv.io.RowVersionDataIo;
 import org.apache.ignite.internal.storage.pagememory.mv.io.VersionChainInnerIo;
 import org.apache.ignite.internal.storage.pagememory.mv.io.VersionChainLeafIo;
@@ -44,6 +45,7 @@ public class MvPageIoModule implements PageIoModule {
                 VersionChainInnerIo.VERSIONS,
                 VersionChainLeafIo.VERSIONS,
                 RowVersionDataIo.VERSIONS,
+                OwnedRowVersionDataIo.VERSIONS,
                 BlobFragmentIo.VERSIONS,
                 GcMetaIo.VERSIONS,
                 GcInnerIo.VERSIONS,
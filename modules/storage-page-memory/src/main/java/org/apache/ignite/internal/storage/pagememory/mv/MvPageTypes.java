@@ -44,4 +44,7 @@ public interface MvPageTypes {
 
     /** Garbage collection queue leaf page IO type. */
     short T_GC_LEAF_IO = 16;
+
+    /** Data page IO type of the row versions stored along with their owners. */
+    short T_OWNED_ROW_VERSION_DATA_IO = 17;
 }
@@ -31,7 +31,7 @@ class ReadRowVersionValue extends ReadPageMemoryRowValue {
 
     /** {@inheritDoc} */
     @Override
-    protected int valueOffsetInFirstSlot() {
-        return RowVersion.VALUE_OFFSET;
+    protected int valueOffsetInFirstSlot(long pageAddr) {
+        return RowVersion.valueOffset(pageAddr);
     }
 }
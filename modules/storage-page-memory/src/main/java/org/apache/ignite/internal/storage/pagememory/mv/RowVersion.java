@@ -19,13 +19,17 @@ package org.apache.ignite.internal.storage.pagememory.mv;
 
 import static org.apache.ignite.internal.hlc.HybridTimestamp.HYBRID_TIMESTAMP_SIZE;
 import static org.apache.ignite.internal.pagememory.util.PageIdUtils.NULL_LINK;
+import static org.apache.ignite.internal.storage.pagememory.mv.MvPageTypes.T_OWNED_ROW_VERSION_DATA_IO;
 
 import org.apache.ignite.internal.hlc.HybridTimestamp;
 import org.apache.ignite.internal.pagememory.Storable;
 import org.apache.ignite.internal.pagememory.io.AbstractDataPageIo;
 import org.apache.ignite.internal.pagememory.io.IoVersions;
+import org.apache.ignite.internal.pagememory.io.PageIo;
 import org.apache.ignite.internal.pagememory.util.PartitionlessLinks;
 import org.apache.ignite.internal.schema.BinaryRow;
+import org.apache.ignite.internal.storage.RowId;
+import org.apache.ignite.internal.storage.pagememory.mv.io.OwnedRowVersionDataIo;
 import org.apache.ignite.internal.storage.pagememory.mv.io.RowVersionDataIo;
 import org.apache.ignite.internal.tostring.IgniteToStringExclude;
 import org.apache.ignite.internal.tostring.S;
@@ -33,6 +37,11 @@ import org.jetbrains.annotations.Nullable;
 
 /**
  * Represents row version inside row version chain.
+ *
+ * <p>In a volatile data region with eviction enabled, a stored row version also keeps its owner: the table ID and the row ID of the
+ * version chain it belongs to. Such versions are stored by {@link OwnedRowVersionDataIo}, the owner is placed between the header and the
+ * value. The owner is not needed to read the chains, which are always traversed from the version chain tree, but allows to find the chain
+ * by an item of a data page chosen for eviction.
  */
 public final class RowVersion implements Storable {
     private static final int NEXT_LINK_STORE_SIZE_BYTES = PartitionlessLinks.PARTITIONLESS_LINK_SIZE_BYTES;
@@ -45,10 +54,23 @@ public final class RowVersion implements Storable {
     public static final int SCHEMA_VERSION_OFFSET = VALUE_SIZE_OFFSET + VALUE_SIZE_STORE_SIZE_BYTES;
     public static final int VALUE_OFFSET = SCHEMA_VERSION_OFFSET + SCHEMA_VERSION_SIZE_BYTES;
 
+    /** Offsets of the owner of a version stored by {@link OwnedRowVersionDataIo}. */
+    public static final int OWNER_TABLE_ID_OFFSET = VALUE_OFFSET;
+    public static final int OWNER_ROW_ID_PARTITION_OFFSET = OWNER_TABLE_ID_OFFSET + Integer.BYTES;
+    public static final int OWNER_ROW_ID_MSB_OFFSET = OWNER_ROW_ID_PARTITION_OFFSET + Short.BYTES;
+    public static final int OWNER_ROW_ID_LSB_OFFSET = OWNER_ROW_ID_MSB_OFFSET + Long.BYTES;
+    public static final int OWNED_VALUE_OFFSET = OWNER_ROW_ID_LSB_OFFSET + Long.BYTES;
+
     private final int partitionId;
 
     private long link;
 
+    /** ID of the table the version belongs to, {@code 0} if the owner is not stored. */
+    private final int tableId;
+
+    /** Row ID of the version chain the version belongs to, {@code null} if the owner is not stored. */
+    private final @Nullable RowId rowId;
+
     private final @Nullable HybridTimestamp timestamp;
 
     private final long nextLink;
@@ -59,17 +81,18 @@ public final class RowVersion implements Storable {
     private final @Nullable BinaryRow value;
 
     /**
-     * Constructor.
+     * Constructor of a version to be stored along with its owner, a write intent if the timestamp is {@code null}.
      */
-    public RowVersion(int partitionId, long nextLink, @Nullable BinaryRow value) {
-        this(partitionId, 0, null, nextLink, value);
-    }
+    public RowVersion(int tableId, RowId rowId, @Nullable HybridTimestamp commitTimestamp, long nextLink, @Nullable BinaryRow value) {
+        this.partitionId = rowId.partitionId();
+        this.tableId = tableId;
+        this.rowId = rowId;
+        link(0);
 
-    /**
-     * Constructor.
-     */
-    public RowVersion(int partitionId, HybridTimestamp commitTimestamp, long nextLink, @Nullable BinaryRow value) {
-        this(partitionId, 0, commitTimestamp, nextLink, value);
+        this.timestamp = commitTimestamp;
+        this.nextLink = nextLink;
+        this.valueSize = value == null ? 0 : value.tupleSliceLength();
+        this.value = value;
     }
 
     /**
@@ -77,6 +100,8 @@ public final class RowVersion implements Storable {
      */
     public RowVersion(int partitionId, long link, @Nullable HybridTimestamp timestamp, long nextLink, @Nullable BinaryRow value) {
         this.partitionId = partitionId;
+        this.tableId = 0;
+        this.rowId = null;
         link(link);
 
         this.timestamp = timestamp;
@@ -90,6 +115,8 @@ public final class RowVersion implements Storable {
      */
     public RowVersion(int partitionId, long link, @Nullable HybridTimestamp timestamp, long nextLink, int valueSize) {
         this.partitionId = partitionId;
+        this.tableId = 0;
+        this.rowId = null;
         link(link);
 
         this.timestamp = timestamp;
@@ -109,6 +136,20 @@ public final class RowVersion implements Storable {
         return nextLink;
     }
 
+    /**
+     * Returns ID of the table the version belongs to, {@code 0} if the owner is not stored.
+     */
+    public int tableId() {
+        return tableId;
+    }
+
+    /**
+     * Returns row ID of the version chain the version belongs to, {@code null} if the owner is not stored.
+     */
+    public @Nullable RowId rowId() {
+        return rowId;
+    }
+
     public int valueSize() {
         return valueSize;
     }
@@ -155,12 +196,21 @@ public final class RowVersion implements Storable {
 
     @Override
     public int headerSize() {
-        return HYBRID_TIMESTAMP_SIZE + NEXT_LINK_STORE_SIZE_BYTES + VALUE_SIZE_STORE_SIZE_BYTES + SCHEMA_VERSION_SIZE_BYTES;
+        return rowId == null ? VALUE_OFFSET : OWNED_VALUE_OFFSET;
     }
 
     @Override
     public IoVersions<? extends AbstractDataPageIo<?>> ioVersions() {
-        return RowVersionDataIo.VERSIONS;
+        return rowId == null ? RowVersionDataIo.VERSIONS : OwnedRowVersionDataIo.VERSIONS;
+    }
+
+    /**
+     * Returns the offset of the value in the first slot of a row version stored in the page.
+     *
+     * @param pageAddr Address of the page storing the first slot.
+     */
+    public static int valueOffset(long pageAddr) {
+        return PageIo.getType(pageAddr) == T_OWNED_ROW_VERSION_DATA_IO ? OWNED_VALUE_OFFSET : VALUE_OFFSET;
     }
 
     @Override
@@ -0,0 +1,135 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.storage.pagememory.mv;
+
+import static org.apache.ignite.internal.pagememory.util.PageIdUtils.itemId;
+import static org.apache.ignite.internal.pagememory.util.PageIdUtils.pageId;
+import static org.apache.ignite.internal.storage.pagememory.mv.MvPageTypes.T_OWNED_ROW_VERSION_DATA_IO;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import org.apache.ignite.internal.lang.IgniteInternalCheckedException;
+import org.apache.ignite.internal.pagememory.PageMemory;
+import org.apache.ignite.internal.pagememory.evict.DataRowEvictor;
+import org.apache.ignite.internal.pagememory.io.DataPagePayload;
+import org.apache.ignite.internal.pagememory.io.PageIo;
+import org.apache.ignite.internal.storage.RowId;
+import org.apache.ignite.internal.storage.pagememory.mv.io.OwnedRowVersionDataIo;
+
+/**
+ * Evictor of the row versions stored in a volatile data region with eviction enabled.
+ *
+ * <p>Row versions of such a region are stored by {@link OwnedRowVersionDataIo} along with the table ID and the row ID of their version
+ * chain, so the evictor reads them from the item of the data page chosen for eviction and finds the partition storage among the ones
+ * registered in the region. A version chain is evicted as a whole, and only if it consists of a single committed version, see
+ * {@link VolatilePageMemoryMvPartitionStorage#evictVersionChain}.
+ */
+public class RowVersionEvictor implements DataRowEvictor {
+    private final PageMemory pageMemory;
+
+    private final int groupId;
+
+    /** Partition storages of the region by {@link #partitionKey}. */
+    private final ConcurrentMap<Long, VolatilePageMemoryMvPartitionStorage> storageByPartition = new ConcurrentHashMap<>();
+
+    /**
+     * Constructor.
+     *
+     * @param pageMemory Page memory of the data region.
+     * @param groupId Group ID of the data pages storing row versions.
+     */
+    public RowVersionEvictor(PageMemory pageMemory, int groupId) {
+        this.pageMemory = pageMemory;
+        this.groupId = groupId;
+    }
+
+    /**
+     * Registers the partition storage, the row versions of which may be evicted.
+     *
+     * @param storage Partition storage.
+     */
+    void register(VolatilePageMemoryMvPartitionStorage storage) {
+        storageByPartition.put(partitionKey(storage.tableStorage.getTableId(), storage.partitionId), storage);
+    }
+
+    /**
+     * Unregisters the partition storage, if it hasn't been replaced by another storage of the same partition.
+     *
+     * @param storage Partition storage.
+     */
+    void unregister(VolatilePageMemoryMvPartitionStorage storage) {
+        storageByPartition.remove(partitionKey(storage.tableStorage.getTableId(), storage.partitionId), storage);
+    }
+
+    @Override
+    public boolean evictDataRow(long link) throws IgniteInternalCheckedException {
+        long pageId = pageId(link);
+
+        long page = pageMemory.acquirePage(groupId, pageId);
+
+        int tableId;
+        RowId rowId;
+
+        try {
+            long pageAddr = pageMemory.readLock(groupId, pageId, page);
+
+            if (pageAddr == 0L) {
+                // The page has been reused since its items were listed.
+                return false;
+            }
+
+            try {
+                if (PageIo.getType(pageAddr) != T_OWNED_ROW_VERSION_DATA_IO) {
+                    return false;
+                }
+
+                OwnedRowVersionDataIo io = OwnedRowVersionDataIo.VERSIONS.forPage(pageAddr);
+
+                int itemId = itemId(link);
+                int pageSize = pageMemory.realPageSize(groupId);
+
+                if (!io.itemExists(pageAddr, itemId, pageSize)) {
+                    return false;
+                }
+
+                DataPagePayload payload = io.readPayload(pageAddr, itemId, pageSize);
+
+                // Non-first fragments of the large row versions have no header, the values read from them are rejected by the version
+                // chain check, since a head link of a chain is always a link of a first fragment.
+                if (payload.payloadSize() < RowVersion.OWNED_VALUE_OFFSET) {
+                    return false;
+                }
+
+                tableId = io.readOwnerTableId(pageAddr, payload.offset());
+                rowId = io.readOwnerRowId(pageAddr, payload.offset());
+            } finally {
+                pageMemory.readUnlock(groupId, pageId, page);
+            }
+        } finally {
+            pageMemory.releasePage(groupId, pageId, page);
+        }
+
+        VolatilePageMemoryMvPartitionStorage storage = storageByPartition.get(partitionKey(tableId, rowId.partitionId()));
+
+        return storage != null && storage.evictVersionChain(rowId, link);
+    }
+
+    private static long partitionKey(int tableId, int partitionId) {
+        return ((long) tableId << 32) | partitionId;
+    }
+}
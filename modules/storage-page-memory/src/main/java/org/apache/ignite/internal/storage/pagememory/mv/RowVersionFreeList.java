@@ -88,6 +88,9 @@ public class RowVersionFreeList extends AbstractFreeList<RowVersion> {
         );
 
         this.statHolder = statHolder;
+
+        // Bulk loads insert rows from many threads at once.
+        enableDataPageReservation();
     }
 
     /**
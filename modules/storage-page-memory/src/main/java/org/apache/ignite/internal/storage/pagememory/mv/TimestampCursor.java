@@ -20,6 +20,8 @@ package org.apache.ignite.internal.storage.pagememory.mv;
 import org.apache.ignite.internal.hlc.HybridTimestamp;
 import org.apache.ignite.internal.storage.PartitionTimestampCursor;
 import org.apache.ignite.internal.storage.ReadResult;
+import org.apache.ignite.internal.storage.RowId;
+import org.jetbrains.annotations.Nullable;
 
 /**
  * Implementation of the {@link PartitionTimestampCursor} over the page memory storage. See {@link PartitionTimestampCursor} for the
@@ -32,7 +34,16 @@ class TimestampCursor extends AbstractPartitionTimestampCursor {
             AbstractPageMemoryMvPartitionStorage storage,
             HybridTimestamp timestamp
     ) {
-        super(storage);
+        this(storage, timestamp, null, null);
+    }
+
+    TimestampCursor(
+            AbstractPageMemoryMvPartitionStorage storage,
+            HybridTimestamp timestamp,
+            @Nullable RowId lowerBound,
+            @Nullable RowId upperBound
+    ) {
+        super(storage, lowerBound, upperBound);
 
         this.timestamp = timestamp;
     }
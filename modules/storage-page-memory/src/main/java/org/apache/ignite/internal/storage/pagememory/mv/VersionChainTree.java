@@ -73,6 +73,9 @@ public class VersionChainTree extends BplusTree<VersionChainKey, VersionChain> {
 
         setIos(VersionChainInnerIo.VERSIONS, VersionChainLeafIo.VERSIONS, VersionChainMetaIo.VERSIONS);
 
+        // Items are compared by row IDs stored in the items themselves.
+        enableOptimisticInnerPageReads();
+
         initTree(initNew);
     }
 
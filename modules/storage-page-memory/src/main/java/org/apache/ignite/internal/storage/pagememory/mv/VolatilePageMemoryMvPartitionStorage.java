@@ -34,7 +34,9 @@ import org.apache.ignite.internal.logger.Loggers;
 import org.apache.ignite.internal.pagememory.tree.BplusTree;
 import org.apache.ignite.internal.pagememory.util.GradualTaskExecutor;
 import org.apache.ignite.internal.pagememory.util.PageIdUtils;
+import org.apache.ignite.internal.schema.BinaryRow;
 import org.apache.ignite.internal.storage.MvPartitionStorage;
+import org.apache.ignite.internal.storage.RowId;
 import org.apache.ignite.internal.storage.StorageException;
 import org.apache.ignite.internal.storage.pagememory.VolatilePageMemoryTableStorage;
 import org.apache.ignite.internal.storage.pagememory.index.hash.PageMemoryHashIndexStorage;
@@ -42,6 +44,7 @@ import org.apache.ignite.internal.storage.pagememory.index.meta.IndexMetaTree;
 import org.apache.ignite.internal.storage.pagememory.index.sorted.PageMemorySortedIndexStorage;
 import org.apache.ignite.internal.storage.pagememory.mv.gc.GcQueue;
 import org.apache.ignite.internal.storage.util.LocalLocker;
+import org.apache.ignite.internal.storage.util.StorageState;
 import org.jetbrains.annotations.Nullable;
 
 /**
@@ -54,6 +57,12 @@ public class VolatilePageMemoryMvPartitionStorage extends AbstractPageMemoryMvPa
 
     private final GradualTaskExecutor destructionExecutor;
 
+    /** Evictor of the row versions, {@code null} if the eviction is disabled in the data region. */
+    private final @Nullable RowVersionEvictor rowVersionEvictor;
+
+    /** Listener of the evicted rows. */
+    private volatile @Nullable EvictionListener evictionListener;
+
     /** Last applied index value. */
     private volatile long lastAppliedIndex;
 
@@ -92,6 +101,85 @@ public class VolatilePageMemoryMvPartitionStorage extends AbstractPageMemoryMvPa
         );
 
         this.destructionExecutor = destructionExecutor;
+        this.rowVersionEvictor = tableStorage.dataRegion().rowVersionEvictor();
+
+        if (rowVersionEvictor != null) {
+            rowVersionEvictor.register(this);
+        }
+    }
+
+    @Override
+    RowVersion createRowVersion(RowId rowId, @Nullable HybridTimestamp commitTimestamp, long nextLink, @Nullable BinaryRow row) {
+        if (rowVersionEvictor == null) {
+            return super.createRowVersion(rowId, commitTimestamp, nextLink, row);
+        }
+
+        // The evictor finds the version chain by the owner stored in the row version.
+        return new RowVersion(tableStorage.getTableId(), rowId, commitTimestamp, nextLink, row);
+    }
+
+    @Override
+    public void setEvictionListener(EvictionListener listener) {
+        evictionListener = listener;
+    }
+
+    /**
+     * Evicts the version chain, if it consists of a single committed version stored by the link. Chains with write intents or with
+     * several versions are never evicted, so that neither transactions nor garbage collection lose the versions they rely on.
+     *
+     * <p>The {@link EvictionListener} is notified of the evicted row before the version chain is removed, while the row ID is still
+     * locked, so that the index entries of the row are removed along with it.
+     *
+     * @param rowId Row ID of the version chain.
+     * @param link Link of the row version chosen for eviction.
+     * @return {@code True} if the version chain has been evicted.
+     */
+    boolean evictVersionChain(RowId rowId, long link) {
+        if (!busyLock.enterBusy()) {
+            return false;
+        }
+
+        try {
+            if (state.get() != StorageState.RUNNABLE) {
+                return false;
+            }
+
+            LocalLocker locker = THREAD_LOCAL_LOCKER.get();
+
+            // Don't wait for the locks, other threads may be evicting the rows locked by the current one. And don't evict the rows
+            // locked by the current thread, since they are being updated.
+            if ((locker != null && locker.isLocked(rowId)) || !lockByRowId.tryLock(rowId)) {
+                return false;
+            }
+
+            try {
+                VersionChain chain = versionChainTree.findOne(new VersionChainKey(rowId));
+
+                if (chain == null || chain.isUncommitted() || chain.hasNextLink() || chain.headLink() != link) {
+                    return false;
+                }
+
+                RowVersion rowVersion = readRowVersion(link, ALWAYS_LOAD_VALUE);
+
+                EvictionListener listener = evictionListener;
+
+                if (listener != null && !rowVersion.isTombstone()) {
+                    listener.onEviction(rowId, rowVersion.value());
+                }
+
+                versionChainTree.removex(chain);
+
+                rowVersionFreeList.removeDataRowByLink(link);
+
+                return true;
+            } catch (IgniteInternalCheckedException e) {
+                throw new StorageException("Error evicting a version chain: [rowId={}, {}]", e, rowId, createStorageInfo());
+            } finally {
+                lockByRowId.unlockAll(rowId);
+            }
+        } finally {
+            busyLock.leaveBusy();
+        }
     }
 
     @Override
@@ -191,6 +279,10 @@ public class VolatilePageMemoryMvPartitionStorage extends AbstractPageMemoryMvPa
     protected List<AutoCloseable> getResourcesToClose(boolean goingToDestroy) {
         List<AutoCloseable> resourcesToClose = super.getResourcesToClose(goingToDestroy);
 
+        if (rowVersionEvictor != null) {
+            resourcesToClose.add(() -> rowVersionEvictor.unregister(this));
+        }
+
         if (!goingToDestroy) {
             // If we are going to destroy after closure, we should retain indices because the destruction logic
             // will need to destroy them as well. It will clean the maps after it starts the destruction.
@@ -24,10 +24,12 @@ import static org.apache.ignite.internal.pagememory.util.PageUtils.putInt;
 import static org.apache.ignite.internal.pagememory.util.PageUtils.putLong;
 import static org.apache.ignite.internal.storage.pagememory.mv.MvPageTypes.T_BLOB_FRAGMENT_IO;
 
+import java.nio.ByteBuffer;
 import org.apache.ignite.internal.lang.IgniteStringBuilder;
 import org.apache.ignite.internal.pagememory.io.IoVersions;
 import org.apache.ignite.internal.pagememory.io.PageIo;
 import org.apache.ignite.internal.pagememory.util.PageUtils;
+import org.apache.ignite.internal.util.GridUnsafe;
 
 /**
  * Pages IO for blob fragments. The blob itself is stored as a chain of fragments, one fragment per page.
@@ -115,6 +117,40 @@ public class BlobFragmentIo extends PageIo {
         PageUtils.putBytes(pageAddr, fragmentBytesOffset(firstPage), bytes, bytesOffset, fragmentLength);
     }
 
+    /**
+     * Writes fragment bytes from the given buffer, from its position to its limit. The position of the buffer is not changed.
+     *
+     * @param pageAddr Page address.
+     * @param firstPage Whether this is the first page of a chain representing a blob.
+     * @param offsetInFragment Offset inside the fragment to write the bytes at.
+     * @param src Buffer with the bytes.
+     */
+    public void setFragmentBytes(long pageAddr, boolean firstPage, int offsetInFragment, ByteBuffer src) {
+        int off = fragmentBytesOffset(firstPage) + offsetInFragment;
+
+        if (src.isDirect() || src.hasArray()) {
+            PageUtils.putByteBuffer(pageAddr, off, src);
+        } else {
+            // Read-only heap buffers do not expose their arrays.
+            byte[] bytes = new byte[src.remaining()];
+
+            src.duplicate().get(bytes);
+
+            PageUtils.putBytes(pageAddr, off, bytes);
+        }
+    }
+
+    /**
+     * Returns a read-only buffer over fragment bytes, without copying them. The buffer is only valid while the page is locked.
+     *
+     * @param pageAddr Page address.
+     * @param firstPage Whether this is the first page of a chain representing a blob.
+     * @param fragmentLength Length of the fragment.
+     */
+    public ByteBuffer fragmentBuffer(long pageAddr, boolean firstPage, int fragmentLength) {
+        return GridUnsafe.wrapPointer(pageAddr + fragmentBytesOffset(firstPage), fragmentLength).asReadOnlyBuffer();
+    }
+
     private static int fragmentBytesOffset(boolean firstPage) {
         return FRAGMENT_BYTES_OR_TOTAL_LENGTH_OFF + (firstPage ? Integer.BYTES : 0);
     }
@@ -0,0 +1,118 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.storage.pagememory.mv.io;
+
+import static org.apache.ignite.internal.pagememory.util.PageUtils.getInt;
+import static org.apache.ignite.internal.pagememory.util.PageUtils.getLong;
+import static org.apache.ignite.internal.pagememory.util.PageUtils.getShort;
+import static org.apache.ignite.internal.pagememory.util.PageUtils.putInt;
+import static org.apache.ignite.internal.pagememory.util.PageUtils.putLong;
+import static org.apache.ignite.internal.pagememory.util.PageUtils.putShort;
+import static org.apache.ignite.internal.storage.pagememory.mv.MvPageTypes.T_OWNED_ROW_VERSION_DATA_IO;
+
+import java.nio.ByteBuffer;
+import org.apache.ignite.internal.lang.IgniteStringBuilder;
+import org.apache.ignite.internal.pagememory.io.IoVersions;
+import org.apache.ignite.internal.storage.RowId;
+import org.apache.ignite.internal.storage.pagememory.mv.RowVersion;
+
+/**
+ * Data pages IO for {@link RowVersion} stored along with its owner: the table ID and the row ID of the version chain.
+ *
+ * <p>Used only in the volatile data regions with eviction enabled, where the owner of a row version is read from the data page chosen
+ * for eviction. The owner is placed between the header and the value, at {@link RowVersion#OWNER_TABLE_ID_OFFSET}.
+ */
+public class OwnedRowVersionDataIo extends RowVersionDataIo {
+    /** I/O versions. */
+    public static final IoVersions<OwnedRowVersionDataIo> VERSIONS = new IoVersions<>(new OwnedRowVersionDataIo(1));
+
+    /**
+     * Constructor.
+     *
+     * @param ver Page format version.
+     */
+    protected OwnedRowVersionDataIo(int ver) {
+        super(T_OWNED_ROW_VERSION_DATA_IO, ver);
+    }
+
+    @Override
+    protected int writeOwner(long pageAddr, int offset, RowVersion rowVersion) {
+        RowId rowId = rowVersion.rowId();
+
+        assert rowId != null : rowVersion;
+
+        int off = offset;
+
+        putInt(pageAddr, off, rowVersion.tableId());
+        off += Integer.BYTES;
+
+        putShort(pageAddr, off, (short) rowId.partitionId());
+        off += Short.BYTES;
+
+        putLong(pageAddr, off, rowId.mostSignificantBits());
+        off += Long.BYTES;
+
+        putLong(pageAddr, off, rowId.leastSignificantBits());
+        off += Long.BYTES;
+
+        return off - offset;
+    }
+
+    @Override
+    protected void writeOwner(ByteBuffer pageBuf, RowVersion rowVersion) {
+        RowId rowId = rowVersion.rowId();
+
+        assert rowId != null : rowVersion;
+
+        pageBuf.putInt(rowVersion.tableId());
+        pageBuf.putShort((short) rowId.partitionId());
+        pageBuf.putLong(rowId.mostSignificantBits());
+        pageBuf.putLong(rowId.leastSignificantBits());
+    }
+
+    /**
+     * Reads the table ID of the row version owner.
+     *
+     * @param pageAddr Page address.
+     * @param payloadOffset Offset of the first slot payload of the row version.
+     */
+    public int readOwnerTableId(long pageAddr, int payloadOffset) {
+        return getInt(pageAddr, payloadOffset + RowVersion.OWNER_TABLE_ID_OFFSET);
+    }
+
+    /**
+     * Reads the row ID of the row version owner.
+     *
+     * @param pageAddr Page address.
+     * @param payloadOffset Offset of the first slot payload of the row version.
+     */
+    public RowId readOwnerRowId(long pageAddr, int payloadOffset) {
+        return new RowId(
+                Short.toUnsignedInt(getShort(pageAddr, payloadOffset + RowVersion.OWNER_ROW_ID_PARTITION_OFFSET)),
+                getLong(pageAddr, payloadOffset + RowVersion.OWNER_ROW_ID_MSB_OFFSET),
+                getLong(pageAddr, payloadOffset + RowVersion.OWNER_ROW_ID_LSB_OFFSET)
+        );
+    }
+
+    @Override
+    protected void printPage(long addr, int pageSize, IgniteStringBuilder sb) {
+        sb.app("OwnedRowVersionDataIo [\n");
+        printPageLayout(addr, pageSize, sb);
+        sb.app("\n]");
+    }
+}
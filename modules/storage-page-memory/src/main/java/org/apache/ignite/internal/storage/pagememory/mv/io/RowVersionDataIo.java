@@ -47,7 +47,17 @@ public class RowVersionDataIo extends AbstractDataPageIo<RowVersion> {
      * @param ver Page format version.
      */
     protected RowVersionDataIo(int ver) {
-        super(T_ROW_VERSION_DATA_IO, ver);
+        this(T_ROW_VERSION_DATA_IO, ver);
+    }
+
+    /**
+     * Constructor.
+     *
+     * @param type Page type.
+     * @param ver Page format version.
+     */
+    protected RowVersionDataIo(int type, int ver) {
+        super(type, ver);
     }
 
     @Override
@@ -68,13 +78,13 @@ public class RowVersionDataIo extends AbstractDataPageIo<RowVersion> {
 
         BinaryRow row = rowVersion.value();
 
-        if (row != null) {
-            putShort(pageAddr, offset, (short) row.schemaVersion());
-            offset += Short.BYTES;
+        putShort(pageAddr, offset, row == null ? 0 : (short) row.schemaVersion());
+        offset += Short.BYTES;
 
+        offset += writeOwner(pageAddr, offset, rowVersion);
+
+        if (row != null) {
             putByteBuffer(pageAddr, offset, row.tupleSlice());
-        } else {
-            putShort(pageAddr, offset, (short) 0);
         }
     }
 
@@ -102,6 +112,8 @@ public class RowVersionDataIo extends AbstractDataPageIo<RowVersion> {
 
             pageBuf.putShort(row == null ? 0 : (short) row.schemaVersion());
 
+            writeOwner(pageBuf, rowVersion);
+
             bufferOffset = 0;
             bufferSize = payloadSize - headerSize;
         } else {
@@ -117,6 +129,28 @@ public class RowVersionDataIo extends AbstractDataPageIo<RowVersion> {
         }
     }
 
+    /**
+     * Writes the owner of the row version between the header and the value, nothing is written by default.
+     *
+     * @param pageAddr Page address.
+     * @param offset Offset of the owner in the page.
+     * @param rowVersion Row version.
+     * @return Number of bytes written.
+     */
+    protected int writeOwner(long pageAddr, int offset, RowVersion rowVersion) {
+        return 0;
+    }
+
+    /**
+     * Writes the owner of the row version between the header and the value of the first fragment, nothing is written by default.
+     *
+     * @param pageBuf Page buffer positioned at the owner.
+     * @param rowVersion Row version.
+     */
+    protected void writeOwner(ByteBuffer pageBuf, RowVersion rowVersion) {
+        // No-op.
+    }
+
     /**
      * Updates timestamp leaving the rest untouched.
      *
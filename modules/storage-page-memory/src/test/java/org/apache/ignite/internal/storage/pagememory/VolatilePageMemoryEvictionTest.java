@@ -0,0 +1,166 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.storage.pagememory;
+
+import static org.apache.ignite.internal.storage.pagememory.configuration.schema.BasePageMemoryStorageEngineConfigurationSchema.DEFAULT_DATA_REGION_NAME;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.mock;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import org.apache.ignite.internal.configuration.testframework.InjectConfiguration;
+import org.apache.ignite.internal.hlc.HybridTimestamp;
+import org.apache.ignite.internal.pagememory.evict.PageAbstractEvictionTracker;
+import org.apache.ignite.internal.pagememory.evict.PageEvictionTrackerNoOp;
+import org.apache.ignite.internal.pagememory.io.PageIoRegistry;
+import org.apache.ignite.internal.storage.BaseMvStoragesTest;
+import org.apache.ignite.internal.storage.MvPartitionStorage;
+import org.apache.ignite.internal.storage.RowId;
+import org.apache.ignite.internal.storage.engine.MvTableStorage;
+import org.apache.ignite.internal.storage.engine.StorageTableDescriptor;
+import org.apache.ignite.internal.storage.index.StorageIndexDescriptorSupplier;
+import org.apache.ignite.internal.storage.pagememory.configuration.schema.VolatilePageMemoryStorageEngineConfiguration;
+import org.apache.ignite.internal.util.IgniteUtils;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Tests for the eviction of row versions from {@link VolatilePageMemoryDataRegion}.
+ */
+public class VolatilePageMemoryEvictionTest extends BaseMvStoragesTest {
+    private static final int PARTITION_ID = 0;
+
+    /** Number of rows, taking several times more memory than the 16 MB data region has. */
+    private static final int ROWS_COUNT = 40_000;
+
+    private VolatilePageMemoryStorageEngine engine;
+
+    private MvTableStorage tableStorage;
+
+    @AfterEach
+    void tearDown() throws Exception {
+        IgniteUtils.closeAllManually(
+                tableStorage,
+                engine == null ? null : engine::stop
+        );
+    }
+
+    @Test
+    void testRandomLruEviction(
+            @InjectConfiguration("mock.defaultRegion {initSize = 16777216, maxSize = 16777216, evictionMode = RANDOM_LRU}")
+            VolatilePageMemoryStorageEngineConfiguration engineConfig
+    ) {
+        checkRowsAreEvicted(engineConfig);
+    }
+
+    @Test
+    void testRandom2LruEviction(
+            @InjectConfiguration("mock.defaultRegion {initSize = 16777216, maxSize = 16777216, evictionMode = RANDOM_2_LRU}")
+            VolatilePageMemoryStorageEngineConfiguration engineConfig
+    ) {
+        checkRowsAreEvicted(engineConfig);
+    }
+
+    @Test
+    void testEvictionIsDisabledByDefault(@InjectConfiguration VolatilePageMemoryStorageEngineConfiguration engineConfig) {
+        VolatilePageMemoryDataRegion dataRegion = startDataRegion(engineConfig);
+
+        assertNull(dataRegion.evictionTracker());
+        assertNull(dataRegion.rowVersionEvictor());
+    }
+
+    private void checkRowsAreEvicted(VolatilePageMemoryStorageEngineConfiguration engineConfig) {
+        VolatilePageMemoryDataRegion dataRegion = startDataRegion(engineConfig);
+
+        PageAbstractEvictionTracker evictionTracker = dataRegion.evictionTracker();
+
+        assertNotNull(evictionTracker);
+
+        MvPartitionStorage partitionStorage = getOrCreateMvPartition(tableStorage, PARTITION_ID);
+
+        Set<RowId> evictedRowIds = ConcurrentHashMap.newKeySet();
+
+        partitionStorage.setEvictionListener((rowId, row) -> {
+            assertNotNull(row);
+
+            evictedRowIds.add(rowId);
+        });
+
+        String strVal = "x".repeat(1024);
+
+        List<RowId> rowIds = new ArrayList<>(ROWS_COUNT);
+
+        // Inserting the rows fails with an out of memory error without eviction.
+        for (int i = 0; i < ROWS_COUNT; i++) {
+            int key = i;
+
+            partitionStorage.runConsistently(locker -> {
+                RowId rowId = new RowId(PARTITION_ID);
+
+                locker.lock(rowId);
+
+                rowIds.add(rowId);
+
+                partitionStorage.addWriteCommitted(rowId, binaryRow(new TestKey(key, "key"), new TestValue(key, strVal)), clock.now());
+
+                return null;
+            });
+        }
+
+        assertTrue(evictionTracker.evictedPages() > 0);
+        assertTrue(evictionTracker.evictedRows() > 0);
+
+        assertEquals(evictionTracker.evictedRows(), evictedRowIds.size());
+
+        // Version chains of the evicted rows are removed.
+        for (RowId rowId : evictedRowIds) {
+            assertNull(partitionStorage.read(rowId, HybridTimestamp.MAX_VALUE).binaryRow());
+        }
+
+        // Values of the row versions stored along with their owners are read intact.
+        for (int i = 0; i < ROWS_COUNT; i++) {
+            RowId rowId = rowIds.get(i);
+
+            if (!evictedRowIds.contains(rowId)) {
+                assertEquals(new TestValue(i, strVal), value(partitionStorage.read(rowId, HybridTimestamp.MAX_VALUE).binaryRow()));
+            }
+        }
+    }
+
+    private VolatilePageMemoryDataRegion startDataRegion(VolatilePageMemoryStorageEngineConfiguration engineConfig) {
+        var ioRegistry = new PageIoRegistry();
+
+        ioRegistry.loadFromServiceLoader();
+
+        engine = new VolatilePageMemoryStorageEngine("node", engineConfig, ioRegistry, PageEvictionTrackerNoOp.INSTANCE);
+
+        engine.start();
+
+        tableStorage = engine.createMvTable(
+                new StorageTableDescriptor(1, 1, DEFAULT_DATA_REGION_NAME),
+                mock(StorageIndexDescriptorSupplier.class)
+        );
+
+        return ((VolatilePageMemoryTableStorage) tableStorage).dataRegion();
+    }
+}
@@ -20,17 +20,22 @@ package org.apache.ignite.internal.storage.pagememory.mv;
 import static java.nio.charset.StandardCharsets.UTF_8;
 import static org.apache.ignite.internal.storage.pagememory.mv.MvPageTypes.T_BLOB_FRAGMENT_IO;
 import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
 import static org.hamcrest.Matchers.equalTo;
 import static org.hamcrest.Matchers.hasSize;
 import static org.hamcrest.Matchers.is;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.anyByte;
 import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.Mockito.spy;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 
+import java.io.ByteArrayOutputStream;
+import java.nio.ByteBuffer;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
 import org.apache.ignite.internal.configuration.testframework.ConfigurationExtension;
 import org.apache.ignite.internal.configuration.testframework.InjectConfiguration;
 import org.apache.ignite.internal.pagememory.PageMemory;
@@ -40,6 +45,7 @@ import org.apache.ignite.internal.pagememory.io.PageIoRegistry;
 import org.apache.ignite.internal.pagememory.metric.IoStatisticsHolderNoOp;
 import org.apache.ignite.internal.pagememory.reuse.ReuseBag;
 import org.apache.ignite.internal.pagememory.reuse.ReuseList;
+import org.apache.ignite.internal.storage.pagememory.mv.BlobStorage.BlobAppender;
 import org.apache.ignite.internal.storage.pagememory.mv.io.BlobFragmentIo;
 import org.apache.ignite.internal.testframework.BaseIgniteAbstractTest;
 import org.junit.jupiter.api.BeforeEach;
@@ -166,6 +172,107 @@ class BlobStorageTest extends BaseIgniteAbstractTest {
         assertThat(collectBagPages(capturedBag), hasSize(2));
     }
 
+    @Test
+    void readsBlobFragmentsWithoutCopying() throws Exception {
+        byte[] payload = randomBytes(PAGE_SIZE * 3);
+
+        long pageId = blobStorage.addBlob(payload);
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        List<Integer> fragmentLengths = new ArrayList<>();
+
+        blobStorage.readBlob(pageId, (fragment, totalLength) -> {
+            assertThat(totalLength, is(payload.length));
+            assertTrue(fragment.isDirect());
+            assertTrue(fragment.isReadOnly());
+
+            fragmentLengths.add(fragment.remaining());
+
+            while (fragment.hasRemaining()) {
+                out.write(fragment.get());
+            }
+        });
+
+        assertThat(fragmentLengths, hasSize(4));
+        assertThat(out.toByteArray(), is(equalTo(payload)));
+    }
+
+    @Test
+    void readsEmptyBlobFragment() throws Exception {
+        long pageId = blobStorage.addBlob(new byte[0]);
+
+        List<Integer> fragmentLengths = new ArrayList<>();
+
+        blobStorage.readBlob(pageId, (fragment, totalLength) -> {
+            assertThat(totalLength, is(0));
+
+            fragmentLengths.add(fragment.remaining());
+        });
+
+        assertThat(fragmentLengths, contains(0));
+    }
+
+    @Test
+    void appendsBlobInChunks() throws Exception {
+        byte[] payload = randomBytes((int) (PAGE_SIZE * 2.5));
+
+        BlobAppender appender = blobStorage.startBlob();
+
+        // Chunks of different kinds and sizes, not aligned with the pages.
+        appender.append(ByteBuffer.wrap(payload, 0, 100));
+        appender.append(ByteBuffer.wrap(payload, 100, PAGE_SIZE).asReadOnlyBuffer());
+        appender.append(ByteBuffer.allocateDirect(payload.length - PAGE_SIZE - 100).put(payload, PAGE_SIZE + 100,
+                payload.length - PAGE_SIZE - 100).flip());
+
+        long pageId = appender.finish();
+
+        assertThat(blobStorage.readBlob(pageId), is(equalTo(payload)));
+
+        verify(pageMemory, times(3)).allocatePage(anyInt(), anyInt(), anyByte());
+    }
+
+    @Test
+    void appendsChunkFillingPageExactly() throws Exception {
+        int firstPageCapacity = BlobFragmentIo.VERSIONS.latest().getCapacityForFragmentBytes(PAGE_SIZE, true);
+
+        byte[] payload = randomBytes(firstPageCapacity + 1);
+
+        BlobAppender appender = blobStorage.startBlob();
+
+        appender.append(ByteBuffer.wrap(payload, 0, firstPageCapacity));
+        appender.append(ByteBuffer.wrap(payload, firstPageCapacity, 1));
+
+        long pageId = appender.finish();
+
+        assertThat(blobStorage.readBlob(pageId), is(equalTo(payload)));
+    }
+
+    @Test
+    void updatesBlobInChunksRecyclingExtraPages() throws Exception {
+        long pageId = blobStorage.addBlob(new byte[PAGE_SIZE * 2]);
+
+        BlobAppender appender = blobStorage.startBlobUpdate(pageId);
+
+        appender.append(ByteBuffer.wrap("Hello, ".getBytes(UTF_8)));
+        appender.append(ByteBuffer.wrap("world".getBytes(UTF_8)));
+
+        assertThat(appender.finish(), is(pageId));
+
+        assertThat(blobStorage.readBlob(pageId), is("Hello, world".getBytes(UTF_8)));
+
+        verify(reuseList).addForRecycle(reuseBagCaptor.capture());
+
+        assertThat(collectBagPages(reuseBagCaptor.getValue()), hasSize(2));
+    }
+
+    private static byte[] randomBytes(int length) {
+        byte[] bytes = new byte[length];
+
+        ThreadLocalRandom.current().nextBytes(bytes);
+
+        return bytes;
+    }
+
     private static List<Long> collectBagPages(ReuseBag capturedBag) {
         List<Long> pageIds = new ArrayList<>();
 
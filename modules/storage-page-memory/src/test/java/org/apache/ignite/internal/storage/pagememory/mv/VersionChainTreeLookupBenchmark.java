@@ -0,0 +1,159 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.storage.pagememory.mv;
+
+import static org.apache.ignite.internal.pagememory.PageIdAllocator.FLAG_AUX;
+import static org.apache.ignite.internal.pagememory.util.PageIdUtils.NULL_LINK;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import org.apache.ignite.internal.lang.IgniteInternalCheckedException;
+import org.apache.ignite.internal.pagememory.configuration.schema.UnsafeMemoryAllocatorView;
+import org.apache.ignite.internal.pagememory.configuration.schema.VolatilePageMemoryDataRegionConfiguration;
+import org.apache.ignite.internal.pagememory.configuration.schema.VolatilePageMemoryDataRegionView;
+import org.apache.ignite.internal.pagememory.inmemory.VolatilePageMemory;
+import org.apache.ignite.internal.pagememory.io.PageIoRegistry;
+import org.apache.ignite.internal.pagememory.util.PageLockListenerNoOp;
+import org.apache.ignite.internal.storage.RowId;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Benchmark of concurrent point lookups in {@link VersionChainTree}, with and without optimistic reads of inner pages.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Threads(8)
+@Fork(1)
+public class VersionChainTreeLookupBenchmark {
+    private static final int GROUP_ID = 1;
+
+    private static final int PARTITION_ID = 0;
+
+    /** Small pages make the tree higher, so that more inner pages are read by a lookup. */
+    private static final int PAGE_SIZE = 4 * 1024;
+
+    private static final long REGION_SIZE = 512L * 1024 * 1024;
+
+    private static final int ROWS = 1_000_000;
+
+    private VolatilePageMemory pageMemory;
+
+    private VersionChainTree tree;
+
+    private VersionChainKey[] keys;
+
+    /**
+     * Fills the tree.
+     */
+    @Setup
+    public void setUp() throws IgniteInternalCheckedException {
+        VolatilePageMemoryDataRegionView regionView = mock(VolatilePageMemoryDataRegionView.class);
+
+        when(regionView.name()).thenReturn("benchmark");
+        when(regionView.initSize()).thenReturn(REGION_SIZE);
+        when(regionView.maxSize()).thenReturn(REGION_SIZE);
+        when(regionView.memoryAllocator()).thenReturn(mock(UnsafeMemoryAllocatorView.class));
+
+        VolatilePageMemoryDataRegionConfiguration regionConfig = mock(VolatilePageMemoryDataRegionConfiguration.class);
+
+        when(regionConfig.value()).thenReturn(regionView);
+
+        PageIoRegistry ioRegistry = new PageIoRegistry();
+
+        ioRegistry.loadFromServiceLoader();
+
+        pageMemory = new VolatilePageMemory(regionConfig, ioRegistry, PAGE_SIZE);
+
+        pageMemory.start();
+
+        tree = new VersionChainTree(
+                GROUP_ID,
+                "benchmark",
+                PARTITION_ID,
+                pageMemory,
+                PageLockListenerNoOp.INSTANCE,
+                new AtomicLong(),
+                pageMemory.allocatePage(GROUP_ID, PARTITION_ID, FLAG_AUX),
+                null,
+                true
+        );
+
+        keys = new VersionChainKey[ROWS];
+
+        for (int i = 0; i < ROWS; i++) {
+            RowId rowId = new RowId(PARTITION_ID);
+
+            tree.putx(VersionChain.createCommitted(rowId, NULL_LINK, NULL_LINK));
+
+            keys[i] = new VersionChainKey(rowId);
+        }
+    }
+
+    /**
+     * Releases the memory.
+     */
+    @TearDown
+    public void tearDown() {
+        tree.close();
+
+        pageMemory.stop(true);
+    }
+
+    /**
+     * Looks up a random existing row.
+     */
+    @Benchmark
+    public VersionChain findOne() throws IgniteInternalCheckedException {
+        return tree.findOne(keys[ThreadLocalRandom.current().nextInt(ROWS)]);
+    }
+
+    /**
+     * Runs the benchmark with and without optimistic reads.
+     */
+    public static void main(String[] args) throws RunnerException {
+        for (boolean optimisticReads : new boolean[]{true, false}) {
+            Options opt = new OptionsBuilder()
+                    .include(VersionChainTreeLookupBenchmark.class.getSimpleName())
+                    .jvmArgsAppend("-DIGNITE_BPLUS_TREE_OPTIMISTIC_READS=" + optimisticReads)
+                    .build();
+
+            new Runner(opt).run();
+        }
+    }
+}
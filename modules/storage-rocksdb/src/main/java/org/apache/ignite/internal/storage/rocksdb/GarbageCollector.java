@@ -23,6 +23,7 @@ import static org.apache.ignite.internal.hlc.HybridTimestamp.HYBRID_TIMESTAMP_SI
 import static org.apache.ignite.internal.storage.rocksdb.PartitionDataHelper.MAX_KEY_SIZE;
 import static org.apache.ignite.internal.storage.rocksdb.PartitionDataHelper.MV_KEY_BUFFER;
 import static org.apache.ignite.internal.storage.rocksdb.PartitionDataHelper.ROW_ID_OFFSET;
+import static org.apache.ignite.internal.storage.rocksdb.PartitionDataHelper.ROW_PREFIX_SIZE;
 import static org.apache.ignite.internal.storage.rocksdb.PartitionDataHelper.deserializeRow;
 import static org.apache.ignite.internal.storage.rocksdb.PartitionDataHelper.readTimestampNatural;
 import static org.apache.ignite.internal.storage.rocksdb.RocksDbMvPartitionStorage.invalid;
@@ -32,6 +33,8 @@ import static org.apache.ignite.internal.storage.rocksdb.RocksDbStorageUtils.ROW
 import static org.apache.ignite.internal.storage.rocksdb.RocksDbStorageUtils.TABLE_ID_SIZE;
 
 import java.nio.ByteBuffer;
+import java.util.Arrays;
+import java.util.Map.Entry;
 import org.apache.ignite.internal.hlc.HybridTimestamp;
 import org.apache.ignite.internal.schema.BinaryRow;
 import org.apache.ignite.internal.storage.RowId;
@@ -100,11 +103,18 @@ class GarbageCollector {
      * @param rowId Row id.
      * @param timestamp New row's timestamp.
      * @param isNewValueTombstone If new row is a tombstone.
+     * @param ingester Ingester of the partition data, if the data is being ingested. Versions of a row are ingested from the oldest
+     *      to the newest, so if the previous version is buffered by the ingester, it's the closest one.
      * @return {@code true} if new value and previous value are both tombstones.
      * @throws RocksDBException If failed.
      */
-    boolean tryAddToGcQueue(WriteBatchWithIndex writeBatch, RowId rowId, HybridTimestamp timestamp, boolean isNewValueTombstone)
-            throws RocksDBException {
+    boolean tryAddToGcQueue(
+            WriteBatchWithIndex writeBatch,
+            RowId rowId,
+            HybridTimestamp timestamp,
+            boolean isNewValueTombstone,
+            @Nullable PartitionDataIngester ingester
+    ) throws RocksDBException {
         ColumnFamilyHandle partCf = helper.partCf;
 
         // Try find previous value for the row id.
@@ -113,6 +123,27 @@ class GarbageCollector {
 
         helper.putDataKey(keyBuffer, rowId, timestamp);
 
+        if (ingester != null) {
+            byte[] key = new byte[MAX_KEY_SIZE];
+
+            keyBuffer.get(key).rewind();
+
+            Entry<byte[], byte[]> previous = ingester.ceilingEntry(key);
+
+            if (previous != null && Arrays.equals(previous.getKey(), 0, ROW_PREFIX_SIZE, key, 0, ROW_PREFIX_SIZE)) {
+                // Found previous value.
+                assert previous.getKey().length == MAX_KEY_SIZE; // Can not be write-intent.
+
+                if (isNewValueTombstone && previous.getValue().length == 0) {
+                    return true;
+                }
+
+                addToGcQueue(writeBatch, rowId, timestamp);
+
+                return false;
+            }
+        }
+
         try (RocksIterator it = db.newIterator(partCf, helper.upperBoundReadOpts)) {
             it.seek(keyBuffer);
 
@@ -142,16 +173,21 @@ class GarbageCollector {
                 }
             }
 
-            keyBuffer.clear();
-
-            helper.putGcKey(keyBuffer, rowId, timestamp);
-
-            writeBatch.put(gcQueueCf, keyBuffer, EMPTY_DIRECT_BUFFER);
+            addToGcQueue(writeBatch, rowId, timestamp);
         }
 
         return false;
     }
 
+    private void addToGcQueue(WriteBatchWithIndex writeBatch, RowId rowId, HybridTimestamp timestamp) throws RocksDBException {
+        ByteBuffer keyBuffer = MV_KEY_BUFFER.get();
+        keyBuffer.clear();
+
+        helper.putGcKey(keyBuffer, rowId, timestamp);
+
+        writeBatch.put(gcQueueCf, keyBuffer, EMPTY_DIRECT_BUFFER);
+    }
+
     /**
      * Polls an element for vacuum. See {@link org.apache.ignite.internal.storage.MvPartitionStorage#peek(HybridTimestamp)}.
      *
@@ -24,6 +24,7 @@ import static org.apache.ignite.internal.util.ArrayUtils.BYTE_EMPTY_ARRAY;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentMap;
 import org.apache.ignite.internal.rocksdb.ColumnFamily;
+import org.apache.ignite.internal.rocksdb.RocksIteratorPool;
 import org.apache.ignite.internal.storage.StorageException;
 import org.apache.ignite.internal.storage.index.HashIndexStorage;
 import org.apache.ignite.internal.storage.index.StorageHashIndexDescriptor;
@@ -39,14 +40,22 @@ import org.rocksdb.WriteBatch;
 class HashIndex {
     private final ColumnFamily indexCf;
 
+    private final RocksIteratorPool indexIterators;
+
     private final StorageHashIndexDescriptor descriptor;
 
     private final ConcurrentMap<Integer, RocksDbHashIndexStorage> storages = new ConcurrentHashMap<>();
 
     private final RocksDbMetaStorage indexMetaStorage;
 
-    HashIndex(ColumnFamily indexCf, StorageHashIndexDescriptor descriptor, RocksDbMetaStorage indexMetaStorage) {
+    HashIndex(
+            ColumnFamily indexCf,
+            RocksIteratorPool indexIterators,
+            StorageHashIndexDescriptor descriptor,
+            RocksDbMetaStorage indexMetaStorage
+    ) {
         this.indexCf = indexCf;
+        this.indexIterators = indexIterators;
         this.descriptor = descriptor;
         this.indexMetaStorage = indexMetaStorage;
     }
@@ -57,7 +66,13 @@ class HashIndex {
     HashIndexStorage getOrCreateStorage(RocksDbMvPartitionStorage partitionStorage) {
         return storages.computeIfAbsent(
                 partitionStorage.partitionId(),
-                partId -> new RocksDbHashIndexStorage(descriptor, indexCf, partitionStorage.helper(), indexMetaStorage)
+                partId -> new RocksDbHashIndexStorage(
+                        descriptor,
+                        indexCf,
+                        indexIterators,
+                        partitionStorage.helper(),
+                        indexMetaStorage
+                )
         );
     }
 
@@ -0,0 +1,212 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.storage.rocksdb;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map.Entry;
+import java.util.NavigableMap;
+import java.util.TreeMap;
+import java.util.function.Supplier;
+import org.apache.ignite.internal.storage.StorageRebalanceException;
+import org.apache.ignite.internal.util.IgniteUtils;
+import org.jetbrains.annotations.Nullable;
+import org.rocksdb.ColumnFamilyHandle;
+import org.rocksdb.ColumnFamilyOptions;
+import org.rocksdb.DBOptions;
+import org.rocksdb.EnvOptions;
+import org.rocksdb.IngestExternalFileOptions;
+import org.rocksdb.Options;
+import org.rocksdb.RocksDB;
+import org.rocksdb.RocksDBException;
+import org.rocksdb.SstFileWriter;
+
+/**
+ * Loads partition data written during a rebalance into RocksDB bypassing memtables.
+ *
+ * <p>Rows are collected in a sorted in-memory buffer. Once the buffer is full, it is written to an SST file, which is then ingested
+ * into the partition column family. Ingested files are placed into the lowest level they don't overlap with, so the data is neither
+ * written to the memtable and flushed, nor rewritten by compactions of the upper levels.
+ *
+ * <p>The data is not visible until it's ingested, which is fine, since the storage can't be read during a rebalance.
+ */
+class PartitionDataIngester {
+    /** Approximate amount of memory occupied by a buffer entry, in addition to its key and value. */
+    private static final int ENTRY_OVERHEAD = 64;
+
+    private final RocksDB db;
+
+    private final ColumnFamilyHandle partCf;
+
+    /** Supplier of options of the partition column family, used to write SST files in the same format. */
+    private final Supplier<ColumnFamilyOptions> cfOptions;
+
+    /** Directory of the SST files. */
+    private final Path dir;
+
+    /** Prefix of the SST file names. */
+    private final String filePrefix;
+
+    /** Maximal size of the buffer, in bytes. */
+    private final long maxBufferSize;
+
+    private final NavigableMap<byte[], byte[]> buffer = new TreeMap<>(Arrays::compareUnsigned);
+
+    private long bufferSize;
+
+    private int fileIndex;
+
+    private boolean closed;
+
+    /**
+     * Constructor.
+     *
+     * @param db RocksDB instance.
+     * @param partCf Partition column family.
+     * @param cfOptions Supplier of options of the partition column family.
+     * @param dir Directory of the SST files.
+     * @param filePrefix Prefix of the SST file names, unique for the partition.
+     * @param maxBufferSize Maximal size of the buffer, in bytes.
+     */
+    PartitionDataIngester(
+            RocksDB db,
+            ColumnFamilyHandle partCf,
+            Supplier<ColumnFamilyOptions> cfOptions,
+            Path dir,
+            String filePrefix,
+            long maxBufferSize
+    ) {
+        this.db = db;
+        this.partCf = partCf;
+        this.cfOptions = cfOptions;
+        this.dir = dir;
+        this.filePrefix = filePrefix;
+        this.maxBufferSize = maxBufferSize;
+    }
+
+    /**
+     * Puts an entry into the partition column family. The arrays must not be modified afterwards.
+     *
+     * @throws StorageRebalanceException If the rebalance is already over or the buffer failed to be ingested.
+     */
+    synchronized void put(byte[] key, byte[] value) {
+        checkNotClosed();
+
+        byte[] previous = buffer.put(key, value);
+
+        if (previous == null) {
+            bufferSize += key.length + value.length + ENTRY_OVERHEAD;
+        } else {
+            bufferSize += value.length - previous.length;
+        }
+
+        if (bufferSize >= maxBufferSize) {
+            ingest();
+        }
+    }
+
+    /**
+     * Returns the value of the key if it's in the buffer.
+     */
+    synchronized byte @Nullable [] get(byte[] key) {
+        return buffer.get(key);
+    }
+
+    /**
+     * Returns the buffered entry with the least key greater than or equal to the given one.
+     */
+    synchronized @Nullable Entry<byte[], byte[]> ceilingEntry(byte[] key) {
+        return buffer.ceilingEntry(key);
+    }
+
+    /**
+     * Ingests the rest of the buffer. Subsequent writes are rejected.
+     *
+     * @throws StorageRebalanceException If the buffer failed to be ingested.
+     */
+    synchronized void finish() {
+        checkNotClosed();
+
+        try {
+            ingest();
+        } finally {
+            closed = true;
+        }
+    }
+
+    /**
+     * Drops the buffer without ingesting it. Subsequent writes are rejected.
+     */
+    synchronized void discard() {
+        closed = true;
+
+        buffer.clear();
+        bufferSize = 0;
+    }
+
+    private void checkNotClosed() {
+        if (closed) {
+            throw new StorageRebalanceException("Rebalance is already over: " + filePrefix);
+        }
+    }
+
+    private void ingest() {
+        if (buffer.isEmpty()) {
+            return;
+        }
+
+        Path file = dir.resolve(filePrefix + "-" + fileIndex++ + ".sst");
+
+        try {
+            Files.createDirectories(dir);
+
+            try (
+                    DBOptions dbOptions = new DBOptions();
+                    ColumnFamilyOptions columnFamilyOptions = cfOptions.get();
+                    Options options = new Options(dbOptions, columnFamilyOptions);
+                    EnvOptions envOptions = new EnvOptions();
+                    SstFileWriter writer = new SstFileWriter(envOptions, options)
+            ) {
+                writer.open(file.toString());
+
+                for (Entry<byte[], byte[]> entry : buffer.entrySet()) {
+                    writer.put(entry.getKey(), entry.getValue());
+                }
+
+                writer.finish();
+            }
+
+            try (IngestExternalFileOptions ingestOptions = new IngestExternalFileOptions().setMoveFiles(true)) {
+                db.ingestExternalFile(partCf, List.of(file.toString()), ingestOptions);
+            }
+        } catch (RocksDBException | IOException e) {
+            closed = true;
+
+            throw new StorageRebalanceException("Failed to ingest partition data: " + file, e);
+        } finally {
+            buffer.clear();
+            bufferSize = 0;
+
+            // Ingestion moves the file, so it's only left behind in case of an error.
+            IgniteUtils.deleteIfExists(file);
+        }
+    }
+}
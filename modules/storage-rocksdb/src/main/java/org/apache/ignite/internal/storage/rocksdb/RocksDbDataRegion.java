@@ -21,6 +21,7 @@ import static org.apache.ignite.internal.storage.rocksdb.configuration.schema.Ro
 import static org.apache.ignite.internal.storage.rocksdb.configuration.schema.RocksDbDataRegionConfigurationSchema.ROCKSDB_LRU_CACHE;
 
 import java.util.Locale;
+import org.apache.ignite.internal.storage.rocksdb.configuration.schema.RocksDbColumnFamilyView;
 import org.apache.ignite.internal.storage.rocksdb.configuration.schema.RocksDbDataRegionConfiguration;
 import org.apache.ignite.internal.storage.rocksdb.configuration.schema.RocksDbDataRegionView;
 import org.apache.ignite.internal.util.IgniteUtils;
@@ -42,6 +43,9 @@ public class RocksDbDataRegion {
     /** Write buffer manager instance. */
     private WriteBufferManager writeBufferManager;
 
+    /** Tuning profile of the column families. */
+    private RocksDbColumnFamilyView columnFamilyProfile;
+
     /**
      * Constructor.
      *
@@ -77,6 +81,8 @@ public class RocksDbDataRegion {
         }
 
         writeBufferManager = new WriteBufferManager(writeBufferSize, cache);
+
+        columnFamilyProfile = dataRegionView.columnFamily();
     }
 
     /**
@@ -92,4 +98,11 @@ public class RocksDbDataRegion {
     public WriteBufferManager writeBufferManager() {
         return writeBufferManager;
     }
+
+    /**
+     * Returns tuning profile of the column families of the region.
+     */
+    public RocksDbColumnFamilyView columnFamilyProfile() {
+        return columnFamilyProfile;
+    }
 }
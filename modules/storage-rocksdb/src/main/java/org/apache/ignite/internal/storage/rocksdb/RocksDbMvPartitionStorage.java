@@ -36,8 +36,10 @@ import static org.apache.ignite.internal.storage.rocksdb.RocksDbMetaStorage.PART
 import static org.apache.ignite.internal.storage.rocksdb.RocksDbMetaStorage.PARTITION_META_PREFIX;
 import static org.apache.ignite.internal.storage.rocksdb.RocksDbMetaStorage.createKey;
 import static org.apache.ignite.internal.storage.rocksdb.RocksDbStorageUtils.KEY_BYTE_ORDER;
+import static org.apache.ignite.internal.storage.rocksdb.RocksDbStorageUtils.TABLE_ID_SIZE;
 import static org.apache.ignite.internal.storage.rocksdb.RocksDbStorageUtils.normalize;
 import static org.apache.ignite.internal.storage.rocksdb.instance.SharedRocksDbInstance.DFLT_WRITE_OPTS;
+import static org.apache.ignite.internal.storage.util.StorageUtils.sortedRowIdPositions;
 import static org.apache.ignite.internal.storage.util.StorageUtils.throwExceptionDependingOnStorageState;
 import static org.apache.ignite.internal.storage.util.StorageUtils.throwExceptionDependingOnStorageStateOnRebalance;
 import static org.apache.ignite.internal.storage.util.StorageUtils.throwExceptionIfStorageInProgressOfRebalance;
@@ -45,15 +47,19 @@ import static org.apache.ignite.internal.util.ArrayUtils.BYTE_EMPTY_ARRAY;
 
 import java.nio.ByteBuffer;
 import java.nio.ByteOrder;
+import java.util.Arrays;
+import java.util.List;
 import java.util.NoSuchElementException;
 import java.util.Objects;
 import java.util.UUID;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Function;
 import java.util.function.Supplier;
 import org.apache.ignite.internal.hlc.HybridTimestamp;
 import org.apache.ignite.internal.lang.IgniteStringFormatter;
 import org.apache.ignite.internal.rocksdb.RocksIteratorAdapter;
+import org.apache.ignite.internal.rocksdb.RocksIteratorPool.PooledIterator;
 import org.apache.ignite.internal.rocksdb.RocksUtils;
 import org.apache.ignite.internal.schema.BinaryRow;
 import org.apache.ignite.internal.storage.MvPartitionStorage;
@@ -75,6 +81,7 @@ import org.rocksdb.ReadOptions;
 import org.rocksdb.RocksDB;
 import org.rocksdb.RocksDBException;
 import org.rocksdb.RocksIterator;
+import org.rocksdb.Slice;
 import org.rocksdb.WriteBatch;
 import org.rocksdb.WriteBatchWithIndex;
 
@@ -161,6 +168,9 @@ public class RocksDbMvPartitionStorage implements MvPartitionStorage {
     /** Current state of the storage. */
     private final AtomicReference<StorageState> state = new AtomicReference<>(StorageState.RUNNABLE);
 
+    /** Ingester of the partition data written during a rebalance, {@code null} if the data is written through write batches. */
+    private volatile @Nullable PartitionDataIngester ingester;
+
     /**
      * Constructor.
      *
@@ -377,7 +387,7 @@ public class RocksDbMvPartitionStorage implements MvPartitionStorage {
 
                 keyBuf.rewind();
 
-                byte[] previousValueBytes = writeBatch.getFromBatchAndDB(db, helper.partCf, readOpts, keyBytes);
+                byte[] previousValueBytes = getWriteIntent(writeBatch, keyBytes);
 
                 // Previous value must belong to the same transaction.
                 if (previousValueBytes != null) {
@@ -399,7 +409,7 @@ public class RocksDbMvPartitionStorage implements MvPartitionStorage {
                         writeHeader(value, txId, commitTableId, commitPartitionId);
                     }
 
-                    writeBatch.put(helper.partCf, keyBytes, value.array());
+                    putData(writeBatch, keyBytes, value.array());
                 } else {
                     writeUnversioned(keyBytes, row, txId, commitTableId, commitPartitionId);
                 }
@@ -430,7 +440,25 @@ public class RocksDbMvPartitionStorage implements MvPartitionStorage {
         writeBinaryRow(value, row);
 
         // Write table row data as a value.
-        writeBatch.put(helper.partCf, keyArray, value.array());
+        putData(writeBatch, keyArray, value.array());
+    }
+
+    private byte @Nullable [] getWriteIntent(WriteBatchWithIndex writeBatch, byte[] key) throws RocksDBException {
+        PartitionDataIngester ingester = this.ingester;
+
+        byte[] value = ingester == null ? null : ingester.get(key);
+
+        return value != null ? value : writeBatch.getFromBatchAndDB(db, helper.partCf, readOpts, key);
+    }
+
+    private void putData(WriteBatchWithIndex writeBatch, byte[] key, byte[] value) throws RocksDBException {
+        PartitionDataIngester ingester = this.ingester;
+
+        if (ingester == null) {
+            writeBatch.put(helper.partCf, key, value);
+        } else {
+            ingester.put(key, value);
+        }
     }
 
     private static int rowSize(BinaryRow row) {
@@ -522,7 +550,7 @@ public class RocksDbMvPartitionStorage implements MvPartitionStorage {
                 boolean isNewValueTombstone = valueBytes.length == VALUE_HEADER_SIZE;
 
                 // Both this and previous values for the row id are tombstones.
-                boolean newAndPrevTombstones = gc.tryAddToGcQueue(writeBatch, rowId, timestamp, isNewValueTombstone);
+                boolean newAndPrevTombstones = gc.tryAddToGcQueue(writeBatch, rowId, timestamp, isNewValueTombstone, null);
 
                 // Delete pending write.
                 writeBatch.delete(helper.partCf, uncommittedKeyBytes);
@@ -561,7 +589,7 @@ public class RocksDbMvPartitionStorage implements MvPartitionStorage {
 
             boolean newAndPrevTombstones; // Both this and previous values for the row id are tombstones.
             try {
-                newAndPrevTombstones = gc.tryAddToGcQueue(writeBatch, rowId, commitTimestamp, isNewValueTombstone);
+                newAndPrevTombstones = gc.tryAddToGcQueue(writeBatch, rowId, commitTimestamp, isNewValueTombstone, ingester);
             } catch (RocksDBException e) {
                 throw new StorageException("Failed to add row to the GC queue: " + createStorageInfo(), e);
             }
@@ -583,7 +611,8 @@ public class RocksDbMvPartitionStorage implements MvPartitionStorage {
                 }
 
                 try {
-                    writeBatch.put(helper.partCf, keyBuf.array(), rowBytes);
+                    // The key buffer is thread-local, so it's copied in case it's kept for ingestion.
+                    putData(writeBatch, ingester == null ? keyBuf.array() : keyBuf.array().clone(), rowBytes);
                 } catch (RocksDBException e) {
                     throw new StorageException("Failed to update a row in storage: " + createStorageInfo(), e);
                 }
@@ -598,30 +627,73 @@ public class RocksDbMvPartitionStorage implements MvPartitionStorage {
         return busy(() -> {
             throwExceptionIfStorageInProgressOfRebalance(state.get(), this::createStorageInfo);
 
-            if (rowId.partitionId() != partitionId) {
-                throw new IllegalArgumentException(
-                        String.format("RowId partition [%d] is not equal to storage partition [%d].", rowId.partitionId(), partitionId));
-            }
+            checkPartitionId(rowId);
+
+            return readWithIterator(seekIterator -> read(seekIterator, rowId, timestamp));
+        });
+    }
+
+    @Override
+    public List<ReadResult> readAll(List<RowId> rowIds, HybridTimestamp timestamp) throws StorageException {
+        return busy(() -> {
+            throwExceptionIfStorageInProgressOfRebalance(state.get(), this::createStorageInfo);
+
+            rowIds.forEach(this::checkPartitionId);
+
+            return readWithIterator(seekIterator -> {
+                ReadResult[] results = new ReadResult[rowIds.size()];
+
+                // Seeks in the key order reuse the blocks loaded by the previous ones.
+                for (int i : sortedRowIdPositions(rowIds)) {
+                    results[i] = read(seekIterator, rowIds.get(i), timestamp);
+                }
+
+                return Arrays.asList(results);
+            });
+        });
+    }
 
-            // We can read data outside of consistency closure. Batch is not required.
-            WriteBatchWithIndex writeBatch = helper.currentWriteBatch();
+    /**
+     * Performs a read with an iterator over the partition data. Iterators of the pool are used outside of consistency closures, since
+     * creation of an iterator per read is expensive. The pooled iterators are not bounded by the partition, so the read must check
+     * that the keys belong to it.
+     */
+    private <T> T readWithIterator(Function<RocksIterator, T> read) {
+        // We can read data outside of consistency closure. Batch is not required.
+        WriteBatchWithIndex writeBatch = helper.currentWriteBatch();
 
+        // "count()" check is mandatory. Write batch iterator without any updates just crashes everything.
+        // It's not documented, but this is exactly how it should be used.
+        if (writeBatch != null && writeBatch.count() > 0) {
             try (
                     // Set next partition as an upper bound.
                     RocksIterator baseIterator = db.newIterator(helper.partCf, helper.upperBoundReadOpts);
-                    // "count()" check is mandatory. Write batch iterator without any updates just crashes everything.
-                    // It's not documented, but this is exactly how it should be used.
-                    RocksIterator seekIterator = writeBatch != null && writeBatch.count() > 0
-                            ? writeBatch.newIteratorWithBase(helper.partCf, baseIterator)
-                            : baseIterator
+                    RocksIterator seekIterator = writeBatch.newIteratorWithBase(helper.partCf, baseIterator)
             ) {
-                if (lookingForLatestVersions(timestamp)) {
-                    return readLatestVersion(rowId, seekIterator);
-                } else {
-                    return readByTimestamp(seekIterator, rowId, timestamp);
-                }
+                return read.apply(seekIterator);
             }
-        });
+        }
+
+        try (PooledIterator pooledIterator = tableStorage.partitionIterators().acquire()) {
+            return read.apply(pooledIterator.iterator());
+        } catch (RocksDBException e) {
+            throw new StorageException("Error refreshing an iterator", e);
+        }
+    }
+
+    private ReadResult read(RocksIterator seekIterator, RowId rowId, HybridTimestamp timestamp) {
+        if (lookingForLatestVersions(timestamp)) {
+            return readLatestVersion(rowId, seekIterator);
+        } else {
+            return readByTimestamp(seekIterator, rowId, timestamp);
+        }
+    }
+
+    private void checkPartitionId(RowId rowId) {
+        if (rowId.partitionId() != partitionId) {
+            throw new IllegalArgumentException(
+                    String.format("RowId partition [%d] is not equal to storage partition [%d].", rowId.partitionId(), partitionId));
+        }
     }
 
     private static boolean lookingForLatestVersions(HybridTimestamp timestamp) {
@@ -703,7 +775,7 @@ public class RocksDbMvPartitionStorage implements MvPartitionStorage {
      * @param keyBuf Buffer with a key in it: partition id + row id + timestamp.
      * @return Read result.
      */
-    private static ReadResult handleReadByTimestampIterator(RocksIterator seekIterator, RowId rowId, HybridTimestamp timestamp,
+    private ReadResult handleReadByTimestampIterator(RocksIterator seekIterator, RowId rowId, HybridTimestamp timestamp,
             ByteBuffer keyBuf) {
         // There's no guarantee that required key even exists. If it doesn't, then "seek" will point to a different key.
         // To avoid returning its value, we have to check that actual key matches what we need.
@@ -806,7 +878,12 @@ public class RocksDbMvPartitionStorage implements MvPartitionStorage {
      * @param keyBuf Key buffer.
      * @return {@code true} if row id matches the key buffer, {@code false} otherwise.
      */
-    private static boolean matches(RowId rowId, ByteBuffer keyBuf) {
+    private boolean matches(RowId rowId, ByteBuffer keyBuf) {
+        // Keys of other tables and partitions may be seen by unbounded iterators.
+        if (keyBuf.getInt(0) != tableStorage.getTableId() || (keyBuf.getShort(TABLE_ID_SIZE) & 0xFFFF) != rowId.partitionId()) {
+            return false;
+        }
+
         // Comparison starts from the position of the row id.
         keyBuf.position(ROW_ID_OFFSET);
 
@@ -881,13 +958,39 @@ public class RocksDbMvPartitionStorage implements MvPartitionStorage {
             throwExceptionIfStorageInProgressOfRebalance(state.get(), this::createStorageInfo);
 
             if (lookingForLatestVersions(timestamp)) {
-                return new ScanLatestVersionsCursor();
+                return new ScanLatestVersionsCursor(null, null);
             } else {
-                return new ScanByTimestampCursor(timestamp);
+                return new ScanByTimestampCursor(timestamp, null, null);
             }
         });
     }
 
+    @Override
+    public PartitionTimestampCursor scan(HybridTimestamp timestamp, RowId lowerBound, @Nullable RowId upperBound) throws StorageException {
+        Objects.requireNonNull(timestamp, "timestamp is null");
+        Objects.requireNonNull(lowerBound, "lowerBound is null");
+
+        return busy(() -> {
+            throwExceptionIfStorageInProgressOfRebalance(state.get(), this::createStorageInfo);
+
+            if (lookingForLatestVersions(timestamp)) {
+                return new ScanLatestVersionsCursor(lowerBound, upperBound);
+            } else {
+                return new ScanByTimestampCursor(timestamp, lowerBound, upperBound);
+            }
+        });
+    }
+
+    /** Creates a key prefix of the row, that precedes the keys of all versions of the row. */
+    private byte[] rowPrefix(RowId rowId) {
+        return allocate(ROW_PREFIX_SIZE).order(KEY_BYTE_ORDER)
+                .putInt(tableId)
+                .putShort((short) partitionId)
+                .putLong(normalize(rowId.mostSignificantBits()))
+                .putLong(normalize(rowId.leastSignificantBits()))
+                .array();
+    }
+
     private static void setKeyBuffer(ByteBuffer keyBuf, RowId rowId, @Nullable HybridTimestamp timestamp) {
         keyBuf.putLong(ROW_ID_OFFSET, normalize(rowId.mostSignificantBits()));
         keyBuf.putLong(ROW_ID_OFFSET + Long.BYTES, normalize(rowId.leastSignificantBits()));
@@ -926,6 +1029,30 @@ public class RocksDbMvPartitionStorage implements MvPartitionStorage {
         });
     }
 
+    @Override
+    public @Nullable RowId highestRowId() throws StorageException {
+        return busy(() -> {
+            throwExceptionIfStorageInProgressOfRebalance(state.get(), this::createStorageInfo);
+
+            try (
+                    Slice lowerBound = new Slice(helper.partitionStartPrefix());
+                    Slice upperBound = new Slice(helper.partitionEndPrefix());
+                    ReadOptions readOpts = new ReadOptions().setIterateLowerBound(lowerBound).setIterateUpperBound(upperBound);
+                    RocksIterator it = db.newIterator(helper.partCf, readOpts)
+            ) {
+                it.seekToLast();
+
+                if (!it.isValid()) {
+                    RocksUtils.checkIterator(it);
+
+                    return null;
+                }
+
+                return getRowId(ByteBuffer.wrap(it.key()).order(KEY_BYTE_ORDER));
+            }
+        });
+    }
+
     private static void incrementRowId(ByteBuffer buf) {
         long lsb = 1 + buf.getLong(ROW_ID_OFFSET + Long.BYTES);
 
@@ -956,6 +1083,11 @@ public class RocksDbMvPartitionStorage implements MvPartitionStorage {
         return helper.getRowId(keyBuffer, ROW_ID_OFFSET);
     }
 
+    @Override
+    public boolean timeOrderedRowIds() {
+        return tableStorage.engine().configuration().timeOrderedRowIds().value();
+    }
+
     @Override
     public long rowsCount() {
         return busy(() -> {
@@ -1023,6 +1155,8 @@ public class RocksDbMvPartitionStorage implements MvPartitionStorage {
 
         busyLock.block();
 
+        discardIngester();
+
         RocksUtils.closeAll(readOpts);
 
         helper.close();
@@ -1161,7 +1295,15 @@ public class RocksDbMvPartitionStorage implements MvPartitionStorage {
     }
 
     private abstract class BasePartitionTimestampCursor implements PartitionTimestampCursor {
-        protected final RocksIterator it = db.newIterator(helper.partCf, helper.scanReadOpts);
+        /** Bounds of the scanned range of row IDs, {@code null} if the whole partition is scanned. */
+        private final @Nullable Slice lowerBoundSlice;
+
+        private final @Nullable Slice upperBoundSlice;
+
+        /** Read options restricting the iterator to the scanned range, {@code null} if the whole partition is scanned. */
+        private final @Nullable ReadOptions rangeReadOpts;
+
+        protected final RocksIterator it;
 
         // Here's seek buffer itself. Originally it contains a valid partition id, row id payload that's filled with zeroes, and maybe
         // a timestamp value. Zero row id guarantees that it's lexicographically less than or equal to any other row id stored in the
@@ -1174,6 +1316,38 @@ public class RocksDbMvPartitionStorage implements MvPartitionStorage {
 
         RowId currentRowId;
 
+        /**
+         * Constructor.
+         *
+         * @param lowerBound Lower bound of row IDs, inclusive, {@code null} to scan the whole partition.
+         * @param upperBound Upper bound of row IDs, exclusive, {@code null} if unbounded.
+         */
+        BasePartitionTimestampCursor(@Nullable RowId lowerBound, @Nullable RowId upperBound) {
+            if (lowerBound == null) {
+                assert upperBound == null : upperBound;
+
+                lowerBoundSlice = null;
+                upperBoundSlice = null;
+                rangeReadOpts = null;
+
+                it = db.newIterator(helper.partCf, helper.scanReadOpts);
+            } else {
+                // Keys of all versions of a row start with the row prefix, so the iterator never leaves the range and the scan
+                // stops as soon as the iterator gets invalid, without reading the rows of the following ranges.
+                lowerBoundSlice = new Slice(rowPrefix(lowerBound));
+                upperBoundSlice = new Slice(upperBound == null ? helper.partitionEndPrefix() : rowPrefix(upperBound));
+
+                rangeReadOpts = new ReadOptions()
+                        .setIterateLowerBound(lowerBoundSlice)
+                        .setIterateUpperBound(upperBoundSlice)
+                        .setAutoPrefixMode(true);
+
+                it = db.newIterator(helper.partCf, rangeReadOpts);
+
+                setKeyBuffer(seekKeyBuf, lowerBound, null);
+            }
+        }
+
         /** Cached value for {@link #next()} method. Also optimizes the code of {@link #hasNext()}. */
         protected ReadResult next;
 
@@ -1233,11 +1407,15 @@ public class RocksDbMvPartitionStorage implements MvPartitionStorage {
 
         @Override
         public final void close() {
-            it.close();
+            RocksUtils.closeAll(it, rangeReadOpts, lowerBoundSlice, upperBoundSlice);
         }
     }
 
     private final class ScanLatestVersionsCursor extends BasePartitionTimestampCursor {
+        private ScanLatestVersionsCursor(@Nullable RowId lowerBound, @Nullable RowId upperBound) {
+            super(lowerBound, upperBound);
+        }
+
         @Override
         public boolean hasNextBusy() {
             // Fast-path for consecutive invocations.
@@ -1346,7 +1524,9 @@ public class RocksDbMvPartitionStorage implements MvPartitionStorage {
     private final class ScanByTimestampCursor extends BasePartitionTimestampCursor {
         private final HybridTimestamp timestamp;
 
-        private ScanByTimestampCursor(HybridTimestamp timestamp) {
+        private ScanByTimestampCursor(HybridTimestamp timestamp, @Nullable RowId lowerBound, @Nullable RowId upperBound) {
+            super(lowerBound, upperBound);
+
             this.timestamp = timestamp;
         }
 
@@ -1426,7 +1606,7 @@ public class RocksDbMvPartitionStorage implements MvPartitionStorage {
      *
      * @throws StorageRebalanceException If there was an error when starting the rebalance.
      */
-    void startRebalance(WriteBatch writeBatch) {
+    void startRebalance(WriteBatch writeBatch, @Nullable PartitionDataIngester ingester) {
         if (!state.compareAndSet(StorageState.RUNNABLE, StorageState.REBALANCE)) {
             throwExceptionDependingOnStorageStateOnRebalance(state.get(), createStorageInfo());
         }
@@ -1436,6 +1616,8 @@ public class RocksDbMvPartitionStorage implements MvPartitionStorage {
 
         try {
             clearStorage(writeBatch, REBALANCE_IN_PROGRESS, REBALANCE_IN_PROGRESS);
+
+            this.ingester = ingester;
         } catch (RocksDBException e) {
             throw new StorageRebalanceException("Error when trying to start rebalancing storage: " + createStorageInfo(), e);
         } finally {
@@ -1453,6 +1635,9 @@ public class RocksDbMvPartitionStorage implements MvPartitionStorage {
             throwExceptionDependingOnStorageStateOnRebalance(state.get(), createStorageInfo());
         }
 
+        // Nothing must be ingested after the data is cleared.
+        discardIngester();
+
         try {
             clearStorage(writeBatch, 0, 0);
         } catch (RocksDBException e) {
@@ -1470,6 +1655,14 @@ public class RocksDbMvPartitionStorage implements MvPartitionStorage {
             throwExceptionDependingOnStorageStateOnRebalance(state.get(), createStorageInfo());
         }
 
+        PartitionDataIngester ingester = this.ingester;
+
+        if (ingester != null) {
+            this.ingester = null;
+
+            ingester.finish();
+        }
+
         try {
             saveLastApplied(writeBatch, lastAppliedIndex, lastAppliedTerm);
 
@@ -1479,6 +1672,16 @@ public class RocksDbMvPartitionStorage implements MvPartitionStorage {
         }
     }
 
+    private void discardIngester() {
+        PartitionDataIngester ingester = this.ingester;
+
+        if (ingester != null) {
+            this.ingester = null;
+
+            ingester.discard();
+        }
+    }
+
     private void clearStorage(WriteBatch writeBatch, long lastAppliedIndex, long lastAppliedTerm) throws RocksDBException {
         saveLastApplied(writeBatch, lastAppliedIndex, lastAppliedTerm);
 
@@ -38,6 +38,7 @@ import java.util.concurrent.ExecutionException;
 import java.util.concurrent.TimeUnit;
 import java.util.concurrent.TimeoutException;
 import java.util.concurrent.atomic.AtomicBoolean;
+import org.apache.ignite.internal.rocksdb.RocksIteratorPool;
 import org.apache.ignite.internal.storage.MvPartitionStorage;
 import org.apache.ignite.internal.storage.StorageException;
 import org.apache.ignite.internal.storage.StorageRebalanceException;
@@ -121,6 +122,13 @@ public class RocksDbTableStorage implements MvTableStorage {
         return rocksDb.partitionCf.handle();
     }
 
+    /**
+     * Returns a pool of iterators for point reads of partition data.
+     */
+    public RocksIteratorPool partitionIterators() {
+        return rocksDb.partitionIterators;
+    }
+
     /**
      * Returns a column family handle for meta column family.
      */
@@ -300,7 +308,7 @@ public class RocksDbTableStorage implements MvTableStorage {
         return inBusyLock(busyLock, () -> {
             HashIndex storages = hashIndices.computeIfAbsent(
                     indexDescriptor.id(),
-                    id -> new HashIndex(rocksDb.hashIndexCf, indexDescriptor, rocksDb.meta)
+                    id -> new HashIndex(rocksDb.hashIndexCf, rocksDb.hashIndexIterators, indexDescriptor, rocksDb.meta)
             );
 
             RocksDbMvPartitionStorage partitionStorage = mvPartitionStorages.get(partitionId);
@@ -351,14 +359,18 @@ public class RocksDbTableStorage implements MvTableStorage {
     public CompletableFuture<Void> startRebalancePartition(int partitionId) {
         return inBusyLock(busyLock, () -> mvPartitionStorages.startRebalance(partitionId, mvPartitionStorage -> {
             try (WriteBatch writeBatch = new WriteBatch()) {
-                mvPartitionStorage.startRebalance(writeBatch);
+                PartitionDataIngester ingester = createIngester(partitionId);
+
+                mvPartitionStorage.startRebalance(writeBatch, ingester);
 
                 getHashIndexStorages(partitionId).forEach(index -> index.startRebalance(writeBatch));
                 getSortedIndexStorages(partitionId).forEach(index -> index.startRebalance(writeBatch));
 
                 rocksDb.db.write(DFLT_WRITE_OPTS, writeBatch);
 
-                return nullCompletedFuture();
+                // Ingested files are durable right away, unlike memtables that are not logged. The start of the rebalance must be
+                // persisted first, so that partially ingested data is cleaned up after a restart.
+                return ingester == null ? nullCompletedFuture() : rocksDb.flusher.awaitFlush(true);
             } catch (RocksDBException e) {
                 throw new StorageRebalanceException(
                         "Error when trying to start rebalancing storage: [{}]",
@@ -369,6 +381,23 @@ public class RocksDbTableStorage implements MvTableStorage {
         }));
     }
 
+    private @Nullable PartitionDataIngester createIngester(int partitionId) {
+        long bufferSize = rocksDb.engine.configuration().rebalanceIngestionBufferSize().value();
+
+        if (bufferSize == 0) {
+            return null;
+        }
+
+        return new PartitionDataIngester(
+                rocksDb.db,
+                rocksDb.partitionCf.handle(),
+                rocksDb::createPartitionCfOptions,
+                rocksDb.path.resolve(SharedRocksDbInstance.INGESTION_DIR),
+                "table-" + getTableId() + "-part-" + partitionId,
+                bufferSize
+        );
+    }
+
     @Override
     public CompletableFuture<Void> abortRebalancePartition(int partitionId) {
         return inBusyLock(busyLock, () -> mvPartitionStorages.abortRebalance(partitionId, mvPartitionStorage -> {
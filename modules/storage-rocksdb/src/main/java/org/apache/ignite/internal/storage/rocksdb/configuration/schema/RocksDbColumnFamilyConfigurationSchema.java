@@ -0,0 +1,105 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.storage.rocksdb.configuration.schema;
+
+import org.apache.ignite.configuration.annotation.Config;
+import org.apache.ignite.configuration.annotation.Value;
+import org.apache.ignite.configuration.validation.OneOf;
+import org.apache.ignite.configuration.validation.Range;
+
+/**
+ * Tuning profile of the column families that store table data and indexes of a {@link RocksDbDataRegionConfigurationSchema data
+ * region}. Tables with different workloads can be given different profiles by placing them into different data regions.
+ *
+ * <p>The profile is applied when the column families are opened or created, so changes take effect after a restart.
+ */
+@Config
+public class RocksDbColumnFamilyConfigurationSchema {
+    /** No compression. */
+    public static final String COMPRESSION_NONE = "none";
+
+    /** Snappy compression. */
+    public static final String COMPRESSION_SNAPPY = "snappy";
+
+    /** LZ4 compression. */
+    public static final String COMPRESSION_LZ4 = "lz4";
+
+    /** LZ4HC compression. */
+    public static final String COMPRESSION_LZ4HC = "lz4hc";
+
+    /** ZSTD compression. */
+    public static final String COMPRESSION_ZSTD = "zstd";
+
+    /** Leveled compaction. */
+    public static final String COMPACTION_LEVEL = "level";
+
+    /** Universal compaction. */
+    public static final String COMPACTION_UNIVERSAL = "universal";
+
+    /** Bloom filter. */
+    public static final String FILTER_BLOOM = "bloom";
+
+    /** No filter. */
+    public static final String FILTER_NONE = "none";
+
+    /** Size of a data block, in bytes. */
+    @Range(min = 1024)
+    @Value(hasDefault = true)
+    public int blockSize = 4 * 1024;
+
+    /** Compression of the levels that are not listed in {@link #compressionPerLevel}. */
+    @OneOf({COMPRESSION_NONE, COMPRESSION_SNAPPY, COMPRESSION_LZ4, COMPRESSION_LZ4HC, COMPRESSION_ZSTD})
+    @Value(hasDefault = true)
+    public String compression = COMPRESSION_SNAPPY;
+
+    /**
+     * Compression of every level, starting from level 0, using the same names as {@link #compression}. Empty array means that
+     * {@link #compression} is used for all levels.
+     */
+    @Value(hasDefault = true)
+    public String[] compressionPerLevel = new String[0];
+
+    /** Filter of the data blocks, that allows to skip reading blocks that don't contain a key. */
+    @OneOf({FILTER_BLOOM, FILTER_NONE})
+    @Value(hasDefault = true)
+    public String filter = FILTER_BLOOM;
+
+    /** Number of filter bits per key. More bits mean less false positives at the cost of memory. */
+    @Range(min = 1, max = 100)
+    @Value(hasDefault = true)
+    public int filterBitsPerKey = 10;
+
+    /** Whether the filters are partitioned, so only the required partitions of a filter are loaded to the cache. */
+    @Value(hasDefault = true)
+    public boolean partitionedFilters = false;
+
+    /** Compaction style. Leveled compaction favors reads, universal compaction favors writes. */
+    @OneOf({COMPACTION_LEVEL, COMPACTION_UNIVERSAL})
+    @Value(hasDefault = true)
+    public String compactionStyle = COMPACTION_LEVEL;
+
+    /** Size of a single memtable of a column family, in bytes. */
+    @Range(min = 1024 * 1024)
+    @Value(hasDefault = true)
+    public long writeBufferSize = 64 * 1024 * 1024;
+
+    /** Maximal number of memtables of a column family, including the ones being flushed. */
+    @Range(min = 2)
+    @Value(hasDefault = true)
+    public int maxWriteBufferNumber = 2;
+}
@@ -18,6 +18,7 @@
 package org.apache.ignite.internal.storage.rocksdb.configuration.schema;
 
 import org.apache.ignite.configuration.annotation.Config;
+import org.apache.ignite.configuration.annotation.ConfigValue;
 import org.apache.ignite.configuration.annotation.InjectedName;
 import org.apache.ignite.configuration.annotation.Value;
 import org.apache.ignite.configuration.validation.OneOf;
@@ -57,4 +58,8 @@ public class RocksDbDataRegionConfigurationSchema {
     @Range(min = -1)
     @Value(hasDefault = true)
     public int numShardBits = -1;
+
+    /** Tuning profile of the column families of the region. */
+    @ConfigValue
+    public RocksDbColumnFamilyConfigurationSchema columnFamily;
 }
@@ -41,6 +41,21 @@ public class RocksDbStorageEngineConfigurationSchema {
     @Value(hasDefault = true)
     public int flushDelayMillis = 100;
 
+    /**
+     * Size of the buffer of partition data received during a rebalance, in bytes. A full buffer is written to an SST file and
+     * ingested into RocksDB, bypassing memtables. {@code 0} means that the data is written through memtables.
+     */
+    @Range(min = 0)
+    @Value(hasDefault = true)
+    public long rebalanceIngestionBufferSize = 64 * 1024 * 1024;
+
+    /**
+     * Whether the row IDs of new rows should grow monotonically with time instead of being random. Makes inserts append to the end of
+     * the key space of a partition, so RocksDB flushes SST files that don't overlap and moves them to lower levels without rewriting.
+     */
+    @Value(hasDefault = true)
+    public boolean timeOrderedRowIds = false;
+
     /** Default data region. */
     @Name(DEFAULT_DATA_REGION_NAME)
     @ConfigValue
@@ -25,11 +25,14 @@ import static org.apache.ignite.internal.util.ArrayUtils.BYTE_EMPTY_ARRAY;
 import static org.apache.ignite.internal.util.IgniteUtils.closeAll;
 
 import java.nio.ByteBuffer;
+import java.util.Arrays;
 import java.util.NoSuchElementException;
 import java.util.concurrent.atomic.AtomicReference;
 import java.util.function.Supplier;
 import org.apache.ignite.internal.lang.IgniteStringFormatter;
 import org.apache.ignite.internal.rocksdb.ColumnFamily;
+import org.apache.ignite.internal.rocksdb.RocksIteratorPool;
+import org.apache.ignite.internal.rocksdb.RocksIteratorPool.PooledIterator;
 import org.apache.ignite.internal.rocksdb.RocksUtils;
 import org.apache.ignite.internal.storage.RowId;
 import org.apache.ignite.internal.storage.StorageException;
@@ -219,12 +222,18 @@ abstract class AbstractRocksDbIndexStorage implements IndexStorage {
      * Cursor that always returns up-to-date next element.
      */
     protected abstract class UpToDatePeekCursor<T> implements PeekCursor<T> {
-        private final Slice upperBoundSlice;
+        private final @Nullable Slice upperBoundSlice;
         private final byte[] lowerBound;
 
-        private final ReadOptions options;
+        private final @Nullable ReadOptions options;
         private final RocksIterator it;
 
+        /** Iterator acquired from a pool, {@code null} if the cursor owns the iterator. */
+        private final @Nullable PooledIterator pooledIt;
+
+        /** Upper bound to check the keys against, {@code null} if the iterator is bounded by the read options. */
+        private final byte @Nullable [] upperBound;
+
         private @Nullable Boolean hasNext;
 
         /**
@@ -244,6 +253,27 @@ abstract class AbstractRocksDbIndexStorage implements IndexStorage {
             upperBoundSlice = new Slice(upperBound);
             options = new ReadOptions().setIterateUpperBound(upperBoundSlice);
             it = indexCf.newIterator(options);
+            pooledIt = null;
+            this.upperBound = null;
+        }
+
+        /**
+         * Constructor of a cursor that takes an unbounded iterator from the pool. The range must be within a single prefix of the
+         * column family prefix extractor, if it has one.
+         */
+        UpToDatePeekCursor(byte[] upperBound, RocksIteratorPool indexIterators, byte[] lowerBound) {
+            this.lowerBound = lowerBound;
+            this.upperBound = upperBound;
+            upperBoundSlice = null;
+            options = null;
+
+            try {
+                pooledIt = indexIterators.acquire();
+            } catch (RocksDBException e) {
+                throw new StorageException("Error refreshing an iterator", e);
+            }
+
+            it = pooledIt.iterator();
         }
 
         /**
@@ -254,7 +284,7 @@ abstract class AbstractRocksDbIndexStorage implements IndexStorage {
         @Override
         public void close() {
             try {
-                closeAll(it, options, upperBoundSlice);
+                closeAll(pooledIt != null ? pooledIt : it, options, upperBoundSlice);
             } catch (Exception e) {
                 throw new StorageException("Error closing cursor", e);
             }
@@ -306,6 +336,10 @@ abstract class AbstractRocksDbIndexStorage implements IndexStorage {
                 peekedKey = null;
             } else {
                 peekedKey = it.key();
+
+                if (upperBound != null && Arrays.compareUnsigned(peekedKey, upperBound) >= 0) {
+                    peekedKey = null;
+                }
             }
 
             return peekedKey;
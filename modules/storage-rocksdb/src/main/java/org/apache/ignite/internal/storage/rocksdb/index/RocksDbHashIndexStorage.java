@@ -28,6 +28,7 @@ import static org.apache.ignite.internal.util.ArrayUtils.BYTE_EMPTY_ARRAY;
 
 import java.nio.ByteBuffer;
 import org.apache.ignite.internal.rocksdb.ColumnFamily;
+import org.apache.ignite.internal.rocksdb.RocksIteratorPool;
 import org.apache.ignite.internal.schema.BinaryTuple;
 import org.apache.ignite.internal.storage.RowId;
 import org.apache.ignite.internal.storage.StorageException;
@@ -64,6 +65,9 @@ public class RocksDbHashIndexStorage extends AbstractRocksDbIndexStorage impleme
 
     private final ColumnFamily indexCf;
 
+    /** Iterators over the index column family. */
+    private final RocksIteratorPool indexIterators;
+
     /** Constant prefix of every index key. */
     private final byte[] constantPrefix;
 
@@ -72,12 +76,14 @@ public class RocksDbHashIndexStorage extends AbstractRocksDbIndexStorage impleme
      *
      * @param descriptor Index descriptor.
      * @param indexCf Column family that stores the index data.
+     * @param indexIterators Pool of iterators over the index column family.
      * @param helper Partition data helper.
      * @param indexMetaStorage Index meta storage.
      */
     public RocksDbHashIndexStorage(
             StorageHashIndexDescriptor descriptor,
             ColumnFamily indexCf,
+            RocksIteratorPool indexIterators,
             PartitionDataHelper helper,
             RocksDbMetaStorage indexMetaStorage
     ) {
@@ -85,6 +91,7 @@ public class RocksDbHashIndexStorage extends AbstractRocksDbIndexStorage impleme
 
         this.descriptor = descriptor;
         this.indexCf = indexCf;
+        this.indexIterators = indexIterators;
 
         this.constantPrefix = ByteBuffer.allocate(INDEX_ID_SIZE + PARTITION_ID_SIZE)
                 .order(KEY_BYTE_ORDER)
@@ -107,7 +114,8 @@ public class RocksDbHashIndexStorage extends AbstractRocksDbIndexStorage impleme
 
             byte[] rangeEnd = incrementPrefix(rangeStart);
 
-            return new UpToDatePeekCursor<RowId>(rangeEnd, indexCf, rangeStart) {
+            // All the keys of the range share the prefix of the column family.
+            return new UpToDatePeekCursor<RowId>(rangeEnd, indexIterators, rangeStart) {
                 @Override
                 protected RowId map(ByteBuffer byteBuffer) {
                     // RowId UUID is located at the last 16 bytes of the key
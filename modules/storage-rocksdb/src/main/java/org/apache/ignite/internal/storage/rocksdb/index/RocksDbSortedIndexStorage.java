@@ -63,6 +63,12 @@ import org.rocksdb.WriteBatchWithIndex;
 public class RocksDbSortedIndexStorage extends AbstractRocksDbIndexStorage implements SortedIndexStorage {
     private static final int BINARY_TUPLE_OFFSET = TABLE_ID_SIZE + PARTITION_ID_SIZE;
 
+    /**
+     * Length of the part of the key that is compared bytewise: Index ID + Partition ID. The rest of the key is ordered by the
+     * {@link RocksDbBinaryTupleComparator}, so it can't be a part of a prefix.
+     */
+    public static final int FIXED_PREFIX_LENGTH = BINARY_TUPLE_OFFSET;
+
     private final StorageSortedIndexDescriptor descriptor;
 
     private final ColumnFamily indexCf;
@@ -17,9 +17,12 @@
 
 package org.apache.ignite.internal.storage.rocksdb.instance;
 
+import static java.util.concurrent.TimeUnit.MILLISECONDS;
 import static java.util.stream.Collectors.toList;
+import static org.apache.ignite.internal.rocksdb.RocksIteratorPool.DEFAULT_MAX_IDLE_MILLIS;
 import static org.apache.ignite.internal.rocksdb.RocksUtils.incrementPrefix;
 import static org.apache.ignite.internal.storage.rocksdb.ColumnFamilyUtils.toStringName;
+import static org.apache.ignite.internal.storage.rocksdb.instance.SharedRocksDbInstanceCreator.partitionCfOptions;
 import static org.apache.ignite.internal.storage.rocksdb.instance.SharedRocksDbInstanceCreator.sortedIndexCfOptions;
 
 import java.nio.file.Path;
@@ -30,18 +33,22 @@ import java.util.List;
 import java.util.Set;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ScheduledFuture;
 import java.util.concurrent.atomic.AtomicBoolean;
 import org.apache.ignite.internal.lang.ByteArray;
 import org.apache.ignite.internal.rocksdb.ColumnFamily;
+import org.apache.ignite.internal.rocksdb.RocksIteratorPool;
 import org.apache.ignite.internal.rocksdb.flush.RocksDbFlusher;
 import org.apache.ignite.internal.storage.StorageClosedException;
 import org.apache.ignite.internal.storage.StorageException;
 import org.apache.ignite.internal.storage.rocksdb.RocksDbMetaStorage;
 import org.apache.ignite.internal.storage.rocksdb.RocksDbStorageEngine;
+import org.apache.ignite.internal.storage.rocksdb.configuration.schema.RocksDbColumnFamilyView;
 import org.apache.ignite.internal.util.IgniteSpinBusyLock;
 import org.apache.ignite.internal.util.IgniteUtils;
 import org.rocksdb.ColumnFamilyDescriptor;
 import org.rocksdb.ColumnFamilyHandle;
+import org.rocksdb.ColumnFamilyOptions;
 import org.rocksdb.RocksDB;
 import org.rocksdb.RocksDBException;
 import org.rocksdb.WriteBatch;
@@ -54,7 +61,10 @@ public final class SharedRocksDbInstance {
     /** Write options. */
     public static final WriteOptions DFLT_WRITE_OPTS = new WriteOptions().setDisableWAL(true);
 
-    /** RocksDB storage engine instance. */
+    /** Name of the directory of SST files that are written to be ingested. */
+    public static final String INGESTION_DIR = "ingestion";
+
+    /** RocksDB storage engine instance.
     public final RocksDbStorageEngine engine;
 
     /** Path for the directory that stores the data. */
@@ -78,6 +88,15 @@ public final class SharedRocksDbInstance {
     /** Column Family for Hash Index data. */
     public final ColumnFamily hashIndexCf;
 
+    /** Iterators for point reads of partition data. */
+    public final RocksIteratorPool partitionIterators;
+
+    /** Iterators for lookups in Hash Indexes. */
+    public final RocksIteratorPool hashIndexIterators;
+
+    /** Periodic closing of the idle iterators, so that they don't keep obsolete memtables and files alive. */
+    private final ScheduledFuture<?> idleIteratorsCleanup;
+
     /** Column Family instances for different types of sorted indexes, identified by the column family name. */
     private final ConcurrentMap<ByteArray, ColumnFamily> sortedIndexCfs;
 
@@ -87,6 +106,9 @@ public final class SharedRocksDbInstance {
     /** Busy lock to stop synchronously. */
     private final IgniteSpinBusyLock busyLock;
 
+    /** Tuning profile of the column families, used to create column families of sorted indexes. */
+    private final RocksDbColumnFamilyView cfProfile;
+
     /** Prevents double stopping of the component. */
     private final AtomicBoolean stopGuard = new AtomicBoolean();
 
@@ -100,7 +122,8 @@ public final class SharedRocksDbInstance {
             ColumnFamily partitionCf,
             ColumnFamily gcQueueCf,
             ColumnFamily hashIndexCf,
-            ConcurrentMap<ByteArray, ColumnFamily> sortedIndexCfs
+            ConcurrentMap<ByteArray, ColumnFamily> sortedIndexCfs,
+            RocksDbColumnFamilyView cfProfile
     ) {
         this.engine = engine;
         this.path = path;
@@ -114,6 +137,30 @@ public final class SharedRocksDbInstance {
         this.gcQueueCf = gcQueueCf;
         this.hashIndexCf = hashIndexCf;
         this.sortedIndexCfs = sortedIndexCfs;
+        this.cfProfile = cfProfile;
+
+        this.partitionIterators = new RocksIteratorPool(partitionCf);
+        this.hashIndexIterators = new RocksIteratorPool(hashIndexCf);
+
+        this.idleIteratorsCleanup = engine.scheduledPool().scheduleWithFixedDelay(
+                this::closeIdleIterators,
+                DEFAULT_MAX_IDLE_MILLIS,
+                DEFAULT_MAX_IDLE_MILLIS,
+                MILLISECONDS
+        );
+    }
+
+    private void closeIdleIterators() {
+        if (!busyLock.enterBusy()) {
+            return;
+        }
+
+        try {
+            partitionIterators.closeIdle();
+            hashIndexIterators.closeIdle();
+        } finally {
+            busyLock.leaveBusy();
+        }
     }
 
     /**
@@ -135,6 +182,8 @@ public final class SharedRocksDbInstance {
 
         busyLock.block();
 
+        idleIteratorsCleanup.cancel(false);
+
         List<AutoCloseable> resources = new ArrayList<>();
 
         resources.add(meta.columnFamily().handle());
@@ -147,6 +196,8 @@ public final class SharedRocksDbInstance {
         );
 
         resources.add(db);
+        resources.add(partitionIterators);
+        resources.add(hashIndexIterators);
         resources.add(flusher::stop);
 
         try {
@@ -158,6 +209,14 @@ public final class SharedRocksDbInstance {
         }
     }
 
+    /**
+     * Creates options of the partition data Column Family, for example to write SST files of the same format. Must be closed by the
+     * caller.
+     */
+    public ColumnFamilyOptions createPartitionCfOptions() {
+        return partitionCfOptions(cfProfile);
+    }
+
     /**
      * Returns Column Family instance with the desired name. Creates it it it doesn't exist.
      * Tracks every created index by its {@code indexId}.
@@ -221,7 +280,7 @@ public final class SharedRocksDbInstance {
 
     private ColumnFamily getOrCreateColumnFamily(byte[] cfName, ByteArray name) {
         return sortedIndexCfs.computeIfAbsent(name, unused -> {
-            ColumnFamilyDescriptor cfDescriptor = new ColumnFamilyDescriptor(cfName, sortedIndexCfOptions(cfName));
+            ColumnFamilyDescriptor cfDescriptor = new ColumnFamilyDescriptor(cfName, sortedIndexCfOptions(cfProfile, cfName));
 
             ColumnFamily columnFamily;
             try {
@@ -20,13 +20,23 @@ package org.apache.ignite.internal.storage.rocksdb.instance;
 import static java.util.Objects.requireNonNull;
 import static java.util.stream.Collectors.toList;
 import static org.apache.ignite.internal.storage.rocksdb.ColumnFamilyUtils.toStringName;
+import static org.apache.ignite.internal.storage.rocksdb.configuration.schema.RocksDbColumnFamilyConfigurationSchema.COMPACTION_LEVEL;
+import static org.apache.ignite.internal.storage.rocksdb.configuration.schema.RocksDbColumnFamilyConfigurationSchema.COMPACTION_UNIVERSAL;
+import static org.apache.ignite.internal.storage.rocksdb.configuration.schema.RocksDbColumnFamilyConfigurationSchema.COMPRESSION_LZ4;
+import static org.apache.ignite.internal.storage.rocksdb.configuration.schema.RocksDbColumnFamilyConfigurationSchema.COMPRESSION_LZ4HC;
+import static org.apache.ignite.internal.storage.rocksdb.configuration.schema.RocksDbColumnFamilyConfigurationSchema.COMPRESSION_NONE;
+import static org.apache.ignite.internal.storage.rocksdb.configuration.schema.RocksDbColumnFamilyConfigurationSchema.COMPRESSION_SNAPPY;
+import static org.apache.ignite.internal.storage.rocksdb.configuration.schema.RocksDbColumnFamilyConfigurationSchema.COMPRESSION_ZSTD;
+import static org.apache.ignite.internal.storage.rocksdb.configuration.schema.RocksDbColumnFamilyConfigurationSchema.FILTER_BLOOM;
 
 import java.io.IOException;
 import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
+import java.util.Locale;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentMap;
 import org.apache.ignite.internal.lang.ByteArray;
@@ -39,7 +49,9 @@ import org.apache.ignite.internal.storage.rocksdb.PartitionDataHelper;
 import org.apache.ignite.internal.storage.rocksdb.RocksDbDataRegion;
 import org.apache.ignite.internal.storage.rocksdb.RocksDbMetaStorage;
 import org.apache.ignite.internal.storage.rocksdb.RocksDbStorageEngine;
+import org.apache.ignite.internal.storage.rocksdb.configuration.schema.RocksDbColumnFamilyView;
 import org.apache.ignite.internal.storage.rocksdb.index.RocksDbHashIndexStorage;
+import org.apache.ignite.internal.storage.rocksdb.index.RocksDbSortedIndexStorage;
 import org.apache.ignite.internal.util.IgniteSpinBusyLock;
 import org.apache.ignite.internal.util.IgniteUtils;
 import org.rocksdb.BlockBasedTableConfig;
@@ -47,7 +59,10 @@ import org.rocksdb.BloomFilter;
 import org.rocksdb.ColumnFamilyDescriptor;
 import org.rocksdb.ColumnFamilyHandle;
 import org.rocksdb.ColumnFamilyOptions;
+import org.rocksdb.CompactionStyle;
+import org.rocksdb.CompressionType;
 import org.rocksdb.DBOptions;
+import org.rocksdb.IndexType;
 import org.rocksdb.Options;
 import org.rocksdb.RocksDB;
 import org.rocksdb.RocksDBException;
@@ -73,6 +88,9 @@ public class SharedRocksDbInstanceCreator {
         try {
             Files.createDirectories(path);
 
+            // Rebalances are not resumed after a restart, so the files that have not been ingested are not needed.
+            IgniteUtils.deleteIfExists(path.resolve(SharedRocksDbInstance.INGESTION_DIR));
+
             var flusher = new RocksDbFlusher(
                     busyLock,
                     engine.scheduledPool(),
@@ -81,7 +99,7 @@ public class SharedRocksDbInstanceCreator {
                     () -> {} // No-op.
             );
 
-            List<ColumnFamilyDescriptor> cfDescriptors = getExistingCfDescriptors(path);
+            List<ColumnFamilyDescriptor> cfDescriptors = getExistingCfDescriptors(path, region.columnFamilyProfile());
 
             List<ColumnFamilyHandle> cfHandles = new ArrayList<>(cfDescriptors.size());
 
@@ -149,7 +167,8 @@ public class SharedRocksDbInstanceCreator {
                     requireNonNull(partitionCf, "partitionCf"),
                     requireNonNull(gcQueueCf, "gcQueueCf"),
                     requireNonNull(hashIndexCf, "hashIndexCf"),
-                    sortedIndexCfs
+                    sortedIndexCfs,
+                    region.columnFamilyProfile()
             );
         } catch (Throwable t) {
             Collections.reverse(resources);
@@ -169,7 +188,7 @@ public class SharedRocksDbInstanceCreator {
     /**
      * Returns a list of CF descriptors present in the RocksDB instance.
      */
-    private List<ColumnFamilyDescriptor> getExistingCfDescriptors(Path path) throws RocksDBException {
+    private List<ColumnFamilyDescriptor> getExistingCfDescriptors(Path path, RocksDbColumnFamilyView cfProfile) throws RocksDBException {
         String absolutePathStr = path.toAbsolutePath().toString();
 
         List<byte[]> existingNames;
@@ -185,12 +204,12 @@ public class SharedRocksDbInstanceCreator {
         }
 
         return existingNames.stream()
-                .map(cfName -> new ColumnFamilyDescriptor(cfName, createCfOptions(cfName, path)))
+                .map(cfName -> new ColumnFamilyDescriptor(cfName, createCfOptions(cfName, path, cfProfile)))
                 .collect(toList());
     }
 
     @SuppressWarnings("resource")
-    private ColumnFamilyOptions createCfOptions(byte[] cfName, Path path) {
+    private ColumnFamilyOptions createCfOptions(byte[] cfName, Path path, RocksDbColumnFamilyView cfProfile) {
         String utf8cfName = toStringName(cfName);
 
         switch (ColumnFamilyType.fromCfName(utf8cfName)) {
@@ -199,29 +218,116 @@ public class SharedRocksDbInstanceCreator {
                 return add(new ColumnFamilyOptions());
 
             case PARTITION:
-                return add(defaultCfOptions().useCappedPrefixExtractor(PartitionDataHelper.ROW_PREFIX_SIZE));
+                return add(partitionCfOptions(cfProfile));
 
             case HASH_INDEX:
-                return add(defaultCfOptions().useCappedPrefixExtractor(RocksDbHashIndexStorage.FIXED_PREFIX_LENGTH));
+                return add(defaultCfOptions(cfProfile).useCappedPrefixExtractor(RocksDbHashIndexStorage.FIXED_PREFIX_LENGTH));
 
             case SORTED_INDEX:
-                return add(sortedIndexCfOptions(cfName));
+                return add(sortedIndexCfOptions(cfProfile, cfName));
             default:
                 throw new StorageException("Unidentified column family: [name={}, path={}]", cfName, path);
         }
     }
 
-    private static ColumnFamilyOptions defaultCfOptions() {
-        return new ColumnFamilyOptions()
-                .setMemtablePrefixBloomSizeRatio(0.125)
-                .setTableFormatConfig(new BlockBasedTableConfig().setFilterPolicy(new BloomFilter()));
+    /**
+     * Creates options of the column family of partition data.
+     */
+    static ColumnFamilyOptions partitionCfOptions(RocksDbColumnFamilyView cfProfile) {
+        return defaultCfOptions(cfProfile).useCappedPrefixExtractor(PartitionDataHelper.ROW_PREFIX_SIZE);
+    }
+
+    /**
+     * Creates options of a column family of partition data or hash indexes. Keys of such column families are looked up by prefixes,
+     * so the filters of the profile are applied to them.
+     */
+    @SuppressWarnings("resource")
+    static ColumnFamilyOptions defaultCfOptions(RocksDbColumnFamilyView cfProfile) {
+        BlockBasedTableConfig tableConfig = tableConfig(cfProfile);
+
+        ColumnFamilyOptions options = profileCfOptions(cfProfile);
+
+        if (cfProfile.filter().equals(FILTER_BLOOM)) {
+            tableConfig.setFilterPolicy(new BloomFilter(cfProfile.filterBitsPerKey()));
+
+            if (cfProfile.partitionedFilters()) {
+                tableConfig
+                        .setIndexType(IndexType.kTwoLevelIndexSearch)
+                        .setPartitionFilters(true);
+            }
+
+            options.setMemtablePrefixBloomSizeRatio(0.125);
+        }
+
+        return options.setTableFormatConfig(tableConfig);
     }
 
+    /**
+     * Creates options of a column family of sorted indexes. Sorted indexes are scanned by ranges, so filters are not used for them.
+     */
     @SuppressWarnings("resource")
-    static ColumnFamilyOptions sortedIndexCfOptions(byte[] cfName) {
-        return new ColumnFamilyOptions()
+    static ColumnFamilyOptions sortedIndexCfOptions(RocksDbColumnFamilyView cfProfile, byte[] cfName) {
+        return profileCfOptions(cfProfile)
+                .setTableFormatConfig(tableConfig(cfProfile))
                 .setComparator(ColumnFamilyUtils.comparatorFromCfName(cfName))
-                .useFixedLengthPrefixExtractor(7);
+                .useFixedLengthPrefixExtractor(RocksDbSortedIndexStorage.FIXED_PREFIX_LENGTH);
+    }
+
+    private static ColumnFamilyOptions profileCfOptions(RocksDbColumnFamilyView cfProfile) {
+        var options = new ColumnFamilyOptions()
+                .setCompressionType(compressionType(cfProfile.compression()))
+                .setCompactionStyle(compactionStyle(cfProfile.compactionStyle()))
+                .setWriteBufferSize(cfProfile.writeBufferSize())
+                .setMaxWriteBufferNumber(cfProfile.maxWriteBufferNumber());
+
+        String[] compressionPerLevel = cfProfile.compressionPerLevel();
+
+        if (compressionPerLevel.length > 0) {
+            options.setCompressionPerLevel(Arrays.stream(compressionPerLevel)
+                    .map(SharedRocksDbInstanceCreator::compressionType)
+                    .collect(toList()));
+        }
+
+        return options;
+    }
+
+    private static BlockBasedTableConfig tableConfig(RocksDbColumnFamilyView cfProfile) {
+        return new BlockBasedTableConfig().setBlockSize(cfProfile.blockSize());
+    }
+
+    private static CompressionType compressionType(String compression) {
+        switch (compression.toLowerCase(Locale.ROOT)) {
+            case COMPRESSION_NONE:
+                return CompressionType.NO_COMPRESSION;
+
+            case COMPRESSION_SNAPPY:
+                return CompressionType.SNAPPY_COMPRESSION;
+
+            case COMPRESSION_LZ4:
+                return CompressionType.LZ4_COMPRESSION;
+
+            case COMPRESSION_LZ4HC:
+                return CompressionType.LZ4HC_COMPRESSION;
+
+            case COMPRESSION_ZSTD:
+                return CompressionType.ZSTD_COMPRESSION;
+
+            default:
+                throw new StorageException("Unknown compression: " + compression);
+        }
+    }
+
+    private static CompactionStyle compactionStyle(String compactionStyle) {
+        switch (compactionStyle.toLowerCase(Locale.ROOT)) {
+            case COMPACTION_LEVEL:
+                return CompactionStyle.LEVEL;
+
+            case COMPACTION_UNIVERSAL:
+                return CompactionStyle.UNIVERSAL;
+
+            default:
+                throw new StorageException("Unknown compaction style: " + compactionStyle);
+        }
     }
 
     private <T extends AutoCloseable> T add(T value) {
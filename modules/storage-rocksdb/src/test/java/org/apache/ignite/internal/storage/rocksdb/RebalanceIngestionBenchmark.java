@@ -0,0 +1,158 @@
+/*
+ * Licensed to the Apache Software Foundation (ASF) under one or more
+ * contributor license agreements. See the NOTICE file distributed with
+ * this work for additional information regarding copyright ownership.
+ * The ASF licenses this file to You under the Apache License, Version 2.0
+ * (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ */
+
+package org.apache.ignite.internal.storage.rocksdb;
+
+import static org.apache.ignite.internal.storage.rocksdb.PartitionDataHelper.MAX_KEY_SIZE;
+import static org.apache.ignite.internal.storage.rocksdb.instance.SharedRocksDbInstance.DFLT_WRITE_OPTS;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import org.apache.ignite.internal.util.IgniteUtils;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.rocksdb.ColumnFamilyOptions;
+import org.rocksdb.RocksDB;
+import org.rocksdb.RocksDBException;
+import org.rocksdb.WriteBatch;
+
+/**
+ * Benchmark of loading partition data the way a rebalance does: row by row, in random order of row IDs. Compares writing rows through
+ * write batches and memtables with ingesting them as SST files by {@link PartitionDataIngester}. The score is in rows per second.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 2, time = 10)
+@Measurement(iterations = 5, time = 10)
+@Fork(1)
+public class RebalanceIngestionBenchmark {
+    private static final int ROWS = 100_000;
+
+    private static final int VALUE_SIZE = 128;
+
+    /** Whether rows are ingested as SST files. */
+    @Param({"false", "true"})
+    public boolean ingestion;
+
+    private Path dbPath;
+
+    private org.rocksdb.Options options;
+
+    private RocksDB db;
+
+    private final byte[] value = new byte[VALUE_SIZE];
+
+    private int fileIndex;
+
+    /**
+     * Opens the database.
+     */
+    @Setup
+    public void setUp() throws IOException, RocksDBException {
+        dbPath = Files.createTempDirectory("rebalance-ingestion-benchmark");
+
+        options = new org.rocksdb.Options().setCreateIfMissing(true);
+
+        db = RocksDB.open(options, dbPath.resolve("db").toString());
+    }
+
+    /**
+     * Closes the database and removes its files.
+     */
+    @TearDown
+    public void tearDown() throws Exception {
+        IgniteUtils.closeAll(db, options);
+
+        IgniteUtils.deleteIfExists(dbPath);
+    }
+
+    /**
+     * Loads a portion of rows.
+     */
+    @Benchmark
+    @OperationsPerInvocation(ROWS)
+    public void load() throws RocksDBException {
+        if (ingestion) {
+            var ingester = new PartitionDataIngester(
+                    db,
+                    db.getDefaultColumnFamily(),
+                    ColumnFamilyOptions::new,
+                    dbPath.resolve("ingestion"),
+                    "benchmark-" + fileIndex++,
+                    64 * 1024 * 1024
+            );
+
+            for (int i = 0; i < ROWS; i++) {
+                ingester.put(randomKey(), value);
+            }
+
+            ingester.finish();
+        } else {
+            for (int i = 0; i < ROWS; i++) {
+                // Every row is written by a separate write batch, like it's done by a rebalance.
+                try (WriteBatch writeBatch = new WriteBatch()) {
+                    writeBatch.put(db.getDefaultColumnFamily(), randomKey(), value);
+
+                    db.write(DFLT_WRITE_OPTS, writeBatch);
+                }
+            }
+        }
+    }
+
+    private static byte[] randomKey() {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+
+        return ByteBuffer.allocate(MAX_KEY_SIZE)
+                .putInt(1)
+                .putShort((short) 0)
+                .putLong(random.nextLong())
+                .putLong(random.nextLong())
+                .putLong(random.nextLong())
+                .array();
+    }
+
+    /**
+     * Runs the benchmark.
+     */
+    public static void main(String[] args) throws RunnerException {
+        Options opt = new OptionsBuilder()
+                .include(RebalanceIngestionBenchmark.class.getSimpleName())
+                .build();
+
+        new Runner(opt).run();
+    }
+}
@@ -19,6 +19,7 @@ package org.apache.ignite.internal.storage.rocksdb;
 
 import static org.apache.ignite.internal.catalog.commands.CatalogUtils.DEFAULT_PARTITION_COUNT;
 import static org.apache.ignite.internal.storage.rocksdb.configuration.schema.RocksDbStorageEngineConfigurationSchema.DEFAULT_DATA_REGION_NAME;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.mockito.Mockito.mock;
 
 import java.nio.file.Path;
@@ -33,6 +34,7 @@ import org.apache.ignite.internal.testframework.WorkDirectoryExtension;
 import org.apache.ignite.internal.util.IgniteUtils;
 import org.junit.jupiter.api.AfterEach;
 import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 
 /**
@@ -75,6 +77,11 @@ public class RocksDbMvPartitionStorageTest extends AbstractMvPartitionStorageTes
         );
     }
 
+    @Test
+    void rowIdsAreRandomByDefault() {
+        assertFalse(storage.timeOrderedRowIds());
+    }
+
     @Override
     public void addWriteCommittedThrowsIfUncommittedVersionExists() {
         // Disable this test because RocksDbMvPartitionStorage does not throw. It does not throw because this
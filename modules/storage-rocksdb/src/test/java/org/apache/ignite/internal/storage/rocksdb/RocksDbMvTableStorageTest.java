@@ -26,15 +26,21 @@ import static org.hamcrest.CoreMatchers.nullValue;
 import static org.hamcrest.MatcherAssert.assertThat;
 
 import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
 import java.util.UUID;
 import java.util.concurrent.TimeUnit;
 import org.apache.ignite.internal.configuration.testframework.InjectConfiguration;
 import org.apache.ignite.internal.hlc.HybridTimestamp;
+import org.apache.ignite.internal.schema.BinaryRow;
 import org.apache.ignite.internal.storage.AbstractMvTableStorageTest;
 import org.apache.ignite.internal.storage.MvPartitionStorage;
 import org.apache.ignite.internal.storage.RowId;
 import org.apache.ignite.internal.storage.engine.MvTableStorage;
 import org.apache.ignite.internal.storage.engine.StorageTableDescriptor;
+import org.apache.ignite.internal.storage.gc.GcEntry;
 import org.apache.ignite.internal.storage.index.StorageIndexDescriptorSupplier;
 import org.apache.ignite.internal.storage.rocksdb.configuration.schema.RocksDbStorageEngineConfiguration;
 import org.apache.ignite.internal.testframework.WorkDirectory;
@@ -157,6 +163,73 @@ public class RocksDbMvTableStorageTest extends AbstractMvTableStorageTest {
                 is(equalTo(unwrap(testData))));
     }
 
+    /**
+     * Tests that data written during a rebalance is ingested as several SST files, and that older row versions are queued for GC.
+     */
+    @Test
+    void testRebalanceWithIngestion() {
+        // Tiny buffer to ingest a file every few rows.
+        assertThat(engine.configuration().rebalanceIngestionBufferSize().update(1024L), willCompleteSuccessfully());
+
+        MvPartitionStorage partitionStorage = getOrCreateMvPartition(PARTITION_ID);
+
+        assertThat(tableStorage.startRebalancePartition(PARTITION_ID), willCompleteSuccessfully());
+
+        List<RowId> rowIds = new ArrayList<>();
+        List<BinaryRow> oldRows = new ArrayList<>();
+        List<BinaryRow> newRows = new ArrayList<>();
+
+        HybridTimestamp oldTs = clock.now();
+        HybridTimestamp newTs = clock.now();
+
+        for (int i = 0; i < 100; i++) {
+            RowId rowId = new RowId(PARTITION_ID);
+
+            BinaryRow oldRow = binaryRow(new TestKey(i, "old"), new TestValue(i, "old"));
+            BinaryRow newRow = binaryRow(new TestKey(i, "new"), new TestValue(i, "new"));
+
+            partitionStorage.runConsistently(locker -> {
+                locker.lock(rowId);
+
+                partitionStorage.addWriteCommitted(rowId, oldRow, oldTs);
+                partitionStorage.addWriteCommitted(rowId, newRow, newTs);
+
+                return null;
+            });
+
+            rowIds.add(rowId);
+            oldRows.add(oldRow);
+            newRows.add(newRow);
+        }
+
+        assertThat(tableStorage.finishRebalancePartition(PARTITION_ID, 100, 500, new byte[0]), willCompleteSuccessfully());
+
+        for (int i = 0; i < rowIds.size(); i++) {
+            RowId rowId = rowIds.get(i);
+
+            assertThat(unwrap(partitionStorage.read(rowId, oldTs)), is(equalTo(unwrap(oldRows.get(i)))));
+            assertThat(unwrap(partitionStorage.read(rowId, newTs)), is(equalTo(unwrap(newRows.get(i)))));
+        }
+
+        Set<RowId> gcRowIds = new HashSet<>();
+
+        partitionStorage.runConsistently(locker -> {
+            GcEntry entry;
+
+            while ((entry = partitionStorage.peek(HybridTimestamp.MAX_VALUE)) != null) {
+                locker.lock(entry.getRowId());
+
+                gcRowIds.add(entry.getRowId());
+
+                partitionStorage.vacuum(entry);
+            }
+
+            return null;
+        });
+
+        assertThat(gcRowIds, is(equalTo(Set.copyOf(rowIds))));
+    }
+
     @Test
     void storageAdvertisesItIsPersistent() {
         assertThat(tableStorage.isVolatile(), is(false));
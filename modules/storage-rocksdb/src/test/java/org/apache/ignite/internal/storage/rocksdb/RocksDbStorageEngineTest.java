@@ -99,4 +99,34 @@ public class RocksDbStorageEngineTest extends BaseIgniteAbstractTest {
 
         getOrCreateMvPartition(table, 1);
     }
+
+    @Test
+    void testCreateTableWithColumnFamilyProfile() {
+        String customRegionName = "events";
+
+        CompletableFuture<Void> engineConfigChangeFuture = engineConfig.regions()
+                .change(c -> c.create(customRegionName, rocksDbDataRegionChange -> rocksDbDataRegionChange
+                        .changeColumnFamily(cf -> cf
+                                .changeBlockSize(16 * 1024)
+                                .changeCompression("none")
+                                .changeCompressionPerLevel("none", "none", "lz4")
+                                .changeFilterBitsPerKey(16)
+                                .changePartitionedFilters(true)
+                                .changeCompactionStyle("universal")
+                                .changeWriteBufferSize(16 * 1024 * 1024)
+                                .changeMaxWriteBufferNumber(4)
+                        )
+                ));
+
+        assertThat(engineConfigChangeFuture, willCompleteSuccessfully());
+
+        table = engine.createMvTable(
+                new StorageTableDescriptor(1, DEFAULT_PARTITION_COUNT, customRegionName),
+                new StorageIndexDescriptorSupplier(mock(CatalogService.class))
+        );
+
+        table.start();
+
+        getOrCreateMvPartition(table, 1);
+    }
 }
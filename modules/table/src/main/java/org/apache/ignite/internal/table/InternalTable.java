@@ -311,6 +311,29 @@ public interface InternalTable extends ManuallyCloseable {
         return scan(partId, txId, readTimestamp, recipientNode, null, null, null, 0, null, txCoordinatorId);
     }
 
+    /**
+     * Scans a range of row IDs of the given partition with the proposed read timestamp, providing {@link Publisher} that reactively
+     * notifies about partition rows. Several such scans over adjacent ranges may be executed concurrently to read a single partition.
+     *
+     * @param partId The partition.
+     * @param txId Transaction id.
+     * @param readTimestamp Read timestamp.
+     * @param recipientNode Cluster node that will handle given get request.
+     * @param lowerRowId Lower bound of row IDs, inclusive, {@code null} if unbounded.
+     * @param upperRowId Upper bound of row IDs, exclusive, {@code null} if unbounded.
+     * @param txCoordinatorId Transaction coordinator inconsistent id.
+     * @return {@link Publisher} that reactively notifies about partition rows.
+     */
+    Publisher<BinaryRow> scan(
+            int partId,
+            UUID txId,
+            HybridTimestamp readTimestamp,
+            ClusterNode recipientNode,
+            @Nullable UUID lowerRowId,
+            @Nullable UUID upperRowId,
+            String txCoordinatorId
+    );
+
     /**
      * Lookup rows corresponding to the given key given partition index, providing {@link Publisher}
      * that reactively notifies about partition rows.
@@ -366,6 +389,29 @@ public interface InternalTable extends ManuallyCloseable {
             @Nullable BitSet columnsToInclude
     );
 
+    /**
+     * Scans a range of row IDs of the given partition, providing {@link Publisher} that reactively notifies about partition rows. Several
+     * such scans over adjacent ranges may be executed concurrently to read a single partition.
+     *
+     * @param partId The partition.
+     * @param txId Transaction id.
+     * @param commitPartition Commit partition id.
+     * @param txCoordinatorId Transaction coordinator id.
+     * @param recipient Primary replica that will handle given get request.
+     * @param lowerRowId Lower bound of row IDs, inclusive, {@code null} if unbounded.
+     * @param upperRowId Upper bound of row IDs, exclusive, {@code null} if unbounded.
+     * @return {@link Publisher} that reactively notifies about partition rows.
+     */
+    Publisher<BinaryRow> scan(
+            int partId,
+            UUID txId,
+            TablePartitionId commitPartition,
+            String txCoordinatorId,
+            PrimaryReplica recipient,
+            @Nullable UUID lowerRowId,
+            @Nullable UUID upperRowId
+    );
+
     /**
      * Scans given partition index, providing {@link Publisher} that reactively notifies about partition rows.
      *
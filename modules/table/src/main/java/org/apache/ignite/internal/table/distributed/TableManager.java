@@ -2297,6 +2297,8 @@ public class TableManager implements IgniteTablesInternal, IgniteComponent {
 
         IndexUpdateHandler indexUpdateHandler = new IndexUpdateHandler(indexes);
 
+        partitionDataStorage.getStorage().setEvictionListener(indexUpdateHandler::removeEvictedFromIndexes);
+
         GcUpdateHandler gcUpdateHandler = new GcUpdateHandler(partitionDataStorage, safeTimeTracker, indexUpdateHandler);
 
         StorageUpdateHandler storageUpdateHandler = new StorageUpdateHandler(
@@ -130,6 +130,21 @@ public class IndexUpdateHandler {
         }
     }
 
+    /**
+     * Removes the row evicted by the storage from every index. The evicted row is the only version of the row, so none of its index
+     * entries may still be in use.
+     *
+     * <p>Must be called from the {@link MvPartitionStorage.EvictionListener}, which is notified with the row ID locked.</p>
+     *
+     * @param rowId Row ID.
+     * @param evictedRow Evicted row.
+     */
+    public void removeEvictedFromIndexes(RowId rowId, BinaryRow evictedRow) {
+        for (TableSchemaAwareIndexStorage index : indexes.get().values()) {
+            index.remove(evictedRow, rowId);
+        }
+    }
+
     /**
      * Builds an exist index for all versions of a row.
      *
@@ -202,6 +202,18 @@ public interface PartitionDataStorage extends ManuallyCloseable {
      */
     PartitionTimestampCursor scan(HybridTimestamp timestamp) throws StorageException;
 
+    /**
+     * Scans a range of row IDs of the partition and returns a cursor of values at the given timestamp.
+     *
+     * @param timestamp Timestamp. Can't be {@code null}.
+     * @param lowerBound Lower bound of row IDs, inclusive.
+     * @param upperBound Upper bound of row IDs, exclusive, {@code null} if unbounded.
+     * @return Cursor.
+     * @throws StorageException If failed to read data from the storage.
+     * @see MvPartitionStorage#scan(HybridTimestamp, RowId, RowId)
+     */
+    PartitionTimestampCursor scan(HybridTimestamp timestamp, RowId lowerBound, @Nullable RowId upperBound) throws StorageException;
+
     /**
      * Returns the head of GC queue.
      *
@@ -216,6 +216,11 @@ public class SnapshotAwarePartitionDataStorage implements PartitionDataStorage {
         return partitionStorage.scan(timestamp);
     }
 
+    @Override
+    public PartitionTimestampCursor scan(HybridTimestamp timestamp, RowId lowerBound, @Nullable RowId upperBound) throws StorageException {
+        return partitionStorage.scan(timestamp, lowerBound, upperBound);
+    }
+
     @Override
     public @Nullable GcEntry peek(HybridTimestamp lowWatermark) {
         return partitionStorage.peek(lowWatermark);
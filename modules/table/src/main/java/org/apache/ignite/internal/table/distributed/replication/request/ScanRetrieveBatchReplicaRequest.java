@@ -18,6 +18,7 @@
 package org.apache.ignite.internal.table.distributed.replication.request;
 
 import java.util.BitSet;
+import java.util.UUID;
 import org.apache.ignite.internal.replicator.message.ReplicaRequest;
 import org.apache.ignite.internal.storage.index.SortedIndexStorage;
 import org.jetbrains.annotations.Nullable;
@@ -71,6 +72,24 @@ public interface ScanRetrieveBatchReplicaRequest extends ReplicaRequest {
      */
     int flags();
 
+    /**
+     * Gets a lower bound of row IDs to scan the partition from, inclusive. Only applicable to full partition scans. {@code null} means
+     * unbounded.
+     *
+     * @return Lower bound of row IDs.
+     */
+    @Nullable
+    UUID lowerRowId();
+
+    /**
+     * Gets an upper bound of row IDs to scan the partition to, exclusive. Only applicable to full partition scans. {@code null} means
+     * unbounded.
+     *
+     * @return Upper bound of row IDs.
+     */
+    @Nullable
+    UUID upperRowId();
+
     /**
      * Gets bitset to include columns.
      *
@@ -114,6 +114,7 @@ import org.apache.ignite.internal.storage.MvPartitionStorage;
 import org.apache.ignite.internal.storage.PartitionTimestampCursor;
 import org.apache.ignite.internal.storage.ReadResult;
 import org.apache.ignite.internal.storage.RowId;
+import org.apache.ignite.internal.storage.RowIdGenerator;
 import org.apache.ignite.internal.storage.index.BinaryTupleComparator;
 import org.apache.ignite.internal.storage.index.IndexRow;
 import org.apache.ignite.internal.storage.index.IndexRowImpl;
@@ -208,6 +209,9 @@ public class PartitionReplicaListener implements ReplicaListener {
     /** Replication group id. */
     private final TablePartitionId replicationGroupId;
 
+    /** Generator of row IDs for inserted rows. */
+    private final RowIdGenerator rowIdGenerator;
+
     /** Primary key index. */
     private final Lazy<TableSchemaAwareIndexStorage> pkIndexStorage;
 
@@ -356,6 +360,8 @@ public class PartitionReplicaListener implements ReplicaListener {
 
         this.replicationGroupId = new TablePartitionId(tableId, partId);
 
+        rowIdGenerator = new RowIdGenerator(partId, mvDataStorage.timeOrderedRowIds());
+
         schemaCompatValidator = new SchemaCompatibilityValidator(validationSchemasSource, catalogService, schemaSyncService);
 
         prepareIndexBuilderTxRwOperationTracker();
@@ -802,7 +808,15 @@ public class PartitionReplicaListener implements ReplicaListener {
 
         return safeReadFuture
                 .thenCompose(
-                        unused -> retrieveExactEntriesUntilCursorEmpty(txId, request.coordinatorId(), readTimestamp, cursorId, batchCount)
+                        unused -> retrieveExactEntriesUntilCursorEmpty(
+                                txId,
+                                request.coordinatorId(),
+                                readTimestamp,
+                                cursorId,
+                                request.lowerRowId(),
+                                request.upperRowId(),
+                                batchCount
+                        )
                 );
     }
 
@@ -813,6 +827,8 @@ public class PartitionReplicaListener implements ReplicaListener {
      * @param txCoordinatorId Transaction coordinator id.
      * @param readTimestamp Timestamp of the moment when that moment when the data will be extracted.
      * @param cursorId Cursor id.
+     * @param lowerRowId Lower bound of row IDs to scan, inclusive, {@code null} if unbounded.
+     * @param upperRowId Upper bound of row IDs to scan, exclusive, {@code null} if unbounded.
      * @param count Amount of entries which sill be extracted.
      * @return Result future.
      */
@@ -821,15 +837,15 @@ public class PartitionReplicaListener implements ReplicaListener {
             String txCoordinatorId,
             @Nullable HybridTimestamp readTimestamp,
             FullyQualifiedResourceId cursorId,
+            @Nullable UUID lowerRowId,
+            @Nullable UUID upperRowId,
             int count
     ) {
         PartitionTimestampCursor cursor =
                 remotelyTriggeredResourceRegistry.<CursorResource>register(
                         cursorId,
                         txCoordinatorId,
-                        () -> new CursorResource(
-                                mvDataStorage.scan(readTimestamp == null ? HybridTimestamp.MAX_VALUE : readTimestamp)
-                        )
+                        () -> new CursorResource(scanPartition(readTimestamp, lowerRowId, upperRowId))
                 ).cursor();
 
         var resolutionFuts = new ArrayList<CompletableFuture<TimedBinaryRow>>(count);
@@ -862,7 +878,15 @@ public class PartitionReplicaListener implements ReplicaListener {
             }
 
             if (rows.size() < count && cursor.hasNext()) {
-                return retrieveExactEntriesUntilCursorEmpty(txId, txCoordinatorId, readTimestamp, cursorId, count - rows.size())
+                return retrieveExactEntriesUntilCursorEmpty(
+                        txId,
+                        txCoordinatorId,
+                        readTimestamp,
+                        cursorId,
+                        lowerRowId,
+                        upperRowId,
+                        count - rows.size()
+                )
                         .thenApply(binaryRows -> {
                             rows.addAll(binaryRows);
 
@@ -874,20 +898,52 @@ public class PartitionReplicaListener implements ReplicaListener {
         });
     }
 
+    /**
+     * Opens a cursor over the partition, or over a range of its row IDs if any of the bounds is specified.
+     *
+     * @param readTimestamp Read timestamp, {@code null} to read the latest versions.
+     * @param lowerRowId Lower bound of row IDs to scan, inclusive, {@code null} if unbounded.
+     * @param upperRowId Upper bound of row IDs to scan, exclusive, {@code null} if unbounded.
+     * @return Cursor.
+     */
+    private PartitionTimestampCursor scanPartition(
+            @Nullable HybridTimestamp readTimestamp,
+            @Nullable UUID lowerRowId,
+            @Nullable UUID upperRowId
+    ) {
+        HybridTimestamp timestamp = readTimestamp == null ? HybridTimestamp.MAX_VALUE : readTimestamp;
+
+        if (lowerRowId == null && upperRowId == null) {
+            return mvDataStorage.scan(timestamp);
+        }
+
+        return mvDataStorage.scan(
+                timestamp,
+                lowerRowId == null ? RowId.lowestRowId(partId()) : new RowId(partId(), lowerRowId),
+                upperRowId == null ? null : new RowId(partId(), upperRowId)
+        );
+    }
+
     /**
      * Extracts exact amount of entries, or less if cursor is become empty, from a cursor on the specific time. Use it for RW.
      *
      * @param txId Transaction id.
      * @param cursorId Cursor id.
+     * @param lowerRowId Lower bound of row IDs to scan, inclusive, {@code null} if unbounded.
+     * @param upperRowId Upper bound of row IDs to scan, exclusive, {@code null} if unbounded.
      * @return Future finishes with the resolved binary row.
      */
     private CompletableFuture<List<BinaryRow>> retrieveExactEntriesUntilCursorEmpty(
             UUID txId,
             String txCoordinatorId,
             FullyQualifiedResourceId cursorId,
+            @Nullable UUID lowerRowId,
+            @Nullable UUID upperRowId,
             int count
     ) {
-        return retrieveExactEntriesUntilCursorEmpty(txId, txCoordinatorId, null, cursorId, count).thenCompose(rows -> {
+        var retrieveFut = retrieveExactEntriesUntilCursorEmpty(txId, txCoordinatorId, null, cursorId, lowerRowId, upperRowId, count);
+
+        return retrieveFut.thenCompose(rows -> {
             if (nullOrEmpty(rows)) {
                 return emptyListCompletedFuture();
             }
@@ -968,15 +1024,7 @@ public class PartitionReplicaListener implements ReplicaListener {
         CompletableFuture<Void> safeReadFuture = isPrimaryInTimestamp(isPrimary, readTimestamp) ? nullCompletedFuture()
                 : safeTime.waitFor(request.readTimestamp());
 
-        return safeReadFuture.thenCompose(unused -> {
-            CompletableFuture<BinaryRow>[] resolutionFuts = new CompletableFuture[primaryKeys.size()];
-
-            for (int i = 0; i < primaryKeys.size(); i++) {
-                resolutionFuts[i] = resolveRowByPkForReadOnly(primaryKeys.get(i), readTimestamp);
-            }
-
-            return CompletableFutures.allOf(resolutionFuts);
-        });
+        return safeReadFuture.thenCompose(unused -> resolveRowsByPksForReadOnly(primaryKeys, readTimestamp));
     }
 
     /**
@@ -1075,7 +1123,14 @@ public class PartitionReplicaListener implements ReplicaListener {
         FullyQualifiedResourceId cursorId = cursorId(txId, request.scanId());
 
         return lockManager.acquire(txId, new LockKey(tableId()), LockMode.S)
-                .thenCompose(tblLock -> retrieveExactEntriesUntilCursorEmpty(txId, request.coordinatorId(), cursorId, batchCount));
+                .thenCompose(tblLock -> retrieveExactEntriesUntilCursorEmpty(
+                        txId,
+                        request.coordinatorId(),
+                        cursorId,
+                        request.lowerRowId(),
+                        request.upperRowId(),
+                        batchCount
+                ));
     }
 
     /**
@@ -1894,77 +1949,133 @@ public class PartitionReplicaListener implements ReplicaListener {
      * @return Result of the given action.
      */
     private CompletableFuture<@Nullable BinaryRow> resolveRowByPkForReadOnly(BinaryTuple pk, HybridTimestamp ts) {
-        // Indexes store values associated with different versions of one entry.
-        // It's possible to have multiple entries for a particular search key
-        // only if we insert, delete and again insert an entry with the same indexed fields.
-        // It means that there exists one and only one non-empty readResult for any read timestamp for the given key.
-        // Which in turn means that if we have found non empty readResult during PK index iteration
-        // we can proceed with readResult resolution and stop the iteration.
-        try (Cursor<RowId> cursor = getFromPkIndex(pk)) {
-            // TODO https://issues.apache.org/jira/browse/IGNITE-18767 scan of multiple write intents should not be needed
-            List<ReadResult> writeIntents = new ArrayList<>();
-            List<ReadResult> regularEntries = new ArrayList<>();
+        return resolveReadResultsForReadOnly(mvDataStorage.readAll(rowIdsByPk(pk), ts), ts);
+    }
 
-            for (RowId rowId : cursor) {
-                ReadResult readResult = mvDataStorage.read(rowId, ts);
+    /**
+     * Finds the rows by given pk search rows. Row versions of all the keys are read from the storage in one batch.
+     *
+     * @param pks Binary Tuples representing primary keys.
+     * @param ts A timestamp regarding which we need to resolve the given rows.
+     * @return Future of the rows, in the order of the keys.
+     */
+    private CompletableFuture<List<BinaryRow>> resolveRowsByPksForReadOnly(List<BinaryTuple> pks, HybridTimestamp ts) {
+        List<RowId> rowIds = new ArrayList<>(pks.size());
 
-                if (readResult.isWriteIntent()) {
-                    writeIntents.add(readResult);
-                } else if (!readResult.isEmpty()) {
-                    regularEntries.add(readResult);
-                }
-            }
+        // Row IDs of the i-th key are in [rowIdBounds[i], rowIdBounds[i + 1]).
+        int[] rowIdBounds = new int[pks.size() + 1];
 
-            // Nothing found in the storage, return null.
-            if (writeIntents.isEmpty() && regularEntries.isEmpty()) {
-                return nullCompletedFuture();
-            }
+        for (int i = 0; i < pks.size(); i++) {
+            rowIdBounds[i] = rowIds.size();
 
-            if (writeIntents.isEmpty()) {
-                // No write intents, then return the committed value. We already know that regularEntries is not empty.
-                return completedFuture(regularEntries.get(0).binaryRow());
-            } else {
-                ReadResult writeIntent = writeIntents.get(0);
+            rowIds.addAll(rowIdsByPk(pks.get(i)));
+        }
 
-                // Assume that all write intents for the same key belong to the same transaction, as the key should be exclusively locked.
-                // This means that we can just resolve the state of this transaction.
-                checkWriteIntentsBelongSameTx(writeIntents);
+        rowIdBounds[pks.size()] = rowIds.size();
 
-                return inBusyLockAsync(busyLock, () ->
-                        resolveWriteIntentReadability(writeIntent, ts)
-                                .thenApply(writeIntentReadable ->
-                                        inBusyLock(busyLock, () -> {
-                                            if (writeIntentReadable) {
-                                                return findAny(writeIntents, wi -> !wi.isEmpty()).map(ReadResult::binaryRow).orElse(null);
-                                            } else {
-                                                for (ReadResult wi : writeIntents) {
-                                                    HybridTimestamp newestCommitTimestamp = wi.newestCommitTimestamp();
+        List<ReadResult> readResults = mvDataStorage.readAll(rowIds, ts);
 
-                                                    if (newestCommitTimestamp == null) {
-                                                        continue;
-                                                    }
+        CompletableFuture<BinaryRow>[] resolutionFuts = new CompletableFuture[pks.size()];
 
-                                                    ReadResult committedReadResult = mvDataStorage.read(wi.rowId(), newestCommitTimestamp);
+        for (int i = 0; i < pks.size(); i++) {
+            resolutionFuts[i] = resolveReadResultsForReadOnly(readResults.subList(rowIdBounds[i], rowIdBounds[i + 1]), ts);
+        }
 
-                                                    assert !committedReadResult.isWriteIntent() :
-                                                            "The result is not committed [rowId=" + wi.rowId() + ", timestamp="
-                                                                    + newestCommitTimestamp + ']';
+        return CompletableFutures.allOf(resolutionFuts);
+    }
 
-                                                    return committedReadResult.binaryRow();
-                                                }
+    /**
+     * Collects identifiers of the rows stored by given pk search row.
+     *
+     * <p>Indexes store values associated with different versions of one entry. It's possible to have multiple entries for a particular
+     * search key only if we insert, delete and again insert an entry with the same indexed fields.
+     *
+     * @param pk Binary Tuple bytes representing a primary key.
+     * @return Row IDs.
+     */
+    private List<RowId> rowIdsByPk(BinaryTuple pk) {
+        try (Cursor<RowId> cursor = getFromPkIndex(pk)) {
+            List<RowId> rowIds = new ArrayList<>(1);
 
-                                                // No suitable value found in write intents, read the committed value (if exists)
-                                                return findFirst(regularEntries).map(ReadResult::binaryRow).orElse(null);
-                                            }
-                                        }))
-                );
+            for (RowId rowId : cursor) {
+                rowIds.add(rowId);
             }
+
+            return rowIds;
         } catch (Exception e) {
             throw new IgniteInternalException(Replicator.REPLICA_COMMON_ERR,
                     format("Unable to close cursor [tableId={}]", tableId()), e);
         }
     }
 
+    /**
+     * Resolves the row of a read only transaction from the versions of the rows stored by one primary key.
+     *
+     * <p>There exists one and only one non-empty read result for any read timestamp for the given key.
+     *
+     * @param readResults Read results of the rows stored by the key.
+     * @param ts A timestamp regarding which we need to resolve the row.
+     * @return Result of the given action.
+     */
+    private CompletableFuture<@Nullable BinaryRow> resolveReadResultsForReadOnly(List<ReadResult> readResults, HybridTimestamp ts) {
+        // TODO https://issues.apache.org/jira/browse/IGNITE-18767 scan of multiple write intents should not be needed
+        List<ReadResult> writeIntents = new ArrayList<>();
+        List<ReadResult> regularEntries = new ArrayList<>();
+
+        for (ReadResult readResult : readResults) {
+            if (readResult.isWriteIntent()) {
+                writeIntents.add(readResult);
+            } else if (!readResult.isEmpty()) {
+                regularEntries.add(readResult);
+            }
+        }
+
+        // Nothing found in the storage, return null.
+        if (writeIntents.isEmpty() && regularEntries.isEmpty()) {
+            return nullCompletedFuture();
+        }
+
+        if (writeIntents.isEmpty()) {
+            // No write intents, then return the committed value. We already know that regularEntries is not empty.
+            return completedFuture(regularEntries.get(0).binaryRow());
+        } else {
+            ReadResult writeIntent = writeIntents.get(0);
+
+            // Assume that all write intents for the same key belong to the same transaction, as the key should be exclusively locked.
+            // This means that we can just resolve the state of this transaction.
+            checkWriteIntentsBelongSameTx(writeIntents);
+
+            return inBusyLockAsync(busyLock, () ->
+                    resolveWriteIntentReadability(writeIntent, ts)
+                            .thenApply(writeIntentReadable ->
+                                    inBusyLock(busyLock, () -> {
+                                        if (writeIntentReadable) {
+                                            return findAny(writeIntents, wi -> !wi.isEmpty()).map(ReadResult::binaryRow).orElse(null);
+                                        } else {
+                                            for (ReadResult wi : writeIntents) {
+                                                HybridTimestamp newestCommitTimestamp = wi.newestCommitTimestamp();
+
+                                                if (newestCommitTimestamp == null) {
+                                                    continue;
+                                                }
+
+                                                ReadResult committedReadResult = mvDataStorage.read(wi.rowId(), newestCommitTimestamp);
+
+                                                assert !committedReadResult.isWriteIntent() :
+                                                        "The result is not committed [rowId=" + wi.rowId() + ", timestamp="
+                                                                + newestCommitTimestamp + ']';
+
+                                                return committedReadResult.binaryRow();
+                                            }
+
+                                            // No suitable value found in write intents, read the committed value (if exists)
+                                            return findFirst(regularEntries).map(ReadResult::binaryRow).orElse(null);
+                                        }
+                                    }))
+            );
+        }
+    }
+
     /**
      * Check that all given write intents belong to the same transaction.
      *
@@ -2015,13 +2126,7 @@ public class PartitionReplicaListener implements ReplicaListener {
                     format("Unknown single request [actionType={}]", request.requestType()));
         }
 
-        CompletableFuture<BinaryRow>[] resolutionFuts = new CompletableFuture[primaryKeys.size()];
-
-        for (int i = 0; i < primaryKeys.size(); i++) {
-            resolutionFuts[i] = resolveRowByPkForReadOnly(primaryKeys.get(i), readTimestamp);
-        }
-
-        return CompletableFutures.allOf(resolutionFuts);
+        return resolveRowsByPksForReadOnly(primaryKeys, readTimestamp);
     }
 
     /**
@@ -2121,7 +2226,7 @@ public class PartitionReplicaListener implements ReplicaListener {
                         RowId lockedRow = pkReadLockFuts[i].join();
 
                         if (lockedRow == null && uniqueKeys.add(pks.get(i).byteBuffer())) {
-                            rowsToInsert.put(new RowId(partId(), UUID.randomUUID()), row);
+                            rowsToInsert.put(rowIdGenerator.nextRowId(), row);
 
                             result.add(new NullBinaryRow());
                         } else {
@@ -2194,7 +2299,7 @@ public class PartitionReplicaListener implements ReplicaListener {
 
                         boolean insert = rowId == null;
 
-                        RowId rowId0 = insert ? new RowId(partId(), UUID.randomUUID()) : rowId;
+                        RowId rowId0 = insert ? rowIdGenerator.nextRowId() : rowId;
 
                         if (lastCommitTime != null) {
                             lastCommitTimes.put(rowId.uuid(), lastCommitTime);
@@ -2799,7 +2904,7 @@ public class PartitionReplicaListener implements ReplicaListener {
                         return completedFuture(new ReplicaResult(false, null));
                     }
 
-                    RowId rowId0 = new RowId(partId(), UUID.randomUUID());
+                    RowId rowId0 = rowIdGenerator.nextRowId();
 
                     return takeLocksForInsert(searchRow, rowId0, txId)
                             .thenCompose(rowIdLock -> validateWriteAgainstSchemaAfterTakingLocks(request.transactionId())
@@ -2825,7 +2930,7 @@ public class PartitionReplicaListener implements ReplicaListener {
                 return resolveRowByPk(extractPk(searchRow), txId, (rowId, row, lastCommitTime) -> {
                     boolean insert = rowId == null;
 
-                    RowId rowId0 = insert ? new RowId(partId(), UUID.randomUUID()) : rowId;
+                    RowId rowId0 = insert ? rowIdGenerator.nextRowId() : rowId;
 
                     CompletableFuture<IgniteBiTuple<RowId, Collection<Lock>>> lockFut = insert
                             ? takeLocksForInsert(searchRow, rowId0, txId)
@@ -2856,7 +2961,7 @@ public class PartitionReplicaListener implements ReplicaListener {
                 return resolveRowByPk(extractPk(searchRow), txId, (rowId, row, lastCommitTime) -> {
                     boolean insert = rowId == null;
 
-                    RowId rowId0 = insert ? new RowId(partId(), UUID.randomUUID()) : rowId;
+                    RowId rowId0 = insert ? rowIdGenerator.nextRowId() : rowId;
 
                     CompletableFuture<IgniteBiTuple<RowId, Collection<Lock>>> lockFut = insert
                             ? takeLocksForInsert(searchRow, rowId0, txId)
@@ -1334,7 +1334,21 @@ public class InternalTableImpl implements InternalTable {
             @Nullable BitSet columnsToInclude,
             String txCoordinatorId
     ) {
-        return readOnlyScan(partId, txId, readTimestamp, recipientNode, indexId, key, null, null, 0, columnsToInclude, txCoordinatorId);
+        return readOnlyScan(
+                partId,
+                txId,
+                readTimestamp,
+                recipientNode,
+                indexId,
+                key,
+                null,
+                null,
+                0,
+                columnsToInclude,
+                null,
+                null,
+                txCoordinatorId
+        );
     }
 
     @Override
@@ -1359,7 +1373,9 @@ public class InternalTableImpl implements InternalTable {
                 null,
                 null,
                 0,
-                columnsToInclude
+                columnsToInclude,
+                null,
+                null
         );
     }
 
@@ -1387,6 +1403,35 @@ public class InternalTableImpl implements InternalTable {
                 upperBound,
                 flags,
                 columnsToInclude,
+                null,
+                null,
+                txCoordinatorId
+        );
+    }
+
+    @Override
+    public Publisher<BinaryRow> scan(
+            int partId,
+            UUID txId,
+            HybridTimestamp readTimestamp,
+            ClusterNode recipientNode,
+            @Nullable UUID lowerRowId,
+            @Nullable UUID upperRowId,
+            String txCoordinatorId
+    ) {
+        return readOnlyScan(
+                partId,
+                txId,
+                readTimestamp,
+                recipientNode,
+                null,
+                null,
+                null,
+                null,
+                0,
+                null,
+                lowerRowId,
+                upperRowId,
                 txCoordinatorId
         );
     }
@@ -1428,7 +1473,36 @@ public class InternalTableImpl implements InternalTable {
                 lowerBound,
                 upperBound,
                 flags,
-                columnsToInclude
+                columnsToInclude,
+                null,
+                null
+        );
+    }
+
+    @Override
+    public Publisher<BinaryRow> scan(
+            int partId,
+            UUID txId,
+            TablePartitionId commitPartition,
+            String coordinatorId,
+            PrimaryReplica recipient,
+            @Nullable UUID lowerRowId,
+            @Nullable UUID upperRowId
+    ) {
+        return readWriteScan(
+                partId,
+                txId,
+                commitPartition,
+                coordinatorId,
+                recipient,
+                null,
+                null,
+                null,
+                null,
+                0,
+                null,
+                lowerRowId,
+                upperRowId
         );
     }
 
@@ -1443,6 +1517,8 @@ public class InternalTableImpl implements InternalTable {
             @Nullable BinaryTuplePrefix upperBound,
             int flags,
             @Nullable BitSet columnsToInclude,
+            @Nullable UUID lowerRowId,
+            @Nullable UUID upperRowId,
             String txCoordinatorId
     ) {
         validatePartitionIndex(partId);
@@ -1464,6 +1540,8 @@ public class InternalTableImpl implements InternalTable {
                             .upperBoundPrefix(binaryTupleMessage(upperBound))
                             .flags(flags)
                             .columnsToInclude(columnsToInclude)
+                            .lowerRowId(lowerRowId)
+                            .upperRowId(upperRowId)
                             .coordinatorId(txCoordinatorId)
                             .build();
 
@@ -1546,7 +1624,9 @@ public class InternalTableImpl implements InternalTable {
             @Nullable BinaryTuplePrefix lowerBound,
             @Nullable BinaryTuplePrefix upperBound,
             int flags,
-            @Nullable BitSet columnsToInclude
+            @Nullable BitSet columnsToInclude,
+            @Nullable UUID lowerRowId,
+            @Nullable UUID upperRowId
     ) {
         TablePartitionId tablePartitionId = new TablePartitionId(tableId, partId);
 
@@ -1563,6 +1643,8 @@ public class InternalTableImpl implements InternalTable {
                             .upperBoundPrefix(binaryTupleMessage(upperBound))
                             .flags(flags)
                             .columnsToInclude(columnsToInclude)
+                            .lowerRowId(lowerRowId)
+                            .upperRowId(upperRowId)
                             .batchSize(batchSize)
                             .enlistmentConsistencyToken(recipient.enlistmentConsistencyToken())
                             .full(false) // Set explicitly.
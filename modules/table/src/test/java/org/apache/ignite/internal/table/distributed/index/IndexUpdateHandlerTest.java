@@ -71,6 +71,26 @@ public class IndexUpdateHandlerTest extends BaseIgniteAbstractTest {
         verify(indexStorage.storage()).setNextRowIdToBuild(null);
     }
 
+    @Test
+    void testRemoveEvictedFromIndexes() {
+        TableSchemaAwareIndexStorage indexStorage0 = createIndexStorage();
+        TableSchemaAwareIndexStorage indexStorage1 = createIndexStorage();
+
+        TableIndexStoragesSupplier indexes = mock(TableIndexStoragesSupplier.class);
+
+        when(indexes.get()).thenReturn(Map.of(1, indexStorage0, 2, indexStorage1));
+
+        IndexUpdateHandler indexUpdateHandler = new IndexUpdateHandler(indexes);
+
+        BinaryRow row = mock(BinaryRow.class);
+        RowId rowId = new RowId(PARTITION_ID);
+
+        indexUpdateHandler.removeEvictedFromIndexes(rowId, row);
+
+        verify(indexStorage0).remove(row, rowId);
+        verify(indexStorage1).remove(row, rowId);
+    }
+
     private static TableSchemaAwareIndexStorage createIndexStorage() {
         TableSchemaAwareIndexStorage indexStorage = mock(TableSchemaAwareIndexStorage.class);
 